@@ -0,0 +1,48 @@
+package io.github.tobi.laa.reflective.fluent.builders.benchmarks;
+
+import com.squareup.javapoet.TypeSpec;
+import io.github.tobi.laa.reflective.fluent.builders.generator.api.BuilderClassCodeGenerator;
+import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures {@link BuilderClassCodeGenerator#generateBuilderClass(BuilderMetadata)}, i.e. generating the spec of a
+ * builder class from previously collected builder metadata.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuilderClassCodeGeneratorBenchmark {
+
+    @Param({ //
+            Models.SIMPLE_CLASS, //
+            Models.CLASS_WITH_COLLECTIONS, //
+            Models.CLASS_WITH_HIERARCHY, //
+            Models.PERSON, //
+            Models.MANY_PROPERTIES, //
+            Models.MANY_COLLECTIONS, //
+            Models.DEEP_HIERARCHY})
+    private String className;
+
+    private BuilderClassCodeGenerator builderClassCodeGenerator;
+
+    private BuilderMetadata builderMetadata;
+
+    @Setup(Level.Trial)
+    public void setUp(final GeneratorState generator) {
+        builderClassCodeGenerator = generator.get(BuilderClassCodeGenerator.class);
+        builderMetadata = generator.collectBuilderMetadata(className);
+    }
+
+    @Benchmark
+    public TypeSpec generateBuilderClass() {
+        return builderClassCodeGenerator.generateBuilderClass(builderMetadata);
+    }
+}
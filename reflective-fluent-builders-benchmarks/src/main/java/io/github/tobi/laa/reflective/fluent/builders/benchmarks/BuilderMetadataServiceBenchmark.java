@@ -0,0 +1,48 @@
+package io.github.tobi.laa.reflective.fluent.builders.benchmarks;
+
+import io.github.classgraph.ClassInfo;
+import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.BuilderMetadataService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures {@link BuilderMetadataService#collectBuilderMetadata(ClassInfo)}. As each class is analysed repeatedly, the
+ * results include the effect of any caches keyed by class.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuilderMetadataServiceBenchmark {
+
+    @Param({ //
+            Models.SIMPLE_CLASS, //
+            Models.CLASS_WITH_COLLECTIONS, //
+            Models.CLASS_WITH_HIERARCHY, //
+            Models.PERSON, //
+            Models.MANY_PROPERTIES, //
+            Models.MANY_COLLECTIONS, //
+            Models.DEEP_HIERARCHY})
+    private String className;
+
+    private BuilderMetadataService builderMetadataService;
+
+    private ClassInfo clazz;
+
+    @Setup(Level.Trial)
+    public void setUp(final GeneratorState generator) {
+        builderMetadataService = generator.get(BuilderMetadataService.class);
+        clazz = generator.loadClass(className);
+    }
+
+    @Benchmark
+    public BuilderMetadata collectBuilderMetadata() {
+        return builderMetadataService.collectBuilderMetadata(clazz);
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.tobi.laa.reflective.fluent.builders.benchmarks;
+
+import io.github.classgraph.ClassInfo;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.ClassService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures {@link ClassService#collectClassesRecursively(String)}, i.e. scanning the classpath for the classes for
+ * which builders are to be generated.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassServiceBenchmark {
+
+    @Param({Models.TEST_MODELS_PACKAGE, Models.SYNTHETIC_MODELS_PACKAGE})
+    private String packageName;
+
+    private ClassService classService;
+
+    @Setup(Level.Trial)
+    public void setUp(final GeneratorState generator) {
+        classService = generator.get(ClassService.class);
+    }
+
+    @Benchmark
+    public Set<ClassInfo> collectClassesRecursively() {
+        return classService.collectClassesRecursively(packageName);
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.tobi.laa.reflective.fluent.builders.benchmarks;
+
+import com.google.inject.Guice;
+import com.google.inject.Key;
+import com.google.inject.Module;
+import io.github.classgraph.ClassInfo;
+import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata;
+import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
+import io.github.tobi.laa.reflective.fluent.builders.props.impl.StandardBuildersProperties;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.BuilderMetadataService;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.ClassService;
+import org.eclipse.sisu.inject.BeanLocator;
+import org.eclipse.sisu.space.BeanScanning;
+import org.eclipse.sisu.space.SpaceModule;
+import org.eclipse.sisu.space.URLClassSpace;
+import org.eclipse.sisu.wire.WireModule;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Clock;
+
+/**
+ * <p>
+ * Wires all services of the generator via Sisu just like the Maven plugin does, albeit with
+ * {@link StandardBuildersProperties standard properties} and the class loader of the benchmarks, so that the models
+ * of {@code reflective-fluent-builders-test} as well as the synthetic models of the benchmarks can be analysed.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class GeneratorState {
+
+    private BeanLocator beanLocator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var classLoader = GeneratorState.class.getClassLoader();
+        final var properties = new StandardBuildersProperties();
+        final Module bindings = binder -> {
+            binder.bind(BuildersProperties.class).toInstance(properties);
+            binder.bind(ClassLoader.class).toInstance(classLoader);
+            binder.bind(Clock.class).toInstance(Clock.systemDefaultZone());
+        };
+        final var injector = Guice.createInjector(new WireModule(bindings, new SpaceModule(new URLClassSpace(classLoader), BeanScanning.GLOBAL_INDEX, true)));
+        beanLocator = injector.getInstance(BeanLocator.class);
+    }
+
+    /**
+     * <p>
+     * Returns the service implementing {@code type}.
+     * </p>
+     *
+     * @param type The type of the service to return. Must not be {@code null}.
+     * @param <T>  The type of the service to return.
+     * @return The service implementing {@code type}.
+     * @throws IllegalArgumentException If no service implements {@code type}.
+     */
+    public <T> T get(final Class<T> type) {
+        // services which are not injected anywhere, e.g. those solely used by the mojo, are not bound implicitly
+        final var beans = beanLocator.locate(Key.get(type)).iterator();
+        if (!beans.hasNext()) {
+            throw new IllegalArgumentException("No service implements " + type.getName() + '.');
+        }
+        return beans.next().getValue();
+    }
+
+    /**
+     * <p>
+     * Loads the class named {@code className} via {@link ClassService#loadClass(String)}.
+     * </p>
+     *
+     * @param className The fully qualified name of the class to load. Must not be {@code null}.
+     * @return The class named {@code className}.
+     * @throws IllegalArgumentException If no class named {@code className} exists.
+     */
+    public ClassInfo loadClass(final String className) {
+        return get(ClassService.class) //
+                .loadClass(className) //
+                .orElseThrow(() -> new IllegalArgumentException("Class " + className + " does not exist."));
+    }
+
+    /**
+     * <p>
+     * Collects the builder metadata for the class named {@code className}.
+     * </p>
+     *
+     * @param className The fully qualified name of the class for which to collect builder metadata. Must not be
+     *                  {@code null}.
+     * @return The builder metadata for the class named {@code className}.
+     */
+    public BuilderMetadata collectBuilderMetadata(final String className) {
+        return get(BuilderMetadataService.class).collectBuilderMetadata(loadClass(className));
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.tobi.laa.reflective.fluent.builders.benchmarks;
+
+import com.squareup.javapoet.JavaFile;
+import io.github.tobi.laa.reflective.fluent.builders.generator.api.JavaFileGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures rendering a previously generated {@link JavaFile} to source code, which is what happens right before a
+ * builder is written to disk.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JavaFileBenchmark {
+
+    @Param({ //
+            Models.SIMPLE_CLASS, //
+            Models.CLASS_WITH_COLLECTIONS, //
+            Models.CLASS_WITH_HIERARCHY, //
+            Models.PERSON, //
+            Models.MANY_PROPERTIES, //
+            Models.MANY_COLLECTIONS, //
+            Models.DEEP_HIERARCHY})
+    private String className;
+
+    private JavaFile javaFile;
+
+    @Setup(Level.Trial)
+    public void setUp(final GeneratorState generator) {
+        javaFile = generator.get(JavaFileGenerator.class).generateJavaFile(generator.collectBuilderMetadata(className));
+    }
+
+    @Benchmark
+    public String render() throws IOException {
+        final var sourceCode = new StringBuilder();
+        javaFile.writeTo(sourceCode);
+        return sourceCode.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.tobi.laa.reflective.fluent.builders.benchmarks;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>
+ * Names of the models the benchmarks are run against, to be used as values for
+ * {@link org.openjdk.jmh.annotations.Param @Param}.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class Models {
+
+    static final String TEST_MODELS_PACKAGE = "io.github.tobi.laa.reflective.fluent.builders.test.models";
+
+    static final String SYNTHETIC_MODELS_PACKAGE = "io.github.tobi.laa.reflective.fluent.builders.benchmarks.models";
+
+    static final String SIMPLE_CLASS = TEST_MODELS_PACKAGE + ".simple.SimpleClass";
+
+    static final String CLASS_WITH_COLLECTIONS = TEST_MODELS_PACKAGE + ".complex.ClassWithCollections";
+
+    static final String CLASS_WITH_HIERARCHY = TEST_MODELS_PACKAGE + ".complex.hierarchy.ClassWithHierarchy";
+
+    static final String PERSON = TEST_MODELS_PACKAGE + ".full.Person";
+
+    static final String MANY_PROPERTIES = SYNTHETIC_MODELS_PACKAGE + ".ManyProperties";
+
+    static final String MANY_COLLECTIONS = SYNTHETIC_MODELS_PACKAGE + ".ManyCollections";
+
+    static final String DEEP_HIERARCHY = SYNTHETIC_MODELS_PACKAGE + ".DeepHierarchy$Level9";
+}
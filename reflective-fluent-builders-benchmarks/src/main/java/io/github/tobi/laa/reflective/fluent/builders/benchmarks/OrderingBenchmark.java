@@ -0,0 +1,58 @@
+package io.github.tobi.laa.reflective.fluent.builders.benchmarks;
+
+import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata;
+import io.github.tobi.laa.reflective.fluent.builders.model.WriteAccessor;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.BuilderMetadataService;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.ClassService;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.WriteAccessorService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures sorting {@link WriteAccessor write accessors} and {@link BuilderMetadata builder metadata} by their natural
+ * order, which happens whenever they are collected into sorted sets. The write accessors are those of a synthetic
+ * class with 1,000 properties, the builder metadata is that of all test models.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderingBenchmark {
+
+    private static final long SEED = 42L;
+
+    private List<WriteAccessor> writeAccessors;
+
+    private List<BuilderMetadata> builderMetadata;
+
+    @Setup(Level.Trial)
+    public void setUp(final GeneratorState generator) {
+        final var random = new Random(SEED);
+        writeAccessors = new ArrayList<>(generator.get(WriteAccessorService.class) //
+                .gatherAllWriteAccessors(generator.loadClass(Models.MANY_PROPERTIES)));
+        Collections.shuffle(writeAccessors, random);
+        final var builderMetadataService = generator.get(BuilderMetadataService.class);
+        final var classes = generator.get(ClassService.class).collectClassesRecursively(Models.TEST_MODELS_PACKAGE);
+        builderMetadata = new ArrayList<>();
+        for (final var clazz : builderMetadataService.filterOutNonBuildableClasses(classes)) {
+            builderMetadata.add(builderMetadataService.collectBuilderMetadata(clazz));
+        }
+        Collections.shuffle(builderMetadata, random);
+    }
+
+    @Benchmark
+    public SortedSet<WriteAccessor> sortWriteAccessors() {
+        return new TreeSet<>(writeAccessors);
+    }
+
+    @Benchmark
+    public SortedSet<BuilderMetadata> sortBuilderMetadata() {
+        return new TreeSet<>(builderMetadata);
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.tobi.laa.reflective.fluent.builders.benchmarks;
+
+import io.github.classgraph.ClassInfo;
+import io.github.tobi.laa.reflective.fluent.builders.model.WriteAccessor;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.WriteAccessorService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SortedSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Measures {@link WriteAccessorService#gatherAllWriteAccessors(ClassInfo)}.
+ * </p>
+ * <p>
+ * {@link #gatherAllWriteAccessors()} analyses the same {@link ClassInfo} repeatedly, so it measures the effect of the
+ * caches keyed by {@link ClassInfo}, which are hit by every invocation but the first. In contrast,
+ * {@link #gatherAllWriteAccessorsCold(FreshClass)} analyses a freshly scanned {@link ClassInfo} on each invocation, so
+ * that regressions in the analysis itself show up. Scanning is not part of the measurement, but as it happens before
+ * each invocation, results of the latter are only meaningful for classes taking well above a microsecond.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteAccessorServiceBenchmark {
+
+    @Param({ //
+            Models.SIMPLE_CLASS, //
+            Models.CLASS_WITH_COLLECTIONS, //
+            Models.CLASS_WITH_HIERARCHY, //
+            Models.PERSON, //
+            Models.MANY_PROPERTIES, //
+            Models.MANY_COLLECTIONS, //
+            Models.DEEP_HIERARCHY})
+    private String className;
+
+    private WriteAccessorService writeAccessorService;
+
+    private ClassInfo clazz;
+
+    @Setup(Level.Trial)
+    public void setUp(final GeneratorState generator) {
+        writeAccessorService = generator.get(WriteAccessorService.class);
+        clazz = generator.loadClass(className);
+    }
+
+    @Benchmark
+    public SortedSet<WriteAccessor> gatherAllWriteAccessors() {
+        return writeAccessorService.gatherAllWriteAccessors(clazz);
+    }
+
+    @Benchmark
+    public SortedSet<WriteAccessor> gatherAllWriteAccessorsCold(final FreshClass freshClass) {
+        return writeAccessorService.gatherAllWriteAccessors(freshClass.clazz);
+    }
+
+    /**
+     * <p>
+     * Scans the class to analyse anew before each invocation, so that it is unknown to any cache keyed by
+     * {@link ClassInfo}.
+     * </p>
+     */
+    @State(Scope.Thread)
+    public static class FreshClass {
+
+        private ClassInfo clazz;
+
+        @Setup(Level.Invocation)
+        public void setUp(final GeneratorState generator, final WriteAccessorServiceBenchmark benchmark) {
+            clazz = generator.loadClass(benchmark.className);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.tobi.laa.reflective.fluent.builders.benchmarks.models;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Synthetic hierarchy of ten levels, each of which adds ten properties to those of its superclass.
+ * </p>
+ */
+public class DeepHierarchy {
+
+    @Getter
+    @Setter
+    public static class Level0 {
+
+        private String level0Property0;
+        private int level0Property1;
+        private List<String> level0Property2;
+        private Map<String, Integer> level0Property3;
+        private Long level0Property4;
+        private String level0Property5;
+        private int level0Property6;
+        private List<String> level0Property7;
+        private Map<String, Integer> level0Property8;
+        private Long level0Property9;
+    }
+
+    @Getter
+    @Setter
+    public static class Level1 extends Level0 {
+
+        private String level1Property0;
+        private int level1Property1;
+        private List<String> level1Property2;
+        private Map<String, Integer> level1Property3;
+        private Long level1Property4;
+        private String level1Property5;
+        private int level1Property6;
+        private List<String> level1Property7;
+        private Map<String, Integer> level1Property8;
+        private Long level1Property9;
+    }
+
+    @Getter
+    @Setter
+    public static class Level2 extends Level1 {
+
+        private String level2Property0;
+        private int level2Property1;
+        private List<String> level2Property2;
+        private Map<String, Integer> level2Property3;
+        private Long level2Property4;
+        private String level2Property5;
+        private int level2Property6;
+        private List<String> level2Property7;
+        private Map<String, Integer> level2Property8;
+        private Long level2Property9;
+    }
+
+    @Getter
+    @Setter
+    public static class Level3 extends Level2 {
+
+        private String level3Property0;
+        private int level3Property1;
+        private List<String> level3Property2;
+        private Map<String, Integer> level3Property3;
+        private Long level3Property4;
+        private String level3Property5;
+        private int level3Property6;
+        private List<String> level3Property7;
+        private Map<String, Integer> level3Property8;
+        private Long level3Property9;
+    }
+
+    @Getter
+    @Setter
+    public static class Level4 extends Level3 {
+
+        private String level4Property0;
+        private int level4Property1;
+        private List<String> level4Property2;
+        private Map<String, Integer> level4Property3;
+        private Long level4Property4;
+        private String level4Property5;
+        private int level4Property6;
+        private List<String> level4Property7;
+        private Map<String, Integer> level4Property8;
+        private Long level4Property9;
+    }
+
+    @Getter
+    @Setter
+    public static class Level5 extends Level4 {
+
+        private String level5Property0;
+        private int level5Property1;
+        private List<String> level5Property2;
+        private Map<String, Integer> level5Property3;
+        private Long level5Property4;
+        private String level5Property5;
+        private int level5Property6;
+        private List<String> level5Property7;
+        private Map<String, Integer> level5Property8;
+        private Long level5Property9;
+    }
+
+    @Getter
+    @Setter
+    public static class Level6 extends Level5 {
+
+        private String level6Property0;
+        private int level6Property1;
+        private List<String> level6Property2;
+        private Map<String, Integer> level6Property3;
+        private Long level6Property4;
+        private String level6Property5;
+        private int level6Property6;
+        private List<String> level6Property7;
+        private Map<String, Integer> level6Property8;
+        private Long level6Property9;
+    }
+
+    @Getter
+    @Setter
+    public static class Level7 extends Level6 {
+
+        private String level7Property0;
+        private int level7Property1;
+        private List<String> level7Property2;
+        private Map<String, Integer> level7Property3;
+        private Long level7Property4;
+        private String level7Property5;
+        private int level7Property6;
+        private List<String> level7Property7;
+        private Map<String, Integer> level7Property8;
+        private Long level7Property9;
+    }
+
+    @Getter
+    @Setter
+    public static class Level8 extends Level7 {
+
+        private String level8Property0;
+        private int level8Property1;
+        private List<String> level8Property2;
+        private Map<String, Integer> level8Property3;
+        private Long level8Property4;
+        private String level8Property5;
+        private int level8Property6;
+        private List<String> level8Property7;
+        private Map<String, Integer> level8Property8;
+        private Long level8Property9;
+    }
+
+    @Getter
+    @Setter
+    public static class Level9 extends Level8 {
+
+        private String level9Property0;
+        private int level9Property1;
+        private List<String> level9Property2;
+        private Map<String, Integer> level9Property3;
+        private Long level9Property4;
+        private String level9Property5;
+        private int level9Property6;
+        private List<String> level9Property7;
+        private Map<String, Integer> level9Property8;
+        private Long level9Property9;
+    }
+}
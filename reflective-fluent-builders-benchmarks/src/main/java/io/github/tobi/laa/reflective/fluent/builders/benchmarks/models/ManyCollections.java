@@ -0,0 +1,618 @@
+package io.github.tobi.laa.reflective.fluent.builders.benchmarks.models;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Synthetic class with 200 collection properties, half of which are solely accessible via a getter while the other half
+ * is accessible via a getter as well as an adder.
+ * </p>
+ */
+@Getter
+public class ManyCollections {
+
+    private final List<String> items000 = new ArrayList<>();
+    private final List<String> items001 = new ArrayList<>();
+    private final List<String> items002 = new ArrayList<>();
+    private final List<String> items003 = new ArrayList<>();
+    private final List<String> items004 = new ArrayList<>();
+    private final List<String> items005 = new ArrayList<>();
+    private final List<String> items006 = new ArrayList<>();
+    private final List<String> items007 = new ArrayList<>();
+    private final List<String> items008 = new ArrayList<>();
+    private final List<String> items009 = new ArrayList<>();
+    private final List<String> items010 = new ArrayList<>();
+    private final List<String> items011 = new ArrayList<>();
+    private final List<String> items012 = new ArrayList<>();
+    private final List<String> items013 = new ArrayList<>();
+    private final List<String> items014 = new ArrayList<>();
+    private final List<String> items015 = new ArrayList<>();
+    private final List<String> items016 = new ArrayList<>();
+    private final List<String> items017 = new ArrayList<>();
+    private final List<String> items018 = new ArrayList<>();
+    private final List<String> items019 = new ArrayList<>();
+    private final List<String> items020 = new ArrayList<>();
+    private final List<String> items021 = new ArrayList<>();
+    private final List<String> items022 = new ArrayList<>();
+    private final List<String> items023 = new ArrayList<>();
+    private final List<String> items024 = new ArrayList<>();
+    private final List<String> items025 = new ArrayList<>();
+    private final List<String> items026 = new ArrayList<>();
+    private final List<String> items027 = new ArrayList<>();
+    private final List<String> items028 = new ArrayList<>();
+    private final List<String> items029 = new ArrayList<>();
+    private final List<String> items030 = new ArrayList<>();
+    private final List<String> items031 = new ArrayList<>();
+    private final List<String> items032 = new ArrayList<>();
+    private final List<String> items033 = new ArrayList<>();
+    private final List<String> items034 = new ArrayList<>();
+    private final List<String> items035 = new ArrayList<>();
+    private final List<String> items036 = new ArrayList<>();
+    private final List<String> items037 = new ArrayList<>();
+    private final List<String> items038 = new ArrayList<>();
+    private final List<String> items039 = new ArrayList<>();
+    private final List<String> items040 = new ArrayList<>();
+    private final List<String> items041 = new ArrayList<>();
+    private final List<String> items042 = new ArrayList<>();
+    private final List<String> items043 = new ArrayList<>();
+    private final List<String> items044 = new ArrayList<>();
+    private final List<String> items045 = new ArrayList<>();
+    private final List<String> items046 = new ArrayList<>();
+    private final List<String> items047 = new ArrayList<>();
+    private final List<String> items048 = new ArrayList<>();
+    private final List<String> items049 = new ArrayList<>();
+    private final List<String> items050 = new ArrayList<>();
+    private final List<String> items051 = new ArrayList<>();
+    private final List<String> items052 = new ArrayList<>();
+    private final List<String> items053 = new ArrayList<>();
+    private final List<String> items054 = new ArrayList<>();
+    private final List<String> items055 = new ArrayList<>();
+    private final List<String> items056 = new ArrayList<>();
+    private final List<String> items057 = new ArrayList<>();
+    private final List<String> items058 = new ArrayList<>();
+    private final List<String> items059 = new ArrayList<>();
+    private final List<String> items060 = new ArrayList<>();
+    private final List<String> items061 = new ArrayList<>();
+    private final List<String> items062 = new ArrayList<>();
+    private final List<String> items063 = new ArrayList<>();
+    private final List<String> items064 = new ArrayList<>();
+    private final List<String> items065 = new ArrayList<>();
+    private final List<String> items066 = new ArrayList<>();
+    private final List<String> items067 = new ArrayList<>();
+    private final List<String> items068 = new ArrayList<>();
+    private final List<String> items069 = new ArrayList<>();
+    private final List<String> items070 = new ArrayList<>();
+    private final List<String> items071 = new ArrayList<>();
+    private final List<String> items072 = new ArrayList<>();
+    private final List<String> items073 = new ArrayList<>();
+    private final List<String> items074 = new ArrayList<>();
+    private final List<String> items075 = new ArrayList<>();
+    private final List<String> items076 = new ArrayList<>();
+    private final List<String> items077 = new ArrayList<>();
+    private final List<String> items078 = new ArrayList<>();
+    private final List<String> items079 = new ArrayList<>();
+    private final List<String> items080 = new ArrayList<>();
+    private final List<String> items081 = new ArrayList<>();
+    private final List<String> items082 = new ArrayList<>();
+    private final List<String> items083 = new ArrayList<>();
+    private final List<String> items084 = new ArrayList<>();
+    private final List<String> items085 = new ArrayList<>();
+    private final List<String> items086 = new ArrayList<>();
+    private final List<String> items087 = new ArrayList<>();
+    private final List<String> items088 = new ArrayList<>();
+    private final List<String> items089 = new ArrayList<>();
+    private final List<String> items090 = new ArrayList<>();
+    private final List<String> items091 = new ArrayList<>();
+    private final List<String> items092 = new ArrayList<>();
+    private final List<String> items093 = new ArrayList<>();
+    private final List<String> items094 = new ArrayList<>();
+    private final List<String> items095 = new ArrayList<>();
+    private final List<String> items096 = new ArrayList<>();
+    private final List<String> items097 = new ArrayList<>();
+    private final List<String> items098 = new ArrayList<>();
+    private final List<String> items099 = new ArrayList<>();
+
+    private final List<String> entries000 = new ArrayList<>();
+    private final List<String> entries001 = new ArrayList<>();
+    private final List<String> entries002 = new ArrayList<>();
+    private final List<String> entries003 = new ArrayList<>();
+    private final List<String> entries004 = new ArrayList<>();
+    private final List<String> entries005 = new ArrayList<>();
+    private final List<String> entries006 = new ArrayList<>();
+    private final List<String> entries007 = new ArrayList<>();
+    private final List<String> entries008 = new ArrayList<>();
+    private final List<String> entries009 = new ArrayList<>();
+    private final List<String> entries010 = new ArrayList<>();
+    private final List<String> entries011 = new ArrayList<>();
+    private final List<String> entries012 = new ArrayList<>();
+    private final List<String> entries013 = new ArrayList<>();
+    private final List<String> entries014 = new ArrayList<>();
+    private final List<String> entries015 = new ArrayList<>();
+    private final List<String> entries016 = new ArrayList<>();
+    private final List<String> entries017 = new ArrayList<>();
+    private final List<String> entries018 = new ArrayList<>();
+    private final List<String> entries019 = new ArrayList<>();
+    private final List<String> entries020 = new ArrayList<>();
+    private final List<String> entries021 = new ArrayList<>();
+    private final List<String> entries022 = new ArrayList<>();
+    private final List<String> entries023 = new ArrayList<>();
+    private final List<String> entries024 = new ArrayList<>();
+    private final List<String> entries025 = new ArrayList<>();
+    private final List<String> entries026 = new ArrayList<>();
+    private final List<String> entries027 = new ArrayList<>();
+    private final List<String> entries028 = new ArrayList<>();
+    private final List<String> entries029 = new ArrayList<>();
+    private final List<String> entries030 = new ArrayList<>();
+    private final List<String> entries031 = new ArrayList<>();
+    private final List<String> entries032 = new ArrayList<>();
+    private final List<String> entries033 = new ArrayList<>();
+    private final List<String> entries034 = new ArrayList<>();
+    private final List<String> entries035 = new ArrayList<>();
+    private final List<String> entries036 = new ArrayList<>();
+    private final List<String> entries037 = new ArrayList<>();
+    private final List<String> entries038 = new ArrayList<>();
+    private final List<String> entries039 = new ArrayList<>();
+    private final List<String> entries040 = new ArrayList<>();
+    private final List<String> entries041 = new ArrayList<>();
+    private final List<String> entries042 = new ArrayList<>();
+    private final List<String> entries043 = new ArrayList<>();
+    private final List<String> entries044 = new ArrayList<>();
+    private final List<String> entries045 = new ArrayList<>();
+    private final List<String> entries046 = new ArrayList<>();
+    private final List<String> entries047 = new ArrayList<>();
+    private final List<String> entries048 = new ArrayList<>();
+    private final List<String> entries049 = new ArrayList<>();
+    private final List<String> entries050 = new ArrayList<>();
+    private final List<String> entries051 = new ArrayList<>();
+    private final List<String> entries052 = new ArrayList<>();
+    private final List<String> entries053 = new ArrayList<>();
+    private final List<String> entries054 = new ArrayList<>();
+    private final List<String> entries055 = new ArrayList<>();
+    private final List<String> entries056 = new ArrayList<>();
+    private final List<String> entries057 = new ArrayList<>();
+    private final List<String> entries058 = new ArrayList<>();
+    private final List<String> entries059 = new ArrayList<>();
+    private final List<String> entries060 = new ArrayList<>();
+    private final List<String> entries061 = new ArrayList<>();
+    private final List<String> entries062 = new ArrayList<>();
+    private final List<String> entries063 = new ArrayList<>();
+    private final List<String> entries064 = new ArrayList<>();
+    private final List<String> entries065 = new ArrayList<>();
+    private final List<String> entries066 = new ArrayList<>();
+    private final List<String> entries067 = new ArrayList<>();
+    private final List<String> entries068 = new ArrayList<>();
+    private final List<String> entries069 = new ArrayList<>();
+    private final List<String> entries070 = new ArrayList<>();
+    private final List<String> entries071 = new ArrayList<>();
+    private final List<String> entries072 = new ArrayList<>();
+    private final List<String> entries073 = new ArrayList<>();
+    private final List<String> entries074 = new ArrayList<>();
+    private final List<String> entries075 = new ArrayList<>();
+    private final List<String> entries076 = new ArrayList<>();
+    private final List<String> entries077 = new ArrayList<>();
+    private final List<String> entries078 = new ArrayList<>();
+    private final List<String> entries079 = new ArrayList<>();
+    private final List<String> entries080 = new ArrayList<>();
+    private final List<String> entries081 = new ArrayList<>();
+    private final List<String> entries082 = new ArrayList<>();
+    private final List<String> entries083 = new ArrayList<>();
+    private final List<String> entries084 = new ArrayList<>();
+    private final List<String> entries085 = new ArrayList<>();
+    private final List<String> entries086 = new ArrayList<>();
+    private final List<String> entries087 = new ArrayList<>();
+    private final List<String> entries088 = new ArrayList<>();
+    private final List<String> entries089 = new ArrayList<>();
+    private final List<String> entries090 = new ArrayList<>();
+    private final List<String> entries091 = new ArrayList<>();
+    private final List<String> entries092 = new ArrayList<>();
+    private final List<String> entries093 = new ArrayList<>();
+    private final List<String> entries094 = new ArrayList<>();
+    private final List<String> entries095 = new ArrayList<>();
+    private final List<String> entries096 = new ArrayList<>();
+    private final List<String> entries097 = new ArrayList<>();
+    private final List<String> entries098 = new ArrayList<>();
+    private final List<String> entries099 = new ArrayList<>();
+
+    public void addEntry000(final String entry) {
+        entries000.add(entry);
+    }
+
+    public void addEntry001(final String entry) {
+        entries001.add(entry);
+    }
+
+    public void addEntry002(final String entry) {
+        entries002.add(entry);
+    }
+
+    public void addEntry003(final String entry) {
+        entries003.add(entry);
+    }
+
+    public void addEntry004(final String entry) {
+        entries004.add(entry);
+    }
+
+    public void addEntry005(final String entry) {
+        entries005.add(entry);
+    }
+
+    public void addEntry006(final String entry) {
+        entries006.add(entry);
+    }
+
+    public void addEntry007(final String entry) {
+        entries007.add(entry);
+    }
+
+    public void addEntry008(final String entry) {
+        entries008.add(entry);
+    }
+
+    public void addEntry009(final String entry) {
+        entries009.add(entry);
+    }
+
+    public void addEntry010(final String entry) {
+        entries010.add(entry);
+    }
+
+    public void addEntry011(final String entry) {
+        entries011.add(entry);
+    }
+
+    public void addEntry012(final String entry) {
+        entries012.add(entry);
+    }
+
+    public void addEntry013(final String entry) {
+        entries013.add(entry);
+    }
+
+    public void addEntry014(final String entry) {
+        entries014.add(entry);
+    }
+
+    public void addEntry015(final String entry) {
+        entries015.add(entry);
+    }
+
+    public void addEntry016(final String entry) {
+        entries016.add(entry);
+    }
+
+    public void addEntry017(final String entry) {
+        entries017.add(entry);
+    }
+
+    public void addEntry018(final String entry) {
+        entries018.add(entry);
+    }
+
+    public void addEntry019(final String entry) {
+        entries019.add(entry);
+    }
+
+    public void addEntry020(final String entry) {
+        entries020.add(entry);
+    }
+
+    public void addEntry021(final String entry) {
+        entries021.add(entry);
+    }
+
+    public void addEntry022(final String entry) {
+        entries022.add(entry);
+    }
+
+    public void addEntry023(final String entry) {
+        entries023.add(entry);
+    }
+
+    public void addEntry024(final String entry) {
+        entries024.add(entry);
+    }
+
+    public void addEntry025(final String entry) {
+        entries025.add(entry);
+    }
+
+    public void addEntry026(final String entry) {
+        entries026.add(entry);
+    }
+
+    public void addEntry027(final String entry) {
+        entries027.add(entry);
+    }
+
+    public void addEntry028(final String entry) {
+        entries028.add(entry);
+    }
+
+    public void addEntry029(final String entry) {
+        entries029.add(entry);
+    }
+
+    public void addEntry030(final String entry) {
+        entries030.add(entry);
+    }
+
+    public void addEntry031(final String entry) {
+        entries031.add(entry);
+    }
+
+    public void addEntry032(final String entry) {
+        entries032.add(entry);
+    }
+
+    public void addEntry033(final String entry) {
+        entries033.add(entry);
+    }
+
+    public void addEntry034(final String entry) {
+        entries034.add(entry);
+    }
+
+    public void addEntry035(final String entry) {
+        entries035.add(entry);
+    }
+
+    public void addEntry036(final String entry) {
+        entries036.add(entry);
+    }
+
+    public void addEntry037(final String entry) {
+        entries037.add(entry);
+    }
+
+    public void addEntry038(final String entry) {
+        entries038.add(entry);
+    }
+
+    public void addEntry039(final String entry) {
+        entries039.add(entry);
+    }
+
+    public void addEntry040(final String entry) {
+        entries040.add(entry);
+    }
+
+    public void addEntry041(final String entry) {
+        entries041.add(entry);
+    }
+
+    public void addEntry042(final String entry) {
+        entries042.add(entry);
+    }
+
+    public void addEntry043(final String entry) {
+        entries043.add(entry);
+    }
+
+    public void addEntry044(final String entry) {
+        entries044.add(entry);
+    }
+
+    public void addEntry045(final String entry) {
+        entries045.add(entry);
+    }
+
+    public void addEntry046(final String entry) {
+        entries046.add(entry);
+    }
+
+    public void addEntry047(final String entry) {
+        entries047.add(entry);
+    }
+
+    public void addEntry048(final String entry) {
+        entries048.add(entry);
+    }
+
+    public void addEntry049(final String entry) {
+        entries049.add(entry);
+    }
+
+    public void addEntry050(final String entry) {
+        entries050.add(entry);
+    }
+
+    public void addEntry051(final String entry) {
+        entries051.add(entry);
+    }
+
+    public void addEntry052(final String entry) {
+        entries052.add(entry);
+    }
+
+    public void addEntry053(final String entry) {
+        entries053.add(entry);
+    }
+
+    public void addEntry054(final String entry) {
+        entries054.add(entry);
+    }
+
+    public void addEntry055(final String entry) {
+        entries055.add(entry);
+    }
+
+    public void addEntry056(final String entry) {
+        entries056.add(entry);
+    }
+
+    public void addEntry057(final String entry) {
+        entries057.add(entry);
+    }
+
+    public void addEntry058(final String entry) {
+        entries058.add(entry);
+    }
+
+    public void addEntry059(final String entry) {
+        entries059.add(entry);
+    }
+
+    public void addEntry060(final String entry) {
+        entries060.add(entry);
+    }
+
+    public void addEntry061(final String entry) {
+        entries061.add(entry);
+    }
+
+    public void addEntry062(final String entry) {
+        entries062.add(entry);
+    }
+
+    public void addEntry063(final String entry) {
+        entries063.add(entry);
+    }
+
+    public void addEntry064(final String entry) {
+        entries064.add(entry);
+    }
+
+    public void addEntry065(final String entry) {
+        entries065.add(entry);
+    }
+
+    public void addEntry066(final String entry) {
+        entries066.add(entry);
+    }
+
+    public void addEntry067(final String entry) {
+        entries067.add(entry);
+    }
+
+    public void addEntry068(final String entry) {
+        entries068.add(entry);
+    }
+
+    public void addEntry069(final String entry) {
+        entries069.add(entry);
+    }
+
+    public void addEntry070(final String entry) {
+        entries070.add(entry);
+    }
+
+    public void addEntry071(final String entry) {
+        entries071.add(entry);
+    }
+
+    public void addEntry072(final String entry) {
+        entries072.add(entry);
+    }
+
+    public void addEntry073(final String entry) {
+        entries073.add(entry);
+    }
+
+    public void addEntry074(final String entry) {
+        entries074.add(entry);
+    }
+
+    public void addEntry075(final String entry) {
+        entries075.add(entry);
+    }
+
+    public void addEntry076(final String entry) {
+        entries076.add(entry);
+    }
+
+    public void addEntry077(final String entry) {
+        entries077.add(entry);
+    }
+
+    public void addEntry078(final String entry) {
+        entries078.add(entry);
+    }
+
+    public void addEntry079(final String entry) {
+        entries079.add(entry);
+    }
+
+    public void addEntry080(final String entry) {
+        entries080.add(entry);
+    }
+
+    public void addEntry081(final String entry) {
+        entries081.add(entry);
+    }
+
+    public void addEntry082(final String entry) {
+        entries082.add(entry);
+    }
+
+    public void addEntry083(final String entry) {
+        entries083.add(entry);
+    }
+
+    public void addEntry084(final String entry) {
+        entries084.add(entry);
+    }
+
+    public void addEntry085(final String entry) {
+        entries085.add(entry);
+    }
+
+    public void addEntry086(final String entry) {
+        entries086.add(entry);
+    }
+
+    public void addEntry087(final String entry) {
+        entries087.add(entry);
+    }
+
+    public void addEntry088(final String entry) {
+        entries088.add(entry);
+    }
+
+    public void addEntry089(final String entry) {
+        entries089.add(entry);
+    }
+
+    public void addEntry090(final String entry) {
+        entries090.add(entry);
+    }
+
+    public void addEntry091(final String entry) {
+        entries091.add(entry);
+    }
+
+    public void addEntry092(final String entry) {
+        entries092.add(entry);
+    }
+
+    public void addEntry093(final String entry) {
+        entries093.add(entry);
+    }
+
+    public void addEntry094(final String entry) {
+        entries094.add(entry);
+    }
+
+    public void addEntry095(final String entry) {
+        entries095.add(entry);
+    }
+
+    public void addEntry096(final String entry) {
+        entries096.add(entry);
+    }
+
+    public void addEntry097(final String entry) {
+        entries097.add(entry);
+    }
+
+    public void addEntry098(final String entry) {
+        entries098.add(entry);
+    }
+
+    public void addEntry099(final String entry) {
+        entries099.add(entry);
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.tobi.laa.reflective.fluent.builders.benchmarks.models;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Synthetic class with 1,000 properties of various simple, collection and map types, each of which is accessible via a
+ * setter and a getter.
+ * </p>
+ */
+@Getter
+@Setter
+public class ManyProperties {
+
+    private String property0000, property0001, property0002, property0003, property0004, property0005, property0006, property0007, property0008, property0009;
+    private String property0010, property0011, property0012, property0013, property0014, property0015, property0016, property0017, property0018, property0019;
+    private String property0020, property0021, property0022, property0023, property0024, property0025, property0026, property0027, property0028, property0029;
+    private String property0030, property0031, property0032, property0033, property0034, property0035, property0036, property0037, property0038, property0039;
+    private String property0040, property0041, property0042, property0043, property0044, property0045, property0046, property0047, property0048, property0049;
+    private String property0050, property0051, property0052, property0053, property0054, property0055, property0056, property0057, property0058, property0059;
+    private String property0060, property0061, property0062, property0063, property0064, property0065, property0066, property0067, property0068, property0069;
+    private String property0070, property0071, property0072, property0073, property0074, property0075, property0076, property0077, property0078, property0079;
+    private String property0080, property0081, property0082, property0083, property0084, property0085, property0086, property0087, property0088, property0089;
+    private String property0090, property0091, property0092, property0093, property0094, property0095, property0096, property0097, property0098, property0099;
+    private int property0100, property0101, property0102, property0103, property0104, property0105, property0106, property0107, property0108, property0109;
+    private int property0110, property0111, property0112, property0113, property0114, property0115, property0116, property0117, property0118, property0119;
+    private int property0120, property0121, property0122, property0123, property0124, property0125, property0126, property0127, property0128, property0129;
+    private int property0130, property0131, property0132, property0133, property0134, property0135, property0136, property0137, property0138, property0139;
+    private int property0140, property0141, property0142, property0143, property0144, property0145, property0146, property0147, property0148, property0149;
+    private int property0150, property0151, property0152, property0153, property0154, property0155, property0156, property0157, property0158, property0159;
+    private int property0160, property0161, property0162, property0163, property0164, property0165, property0166, property0167, property0168, property0169;
+    private int property0170, property0171, property0172, property0173, property0174, property0175, property0176, property0177, property0178, property0179;
+    private int property0180, property0181, property0182, property0183, property0184, property0185, property0186, property0187, property0188, property0189;
+    private int property0190, property0191, property0192, property0193, property0194, property0195, property0196, property0197, property0198, property0199;
+    private Long property0200, property0201, property0202, property0203, property0204, property0205, property0206, property0207, property0208, property0209;
+    private Long property0210, property0211, property0212, property0213, property0214, property0215, property0216, property0217, property0218, property0219;
+    private Long property0220, property0221, property0222, property0223, property0224, property0225, property0226, property0227, property0228, property0229;
+    private Long property0230, property0231, property0232, property0233, property0234, property0235, property0236, property0237, property0238, property0239;
+    private Long property0240, property0241, property0242, property0243, property0244, property0245, property0246, property0247, property0248, property0249;
+    private Long property0250, property0251, property0252, property0253, property0254, property0255, property0256, property0257, property0258, property0259;
+    private Long property0260, property0261, property0262, property0263, property0264, property0265, property0266, property0267, property0268, property0269;
+    private Long property0270, property0271, property0272, property0273, property0274, property0275, property0276, property0277, property0278, property0279;
+    private Long property0280, property0281, property0282, property0283, property0284, property0285, property0286, property0287, property0288, property0289;
+    private Long property0290, property0291, property0292, property0293, property0294, property0295, property0296, property0297, property0298, property0299;
+    private boolean property0300, property0301, property0302, property0303, property0304, property0305, property0306, property0307, property0308, property0309;
+    private boolean property0310, property0311, property0312, property0313, property0314, property0315, property0316, property0317, property0318, property0319;
+    private boolean property0320, property0321, property0322, property0323, property0324, property0325, property0326, property0327, property0328, property0329;
+    private boolean property0330, property0331, property0332, property0333, property0334, property0335, property0336, property0337, property0338, property0339;
+    private boolean property0340, property0341, property0342, property0343, property0344, property0345, property0346, property0347, property0348, property0349;
+    private boolean property0350, property0351, property0352, property0353, property0354, property0355, property0356, property0357, property0358, property0359;
+    private boolean property0360, property0361, property0362, property0363, property0364, property0365, property0366, property0367, property0368, property0369;
+    private boolean property0370, property0371, property0372, property0373, property0374, property0375, property0376, property0377, property0378, property0379;
+    private boolean property0380, property0381, property0382, property0383, property0384, property0385, property0386, property0387, property0388, property0389;
+    private boolean property0390, property0391, property0392, property0393, property0394, property0395, property0396, property0397, property0398, property0399;
+    private Double property0400, property0401, property0402, property0403, property0404, property0405, property0406, property0407, property0408, property0409;
+    private Double property0410, property0411, property0412, property0413, property0414, property0415, property0416, property0417, property0418, property0419;
+    private Double property0420, property0421, property0422, property0423, property0424, property0425, property0426, property0427, property0428, property0429;
+    private Double property0430, property0431, property0432, property0433, property0434, property0435, property0436, property0437, property0438, property0439;
+    private Double property0440, property0441, property0442, property0443, property0444, property0445, property0446, property0447, property0448, property0449;
+    private Double property0450, property0451, property0452, property0453, property0454, property0455, property0456, property0457, property0458, property0459;
+    private Double property0460, property0461, property0462, property0463, property0464, property0465, property0466, property0467, property0468, property0469;
+    private Double property0470, property0471, property0472, property0473, property0474, property0475, property0476, property0477, property0478, property0479;
+    private Double property0480, property0481, property0482, property0483, property0484, property0485, property0486, property0487, property0488, property0489;
+    private Double property0490, property0491, property0492, property0493, property0494, property0495, property0496, property0497, property0498, property0499;
+    private LocalDate property0500, property0501, property0502, property0503, property0504, property0505, property0506, property0507, property0508, property0509;
+    private LocalDate property0510, property0511, property0512, property0513, property0514, property0515, property0516, property0517, property0518, property0519;
+    private LocalDate property0520, property0521, property0522, property0523, property0524, property0525, property0526, property0527, property0528, property0529;
+    private LocalDate property0530, property0531, property0532, property0533, property0534, property0535, property0536, property0537, property0538, property0539;
+    private LocalDate property0540, property0541, property0542, property0543, property0544, property0545, property0546, property0547, property0548, property0549;
+    private LocalDate property0550, property0551, property0552, property0553, property0554, property0555, property0556, property0557, property0558, property0559;
+    private LocalDate property0560, property0561, property0562, property0563, property0564, property0565, property0566, property0567, property0568, property0569;
+    private LocalDate property0570, property0571, property0572, property0573, property0574, property0575, property0576, property0577, property0578, property0579;
+    private LocalDate property0580, property0581, property0582, property0583, property0584, property0585, property0586, property0587, property0588, property0589;
+    private LocalDate property0590, property0591, property0592, property0593, property0594, property0595, property0596, property0597, property0598, property0599;
+    private BigDecimal property0600, property0601, property0602, property0603, property0604, property0605, property0606, property0607, property0608, property0609;
+    private BigDecimal property0610, property0611, property0612, property0613, property0614, property0615, property0616, property0617, property0618, property0619;
+    private BigDecimal property0620, property0621, property0622, property0623, property0624, property0625, property0626, property0627, property0628, property0629;
+    private BigDecimal property0630, property0631, property0632, property0633, property0634, property0635, property0636, property0637, property0638, property0639;
+    private BigDecimal property0640, property0641, property0642, property0643, property0644, property0645, property0646, property0647, property0648, property0649;
+    private BigDecimal property0650, property0651, property0652, property0653, property0654, property0655, property0656, property0657, property0658, property0659;
+    private BigDecimal property0660, property0661, property0662, property0663, property0664, property0665, property0666, property0667, property0668, property0669;
+    private BigDecimal property0670, property0671, property0672, property0673, property0674, property0675, property0676, property0677, property0678, property0679;
+    private BigDecimal property0680, property0681, property0682, property0683, property0684, property0685, property0686, property0687, property0688, property0689;
+    private BigDecimal property0690, property0691, property0692, property0693, property0694, property0695, property0696, property0697, property0698, property0699;
+    private List<String> property0700, property0701, property0702, property0703, property0704, property0705, property0706, property0707, property0708, property0709;
+    private List<String> property0710, property0711, property0712, property0713, property0714, property0715, property0716, property0717, property0718, property0719;
+    private List<String> property0720, property0721, property0722, property0723, property0724, property0725, property0726, property0727, property0728, property0729;
+    private List<String> property0730, property0731, property0732, property0733, property0734, property0735, property0736, property0737, property0738, property0739;
+    private List<String> property0740, property0741, property0742, property0743, property0744, property0745, property0746, property0747, property0748, property0749;
+    private List<String> property0750, property0751, property0752, property0753, property0754, property0755, property0756, property0757, property0758, property0759;
+    private List<String> property0760, property0761, property0762, property0763, property0764, property0765, property0766, property0767, property0768, property0769;
+    private List<String> property0770, property0771, property0772, property0773, property0774, property0775, property0776, property0777, property0778, property0779;
+    private List<String> property0780, property0781, property0782, property0783, property0784, property0785, property0786, property0787, property0788, property0789;
+    private List<String> property0790, property0791, property0792, property0793, property0794, property0795, property0796, property0797, property0798, property0799;
+    private Set<Integer> property0800, property0801, property0802, property0803, property0804, property0805, property0806, property0807, property0808, property0809;
+    private Set<Integer> property0810, property0811, property0812, property0813, property0814, property0815, property0816, property0817, property0818, property0819;
+    private Set<Integer> property0820, property0821, property0822, property0823, property0824, property0825, property0826, property0827, property0828, property0829;
+    private Set<Integer> property0830, property0831, property0832, property0833, property0834, property0835, property0836, property0837, property0838, property0839;
+    private Set<Integer> property0840, property0841, property0842, property0843, property0844, property0845, property0846, property0847, property0848, property0849;
+    private Set<Integer> property0850, property0851, property0852, property0853, property0854, property0855, property0856, property0857, property0858, property0859;
+    private Set<Integer> property0860, property0861, property0862, property0863, property0864, property0865, property0866, property0867, property0868, property0869;
+    private Set<Integer> property0870, property0871, property0872, property0873, property0874, property0875, property0876, property0877, property0878, property0879;
+    private Set<Integer> property0880, property0881, property0882, property0883, property0884, property0885, property0886, property0887, property0888, property0889;
+    private Set<Integer> property0890, property0891, property0892, property0893, property0894, property0895, property0896, property0897, property0898, property0899;
+    private Map<String, Long> property0900, property0901, property0902, property0903, property0904, property0905, property0906, property0907, property0908, property0909;
+    private Map<String, Long> property0910, property0911, property0912, property0913, property0914, property0915, property0916, property0917, property0918, property0919;
+    private Map<String, Long> property0920, property0921, property0922, property0923, property0924, property0925, property0926, property0927, property0928, property0929;
+    private Map<String, Long> property0930, property0931, property0932, property0933, property0934, property0935, property0936, property0937, property0938, property0939;
+    private Map<String, Long> property0940, property0941, property0942, property0943, property0944, property0945, property0946, property0947, property0948, property0949;
+    private Map<String, Long> property0950, property0951, property0952, property0953, property0954, property0955, property0956, property0957, property0958, property0959;
+    private Map<String, Long> property0960, property0961, property0962, property0963, property0964, property0965, property0966, property0967, property0968, property0969;
+    private Map<String, Long> property0970, property0971, property0972, property0973, property0974, property0975, property0976, property0977, property0978, property0979;
+    private Map<String, Long> property0980, property0981, property0982, property0983, property0984, property0985, property0986, property0987, property0988, property0989;
+    private Map<String, Long> property0990, property0991, property0992, property0993, property0994, property0995, property0996, property0997, property0998, property0999;
+}
@@ -1,13 +1,18 @@
 package io.github.tobi.laa.reflective.fluent.builders.service.api;
 
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ClassMemberInfo;
+import io.github.tobi.laa.reflective.fluent.builders.test.ClassGraphExtension;
 import io.github.tobi.laa.reflective.fluent.builders.test.IntegrationTest;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.DirectFieldAccess;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.nested.TopLevelClass;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.SimpleClass;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.visibility.*;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.reflect.TypeUtils;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -26,6 +31,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @IntegrationTest
 class AccessibilityServiceIT {
 
+    @RegisterExtension
+    static ClassGraphExtension classInfo = new ClassGraphExtension();
+
     @Inject
     private AccessibilityService accessibilityService;
 
@@ -72,6 +80,33 @@ class AccessibilityServiceIT {
                 Arguments.of(Public.class, "a.weird.package", true));
     }
 
+    @ParameterizedTest
+    @MethodSource
+    void testIsNestedClassAccessibleFrom(final Class<?> clazz, final String packageName, final boolean expected) {
+        // Act
+        final boolean actual = accessibilityService.isAccessibleFrom(clazz, packageName);
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @SneakyThrows
+    static Stream<Arguments> testIsNestedClassAccessibleFrom() {
+        final var packageName = TopLevelClass.class.getPackageName();
+        final var privateClass = Class.forName(TopLevelClass.class.getName() + "$NestedPrivateLevelOne");
+        final var packagePrivateClass = Class.forName(TopLevelClass.class.getName() + "$NestedPackagePrivateLevelOne");
+        final var protectedClass = Class.forName(TopLevelClass.class.getName() + "$NestedProtectedLevelOne");
+        return Stream.of( //
+                Arguments.of(privateClass, packageName, false), //
+                Arguments.of(packagePrivateClass, packageName, true), //
+                Arguments.of(protectedClass, packageName, true), //
+                Arguments.of(TopLevelClass.NestedPublicLevelOne.class, packageName, true), //
+                //
+                Arguments.of(privateClass, "a.weird.package", false), //
+                Arguments.of(packagePrivateClass, "a.weird.package", false), //
+                Arguments.of(protectedClass, "a.weird.package", false), //
+                Arguments.of(TopLevelClass.NestedPublicLevelOne.class, "a.weird.package", true));
+    }
+
     @ParameterizedTest
     @MethodSource
     void testIsTypeAccessibleFromNull(final Type type, final String packageName) {
@@ -101,6 +136,25 @@ class AccessibilityServiceIT {
         assertThat(actual).isFalse();
     }
 
+    @Test
+    @SneakyThrows
+    void testIsTypeAccessibleFromSameTypeDifferentPackages() {
+        // Arrange
+        final var packageName = Visibility.class.getPackageName();
+        final var packagePrivateClass = Class.forName(packageName + ".PackagePrivate");
+        // Act
+        final boolean accessibleFromSamePackage = accessibilityService.isAccessibleFrom( //
+                TypeUtils.parameterize(List.class, packagePrivateClass), packageName);
+        final boolean accessibleFromOtherPackage = accessibilityService.isAccessibleFrom( //
+                TypeUtils.parameterize(List.class, packagePrivateClass), "a.weird.package");
+        final boolean accessibleFromSamePackageAgain = accessibilityService.isAccessibleFrom( //
+                TypeUtils.parameterize(List.class, packagePrivateClass), packageName);
+        // Assert
+        assertThat(accessibleFromSamePackage).isTrue();
+        assertThat(accessibleFromOtherPackage).isFalse();
+        assertThat(accessibleFromSamePackageAgain).isTrue();
+    }
+
     @Test
     @SneakyThrows
     void testIsTypeAccessibleFrom() {
@@ -268,4 +322,115 @@ class AccessibilityServiceIT {
         // Assert
         assertThat(actual).isTrue();
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @MethodSource
+    void testIsClassInfoAccessibleFromNull(final ClassInfo clazz, final String packageName) {
+        // Act
+        final ThrowingCallable isAccessibleFrom = () -> accessibilityService.isAccessibleFrom(clazz, packageName);
+        // Assert
+        assertThatThrownBy(isAccessibleFrom).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    static Stream<Arguments> testIsClassInfoAccessibleFromNull() {
+        return Stream.of( //
+                Arguments.of(null, null), //
+                Arguments.of(classInfo.get(SimpleClass.class), null), //
+                Arguments.of(null, "a.package.name"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("testIsClassAccessibleFrom")
+    void testIsClassInfoAccessibleFrom(final Class<?> clazz, final String packageName, final boolean expected) {
+        // Act
+        final boolean actual = accessibilityService.isAccessibleFrom(classInfo.get(clazz), packageName);
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("testIsNestedClassAccessibleFrom")
+    void testIsNestedClassInfoAccessibleFrom(final Class<?> clazz, final String packageName, final boolean expected) {
+        // Act
+        final boolean actual = accessibilityService.isAccessibleFrom(classInfo.get(clazz), packageName);
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testIsClassMemberInfoAccessibleFromNull(final ClassMemberInfo member, final ClassInfo declaringClass, final String packageName) {
+        // Act
+        final ThrowingCallable isAccessibleFrom = () -> accessibilityService.isAccessibleFrom(member, declaringClass, packageName);
+        // Assert
+        assertThatThrownBy(isAccessibleFrom).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    static Stream<Arguments> testIsClassMemberInfoAccessibleFromNull() {
+        final var declaringClass = classInfo.get(SimpleClass.class);
+        final var field = declaringClass.getDeclaredFieldInfo("anInt");
+        return Stream.of( //
+                Arguments.of(null, null, null), //
+                Arguments.of(field, declaringClass, null), //
+                Arguments.of(field, null, "a.package.name"), //
+                Arguments.of(null, declaringClass, "a.package.name"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("testIsConstructorAccessibleFrom")
+    void testIsClassMemberInfoAccessibleFromConstructor(final Class<?> clazz, final String packageName, final boolean expected) {
+        // Arrange
+        final var declaringClass = classInfo.get(clazz);
+        final var constructor = declaringClass.getDeclaredConstructorInfo().get(0);
+        // Act
+        final boolean actual = accessibilityService.isAccessibleFrom(constructor, declaringClass, packageName);
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testIsClassMemberInfoAccessibleFromMethod(final String methodName, final String packageName, final boolean expected) {
+        // Arrange
+        final var declaringClass = classInfo.get(SettersWithDifferentVisibility.class);
+        final var method = declaringClass.getDeclaredMethodInfo(methodName).get(0);
+        // Act
+        final boolean actual = accessibilityService.isAccessibleFrom(method, declaringClass, packageName);
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> testIsClassMemberInfoAccessibleFromMethod() {
+        final var packageName = SettersWithDifferentVisibility.class.getPackageName();
+        return Stream.of( //
+                Arguments.of("setPrivateSetter", packageName, false), //
+                Arguments.of("setProtectedSetter", packageName, true), //
+                Arguments.of("setPackagePrivateSetter", packageName, true), //
+                Arguments.of("setPublicSetter", packageName, true), //
+                //
+                Arguments.of("setPrivateSetter", "a.weird.package", false), //
+                Arguments.of("setProtectedSetter", "a.weird.package", false), //
+                Arguments.of("setPackagePrivateSetter", "a.weird.package", false), //
+                Arguments.of("setPublicSetter", "a.weird.package", true));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testIsClassMemberInfoAccessibleFromField(final String fieldName, final boolean expected) {
+        // Arrange
+        final var declaringClass = classInfo.get(DirectFieldAccess.class);
+        final var field = declaringClass.getDeclaredFieldInfo(fieldName);
+        // Act
+        final boolean actual = accessibilityService.isAccessibleFrom(field, declaringClass, "does.not.matter");
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> testIsClassMemberInfoAccessibleFromField() {
+        return Stream.of( //
+                Arguments.of("privateFieldNoSetter", false), //
+                // in contrast to the reflection variant, the type of the field is not checked
+                Arguments.of("privateInnerClass", true), //
+                Arguments.of("publicFieldNoSetter", true));
+    }
+}
@@ -4,6 +4,8 @@ import io.github.classgraph.ClassInfo;
 import io.github.tobi.laa.reflective.fluent.builders.constants.BuilderConstants;
 import io.github.tobi.laa.reflective.fluent.builders.model.*;
 import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
+import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties.MetadataEngine;
+import io.github.tobi.laa.reflective.fluent.builders.props.impl.StandardBuildersProperties;
 import io.github.tobi.laa.reflective.fluent.builders.test.ClassGraphExtension;
 import io.github.tobi.laa.reflective.fluent.builders.test.InjectSpy;
 import io.github.tobi.laa.reflective.fluent.builders.test.IntegrationTest;
@@ -23,7 +25,9 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import javax.inject.Inject;
 import java.lang.reflect.Type;
@@ -31,18 +35,22 @@ import java.lang.reflect.TypeVariable;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static io.github.tobi.laa.reflective.fluent.builders.model.Visibility.PACKAGE_PRIVATE;
 import static io.github.tobi.laa.reflective.fluent.builders.model.Visibility.PUBLIC;
+import static io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties.MetadataEngine.BYTECODE;
 import static java.util.Collections.singleton;
 import static org.apache.commons.lang3.reflect.TypeUtils.parameterize;
 import static org.apache.commons.lang3.reflect.TypeUtils.wildcardType;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 
@@ -303,6 +311,43 @@ class BuilderMetadataServiceIT {
                                 .build()));
     }
 
+    @ParameterizedTest
+    @ValueSource(classes = { //
+            SimpleClass.class, //
+            SimpleClassNoDefaultConstructor.class, //
+            PackagePrivateConstructor.class, //
+            ClassWithCollections.class, //
+            ClassWithGenerics.class, //
+            NameCollisions.class, //
+            TopLevelClass.class, //
+            TopLevelClass.NestedPublicLevelOne.class})
+    void testCollectBuilderMetadataBytecodeEngine(final Class<?> type) {
+        // Arrange
+        final var clazz = classInfo.get(type);
+        final var expected = service.collectBuilderMetadata(clazz);
+        doReturn(BYTECODE).when(properties).getMetadataEngine();
+        // Act
+        final BuilderMetadata actual = service.collectBuilderMetadata(clazz);
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { //
+            "io.github.tobi.laa.reflective.fluent.builders.test.models.nested.TopLevelClass$NestedPackagePrivateLevelOne", //
+            "io.github.tobi.laa.reflective.fluent.builders.test.models.nested.TopLevelClass$NestedProtectedLevelOne", //
+            "io.github.tobi.laa.reflective.fluent.builders.test.models.nested.TopLevelClass$NestedPrivateLevelOne"})
+    void testCollectBuilderMetadataBytecodeEngineNestedClasses(final String className) {
+        // Arrange
+        final var clazz = classInfo.get(className);
+        final var expected = service.collectBuilderMetadata(clazz);
+        doReturn(BYTECODE).when(properties).getMetadataEngine();
+        // Act
+        final BuilderMetadata actual = service.collectBuilderMetadata(clazz);
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
     private static Path classLocation(final Class<?> clazz) {
         Path classLocation = TEST_MODELS_TARGET_DIR.resolve("classes");
         for (final String dir : clazz.getPackageName().split("\\.")) {
@@ -319,9 +364,11 @@ class BuilderMetadataServiceIT {
         assertThrows(NullPointerException.class, filterOutNonBuildableClasses);
     }
 
-    @Test
-    void testFilterOutNonBuildableClassesNonConstructableClasses() {
+    @ParameterizedTest
+    @EnumSource(MetadataEngine.class)
+    void testFilterOutNonBuildableClassesNonConstructableClasses(final MetadataEngine metadataEngine) {
         // Arrange
+        doReturn(metadataEngine).when(properties).getMetadataEngine();
         final var classes = Stream.of(Abstract.class, Annotation.class, Enum.class, Interface.class)
                 .map(clazz -> classInfo.get(clazz.getName()))
                 .collect(Collectors.toSet());
@@ -331,10 +378,12 @@ class BuilderMetadataServiceIT {
         assertThat(actual).isEmpty();
     }
 
-    @Test
+    @ParameterizedTest
+    @EnumSource(MetadataEngine.class)
     @SneakyThrows
-    void testFilterOutNonBuildableClassesInaccessibleClass() {
+    void testFilterOutNonBuildableClassesInaccessibleClass(final MetadataEngine metadataEngine) {
         // Arrange
+        doReturn(metadataEngine).when(properties).getMetadataEngine();
         final var classes = Stream.of(
                         SimpleClass.class,
                         Class.forName("io.github.tobi.laa.reflective.fluent.builders.test.models.visibility.PackagePrivate"))
@@ -347,9 +396,11 @@ class BuilderMetadataServiceIT {
         assertThat(actual).containsExactly(classInfo.get(SimpleClass.class.getName()));
     }
 
-    @Test
-    void testFilterOutNonBuildableClassesNestedClasses() {
+    @ParameterizedTest
+    @EnumSource(MetadataEngine.class)
+    void testFilterOutNonBuildableClassesNestedClasses(final MetadataEngine metadataEngine) {
         // Arrange
+        doReturn(metadataEngine).when(properties).getMetadataEngine();
         final var classes = Stream.of(TopLevelClass.NestedPublicLevelOne.class, TopLevelClass.NestedNonStatic.class)
                 .map(clazz -> classInfo.get(clazz.getName()))
                 .collect(Collectors.toSet());
@@ -359,6 +410,25 @@ class BuilderMetadataServiceIT {
         assertThat(actual).containsExactly(classInfo.get(TopLevelClass.NestedPublicLevelOne.class.getName()));
     }
 
+    @ParameterizedTest
+    @EnumSource(MetadataEngine.class)
+    void testFilterOutNonBuildableClassesNestedClassesOfDifferentVisibility(final MetadataEngine metadataEngine) {
+        // Arrange
+        doReturn(metadataEngine).when(properties).getMetadataEngine();
+        final var classes = Stream.of( //
+                        TopLevelClass.NestedPublicLevelOne.class.getName(), //
+                        TopLevelClass.class.getName() + "$NestedPackagePrivateLevelOne", //
+                        TopLevelClass.class.getName() + "$NestedProtectedLevelOne", //
+                        TopLevelClass.class.getName() + "$NestedPrivateLevelOne") //
+                .map(classInfo::get)
+                .collect(Collectors.toSet());
+        doReturn("a.package").when(properties).getBuilderPackage();
+        // Act
+        final Set<ClassInfo> actual = service.filterOutNonBuildableClasses(classes);
+        // Assert
+        assertThat(actual).containsExactly(classInfo.get(TopLevelClass.NestedPublicLevelOne.class.getName()));
+    }
+
     @Test
     void testFilterOutConfiguredExcludesNull() {
         // Act
@@ -504,6 +574,73 @@ class BuilderMetadataServiceIT {
         assertThat(filteredClasses).contains(classInfo.get(SimpleClass.class.getName()), classInfo.get(ClassWithBuilderExisting.class.getName()));
     }
 
+    @Test
+    void testCollectBuilderMetadataConcurrentExecutions() throws Exception {
+        // Arrange
+        final var configuration = new ThreadLocal<BuildersProperties>();
+        doAnswer(invocation -> configuration.get().getBuilderPackage()).when(properties).getBuilderPackage();
+        doAnswer(invocation -> configuration.get().getBuilderSuffix()).when(properties).getBuilderSuffix();
+        doAnswer(invocation -> configuration.get().getSetterPrefix()).when(properties).getSetterPrefix();
+        doAnswer(invocation -> configuration.get().getGetterPrefix()).when(properties).getGetterPrefix();
+        doAnswer(invocation -> configuration.get().getAdderPattern()).when(properties).getAdderPattern();
+        doAnswer(invocation -> configuration.get().isGetAndAddEnabled()).when(properties).isGetAndAddEnabled();
+        doAnswer(invocation -> configuration.get().isDirectFieldAccessEnabled()).when(properties).isDirectFieldAccessEnabled();
+        doAnswer(invocation -> configuration.get().isAddersEnabled()).when(properties).isAddersEnabled();
+        doAnswer(invocation -> configuration.get().getMetadataEngine()).when(properties).getMetadataEngine();
+        final var classes = Stream.of( //
+                        SimpleClass.class, //
+                        ClassWithCollections.class, //
+                        ClassWithGenerics.class, //
+                        GetAndAdd.class, //
+                        WithAdders.class, //
+                        DirectFieldAccess.class, //
+                        NameCollisions.class) //
+                .map(classInfo::get)
+                .collect(Collectors.toList());
+        final var standard = new StandardBuildersProperties();
+        final var custom = new StandardBuildersProperties();
+        custom.setBuilderPackage("a.builder.pkg");
+        custom.setBuilderSuffix("Factory");
+        custom.setAdderPattern("put(.+)");
+        custom.setGetAndAddEnabled(false);
+        custom.setDirectFieldAccessEnabled(false);
+        custom.setMetadataEngine(BYTECODE);
+        final var expectedStandard = collectBuilderMetadata(configuration, standard, classes);
+        final var expectedCustom = collectBuilderMetadata(configuration, custom, classes);
+        assertThat(expectedStandard).isNotEqualTo(expectedCustom);
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            final Callable<Boolean> standardExecution = () -> collectsRepeatedly(configuration, standard, classes, expectedStandard);
+            final Callable<Boolean> customExecution = () -> collectsRepeatedly(configuration, custom, classes, expectedCustom);
+            // Act
+            final var results = executor.invokeAll(List.of(standardExecution, customExecution));
+            // Assert
+            for (final var result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean collectsRepeatedly(final ThreadLocal<BuildersProperties> configuration, final BuildersProperties configured, final List<ClassInfo> classes, final List<BuilderMetadata> expected) {
+        for (int i = 0; i < 25; i++) {
+            if (!collectBuilderMetadata(configuration, configured, classes).equals(expected)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<BuilderMetadata> collectBuilderMetadata(final ThreadLocal<BuildersProperties> configuration, final BuildersProperties configured, final List<ClassInfo> classes) {
+        configuration.set(configured);
+        try {
+            return classes.stream().map(service::collectBuilderMetadata).collect(Collectors.toList());
+        } finally {
+            configuration.remove();
+        }
+    }
+
     private static TypeVariable<?> typeVariableT() {
         return ClassWithCollections.class.getTypeParameters()[0];
     }
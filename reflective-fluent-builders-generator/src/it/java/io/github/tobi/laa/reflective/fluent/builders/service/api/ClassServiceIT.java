@@ -9,6 +9,7 @@ import io.github.tobi.laa.reflective.fluent.builders.props.impl.StandardBuilders
 import io.github.tobi.laa.reflective.fluent.builders.test.ClassGraphExtension;
 import io.github.tobi.laa.reflective.fluent.builders.test.InjectSpy;
 import io.github.tobi.laa.reflective.fluent.builders.test.IntegrationTest;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.ListWithTwoParams;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.hierarchy.*;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.hierarchy.second.SecondSuperClassInDifferentPackage;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.nested.NestedMarker;
@@ -17,7 +18,9 @@ import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.*;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.hierarchy.Child;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.hierarchy.Parent;
 import lombok.SneakyThrows;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.api.function.Executable;
@@ -36,6 +39,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties.MetadataEngine.BYTECODE;
 import static java.util.function.Predicate.not;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -55,6 +59,11 @@ class ClassServiceIT {
     @InjectSpy
     private BuildersProperties properties;
 
+    @AfterEach
+    void releaseScan() {
+        service.releaseScan();
+    }
+
     @Test
     void testCollectFullClassHierarchyNull() {
         // Act
@@ -115,6 +124,20 @@ class ClassServiceIT {
                                 classInfo.get(AnInterface.class.getName()))));
     }
 
+    @ParameterizedTest
+    @MethodSource("testCollectFullClassHierarchy")
+    void testCollectFullClassHierarchyBytecodeEngine(final ClassInfo clazz, final Set<Predicate<Class<?>>> excludes, final List<ClassInfo> expected) {
+        // Arrange
+        final var hierarchyCollection = new StandardBuildersProperties.StandardHierarchyCollection();
+        hierarchyCollection.setExcludes(excludes);
+        doReturn(hierarchyCollection).when(properties).getHierarchyCollection();
+        doReturn(BYTECODE).when(properties).getMetadataEngine();
+        // Act
+        final List<ClassInfo> actual = service.collectFullClassHierarchy(clazz);
+        // Assert
+        assertEquals(expected, actual);
+    }
+
     @Test
     void testCollectClassesRecursivelyNull() {
         // Arrange
@@ -191,6 +214,95 @@ class ClassServiceIT {
                                 classInfo.get(TopLevelClass.class.getName()))));
     }
 
+    @ParameterizedTest
+    @MethodSource("testCollectClassesRecursively")
+    @SuppressWarnings({"unused", "resource"})
+    void testCollectClassesRecursivelyFromSharedScan(final String packageName, final Set<ClassInfo> expected) {
+        // Arrange
+        service.scanClasspath(Set.of(Simple.class.getPackageName(), NestedMarker.class.getPackageName()), Set.of());
+        try (final var classGraph = mockConstruction(
+                ClassGraph.class,
+                withSettings().defaultAnswer(InvocationOnMock::getMock),
+                (mock, ctx) -> doThrow(classGraphException("Classpath should not be scanned again.")).when(mock).scan())) {
+            // Act
+            final Set<ClassInfo> actual = service.collectClassesRecursively(packageName);
+            // Assert
+            assertThat(actual)
+                    .filteredOn(not(this::isTestClass))
+                    .map(ClassInfo::getName)
+                    .containsExactlyInAnyOrderElementsOf(expected.stream().map(ClassInfo::getName).collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    void testScanClasspathNull() {
+        // Act
+        final Executable scanNullPackages = () -> service.scanClasspath(null, Set.of());
+        final Executable scanNullClasses = () -> service.scanClasspath(Set.of(), null);
+        // Assert
+        assertThrows(NullPointerException.class, scanNullPackages);
+        assertThrows(NullPointerException.class, scanNullClasses);
+    }
+
+    @Test
+    @SuppressWarnings({"unused", "resource"})
+    void testScanClasspathReflectionException() {
+        // Arrange
+        final var cause = classGraphException("Thrown in unit test");
+        try (final var classGraph = mockConstruction(
+                ClassGraph.class,
+                withSettings().defaultAnswer(InvocationOnMock::getMock),
+                (mock, ctx) -> doThrow(cause).when(mock).scan())) {
+            // Act
+            final ThrowingCallable scanClasspath = () -> service.scanClasspath(Set.of(Simple.class.getPackageName()), Set.of());
+            // Assert
+            assertThatThrownBy(scanClasspath)
+                    .isInstanceOf(ReflectionException.class)
+                    .hasMessage("Error while attempting to scan classpath.")
+                    .hasCause(cause);
+        }
+    }
+
+    @Test
+    @SuppressWarnings({"unused", "resource"})
+    void testLoadClassFromSharedScan() {
+        // Arrange
+        service.scanClasspath(Set.of(Simple.class.getPackageName()), Set.of(ClassService.class.getName()));
+        try (final var classGraph = mockConstruction(
+                ClassGraph.class,
+                withSettings().defaultAnswer(InvocationOnMock::getMock),
+                (mock, ctx) -> doThrow(classGraphException("Classpath should not be scanned again.")).when(mock).scan())) {
+            // Act
+            final var simpleClass = service.loadClass(SimpleClass.class.getName());
+            final var child = service.loadClass(Child.class.getName());
+            final var classService = service.loadClass(ClassService.class.getName());
+            final var nonExistent = service.loadClass(Simple.class.getPackageName() + ".DoesNotExist");
+            // Assert
+            assertThat(simpleClass).get().hasFieldOrPropertyWithValue("name", SimpleClass.class.getName());
+            assertThat(child).get().hasFieldOrPropertyWithValue("name", Child.class.getName());
+            assertThat(classService).get().hasFieldOrPropertyWithValue("name", ClassService.class.getName());
+            assertThat(nonExistent).isEmpty();
+        }
+    }
+
+    @Test
+    @SuppressWarnings({"unused", "resource"})
+    void testLoadClassAfterReleaseScan() {
+        // Arrange
+        final var cause = classGraphException("Thrown in unit test");
+        service.scanClasspath(Set.of(Simple.class.getPackageName()), Set.of());
+        service.releaseScan();
+        try (final var classGraph = mockConstruction(
+                ClassGraph.class,
+                withSettings().defaultAnswer(InvocationOnMock::getMock),
+                (mock, ctx) -> doThrow(cause).when(mock).scan())) {
+            // Act
+            final ThrowingCallable loadClass = () -> service.loadClass(SimpleClass.class.getName());
+            // Assert
+            assertThatThrownBy(loadClass).isInstanceOf(ReflectionException.class).hasCause(cause);
+        }
+    }
+
     @Test
     void testDetermineClassLocationNull() {
         // Arrange
@@ -233,6 +345,37 @@ class ClassServiceIT {
         assertThat(actual.get()).isRegularFile().hasExtension("class");
     }
 
+    @Test
+    void testDetermineClassLocationOfClassInfoNull() {
+        // Arrange
+        final ClassInfo clazz = null;
+        // Act
+        final Executable determineClassLocation = () -> service.determineClassLocation(clazz);
+        // Assert
+        assertThrows(NullPointerException.class, determineClassLocation);
+    }
+
+    @Test
+    void testDetermineClassLocationOfClassInfoNotScanned() {
+        // Arrange
+        final var clazz = classInfo.get(ListWithTwoParams.class).getSuperclass();
+        // Act
+        final Optional<Path> actual = service.determineClassLocation(clazz);
+        // Assert
+        assertThat(actual).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {SimpleClass.class, TopLevelClass.NestedPublicLevelOne.class, ClassWithHierarchy.class})
+    void testDetermineClassLocationOfClassInfo(final Class<?> type) {
+        // Arrange
+        final var clazz = classInfo.get(type);
+        // Act
+        final Optional<Path> actual = service.determineClassLocation(clazz);
+        // Assert
+        assertThat(actual).isPresent().isEqualTo(service.determineClassLocation(type));
+    }
+
     @Test
     void testLoadClassNull() {
         // Arrange
@@ -288,6 +431,90 @@ class ClassServiceIT {
                 Arguments.of("io.github.tobi.laa.reflective.fluent.builders.service.api.ClassService", ClassService.class));
     }
 
+    @Test
+    void testDetermineDeclaredFieldNamesNull() {
+        // Arrange
+        final String className = null;
+        // Act
+        final ThrowingCallable determineDeclaredFieldNames = () -> service.determineDeclaredFieldNames(className);
+        // Assert
+        assertThatThrownBy(determineDeclaredFieldNames).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @SuppressWarnings({"unused", "resource"})
+    void testDetermineDeclaredFieldNamesReflectionException() {
+        // Arrange
+        final var cause = classGraphException("Thrown in unit test.");
+        try (final var classGraph = mockConstruction(
+                ClassGraph.class,
+                withSettings().defaultAnswer(InvocationOnMock::getMock),
+                (mock, ctx) -> doThrow(cause).when(mock).scan())) {
+            // Act
+            final ThrowingCallable determineDeclaredFieldNames = () -> service.determineDeclaredFieldNames("does.not.Matter");
+            // Assert
+            assertThatThrownBy(determineDeclaredFieldNames) //
+                    .isInstanceOf(ReflectionException.class)
+                    .hasMessage("Error while attempting to scan package does.not.") //
+                    .hasCause(cause);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"this.class.exists.not", "io.github.tobi.laa.reflective.fluent.builders.test.models.simple.DoesNotExist"})
+    void testDetermineDeclaredFieldNamesEmpty(final String className) {
+        // Act
+        final Optional<Set<String>> actual = service.determineDeclaredFieldNames(className);
+        // Assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void testDetermineDeclaredFieldNames() {
+        // Act
+        final Optional<Set<String>> actual = service.determineDeclaredFieldNames(SimpleClass.class.getName());
+        // Assert
+        assertThat(actual).get(InstanceOfAssertFactories.collection(String.class))
+                .containsExactlyInAnyOrder("anInt", "aString", "booleanField", "setClass");
+    }
+
+    @Test
+    @SuppressWarnings({"unused", "resource"})
+    void testDetermineDeclaredFieldNamesFromSharedScan() {
+        // Arrange
+        service.scanClasspath(Set.of(Simple.class.getPackageName()), Set.of());
+        try (final var classGraph = mockConstruction(
+                ClassGraph.class,
+                withSettings().defaultAnswer(InvocationOnMock::getMock),
+                (mock, ctx) -> doThrow(classGraphException("Classpath should not be scanned again.")).when(mock).scan())) {
+            // Act
+            final var simpleClass = service.determineDeclaredFieldNames(SimpleClass.class.getName());
+            final var nonExistent = service.determineDeclaredFieldNames(Simple.class.getPackageName() + ".DoesNotExist");
+            // Assert
+            assertThat(simpleClass).get(InstanceOfAssertFactories.collection(String.class))
+                    .containsExactlyInAnyOrder("anInt", "aString", "booleanField", "setClass");
+            assertThat(nonExistent).isEmpty();
+        }
+    }
+
+    @Test
+    @SuppressWarnings({"unused", "resource"})
+    void testDetermineDeclaredFieldNamesIndexedOncePerPackage() {
+        // Arrange
+        service.scanClasspath(Set.of(NestedMarker.class.getPackageName()), Set.of());
+        service.determineDeclaredFieldNames(SimpleClass.class.getName());
+        try (final var classGraph = mockConstruction(
+                ClassGraph.class,
+                withSettings().defaultAnswer(InvocationOnMock::getMock),
+                (mock, ctx) -> doThrow(classGraphException("Package should not be scanned again.")).when(mock).scan())) {
+            // Act
+            final var simpleClass = service.determineDeclaredFieldNames(SimpleClass.class.getName());
+            // Assert
+            assertThat(simpleClass).get(InstanceOfAssertFactories.collection(String.class))
+                    .containsExactlyInAnyOrder("anInt", "aString", "booleanField", "setClass");
+        }
+    }
+
     @Test
     void testIsAbstractNull() {
         // Arrange
@@ -0,0 +1,227 @@
+package io.github.tobi.laa.reflective.fluent.builders.service.api;
+
+import io.github.classgraph.ClassInfo;
+import io.github.tobi.laa.reflective.fluent.builders.model.WriteAccessor;
+import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
+import io.github.tobi.laa.reflective.fluent.builders.test.ClassGraphExtension;
+import io.github.tobi.laa.reflective.fluent.builders.test.InjectSpy;
+import io.github.tobi.laa.reflective.fluent.builders.test.IntegrationTest;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.*;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.hierarchy.generics.GenericChild;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.full.Person;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.SimpleClass;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.throwing.ThrowsMultipleCheckedExceptions;
+import lombok.SneakyThrows;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.inject.Inject;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+
+@IntegrationTest
+class MetadataCacheServiceIT {
+
+    @RegisterExtension
+    static ClassGraphExtension classInfo = new ClassGraphExtension();
+
+    @Inject
+    private MetadataCacheService service;
+
+    @Inject
+    private WriteAccessorService writeAccessorService;
+
+    @InjectSpy
+    private BuildersProperties properties;
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void closeCache() {
+        service.close();
+    }
+
+    @Test
+    void testOpenNull() {
+        // Act
+        final ThrowingCallable openNullFile = () -> service.open(null, "");
+        final ThrowingCallable openNullKey = () -> service.open(tempDir.resolve("cache"), null);
+        // Assert
+        assertThatThrownBy(openNullFile).isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(openNullKey).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testLookUpWriteAccessorsNull() {
+        // Act
+        final ThrowingCallable lookUp = () -> service.lookUpWriteAccessors(null);
+        // Assert
+        assertThatThrownBy(lookUp).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testStoreWriteAccessorsNull() {
+        // Act
+        final ThrowingCallable storeNullClass = () -> service.storeWriteAccessors(null, new TreeSet<>());
+        final ThrowingCallable storeNullWriteAccessors = () -> service.storeWriteAccessors(classInfo.get(SimpleClass.class), null);
+        // Assert
+        assertThatThrownBy(storeNullClass).isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(storeNullWriteAccessors).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testLookUpWriteAccessorsWithoutOpenCache() {
+        // Arrange
+        final var clazz = classInfo.get(SimpleClass.class);
+        service.storeWriteAccessors(clazz, writeAccessorService.gatherAllWriteAccessors(clazz));
+        // Act
+        final Optional<SortedSet<WriteAccessor>> actual = service.lookUpWriteAccessors(clazz);
+        // Assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void testLookUpWriteAccessorsNotCached() {
+        // Arrange
+        service.open(tempDir.resolve("cache"), "");
+        // Act
+        final Optional<SortedSet<WriteAccessor>> actual = service.lookUpWriteAccessors(classInfo.get(SimpleClass.class));
+        // Assert
+        assertThat(actual).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = { //
+            SimpleClass.class, //
+            ClassWithCollections.class, //
+            ClassWithGenerics.class, //
+            GenericChild.class, //
+            WithAdders.class, //
+            DirectFieldAccess.class, //
+            ThrowsMultipleCheckedExceptions.class, //
+            Person.class})
+    void testLookUpWriteAccessorsAfterReopening(final Class<?> type) {
+        // Arrange
+        final var cacheFile = tempDir.resolve("target").resolve("cache");
+        final var clazz = classInfo.get(type);
+        final var expected = writeAccessorService.gatherAllWriteAccessors(clazz);
+        service.open(cacheFile, "");
+        service.storeWriteAccessors(clazz, expected);
+        service.close();
+        service.open(cacheFile, "");
+        // Act
+        final Optional<SortedSet<WriteAccessor>> actual = service.lookUpWriteAccessors(clazz);
+        // Assert
+        assertThat(cacheFile).isRegularFile();
+        assertThat(actual).get()
+                .usingRecursiveComparison()
+                .withEqualsForType((a, b) -> a.getTypeName().equals(b.getTypeName()), Type.class)
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void testLookUpWriteAccessorsRetainsEntriesThatHaveBeenLookedUp() {
+        // Arrange
+        final var cacheFile = tempDir.resolve("cache");
+        final var simpleClass = classInfo.get(SimpleClass.class);
+        final var person = classInfo.get(Person.class);
+        service.open(cacheFile, "");
+        service.storeWriteAccessors(simpleClass, writeAccessorService.gatherAllWriteAccessors(simpleClass));
+        service.storeWriteAccessors(person, writeAccessorService.gatherAllWriteAccessors(person));
+        service.close();
+        service.open(cacheFile, "");
+        service.lookUpWriteAccessors(simpleClass);
+        service.close();
+        service.open(cacheFile, "");
+        // Act
+        final Optional<SortedSet<WriteAccessor>> actualSimpleClass = service.lookUpWriteAccessors(simpleClass);
+        final Optional<SortedSet<WriteAccessor>> actualPerson = service.lookUpWriteAccessors(person);
+        // Assert
+        assertThat(actualSimpleClass).isPresent();
+        assertThat(actualPerson).isEmpty();
+    }
+
+    @Test
+    void testLookUpWriteAccessorsDifferentConfigurationKey() {
+        // Arrange
+        final var cacheFile = tempDir.resolve("cache");
+        final var clazz = classInfo.get(SimpleClass.class);
+        service.open(cacheFile, "first");
+        service.storeWriteAccessors(clazz, writeAccessorService.gatherAllWriteAccessors(clazz));
+        service.close();
+        service.open(cacheFile, "second");
+        // Act
+        final Optional<SortedSet<WriteAccessor>> actual = service.lookUpWriteAccessors(clazz);
+        // Assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void testLookUpWriteAccessorsDifferentProperties() {
+        // Arrange
+        final var cacheFile = tempDir.resolve("cache");
+        final var clazz = classInfo.get(SimpleClass.class);
+        service.open(cacheFile, "");
+        service.storeWriteAccessors(clazz, writeAccessorService.gatherAllWriteAccessors(clazz));
+        service.close();
+        doReturn("with").when(properties).getSetterPrefix();
+        service.open(cacheFile, "");
+        // Act
+        final Optional<SortedSet<WriteAccessor>> actual = service.lookUpWriteAccessors(clazz);
+        // Assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    @SneakyThrows
+    void testLookUpWriteAccessorsFingerprintChanged() {
+        // Arrange
+        final var cacheFile = tempDir.resolve("cache");
+        final var clazz = classInfo.get(SimpleClass.class);
+        service.open(cacheFile, "");
+        service.storeWriteAccessors(clazz, writeAccessorService.gatherAllWriteAccessors(clazz));
+        service.close();
+        final var bytes = Files.readAllBytes(cacheFile);
+        // header is 28 bytes, the fingerprint of the only entry follows the index and its own length
+        final var fingerprintPosition = 28 + ByteBuffer.wrap(bytes).getInt(24) + 4;
+        bytes[fingerprintPosition] ^= 1;
+        Files.write(cacheFile, bytes);
+        service.open(cacheFile, "");
+        // Act
+        final Optional<SortedSet<WriteAccessor>> actual = service.lookUpWriteAccessors(clazz);
+        // Assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    @SneakyThrows
+    void testLookUpWriteAccessorsCorruptCacheFile() {
+        // Arrange
+        final var cacheFile = tempDir.resolve("cache");
+        final var clazz = classInfo.get(SimpleClass.class);
+        Files.write(cacheFile, new byte[]{1, 2, 3});
+        service.open(cacheFile, "");
+        // Act
+        final Optional<SortedSet<WriteAccessor>> actual = service.lookUpWriteAccessors(clazz);
+        service.storeWriteAccessors(clazz, writeAccessorService.gatherAllWriteAccessors(clazz));
+        service.close();
+        // Assert
+        assertThat(actual).isEmpty();
+        assertThat(Files.size(cacheFile)).isGreaterThan(3);
+    }
+}
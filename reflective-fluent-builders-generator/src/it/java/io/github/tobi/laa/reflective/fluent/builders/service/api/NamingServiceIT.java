@@ -0,0 +1,186 @@
+package io.github.tobi.laa.reflective.fluent.builders.service.api;
+
+import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
+import io.github.tobi.laa.reflective.fluent.builders.test.InjectSpy;
+import io.github.tobi.laa.reflective.fluent.builders.test.IntegrationTest;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import javax.inject.Inject;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+
+@IntegrationTest
+class NamingServiceIT {
+
+    @Inject
+    private NamingService namingService;
+
+    @InjectSpy
+    private BuildersProperties properties;
+
+    @ParameterizedTest
+    @MethodSource
+    void testNull(final BiFunction<NamingService, String, ?> method) {
+        // Act
+        final ThrowingCallable apply = () -> method.apply(namingService, null);
+        // Assert
+        assertThatThrownBy(apply).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    static Stream<BiFunction<NamingService, String, ?>> testNull() {
+        return Stream.of( //
+                NamingService::hasSetterPrefix, //
+                NamingService::hasGetterPrefix, //
+                NamingService::matchesAdderPattern, //
+                NamingService::dropSetterPrefix, //
+                NamingService::dropGetterPrefix, //
+                NamingService::dropAdderPattern, //
+                NamingService::pluralize);
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testHasSetterPrefix(final String setterPrefix, final String name, final boolean expected) {
+        // Arrange
+        doReturn(setterPrefix).when(properties).getSetterPrefix();
+        // Act
+        final boolean actual = namingService.hasSetterPrefix(name);
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> testHasSetterPrefix() {
+        return Stream.of( //
+                Arguments.of("set", "setAge", true), //
+                Arguments.of("set", "withAge", false), //
+                Arguments.of("with", "withAge", true), //
+                Arguments.of("", "age", true));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testHasGetterPrefix(final String getterPrefix, final String name, final boolean expected) {
+        // Arrange
+        doReturn(getterPrefix).when(properties).getGetterPrefix();
+        // Act
+        final boolean actual = namingService.hasGetterPrefix(name);
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> testHasGetterPrefix() {
+        return Stream.of( //
+                Arguments.of("get", "getAge", true), //
+                Arguments.of("get", "age", false), //
+                Arguments.of("retrieve", "retrieveAge", true));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testMatchesAdderPattern(final String adderPattern, final String name, final boolean expected) {
+        // Arrange
+        doReturn(adderPattern).when(properties).getAdderPattern();
+        // Act
+        final boolean actual = namingService.matchesAdderPattern(name);
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> testMatchesAdderPattern() {
+        return Stream.of( //
+                Arguments.of("add(.+)", "addItem", true), //
+                Arguments.of("add(.+)", "add", false), //
+                Arguments.of("add(.+)", "putItem", false), //
+                Arguments.of("put(.+)", "putItem", true));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testDropAdderPattern(final String adderPattern, final String name, final String expected) {
+        // Arrange
+        doReturn(adderPattern).when(properties).getAdderPattern();
+        // Act
+        final String actual = namingService.dropAdderPattern(name);
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> testDropAdderPattern() {
+        return Stream.of( //
+                Arguments.of("add(.+)", "addItem", "item"), //
+                Arguments.of("add(.+)", "putItem", "putItem"), //
+                Arguments.of("(.+)Adder", "itemAdder", "item"));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testPluralize(final String name, final String expected) {
+        // Act
+        final String actual = namingService.pluralize(name);
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> testPluralize() {
+        return Stream.of( //
+                Arguments.of("item", "items"), //
+                Arguments.of("child", "children"), //
+                Arguments.of("box", "boxes"), //
+                Arguments.of("item", "items"));
+    }
+
+    @Test
+    void testReconfiguredPropertiesAreHonoured() {
+        // Arrange
+        doReturn("add(.+)").when(properties).getAdderPattern();
+        final boolean matchesBefore = namingService.matchesAdderPattern("putItem");
+        doReturn("put(.+)").when(properties).getAdderPattern();
+        // Act
+        final boolean matchesAfter = namingService.matchesAdderPattern("putItem");
+        // Assert
+        assertThat(matchesBefore).isFalse();
+        assertThat(matchesAfter).isTrue();
+    }
+
+    @Test
+    void testConcurrentlyConfiguredPropertiesAreHonoured() throws Exception {
+        // Arrange
+        final var adderPattern = new ThreadLocal<String>();
+        doAnswer(invocation -> adderPattern.get()).when(properties).getAdderPattern();
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            final Callable<Boolean> addExecution = () -> matchesAlternately(adderPattern, "add(.+)", "addItem", "putItem");
+            final Callable<Boolean> putExecution = () -> matchesAlternately(adderPattern, "put(.+)", "putItem", "addItem");
+            // Act
+            final var results = executor.invokeAll(List.of(addExecution, putExecution));
+            // Assert
+            for (final var result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean matchesAlternately(final ThreadLocal<String> adderPattern, final String pattern, final String matching, final String nonMatching) {
+        adderPattern.set(pattern);
+        for (int i = 0; i < 1_000; i++) {
+            if (!namingService.matchesAdderPattern(matching) || namingService.matchesAdderPattern(nonMatching)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
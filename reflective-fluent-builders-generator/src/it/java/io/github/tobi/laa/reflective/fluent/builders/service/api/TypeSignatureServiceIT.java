@@ -0,0 +1,132 @@
+package io.github.tobi.laa.reflective.fluent.builders.service.api;
+
+import io.github.classgraph.TypeSignature;
+import io.github.tobi.laa.reflective.fluent.builders.exception.ReflectionException;
+import io.github.tobi.laa.reflective.fluent.builders.test.ClassGraphExtension;
+import io.github.tobi.laa.reflective.fluent.builders.test.IntegrationTest;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.ClassWithCollections;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.ClassWithGenerics;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.DirectFieldAccess;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.full.Person;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.jaxb.PersonJaxb;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.SimpleClass;
+import lombok.SneakyThrows;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import javax.inject.Inject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@IntegrationTest
+class TypeSignatureServiceIT {
+
+    @RegisterExtension
+    static ClassGraphExtension classInfo = new ClassGraphExtension();
+
+    @Inject
+    private TypeSignatureService service;
+
+    @ParameterizedTest
+    @MethodSource
+    void testToTypeNull(final TypeSignature typeSignature, final Class<?> declaringClass) {
+        // Act
+        final ThrowingCallable toType = () -> service.toType(typeSignature, declaringClass);
+        // Assert
+        assertThatThrownBy(toType).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    static Stream<Arguments> testToTypeNull() {
+        final var typeSignature = classInfo.get(SimpleClass.class).getDeclaredFieldInfo("anInt").getTypeSignatureOrTypeDescriptor();
+        return Stream.of( //
+                Arguments.of(null, null), //
+                Arguments.of(typeSignature, null), //
+                Arguments.of(null, SimpleClass.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testToType(final Field field) {
+        // Arrange
+        final var declaringClass = field.getDeclaringClass();
+        final var typeSignature = classInfo.get(declaringClass) //
+                .getDeclaredFieldInfo(field.getName()) //
+                .getTypeSignatureOrTypeDescriptor();
+        // Act
+        final Type actual = service.toType(typeSignature, declaringClass);
+        // Assert
+        assertThat(actual).isEqualTo(field.getGenericType());
+        assertThat(actual.getTypeName()).isEqualTo(field.getGenericType().getTypeName());
+    }
+
+    static Stream<Field> testToType() {
+        return Stream.of( //
+                        SimpleClass.class, //
+                        ClassWithCollections.class, //
+                        ClassWithGenerics.class, //
+                        DirectFieldAccess.class, //
+                        Person.class, //
+                        PersonJaxb.class) //
+                .map(Class::getDeclaredFields) //
+                .flatMap(Arrays::stream);
+    }
+
+    @Test
+    void testToTypeUnresolvableTypeVariable() {
+        // Arrange
+        final var typeSignature = classInfo.get(ClassWithGenerics.class).getDeclaredFieldInfo("t").getTypeSignatureOrTypeDescriptor();
+        // Act
+        final ThrowingCallable toType = () -> service.toType(typeSignature, SimpleClass.class);
+        // Assert
+        assertThatThrownBy(toType).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testLoadClassNull(final String className, final Class<?> context) {
+        // Act
+        final ThrowingCallable loadClass = () -> service.loadClass(className, context);
+        // Assert
+        assertThatThrownBy(loadClass).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    static Stream<Arguments> testLoadClassNull() {
+        return Stream.of( //
+                Arguments.of(null, null), //
+                Arguments.of(SimpleClass.class.getName(), null), //
+                Arguments.of(null, SimpleClass.class));
+    }
+
+    @Test
+    void testLoadClassNotFound() {
+        // Arrange
+        final var className = "does.not.Exist";
+        // Act
+        final ThrowingCallable loadClass = () -> service.loadClass(className, SimpleClass.class);
+        // Assert
+        assertThatThrownBy(loadClass) //
+                .isExactlyInstanceOf(ReflectionException.class) //
+                .hasMessage("Error while attempting to load class does.not.Exist.") //
+                .hasCauseExactlyInstanceOf(ClassNotFoundException.class);
+    }
+
+    @Test
+    @SneakyThrows
+    void testLoadClass() {
+        // Arrange
+        final var className = DirectFieldAccess.class.getName() + "$PrivateInnerClass";
+        // Act
+        final Class<?> actual = service.loadClass(className, DirectFieldAccess.class);
+        // Assert
+        assertThat(actual).isEqualTo(Class.forName(className));
+    }
+}
@@ -8,6 +8,7 @@ import io.github.tobi.laa.reflective.fluent.builders.test.InjectSpy;
 import io.github.tobi.laa.reflective.fluent.builders.test.IntegrationTest;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.*;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.hierarchy.*;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.hierarchy.bridgemethod.BridgeMethodClass;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.hierarchy.generics.Generic;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.hierarchy.generics.GenericChild;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.hierarchy.generics.GenericGrandChild;
@@ -18,6 +19,8 @@ import io.github.tobi.laa.reflective.fluent.builders.test.models.jaxb.PersonJaxb
 import io.github.tobi.laa.reflective.fluent.builders.test.models.jaxb.PetJaxb;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.SimpleClass;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.SimpleClassNoSetPrefix;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.throwing.ThrowsMultipleCheckedExceptions;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.visibility.SettersWithDifferentVisibility;
 import lombok.SneakyThrows;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
@@ -27,24 +30,28 @@ import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.junitpioneer.jupiter.cartesian.ArgumentSets;
 import org.junitpioneer.jupiter.cartesian.CartesianTest;
 
 import javax.inject.Inject;
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.*;
 import java.util.stream.Stream;
 
 import static io.github.tobi.laa.reflective.fluent.builders.model.Visibility.*;
+import static io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties.MetadataEngine.BYTECODE;
 import static org.apache.commons.lang3.reflect.TypeUtils.parameterize;
 import static org.apache.commons.lang3.reflect.TypeUtils.wildcardType;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @IntegrationTest
 class WriteAccessorServiceIT {
@@ -58,6 +65,9 @@ class WriteAccessorServiceIT {
     @InjectSpy
     private BuildersProperties properties;
 
+    @InjectSpy
+    private AccessibilityService accessibilityService;
+
     @Test
     void testDropSetterPrefixNull() {
         // Act
@@ -362,6 +372,98 @@ class WriteAccessorServiceIT {
         return ClassWithCollections.class.getTypeParameters()[1];
     }
 
+    @ParameterizedTest
+    @ValueSource(classes = { //
+            SimpleClass.class, //
+            ClassWithCollections.class, //
+            ClassWithGenerics.class, //
+            ClassWithHierarchy.class, //
+            GenericChild.class, //
+            GenericGrandChild.class, //
+            BridgeMethodClass.class, //
+            WithAdders.class, //
+            DirectFieldAccess.class, //
+            GetAndAdd.class, //
+            NameCollisions.class, //
+            ThrowsMultipleCheckedExceptions.class, //
+            SettersWithDifferentVisibility.class, //
+            Person.class, //
+            PersonJaxb.class, //
+            PetJaxb.class})
+    void testGatherAllWriteAccessorsBytecodeEngine(final Class<?> type) {
+        // Arrange
+        final var clazz = classInfo.get(type);
+        doReturn(true).when(properties).isGetAndAddEnabled();
+        doReturn(true).when(properties).isDirectFieldAccessEnabled();
+        doReturn(true).when(properties).isAddersEnabled();
+        final var expected = writeAccessorService.gatherAllWriteAccessors(clazz);
+        doReturn(BYTECODE).when(properties).getMetadataEngine();
+        // Act
+        final SortedSet<WriteAccessor> actual = writeAccessorService.gatherAllWriteAccessors(clazz);
+        // Assert
+        assertThat(actual).isNotEmpty().containsExactlyElementsOf(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = { //
+            ClassWithCollections.class, //
+            ClassWithHierarchy.class, //
+            GenericGrandChild.class, //
+            WithAdders.class, //
+            DirectFieldAccess.class, //
+            GetAndAdd.class, //
+            NameCollisions.class, //
+            Person.class, //
+            PersonJaxb.class, //
+            PetJaxb.class})
+    void testGatherAllWriteAccessorsNoneEquivalent(final Class<?> type) {
+        // Arrange
+        final var clazz = classInfo.get(type);
+        doReturn(true).when(properties).isGetAndAddEnabled();
+        doReturn(true).when(properties).isDirectFieldAccessEnabled();
+        doReturn(true).when(properties).isAddersEnabled();
+        // Act
+        final SortedSet<WriteAccessor> actual = writeAccessorService.gatherAllWriteAccessors(clazz);
+        // Assert
+        assertThat(actual).isNotEmpty().allSatisfy(first -> assertThat(actual) //
+                .filteredOn(second -> first != second) //
+                .noneMatch(second -> writeAccessorService.equivalentAccessors(first, second)));
+    }
+
+    @Test
+    void testGatherAllWriteAccessorsAnalysesSharedSupertypesOnlyOnce() {
+        // Arrange
+        final var builderPackage = "a.package.used.only.by.this.test";
+        doReturn(builderPackage).when(properties).getBuilderPackage();
+        writeAccessorService.gatherAllWriteAccessors(classInfo.get(GenericChild.class));
+        clearInvocations(accessibilityService);
+        // Act
+        writeAccessorService.gatherAllWriteAccessors(classInfo.get(GenericGrandChild.class));
+        // Assert
+        verify(accessibilityService, atLeastOnce()) //
+                .isAccessibleFrom(argThat((Method method) -> method.getDeclaringClass() == GenericGrandChild.class), eq(builderPackage));
+        verify(accessibilityService, never()) //
+                .isAccessibleFrom(argThat((Method method) -> method.getDeclaringClass() != GenericGrandChild.class), eq(builderPackage));
+    }
+
+    @Test
+    void testGatherAllWriteAccessorsSameClassDifferentBuilderPackages() {
+        // Arrange
+        final var clazz = classInfo.get(SettersWithDifferentVisibility.class);
+        doReturn(SettersWithDifferentVisibility.class.getPackageName()).when(properties).getBuilderPackage();
+        final var samePackage = writeAccessorService.gatherAllWriteAccessors(clazz);
+        doReturn("a.weird.package").when(properties).getBuilderPackage();
+        // Act
+        final SortedSet<WriteAccessor> differentPackage = writeAccessorService.gatherAllWriteAccessors(clazz);
+        // Assert
+        assertThat(samePackage) //
+                .extracting(WriteAccessor::getPropertyName) //
+                .containsExactlyInAnyOrder("protectedSetter", "packagePrivateSetter", "publicSetter");
+        assertThat(differentPackage) //
+                .extracting(WriteAccessor::getPropertyName) //
+                .containsExactly("publicSetter");
+    }
+
     @Test
     void testIsSetterNull() {
         // Arrange
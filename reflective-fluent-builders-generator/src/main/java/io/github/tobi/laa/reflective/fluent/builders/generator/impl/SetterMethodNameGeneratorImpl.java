@@ -5,6 +5,7 @@ import io.github.tobi.laa.reflective.fluent.builders.model.Adder;
 import io.github.tobi.laa.reflective.fluent.builders.model.Getter;
 import io.github.tobi.laa.reflective.fluent.builders.model.Setter;
 import io.github.tobi.laa.reflective.fluent.builders.model.WriteAccessor;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.NamingService;
 import io.github.tobi.laa.reflective.fluent.builders.service.api.WriteAccessorService;
 import lombok.RequiredArgsConstructor;
 
@@ -26,18 +27,21 @@ class SetterMethodNameGeneratorImpl implements SetterMethodNameGenerator {
     @lombok.NonNull
     private final WriteAccessorService writeAccessorService;
 
+    @lombok.NonNull
+    private final NamingService namingService;
+
     @Override
     public String generate(final WriteAccessor writeAccessor) {
         Objects.requireNonNull(writeAccessor);
         if (writeAccessorService.isCollectionGetter(writeAccessor)) {
             final var getter = (Getter) writeAccessor;
-            return writeAccessorService.dropGetterPrefix(getter.getMethodName());
+            return namingService.dropGetterPrefix(getter.getMethodName());
         } else if (writeAccessorService.isSetter(writeAccessor)) {
             final var setter = (Setter) writeAccessor;
-            return writeAccessorService.dropSetterPrefix(setter.getMethodName());
+            return namingService.dropSetterPrefix(setter.getMethodName());
         } else if (writeAccessorService.isAdder(writeAccessor)) {
             final var adder = (Adder) writeAccessor;
-            return writeAccessorService.dropAdderPattern(adder.getMethodName());
+            return namingService.dropAdderPattern(adder.getMethodName());
         } else {
             return writeAccessor.getPropertyName();
         }
@@ -3,13 +3,9 @@ package io.github.tobi.laa.reflective.fluent.builders.model;
 import lombok.Data;
 import lombok.NonNull;
 import lombok.experimental.SuperBuilder;
+import org.apache.commons.lang3.reflect.TypeUtils;
 
 import java.util.Objects;
-import java.util.function.IntSupplier;
-import java.util.stream.Stream;
-
-import static java.util.Comparator.naturalOrder;
-import static java.util.Objects.compare;
 
 /**
  * <p>
@@ -20,6 +16,13 @@ import static java.util.Objects.compare;
 @Data
 abstract class AbstractWriteAccessor implements WriteAccessor {
 
+    private static final ClassValue<Integer> HIERARCHY_DEPTHS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(final Class<?> type) {
+            return hierarchyDepth(type);
+        }
+    };
+
     @lombok.NonNull
     private final PropertyType propertyType;
 
@@ -32,31 +35,104 @@ abstract class AbstractWriteAccessor implements WriteAccessor {
     @lombok.NonNull
     private final Class<?> declaringClass;
 
+    /**
+     * <p>
+     * Orders write accessors by property name, parameter type and the kind of write accessor. Write accessors that
+     * agree on those and are {@link #equals(Object) equal} are considered equal, which for instance applies to methods
+     * overridden within the class hierarchy. All others are ordered by their full property type, their method name (if
+     * any), their declaring class (subclasses first) and their visibility, so that the ordering is total and
+     * consistent with {@link #equals(Object)}.
+     * </p>
+     * <p>
+     * All of these are compared by name and are thus stable across runs. Accessors agreeing on all names, which is
+     * only possible if their types have been loaded by different class loaders, are finally ordered by the names of
+     * these class loaders and the locations the classes have been loaded from. Accessors that agree even on those
+     * would yield the same code and are thus considered duplicates.
+     * </p>
+     *
+     * @param other The write accessor to be compared. Must not be {@code null}.
+     * @return A negative integer, zero, or a positive integer as this write accessor is less than, equal to, or greater
+     * than {@code other}.
+     */
     @Override
     public int compareTo(@NonNull final WriteAccessor other) {
         Objects.requireNonNull(other);
-        if (equals(other)) {
+        if (this == other) {
+            return 0;
+        }
+        int result = propertyName.compareTo(other.getPropertyName());
+        if (result == 0) {
+            result = ParamTypeComparator.INSTANCE.compare(propertyType, other.getPropertyType());
+        }
+        if (result == 0) {
+            result = getClass().getName().compareTo(other.getClass().getName());
+        }
+        if (result == 0 && equals(other)) {
             return 0;
-        } else {
-            return Stream.<IntSupplier>of( //
-                            () -> compare(propertyName, other.getPropertyName(), naturalOrder()), //
-                            () -> compare(getPropertyType(), other.getPropertyType(), new ParamTypeComparator()), //
-                            () -> compareClasses(getDeclaringClass(), other.getDeclaringClass()), //
-                            () -> compare(getClass().getName(), other.getClass().getName(), naturalOrder()))
-                    .map(IntSupplier::getAsInt) //
-                    .filter(i -> i != 0) //
-                    .findFirst() //
-                    .orElse(1);
         }
+        if (result == 0) {
+            result = ParamTypeComparator.fullTypeName(propertyType).compareTo(ParamTypeComparator.fullTypeName(other.getPropertyType()));
+        }
+        if (result == 0 && this instanceof MethodAccessor method && other instanceof MethodAccessor otherMethod) {
+            result = method.getMethodName().compareTo(otherMethod.getMethodName());
+        }
+        if (result == 0) {
+            result = compareClasses(declaringClass, other.getDeclaringClass());
+        }
+        if (result == 0) {
+            result = visibility.compareTo(other.getVisibility());
+        }
+        if (result == 0) {
+            result = compareOrigins(TypeUtils.getRawType(propertyType.getType(), null), TypeUtils.getRawType(other.getPropertyType().getType(), null));
+        }
+        return result;
     }
 
     private int compareClasses(final Class<?> clazz, final Class<?> anotherClazz) {
         if (clazz == anotherClazz) {
             return 0;
-        } else if (clazz.isAssignableFrom(anotherClazz)) {
-            return 1;
-        } else {
-            return -1;
         }
+        // subclasses are always deeper within the hierarchy than their superclasses, so they come first
+        int result = Integer.compare(HIERARCHY_DEPTHS.get(anotherClazz), HIERARCHY_DEPTHS.get(clazz));
+        if (result == 0) {
+            result = clazz.getName().compareTo(anotherClazz.getName());
+        }
+        if (result == 0) {
+            result = compareOrigins(clazz, anotherClazz);
+        }
+        return result;
+    }
+
+    // classes of the same name loaded by different class loaders
+    private static int compareOrigins(final Class<?> clazz, final Class<?> anotherClazz) {
+        if (clazz == anotherClazz || clazz == null || anotherClazz == null) {
+            return 0;
+        }
+        int result = classLoaderName(clazz).compareTo(classLoaderName(anotherClazz));
+        if (result == 0) {
+            result = location(clazz).compareTo(location(anotherClazz));
+        }
+        return result;
+    }
+
+    private static String classLoaderName(final Class<?> clazz) {
+        final var classLoader = clazz.getClassLoader();
+        return classLoader == null || classLoader.getName() == null ? "" : classLoader.getName();
+    }
+
+    private static String location(final Class<?> clazz) {
+        final var codeSource = clazz.getProtectionDomain().getCodeSource();
+        return codeSource == null || codeSource.getLocation() == null ? "" : codeSource.getLocation().toString();
+    }
+
+    private static int hierarchyDepth(final Class<?> clazz) {
+        int depth = 0;
+        if (clazz.getSuperclass() != null) {
+            depth = HIERARCHY_DEPTHS.get(clazz.getSuperclass()) + 1;
+        }
+        for (final var anInterface : clazz.getInterfaces()) {
+            depth = Math.max(depth, HIERARCHY_DEPTHS.get(anInterface) + 1);
+        }
+        return depth;
     }
 }
@@ -1,19 +1,19 @@
 package io.github.tobi.laa.reflective.fluent.builders.model;
 
+import com.google.common.collect.Comparators;
 import io.github.classgraph.ClassInfo;
 import lombok.*;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
-import java.util.function.IntSupplier;
-import java.util.stream.Stream;
 
 import static com.google.common.collect.ImmutableSortedSet.toImmutableSortedSet;
 import static java.util.Comparator.naturalOrder;
-import static java.util.Objects.compare;
 
 /**
  * <p>
@@ -24,6 +24,12 @@ import static java.util.Objects.compare;
 @Data
 public class BuilderMetadata implements Comparable<BuilderMetadata> {
 
+    private static final Comparator<Iterable<WriteAccessor>> WRITE_ACCESSORS = Comparators.lexicographical(Comparator.<WriteAccessor>naturalOrder());
+
+    private static final Comparator<Iterable<BuilderMetadata>> NESTED_BUILDERS = Comparators.lexicographical(Comparator.<BuilderMetadata>naturalOrder());
+
+    private static final Comparator<Iterable<String>> NAMES = Comparators.lexicographical(Comparator.<String>naturalOrder());
+
     @lombok.NonNull
     private final String packageName;
 
@@ -85,19 +91,61 @@ public class BuilderMetadata implements Comparable<BuilderMetadata> {
         return Optional.ofNullable(enclosingBuilder);
     }
 
+    /**
+     * <p>
+     * Orders builders by package, name and the name of the built type. Builders that agree on all of those are only
+     * considered equal if they actually are, so that the ordering is consistent with {@link #equals(Object)}.
+     * </p>
+     * <p>
+     * Builders that are not equal nevertheless are ordered by their details, which are compared by name as well, so
+     * that the ordering is stable across runs. Builders agreeing even on all of their details would yield the same code
+     * and are thus considered duplicates.
+     * </p>
+     *
+     * @param other The builder metadata to be compared. Must not be {@code null}.
+     * @return A negative integer, zero, or a positive integer as this builder metadata is less than, equal to, or
+     * greater than {@code other}.
+     */
     @Override
     public int compareTo(@NonNull final BuilderMetadata other) {
-        if (equals(other)) {
+        if (this == other) {
             return 0;
-        } else {
-            return Stream.<IntSupplier>of( //
-                            () -> compare(packageName, other.packageName, naturalOrder()), //
-                            () -> compare(name, other.name, naturalOrder())) //
-                    .map(IntSupplier::getAsInt) //
-                    .filter(i -> i != 0) //
-                    .findFirst() //
-                    .orElse(1);
         }
+        int result = packageName.compareTo(other.packageName);
+        if (result == 0) {
+            result = name.compareTo(other.name);
+        }
+        if (result == 0) {
+            result = builtType.getType().getName().compareTo(other.builtType.getType().getName());
+        }
+        if (result == 0 && !equals(other)) {
+            // builders differing solely in their details are not to be expected in practice
+            result = compareDetails(other);
+        }
+        return result;
+    }
+
+    private int compareDetails(final BuilderMetadata other) {
+        int result = Boolean.compare(builtType.isAccessibleNonArgsConstructor(), other.builtType.isAccessibleNonArgsConstructor());
+        if (result == 0) {
+            result = WRITE_ACCESSORS.compare(builtType.getWriteAccessors(), other.builtType.getWriteAccessors());
+        }
+        if (result == 0) {
+            result = NESTED_BUILDERS.compare(nestedBuilders, other.nestedBuilders);
+        }
+        if (result == 0) {
+            result = NAMES.compare(sortedNames(exceptionTypes), sortedNames(other.exceptionTypes));
+        }
+        if (result == 0) {
+            result = NAMES.compare( //
+                    builtType.getLocation().map(Path::toString).stream().toList(), //
+                    other.builtType.getLocation().map(Path::toString).stream().toList());
+        }
+        return result;
+    }
+
+    private static List<String> sortedNames(final Set<Class<? extends Throwable>> types) {
+        return types.stream().map(Class::getName).sorted().toList();
     }
 
     @lombok.Builder
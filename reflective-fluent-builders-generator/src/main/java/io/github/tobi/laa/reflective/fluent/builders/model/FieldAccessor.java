@@ -30,7 +30,7 @@ public class FieldAccessor extends AbstractWriteAccessor {
         }
         final var anAccessor = (FieldAccessor) anObject;
         return Objects.equals(getPropertyName(), anAccessor.getPropertyName()) && //
-                compare(getPropertyType(), anAccessor.getPropertyType(), new ParamTypeComparator()) == 0;
+                compare(getPropertyType(), anAccessor.getPropertyType(), ParamTypeComparator.INSTANCE) == 0;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package io.github.tobi.laa.reflective.fluent.builders.model;
 
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Comparator;
 
 /**
@@ -8,21 +9,48 @@ import java.util.Comparator;
  * Compares {@link PropertyType types} in the context of being a method parameter - that is types with generics are
  * considered equal even if their type arguments do not match.
  * </p>
+ * <p>
+ * {@code null} is considered to be less than any type.
+ * </p>
  */
 class ParamTypeComparator implements Comparator<PropertyType> {
 
+    static final ParamTypeComparator INSTANCE = new ParamTypeComparator();
+
     @Override
     public int compare(final PropertyType a, final PropertyType b) {
-        if (a == null) {
+        if (a == b) {
+            return 0;
+        } else if (a == null) {
             return -1;
         } else if (b == null) {
             return 1;
-        } else if (a.getType() instanceof ParameterizedType typeA && b.getType() instanceof ParameterizedType typeB) {
-            final var aRawType = typeA.getRawType();
-            final var bRawType = typeB.getRawType();
-            return aRawType.getTypeName().compareTo(bRawType.getTypeName());
+        } else if (a.getType() instanceof ParameterizedType && b.getType() instanceof ParameterizedType) {
+            // the raw type of a parameterized type is a class, the name of which does not have to be built
+            return rawTypeName(a.getType()).compareTo(rawTypeName(b.getType()));
         } else {
-            return a.getType().getTypeName().compareTo(b.getType().getTypeName());
+            return fullTypeName(a).compareTo(fullTypeName(b));
         }
     }
+
+    /**
+     * <p>
+     * Returns the full name of {@code type} including its type arguments, if any, which for instance serves as a
+     * tie-breaker for types that are considered equal by this comparator.
+     * </p>
+     * <p>
+     * For generic types, the name is built anew on every call. It is not cached, as it is only needed for types that
+     * agree on their raw type, which are rare enough that a cache would hardly ever be hit.
+     * </p>
+     *
+     * @param type The type for which to return the full name. Must not be {@code null}.
+     * @return The full name of {@code type}.
+     */
+    static String fullTypeName(final PropertyType type) {
+        return type.getType().getTypeName();
+    }
+
+    private static String rawTypeName(final Type type) {
+        return ((ParameterizedType) type).getRawType().getTypeName();
+    }
 }
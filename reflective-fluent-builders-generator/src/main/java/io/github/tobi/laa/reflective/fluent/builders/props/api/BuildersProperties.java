@@ -131,6 +131,20 @@ public interface BuildersProperties {
      */
     HierarchyCollection getHierarchyCollection();
 
+    /**
+     * <p>
+     * The engine used for collecting the metadata of classes for which builders are generated, that is for instance
+     * their hierarchy, their write accessors and their constructors. The default value is
+     * {@link MetadataEngine#REFLECTION}.
+     * </p>
+     *
+     * @return The engine used for collecting the metadata of classes for which builders are generated. Never
+     * {@code null}.
+     * @see BuilderMetadataService
+     * @see WriteAccessorService
+     */
+    MetadataEngine getMetadataEngine();
+
     interface HierarchyCollection {
 
         /**
@@ -145,4 +159,31 @@ public interface BuildersProperties {
          */
         Set<Predicate<Class<?>>> getExcludes();
     }
+
+    /**
+     * <p>
+     * The engines available for collecting the metadata of classes for which builders are generated. Both engines
+     * yield the same metadata.
+     * </p>
+     */
+    enum MetadataEngine {
+
+        /**
+         * <p>
+         * Loads all scanned classes as well as their supertypes and inner classes and collects their metadata via
+         * reflection.
+         * </p>
+         */
+        REFLECTION,
+
+        /**
+         * <p>
+         * Collects the metadata of classes from their bytecode as read by ClassGraph while scanning the classpath.
+         * Classes are only loaded where this is inevitable, that is for evaluating excludes and for the types that are
+         * actually referenced by the collected metadata. Members of classes are never looked up via reflection, with
+         * the exception of supertypes whose bytecode has not been scanned, such as those provided by the JDK.
+         * </p>
+         */
+        BYTECODE
+    }
 }
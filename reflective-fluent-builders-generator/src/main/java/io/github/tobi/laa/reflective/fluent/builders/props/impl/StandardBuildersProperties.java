@@ -51,6 +51,9 @@ public class StandardBuildersProperties implements BuildersProperties {
     @lombok.NonNull
     private StandardHierarchyCollection hierarchyCollection = new StandardHierarchyCollection();
 
+    @lombok.NonNull
+    private MetadataEngine metadataEngine = MetadataEngine.REFLECTION;
+
     @Data
     @NoArgsConstructor
     public static class StandardHierarchyCollection implements HierarchyCollection {
@@ -1,5 +1,8 @@
 package io.github.tobi.laa.reflective.fluent.builders.service.api;
 
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ClassMemberInfo;
+
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -77,4 +80,40 @@ public interface AccessibilityService {
      * @return {@code true} if {@code field} is accessible from {@code packageName}, {@code false} otherwise.
      */
     boolean isAccessibleFrom(final Field field, final String packageName);
+
+    /**
+     * <p>
+     * Checks whether {@code clazz} is accessible from the given {@code packageName}. Unlike
+     * {@link #isAccessibleFrom(Class, String)}, this relies solely on the bytecode of {@code clazz} as read by
+     * ClassGraph and thus does not load it.
+     * </p>
+     *
+     * @param clazz       The class for which to check whether it is accessible from the given package. Must not be
+     *                    {@code null}.
+     * @param packageName The name of the package for which to check whether {@code clazz} is accessible from it. Must
+     *                    not be {@code null}.
+     * @return {@code true} if {@code clazz} is accessible from {@code packageName}, {@code false} otherwise.
+     */
+    boolean isAccessibleFrom(final ClassInfo clazz, final String packageName);
+
+    /**
+     * <p>
+     * Checks whether {@code member}, a method, constructor or field, is accessible from the given {@code packageName}
+     * in terms of its own visibility and the class declaring it. Unlike {@link #isAccessibleFrom(Method, String)} and
+     * {@link #isAccessibleFrom(Field, String)}, the types used by {@code member} are <em>not</em> checked, as this would
+     * require loading them. This relies solely on the bytecode of the declaring class as read by ClassGraph.
+     * </p>
+     * <p>
+     * The declaring class has to be passed explicitly as {@link ClassMemberInfo#getClassInfo()} is only available as
+     * long as the underlying scan has not been closed.
+     * </p>
+     *
+     * @param member         The member for which to check whether it is accessible from the given package. Must not be
+     *                       {@code null}.
+     * @param declaringClass The class declaring {@code member}. Must not be {@code null}.
+     * @param packageName    The name of the package for which to check whether {@code member} is accessible from it.
+     *                       Must not be {@code null}.
+     * @return {@code true} if {@code member} is accessible from {@code packageName}, {@code false} otherwise.
+     */
+    boolean isAccessibleFrom(final ClassMemberInfo member, final ClassInfo declaringClass, final String packageName);
 }
@@ -12,6 +12,11 @@ import java.util.Set;
  * Offers methods for identifying for which classes builder generation is possible as well as collecting
  * {@link BuilderMetadata metadata about a builder class}.
  * </p>
+ * <p>
+ * Implementations must be thread-safe. Metadata of the classes of a single execution may be collected by several
+ * threads at once, and a single instance may be shared by concurrent executions that are configured differently via
+ * {@link BuildersProperties} and load classes via different {@link ClassLoader ClassLoaders}.
+ * </p>
  */
 public interface BuilderMetadataService {
 
@@ -1,5 +1,6 @@
 package io.github.tobi.laa.reflective.fluent.builders.service.api;
 
+import io.github.classgraph.ClassInfo;
 import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
 
 /**
@@ -21,4 +22,15 @@ public interface BuilderPackageService {
      * @return The package which is configured to contain the builder for {@code clazz}.
      */
     String resolveBuilderPackage(final Class<?> clazz);
+
+    /**
+     * <p>
+     * Resolves the builder package for {@code clazz}, that is the package which is configured to contain its builder.
+     * Unlike {@link #resolveBuilderPackage(Class)}, this does not require {@code clazz} to be loaded.
+     * </p>
+     *
+     * @param clazz The class for which the resolve the builder package. Must not be {@code null}.
+     * @return The package which is configured to contain the builder for {@code clazz}.
+     */
+    String resolveBuilderPackage(final ClassInfo clazz);
 }
@@ -35,6 +35,33 @@ public interface ClassService {
      */
     List<ClassInfo> collectFullClassHierarchy(final ClassInfo clazz);
 
+    /**
+     * <p>
+     * Scans all packages within {@code packageNames} (recursively) as well as all classes within {@code classNames} in
+     * a single pass over the classpath. Until {@link #releaseScan()} is called, {@link #collectClassesRecursively(String)}
+     * and {@link #loadClass(String)} are served from the result of this scan whenever the requested package or class
+     * is covered by it, thus avoiding repeated scans of the whole classpath.
+     * </p>
+     * <p>
+     * Calling this method again releases the result of any previous scan. Scans are kept per {@link ClassLoader}, i.e.
+     * a scan only serves and is only released by calls made while the same {@link ClassLoader} is provided.
+     * </p>
+     *
+     * @param packageNames The packages to scan recursively. Must not be {@code null}.
+     * @param classNames   The fully qualified names of the classes to scan. Must not be {@code null}.
+     * @throws ReflectionException If an error occurs while scanning the classpath.
+     */
+    void scanClasspath(final Set<String> packageNames, final Set<String> classNames);
+
+    /**
+     * <p>
+     * Releases the result of the last {@link #scanClasspath(Set, Set) scan} of the current {@link ClassLoader}, if
+     * there is one. Afterwards, {@link #collectClassesRecursively(String)} and {@link #loadClass(String)} scan the
+     * classpath on each call again.
+     * </p>
+     */
+    void releaseScan();
+
     /**
      * <p>
      * Collects all classes within the package {@code pack} and all its sub-packages.
@@ -60,11 +87,28 @@ public interface ClassService {
      */
     Optional<Path> determineClassLocation(final Class<?> clazz);
 
+    /**
+     * <p>
+     * Determines the location of the file that contains the given {@code clazz} just like
+     * {@link #determineClassLocation(Class)} does, but from the classpath element in which ClassGraph has found
+     * {@code clazz} rather than from the {@link java.security.CodeSource} of the loaded class.
+     * </p>
+     *
+     * @param clazz The class for which to determine its location on the filesystem. Must not be {@code null.}
+     * @return The location of the file that contains {@code clazz}, if it could be determined.
+     */
+    Optional<Path> determineClassLocation(final ClassInfo clazz);
+
     /**
      * <p>
      * Attempts to load the class with the fully qualified {@code className} if it exists on the current classpath.
      * Returns an {@link Optional#empty() empty Optional} if no such class exists.
      * </p>
+     * <p>
+     * If the {@link io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties#getMetadataEngine()
+     * metadata engine} is {@link io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties.MetadataEngine#BYTECODE},
+     * the class is only looked up but not loaded if it is covered by the {@link #scanClasspath(Set, Set) shared scan}.
+     * </p>
      *
      * @param className Fully qualified name of the class to attempt to load. Must not be {@code null}.
      * @return The class with the fully qualified {@code className} if it exists on the current classpath, otherwise an
@@ -74,6 +118,25 @@ public interface ClassService {
      */
     Optional<ClassInfo> loadClass(final String className);
 
+    /**
+     * <p>
+     * Determines the names of all fields declared by the class with the fully qualified {@code className} if it exists
+     * on the current classpath. Unlike {@link #loadClass(String)}, this does not load the class.
+     * </p>
+     * <p>
+     * Lookups are answered from an index of class and field names that is built once per package, either from the
+     * {@link #scanClasspath(Set, Set) shared scan} if it covers the package or from a scan of the package itself. The
+     * index is retained until {@link #releaseScan()} is called.
+     * </p>
+     *
+     * @param className Fully qualified name of the class for which to determine the declared fields. Must not be
+     *                  {@code null}.
+     * @return The names of all fields declared by the class with the fully qualified {@code className} if it exists on
+     * the current classpath, otherwise an {@link Optional#empty() empty Optional}.
+     * @throws ReflectionException If an error occurs while scanning the classpath.
+     */
+    Optional<Set<String>> determineDeclaredFieldNames(final String className);
+
     /**
      * <p>
      * Checks whether the given class is abstract.
@@ -0,0 +1,76 @@
+package io.github.tobi.laa.reflective.fluent.builders.service.api;
+
+import io.github.classgraph.ClassInfo;
+import io.github.tobi.laa.reflective.fluent.builders.model.WriteAccessor;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.SortedSet;
+
+/**
+ * <p>
+ * Persistent cache for the {@link WriteAccessor write accessors} of classes for which builders are generated, so that
+ * they do not need to be gathered via reflection again as long as neither a class nor any of its supertypes have
+ * changed.
+ * </p>
+ * <p>
+ * Each class is cached along with a fingerprint of its own bytecode and the bytecode of all of its supertypes, with
+ * the exception of those provided by the JDK. An entry is only used if the fingerprint still matches.
+ * </p>
+ * <p>
+ * As long as no cache has been {@link #open(Path, String) opened}, nothing is looked up or stored. A cache is opened
+ * for the current {@link ClassLoader}, i.e. it is only used and {@link #close() closed} by calls made while the same
+ * {@link ClassLoader} is provided, so that concurrent executions may each use their own cache.
+ * </p>
+ */
+public interface MetadataCacheService {
+
+    /**
+     * <p>
+     * Opens the cache stored in {@code cacheFile}. If the file does not exist, cannot be read or has been written for
+     * a different configuration, an empty cache is opened instead. A previously opened cache is
+     * {@link #close() closed} first.
+     * </p>
+     *
+     * @param cacheFile        The file in which the cache is stored. Must not be {@code null}.
+     * @param configurationKey Describes any configuration which influences the gathering of write accessors and is not
+     *                         otherwise available via
+     *                         {@link io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties}, for
+     *                         instance the excludes for the hierarchy collection. Must not be {@code null}.
+     */
+    void open(final Path cacheFile, final String configurationKey);
+
+    /**
+     * <p>
+     * Looks up the cached write accessors of {@code clazz}.
+     * </p>
+     *
+     * @param clazz The class for which to look up the cached write accessors. Must not be {@code null}.
+     * @return The cached write accessors of {@code clazz} or an {@link Optional#empty() empty Optional} if there are
+     * none or if {@code clazz} or any of its supertypes have changed since they were cached.
+     */
+    Optional<SortedSet<WriteAccessor>> lookUpWriteAccessors(final ClassInfo clazz);
+
+    /**
+     * <p>
+     * Stores the write accessors of {@code clazz} within the cache. Write accessors referencing types which cannot be
+     * persisted, for instance type variables declared by methods, are silently skipped.
+     * </p>
+     *
+     * @param clazz          The class for which to store the write accessors. Must not be {@code null}.
+     * @param writeAccessors The write accessors of {@code clazz}. Must not be {@code null}.
+     */
+    void storeWriteAccessors(final ClassInfo clazz, final SortedSet<WriteAccessor> writeAccessors);
+
+    /**
+     * <p>
+     * Writes the cache back to the file it has been {@link #open(Path, String) opened} from and closes it. Only the
+     * entries that have been looked up or stored since opening the cache are retained. Does nothing if no cache is
+     * open.
+     * </p>
+     *
+     * @throws UncheckedIOException If the cache could not be written.
+     */
+    void close();
+}
@@ -0,0 +1,87 @@
+package io.github.tobi.laa.reflective.fluent.builders.service.api;
+
+import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
+
+/**
+ * <p>
+ * Recognizes and transforms the names of setters, getters and adders according to the prefixes and patterns configured
+ * via {@link BuildersProperties}.
+ * </p>
+ */
+public interface NamingService {
+
+    /**
+     * <p>
+     * Checks whether {@code name} starts with the configured setter prefix (for instance {@code set}).
+     * </p>
+     *
+     * @param name The (method) name to check. Must not be {@code null}.
+     * @return {@code true} if {@code name} starts with the configured setter prefix, {@code false} otherwise.
+     */
+    boolean hasSetterPrefix(final String name);
+
+    /**
+     * <p>
+     * Checks whether {@code name} starts with the configured getter prefix (for instance {@code get}).
+     * </p>
+     *
+     * @param name The (method) name to check. Must not be {@code null}.
+     * @return {@code true} if {@code name} starts with the configured getter prefix, {@code false} otherwise.
+     */
+    boolean hasGetterPrefix(final String name);
+
+    /**
+     * <p>
+     * Checks whether {@code name} matches the configured adder pattern (for instance {@code add(.+)}).
+     * </p>
+     *
+     * @param name The (method) name to check. Must not be {@code null}.
+     * @return {@code true} if {@code name} matches the configured adder pattern, {@code false} otherwise.
+     */
+    boolean matchesAdderPattern(final String name);
+
+    /**
+     * <p>
+     * Drop the configured setter prefix (for instance {@code set}) from {@code name}.
+     * </p>
+     *
+     * @param name The (method) name from which to drop the configured setter prefix. Must not be {@code null}.
+     * @return {@code name} with the configured setter prefix stripped from it. If {@code name} does not start with said
+     * prefix or solely consists of it and would thus be empty after stripping it, {@code name} will be returned
+     * unchanged.
+     */
+    String dropSetterPrefix(final String name);
+
+    /**
+     * <p>
+     * Drop the configured getter prefix (for instance {@code get}) from {@code name}.
+     * </p>
+     *
+     * @param name The (method) name from which to drop the configured getter prefix. Must not be {@code null}.
+     * @return {@code name} with the configured getter prefix stripped from it. If {@code name} does not start with said
+     * prefix or solely consists of it and would thus be empty after stripping it, {@code name} will be returned
+     * unchanged.
+     */
+    String dropGetterPrefix(final String name);
+
+    /**
+     * <p>
+     * Drop the configured adder pattern (for instance {@code add(.+)}) surrounding {@code name}.
+     * </p>
+     *
+     * @param name The (method) name from which to drop the configured adder pattern. Must not be {@code null}.
+     * @return {@code name} with the configured adder pattern stripped from it. If {@code name} does not match the said
+     * pattern, {@code name} will be returned unchanged.
+     */
+    String dropAdderPattern(final String name);
+
+    /**
+     * <p>
+     * Returns the English plural of {@code name}, for instance {@code items} for {@code item}.
+     * </p>
+     *
+     * @param name The (parameter) name to pluralize. Must not be {@code null}.
+     * @return The plural of {@code name}.
+     */
+    String pluralize(final String name);
+}
@@ -31,4 +31,14 @@ public interface TypeService {
      * ({@code type} itself).
      */
     Set<Class<?>> explodeType(final Type type);
+
+    /**
+     * <p>
+     * Releases all types {@link #explodeType(Type) exploded} so far with the current {@link ClassLoader}.
+     * Implementations may retain exploded types and thereby the classes they consist of, so this should be called as
+     * soon as the {@link ClassLoader} of said classes is no longer used. Types exploded with other
+     * {@link ClassLoader ClassLoaders}, e.g. by concurrent executions, are not affected.
+     * </p>
+     */
+    void releaseExplodedTypes();
 }
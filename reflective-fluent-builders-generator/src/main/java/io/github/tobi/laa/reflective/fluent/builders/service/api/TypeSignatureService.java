@@ -0,0 +1,49 @@
+package io.github.tobi.laa.reflective.fluent.builders.service.api;
+
+import io.github.classgraph.TypeSignature;
+import io.github.tobi.laa.reflective.fluent.builders.exception.ReflectionException;
+
+import java.lang.reflect.Type;
+
+/**
+ * <p>
+ * Converts {@link TypeSignature type signatures} as read by ClassGraph from bytecode to {@link Type types}.
+ * </p>
+ */
+public interface TypeSignatureService {
+
+    /**
+     * <p>
+     * Converts {@code typeSignature}, the signature of a type used by a member of {@code declaringClass}, to the
+     * corresponding {@link Type}. The resulting type is equal to the one that would be returned by reflection, for
+     * instance by {@link java.lang.reflect.Method#getGenericReturnType()}.
+     * </p>
+     * <p>
+     * All classes referenced by {@code typeSignature} are loaded via the {@link ClassLoader} of
+     * {@code declaringClass}, but <em>not</em> initialized. Type variables are resolved against the type parameters of
+     * {@code declaringClass} and its enclosing classes.
+     * </p>
+     *
+     * @param typeSignature  The type signature to convert. Must not be {@code null}.
+     * @param declaringClass The class declaring the member which uses {@code typeSignature}. Must not be {@code null}.
+     * @return The type corresponding to {@code typeSignature}. Never {@code null}.
+     * @throws ReflectionException      If a class referenced by {@code typeSignature} cannot be loaded.
+     * @throws IllegalArgumentException If {@code typeSignature} references a type variable that is neither declared by
+     *                                  {@code declaringClass} nor by any of its enclosing classes, for instance one
+     *                                  declared by a generic method.
+     */
+    Type toType(final TypeSignature typeSignature, final Class<?> declaringClass);
+
+    /**
+     * <p>
+     * Loads the class with the fully qualified {@code className} via the {@link ClassLoader} of {@code context}, but
+     * does <em>not</em> initialize it.
+     * </p>
+     *
+     * @param className The fully qualified (binary) name of the class to load. Must not be {@code null}.
+     * @param context   The class from whose perspective {@code className} is to be loaded. Must not be {@code null}.
+     * @return The class with the fully qualified {@code className}. Never {@code null}.
+     * @throws ReflectionException If the class cannot be loaded.
+     */
+    Class<?> loadClass(final String className, final Class<?> context);
+}
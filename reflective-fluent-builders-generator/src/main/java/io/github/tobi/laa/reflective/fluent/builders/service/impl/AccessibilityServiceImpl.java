@@ -1,5 +1,9 @@
 package io.github.tobi.laa.reflective.fluent.builders.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ClassMemberInfo;
 import io.github.tobi.laa.reflective.fluent.builders.model.Visibility;
 import io.github.tobi.laa.reflective.fluent.builders.service.api.AccessibilityService;
 import io.github.tobi.laa.reflective.fluent.builders.service.api.ClassService;
@@ -13,6 +17,7 @@ import javax.inject.Singleton;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.Objects;
 
@@ -33,11 +38,21 @@ class AccessibilityServiceImpl implements AccessibilityService {
     @lombok.NonNull
     private final ClassService classService;
 
+    // upper bound for the packages a single class is checked from, which with the default builder package is one per
+    // package of the classes to build
+    private static final int MAX_CACHED_PACKAGES = 64;
+
+    // the same property types are usually used by many classes, so each of them is only checked once per package; the
+    // verdicts are bound to the classes themselves and thus do not keep classes of a discarded class loader alive
+    private final ClassValue<Cache<String, Boolean>> accessibleClasses = new AccessibleClasses();
+
     @Override
     public boolean isAccessibleFrom(final Class<?> clazz, final String packageName) {
         Objects.requireNonNull(clazz);
         Objects.requireNonNull(packageName);
-        return isAccessible(clazz, clazz.getModifiers(), packageName);
+        return accessibleClasses.get(clazz).asMap().computeIfAbsent( //
+                packageName, //
+                key -> isAccessible(clazz, clazz.getModifiers(), packageName));
     }
 
     @Override
@@ -74,6 +89,31 @@ class AccessibilityServiceImpl implements AccessibilityService {
                 isAccessibleFrom(field.getGenericType(), packageName);
     }
 
+    @Override
+    public boolean isAccessibleFrom(final ClassInfo clazz, final String packageName) {
+        Objects.requireNonNull(clazz);
+        Objects.requireNonNull(packageName);
+        return isAccessible(clazz, modifiers(clazz), packageName);
+    }
+
+    // within its own class file, a nested class is always flagged as either public or package-private; its declared
+    // visibility is only recorded in the InnerClasses attribute, which ClassGraph merges into the modifiers
+    private static int modifiers(final ClassInfo clazz) {
+        final int modifiers = clazz.getModifiers();
+        if (clazz.isInnerClass() && (modifiers & (Modifier.PROTECTED | Modifier.PRIVATE)) != 0) {
+            return modifiers & ~Modifier.PUBLIC;
+        }
+        return modifiers;
+    }
+
+    @Override
+    public boolean isAccessibleFrom(final ClassMemberInfo member, final ClassInfo declaringClass, final String packageName) {
+        Objects.requireNonNull(member);
+        Objects.requireNonNull(declaringClass);
+        Objects.requireNonNull(packageName);
+        return isAccessible(declaringClass, member.getModifiers(), packageName);
+    }
+
     private boolean isAccessible(final Class<?> clazz, final int modifiers, final String builderPackage) {
         final var visibility = visibilityService.toVisibility(modifiers);
         return isAccessible(clazz, visibility, builderPackage);
@@ -84,4 +124,25 @@ class AccessibilityServiceImpl implements AccessibilityService {
                 visibility == PACKAGE_PRIVATE && !classService.isAbstract(clazz) && builderPackage.equals(clazz.getPackage().getName()) || //
                 visibility == PROTECTED && builderPackage.equals(clazz.getPackage().getName());
     }
+
+    private boolean isAccessible(final ClassInfo clazz, final int modifiers, final String builderPackage) {
+        final var visibility = visibilityService.toVisibility(modifiers);
+        return visibility == PUBLIC || //
+                visibility == PACKAGE_PRIVATE && !clazz.isAbstract() && builderPackage.equals(clazz.getPackageName()) || //
+                visibility == PROTECTED && builderPackage.equals(clazz.getPackageName());
+    }
+
+    /**
+     * <p>
+     * The packages from which each class has been checked to be accessible or not, mapped to the respective verdict.
+     * Only the packages most recently checked from are retained.
+     * </p>
+     */
+    private static class AccessibleClasses extends ClassValue<Cache<String, Boolean>> {
+
+        @Override
+        protected Cache<String, Boolean> computeValue(final Class<?> clazz) {
+            return CacheBuilder.newBuilder().maximumSize(MAX_CACHED_PACKAGES).build();
+        }
+    }
 }
@@ -1,8 +1,6 @@
 package io.github.tobi.laa.reflective.fluent.builders.service.impl;
 
 import io.github.classgraph.ClassInfo;
-import io.github.classgraph.FieldInfo;
-import io.github.classgraph.FieldInfoList;
 import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata;
 import io.github.tobi.laa.reflective.fluent.builders.model.MethodAccessor;
 import io.github.tobi.laa.reflective.fluent.builders.model.WriteAccessor;
@@ -14,11 +12,13 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import java.lang.reflect.Constructor;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static io.github.tobi.laa.reflective.fluent.builders.constants.BuilderConstants.GENERATED_BUILDER_MARKER_FIELD_NAME;
+import static io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties.MetadataEngine.BYTECODE;
 import static java.lang.reflect.Modifier.isStatic;
 import static java.util.function.Predicate.not;
 
@@ -26,6 +26,11 @@ import static java.util.function.Predicate.not;
  * <p>
  * Standard implementation of {@link BuilderMetadataService}.
  * </p>
+ * <p>
+ * This service holds no state of its own. {@link BuildersProperties} are read anew for each class, so concurrent
+ * executions configured differently never see each other's configuration. Anything memoized by the services it relies
+ * on is either keyed by the configuration it has been derived from or kept per {@link ClassLoader}.
+ * </p>
  */
 @Named
 @Singleton
@@ -44,24 +49,26 @@ class BuilderMetadataServiceImpl implements BuilderMetadataService {
     @lombok.NonNull
     private final BuilderPackageService builderPackageService;
 
+    @lombok.NonNull
+    private final MetadataCacheService metadataCacheService;
+
     @lombok.NonNull
     private final BuildersProperties properties;
 
     @Override
     public BuilderMetadata collectBuilderMetadata(final ClassInfo classInfo) {
         Objects.requireNonNull(classInfo);
-        final var clazz = classInfo.loadClass();
-        final String builderPackage = builderPackageService.resolveBuilderPackage(clazz);
+        final String builderPackage = builderPackageService.resolveBuilderPackage(classInfo);
         final var writeAccessors = gatherWriteAccessorsAndAvoidNameCollisions(classInfo);
         return BuilderMetadata.builder() //
                 .packageName(builderPackage) //
-                .name(builderClassName(clazz, builderPackage)) //
+                .name(builderClassName(classInfo.getSimpleName(), builderPackage)) //
                 .exceptionTypes(condenseExceptions(writeAccessors)) //
                 .nestedBuilders(nestedBuilders(classInfo)) //
                 .builtType(BuilderMetadata.BuiltType.builder() //
                         .type(classInfo) //
-                        .location(classService.determineClassLocation(clazz).orElse(null)) //
-                        .accessibleNonArgsConstructor(hasAccessibleNonArgsConstructor(clazz, builderPackage)) //
+                        .location(determineClassLocation(classInfo).orElse(null)) //
+                        .accessibleNonArgsConstructor(hasAccessibleNonArgsConstructor(classInfo, builderPackage)) //
                         .writeAccessors(writeAccessors)
                         .build()) //
                 .build();
@@ -85,11 +92,20 @@ class BuilderMetadataServiceImpl implements BuilderMetadataService {
     private Set<BuilderMetadata> nestedBuilders(final ClassInfo classInfo) {
         return filterOutNonBuildableClasses(new HashSet<>(classInfo.getInnerClasses().getStandardClasses()))
                 .stream()
-                .filter(ci -> ci.loadClass().getEnclosingClass() == classInfo.loadClass())
+                .filter(ci -> isDirectlyEnclosedBy(ci, classInfo))
                 .map(this::collectBuilderMetadata)
                 .collect(Collectors.toSet());
     }
 
+    private boolean isDirectlyEnclosedBy(final ClassInfo innerClass, final ClassInfo outerClass) {
+        if (properties.getMetadataEngine() == BYTECODE) {
+            // outer classes are ordered from the innermost to the outermost one
+            return innerClass.getOuterClasses().get(0).getName().equals(outerClass.getName());
+        } else {
+            return innerClass.loadClass().getEnclosingClass() == outerClass.loadClass();
+        }
+    }
+
     private void addExceptionIfSuperclassIsNotPresent(final Set<Class<? extends Throwable>> exceptions, final Class<? extends Throwable> exception) {
         if (exceptions.stream().noneMatch(candidate -> candidate.isAssignableFrom(exception))) {
             exceptions.add(exception);
@@ -100,53 +116,68 @@ class BuilderMetadataServiceImpl implements BuilderMetadataService {
         exceptions.removeIf(exception::isAssignableFrom);
     }
 
-    private String builderClassName(final Class<?> clazz, final String builderPackage) {
-        var name = clazz.getSimpleName() + properties.getBuilderSuffix();
+    private String builderClassName(final String simpleName, final String builderPackage) {
+        var name = simpleName + properties.getBuilderSuffix();
         int count = 0;
         while (builderAlreadyExists(builderPackage + '.' + name)) {
-            name = clazz.getSimpleName() + properties.getBuilderSuffix() + count;
+            name = simpleName + properties.getBuilderSuffix() + count;
             count++;
         }
         return name;
     }
 
     private boolean builderAlreadyExists(final String builderClassName) {
-        final Optional<ClassInfo> builderClass = classService.loadClass(builderClassName);
-        if (builderClass.isEmpty()) {
-            return false;
+        return classService.determineDeclaredFieldNames(builderClassName) //
+                .map(fieldNames -> !fieldNames.contains(GENERATED_BUILDER_MARKER_FIELD_NAME)) //
+                .orElse(false);
+    }
+
+    private Optional<Path> determineClassLocation(final ClassInfo classInfo) {
+        if (properties.getMetadataEngine() == BYTECODE) {
+            return classService.determineClassLocation(classInfo);
         } else {
-            return builderClass
-                    .stream() //
-                    .map(ClassInfo::getDeclaredFieldInfo) //
-                    .flatMap(FieldInfoList::stream) //
-                    .map(FieldInfo::getName) //
-                    .noneMatch(GENERATED_BUILDER_MARKER_FIELD_NAME::equals);
+            return classService.determineClassLocation(classInfo.loadClass());
         }
     }
 
-    private boolean hasAccessibleNonArgsConstructor(final Class<?> clazz, final String builderPackage) {
-        return Arrays //
-                .stream(clazz.getDeclaredConstructors()) //
-                .filter(constructor -> accessibilityService.isAccessibleFrom(constructor, builderPackage)) //
-                .mapToInt(Constructor::getParameterCount) //
-                .anyMatch(count -> count == 0);
+    private boolean hasAccessibleNonArgsConstructor(final ClassInfo classInfo, final String builderPackage) {
+        if (properties.getMetadataEngine() == BYTECODE) {
+            return classInfo.getDeclaredConstructorInfo() //
+                    .stream() //
+                    .filter(constructor -> accessibilityService.isAccessibleFrom(constructor, classInfo, builderPackage)) //
+                    .anyMatch(constructor -> constructor.getParameterInfo().length == 0);
+        } else {
+            return Arrays //
+                    .stream(classInfo.loadClass().getDeclaredConstructors()) //
+                    .filter(constructor -> accessibilityService.isAccessibleFrom(constructor, builderPackage)) //
+                    .mapToInt(Constructor::getParameterCount) //
+                    .anyMatch(count -> count == 0);
+        }
     }
 
     private SortedSet<WriteAccessor> gatherWriteAccessorsAndAvoidNameCollisions(final ClassInfo clazz) {
-        final var setters = writeAccessorService.gatherAllWriteAccessors(clazz);
+        final var setters = metadataCacheService.lookUpWriteAccessors(clazz).orElseGet(() -> gatherAndCacheWriteAccessors(clazz));
         return avoidNameCollisions(setters);
     }
 
+    private SortedSet<WriteAccessor> gatherAndCacheWriteAccessors(final ClassInfo clazz) {
+        final var writeAccessors = writeAccessorService.gatherAllWriteAccessors(clazz);
+        metadataCacheService.storeWriteAccessors(clazz, writeAccessors);
+        return writeAccessors;
+    }
+
     private SortedSet<WriteAccessor> avoidNameCollisions(final Set<WriteAccessor> writeAccessors) {
         final SortedSet<WriteAccessor> noNameCollisions = new TreeSet<>();
+        // names are tracked separately so that collisions are detected without scanning all accessors every time
+        final Set<String> propertyNames = new HashSet<>();
         for (final var writeAccessor : writeAccessors) {
-            if (noNameCollisions.stream().map(WriteAccessor::getPropertyName).noneMatch(writeAccessor.getPropertyName()::equals)) {
-                noNameCollisions.add(writeAccessor);
+            if (!propertyNames.contains(writeAccessor.getPropertyName())) {
+                addWithoutNameCollision(noNameCollisions, propertyNames, writeAccessor);
             } else {
                 for (int i = 0; true; i++) {
                     final var propertyName = writeAccessor.getPropertyName() + i;
-                    if (noNameCollisions.stream().map(WriteAccessor::getPropertyName).noneMatch(propertyName::equals)) {
-                        noNameCollisions.add(writeAccessor.withPropertyName(propertyName));
+                    if (!propertyNames.contains(propertyName)) {
+                        addWithoutNameCollision(noNameCollisions, propertyNames, writeAccessor.withPropertyName(propertyName));
                         break;
                     }
                 }
@@ -155,9 +186,23 @@ class BuilderMetadataServiceImpl implements BuilderMetadataService {
         return noNameCollisions;
     }
 
+    private void addWithoutNameCollision(final Set<WriteAccessor> noNameCollisions, final Set<String> propertyNames, final WriteAccessor writeAccessor) {
+        if (noNameCollisions.add(writeAccessor)) {
+            propertyNames.add(writeAccessor.getPropertyName());
+        }
+    }
+
     @Override
     public Set<ClassInfo> filterOutNonBuildableClasses(final Set<ClassInfo> classes) {
         Objects.requireNonNull(classes);
+        if (properties.getMetadataEngine() == BYTECODE) {
+            return filterOutNonBuildableClassesWithoutLoading(classes);
+        } else {
+            return filterOutNonBuildableClassesViaReflection(classes);
+        }
+    }
+
+    private Set<ClassInfo> filterOutNonBuildableClassesViaReflection(final Set<ClassInfo> classes) {
         return classes //
                 .stream() //
                 .filter(not(ClassInfo::isInterface)) //
@@ -170,6 +215,28 @@ class BuilderMetadataServiceImpl implements BuilderMetadataService {
                 .collect(Collectors.toSet());
     }
 
+    private Set<ClassInfo> filterOutNonBuildableClassesWithoutLoading(final Set<ClassInfo> classes) {
+        return classes //
+                .stream() //
+                .filter(not(ClassInfo::isInterface)) //
+                .filter(not(this::isAnonymousClass)) //
+                .filter(not(ClassInfo::isEnum)) //
+                .filter(not(ClassInfo::isAbstract)) //
+                .filter(not(c -> isMemberClass(c) && !c.isStatic())) //
+                .filter(c -> accessibilityService.isAccessibleFrom(c, builderPackageService.resolveBuilderPackage(c))) //
+                .collect(Collectors.toSet());
+    }
+
+    private boolean isAnonymousClass(final ClassInfo classInfo) {
+        // ClassGraph regards local classes as anonymous as well, but only anonymous ones have a purely numeric name
+        final var name = classInfo.getName();
+        return classInfo.isAnonymousInnerClass() && name.substring(name.lastIndexOf('$') + 1).chars().allMatch(Character::isDigit);
+    }
+
+    private boolean isMemberClass(final ClassInfo classInfo) {
+        return classInfo.isInnerClass() && !classInfo.isAnonymousInnerClass();
+    }
+
     private Predicate<ClassInfo> clazz(final Predicate<Class<?>> wrapped) {
         return classInfo -> wrapped.test(classInfo.loadClass());
     }
@@ -1,5 +1,6 @@
 package io.github.tobi.laa.reflective.fluent.builders.service.impl;
 
+import io.github.classgraph.ClassInfo;
 import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
 import io.github.tobi.laa.reflective.fluent.builders.service.api.BuilderPackageService;
 import lombok.RequiredArgsConstructor;
@@ -29,4 +30,10 @@ class BuilderPackageServiceImpl implements BuilderPackageService {
         Objects.requireNonNull(clazz);
         return properties.getBuilderPackage().replace(PACKAGE_PLACEHOLDER, clazz.getPackageName());
     }
+
+    @Override
+    public String resolveBuilderPackage(final ClassInfo clazz) {
+        Objects.requireNonNull(clazz);
+        return properties.getBuilderPackage().replace(PACKAGE_PLACEHOLDER, clazz.getPackageName());
+    }
 }
@@ -1,12 +1,20 @@
 package io.github.tobi.laa.reflective.fluent.builders.service.impl;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassGraphException;
 import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ClassInfoList;
+import io.github.classgraph.FieldInfo;
+import io.github.classgraph.PackageInfo;
+import io.github.classgraph.Resource;
 import io.github.classgraph.ScanResult;
 import io.github.tobi.laa.reflective.fluent.builders.exception.ReflectionException;
 import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
 import io.github.tobi.laa.reflective.fluent.builders.service.api.ClassService;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 
@@ -14,6 +22,8 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Modifier;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
@@ -21,8 +31,15 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.CodeSource;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import java.util.jar.JarFile;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties.MetadataEngine.BYTECODE;
 import static java.util.function.Predicate.not;
 
 /**
@@ -33,6 +50,24 @@ import static java.util.function.Predicate.not;
  * Classes to be excluded from the {@link #collectFullClassHierarchy(ClassInfo) hierarchy collection} can be provided via
  * the constructor.
  * </p>
+ * <p>
+ * The result of {@link #scanClasspath(Set, Set)} is kept per {@link ClassLoader} provided via the constructor, so that
+ * concurrent executions using different {@link ClassLoader ClassLoaders} neither share nor release each other's scans.
+ * Anything memoized for the classes of a scan is kept along with it, so that {@link #releaseScan() releasing} the scan
+ * leaves nothing behind that references its classes or its {@link ClassLoader}.
+ * </p>
+ * <p>
+ * Jars usually do not change during a build, yet the classpath handed to the mojo consists mostly of them and ClassGraph
+ * would open each of them for each scan. Thus, the packages contained within a jar are cached, keyed by the path, size
+ * and modification time of the jar, and jars containing none of the packages or classes to scan are skipped altogether.
+ * Directories such as the project's output directories are always scanned. The cache is static so that it is retained
+ * for as long as the class realm of the plugin, which the Maven daemon reuses across builds.
+ * </p>
+ * <p>
+ * ClassGraph cannot resolve supertypes residing within skipped jars, which would truncate the class hierarchies. Hence,
+ * if the package of an unresolved supertype is contained within a skipped jar, the classpath is scanned again along
+ * with all jars containing said package until no skipped jar could contribute any further supertype.
+ * </p>
  */
 @Named
 @Singleton
@@ -45,6 +80,16 @@ class ClassServiceImpl implements ClassService {
     @lombok.NonNull
     private final Provider<ClassLoader> classLoaderProvider;
 
+    private static final int MAX_CACHED_JARS = 4096;
+
+    private static final Pattern VERSIONED_ENTRY = Pattern.compile("^META-INF/versions/\\d+/");
+
+    private static final LoadingCache<JarFingerprint, JarContents> JAR_CONTENTS = CacheBuilder.newBuilder() //
+            .maximumSize(MAX_CACHED_JARS) //
+            .build(CacheLoader.from(ClassServiceImpl::readJarContents));
+
+    private final Map<ClassLoader, SharedScan> sharedScans = new ConcurrentHashMap<>();
+
     @Override
     public List<ClassInfo> collectFullClassHierarchy(final ClassInfo clazz) {
         Objects.requireNonNull(clazz);
@@ -55,14 +100,26 @@ class ClassServiceImpl implements ClassService {
                 break;
             }
             classHierarchy.add(currentClass);
-            currentClass.getInterfaces().stream() //
-                    .filter(i -> isDirectInterface(i, currentClass)) //
+            directInterfaces(currentClass).stream() //
                     .filter(not(this::excludeFromHierarchyCollection)) //
                     .forEach(classHierarchy::add);
         }
         return classHierarchy.stream().distinct().toList();
     }
 
+    private List<ClassInfo> directInterfaces(final ClassInfo clazz) {
+        // supertypes are usually shared by many classes, so their interfaces are only analysed once per shared scan; as
+        // the memo is released along with the scan, it does not keep the scan and its class loader alive
+        return currentSharedScan() //
+                .filter(scan -> scan.getScanResult().getClassInfo(clazz.getName()) == clazz) //
+                .map(scan -> scan.getDirectInterfaces().computeIfAbsent(clazz.getName(), name -> collectDirectInterfaces(clazz))) //
+                .orElseGet(() -> collectDirectInterfaces(clazz));
+    }
+
+    private List<ClassInfo> collectDirectInterfaces(final ClassInfo clazz) {
+        return clazz.getInterfaces().stream().filter(i -> isDirectInterface(i, clazz)).toList();
+    }
+
     private boolean isDirectInterface(final ClassInfo anInterface, final ClassInfo clazz) {
         return Arrays.asList(clazz.loadClass().getInterfaces()).contains(anInterface.loadClass());
     }
@@ -71,14 +128,68 @@ class ClassServiceImpl implements ClassService {
         return properties.getHierarchyCollection().getExcludes().stream().anyMatch(p -> p.test(clazz.loadClass()));
     }
 
+    @Override
+    public void scanClasspath(final Set<String> packageNames, final Set<String> classNames) {
+        Objects.requireNonNull(packageNames);
+        Objects.requireNonNull(classNames);
+        final var classLoader = classLoaderProvider.get();
+        releaseScan(classLoader);
+        if (packageNames.isEmpty() && classNames.isEmpty()) {
+            // ClassGraph would scan the whole classpath otherwise
+            return;
+        }
+        try {
+            final var scanResult = scan(() -> new ClassGraph()
+                    .overrideClassLoaders(classLoader)
+                    .enableAllInfo()
+                    .acceptPackages(packageNames.toArray(String[]::new))
+                    .acceptClasses(classNames.toArray(String[]::new)), packageNames, classNames);
+            final var previousScan = sharedScans.put(classLoader, new SharedScan(Set.copyOf(packageNames), Set.copyOf(classNames), scanResult));
+            if (previousScan != null) {
+                // the same ClassLoader has been scanned concurrently
+                previousScan.getScanResult().close();
+            }
+        } catch (final ClassGraphException e) {
+            throw new ReflectionException("Error while attempting to scan classpath.", e);
+        }
+    }
+
+    @Override
+    public void releaseScan() {
+        releaseScan(classLoaderProvider.get());
+    }
+
+    private void releaseScan(final ClassLoader classLoader) {
+        final var sharedScan = sharedScans.remove(classLoader);
+        if (sharedScan != null) {
+            sharedScan.getScanResult().close();
+        }
+    }
+
     @Override
     public Set<ClassInfo> collectClassesRecursively(final String packageName) {
         Objects.requireNonNull(packageName);
-        try (final ScanResult scanResult = new ClassGraph()
-                .overrideClassLoaders(classLoaderProvider.get())
+        return currentSharedScan() //
+                .filter(scan -> scan.coversPackage(packageName)) //
+                .map(scan -> collectClassesRecursively(scan.getScanResult(), packageName)) //
+                .orElseGet(() -> scanClassesRecursively(packageName));
+    }
+
+    private Set<ClassInfo> collectClassesRecursively(final ScanResult scanResult, final String packageName) {
+        return scanResult.getAllClasses()
+                .stream()
+                .filter(classInfo -> isWithinPackage(classInfo.getPackageName(), packageName))
+                .map(this::loadEagerlyUnlessBytecodeEngine)
+                .filter(not(ClassInfo::isInnerClass))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private Set<ClassInfo> scanClassesRecursively(final String packageName) {
+        final var classLoader = classLoaderProvider.get();
+        try (final ScanResult scanResult = scan(() -> new ClassGraph()
+                .overrideClassLoaders(classLoader)
                 .enableAllInfo()
-                .acceptPackages(packageName)
-                .scan()) {
+                .acceptPackages(packageName), Set.of(packageName), Set.of())) {
             //
             return scanResult.getAllClasses()
                     .stream()
@@ -90,12 +201,125 @@ class ClassServiceImpl implements ClassService {
         }
     }
 
+    private ScanResult scan(final Supplier<ClassGraph> classGraph, final Set<String> packageNames, final Set<String> classNames) {
+        final Set<String> supertypePackageNames = new HashSet<>();
+        while (true) {
+            final Collection<JarContents> skippedJars = new ConcurrentLinkedQueue<>();
+            final var scanResult = classGraph.get() //
+                    .filterClasspathElements(path -> mayContain(path, packageNames, classNames, supertypePackageNames, skippedJars)) //
+                    .scan();
+            final var missingPackageNames = unresolvedSupertypes(scanResult) //
+                    .map(ClassInfo::getPackageName) //
+                    .filter(packageName -> skippedJars.stream().anyMatch(jar -> jar.getPackageNames().contains(packageName))) //
+                    .collect(Collectors.toSet());
+            if (missingPackageNames.isEmpty()) {
+                return scanResult;
+            }
+            scanResult.close();
+            supertypePackageNames.addAll(missingPackageNames);
+        }
+    }
+
+    private static Stream<ClassInfo> unresolvedSupertypes(final ScanResult scanResult) {
+        // ClassGraph creates placeholders without a class file for supertypes it has not come across while scanning
+        return scanResult.getAllClasses().stream() //
+                .flatMap(clazz -> Stream.concat(clazz.getSuperclasses().stream(), clazz.getInterfaces().stream())) //
+                .filter(supertype -> supertype.getResource() == null);
+    }
+
+    private boolean mayContain( //
+            final String path, //
+            final Set<String> packageNames, //
+            final Set<String> classNames, //
+            final Set<String> supertypePackageNames, //
+            final Collection<JarContents> skippedJars) {
+        //
+        if (mayContain(path, packageNames, classNames)) {
+            return true;
+        }
+        final var skippedJar = readCachedJarContents(path) //
+                .filter(contents -> Collections.disjoint(contents.getPackageNames(), supertypePackageNames));
+        skippedJar.ifPresent(skippedJars::add);
+        return skippedJar.isEmpty();
+    }
+
+    /**
+     * <p>
+     * Determines whether the classpath element {@code path} may contain classes within {@code packageNames} (including
+     * subpackages) or any of {@code classNames}, so that elements which certainly do not can be skipped while scanning.
+     * </p>
+     *
+     * @param path         The path of the classpath element as passed by ClassGraph. Must not be {@code null}.
+     * @param packageNames The names of the packages to scan recursively. Must not be {@code null}.
+     * @param classNames   The names of the classes to scan. Must not be {@code null}.
+     * @return {@code false} if {@code path} is a jar certainly not containing any of the given packages or classes,
+     * {@code true} otherwise.
+     */
+    boolean mayContain(final String path, final Set<String> packageNames, final Set<String> classNames) {
+        return readCachedJarContents(path) //
+                .map(contents -> contents.containsAny(packageNames, classNames)) //
+                .orElse(true);
+    }
+
+    private boolean mayContainPackage(final String path, final String packageName) {
+        return readCachedJarContents(path) //
+                .map(contents -> contents.getPackageNames().contains(packageName)) //
+                .orElse(true);
+    }
+
+    private Optional<JarContents> readCachedJarContents(final String path) {
+        if (path.indexOf('!') >= 0) {
+            // nested jars are rare enough to be scanned each time
+            return Optional.empty();
+        }
+        final var file = new File(path);
+        if (!file.isFile()) {
+            return Optional.empty();
+        }
+        final var contents = JAR_CONTENTS.getUnchecked(new JarFingerprint(file.getAbsolutePath(), file.length(), file.lastModified()));
+        // jars referencing further jars via their manifest must not be skipped, as the referenced jars would be skipped as well
+        return Optional.of(contents).filter(not(JarContents::isReferencingOtherJars));
+    }
+
+    private static JarContents readJarContents(final JarFingerprint fingerprint) {
+        try (final var jar = new JarFile(fingerprint.getPath())) {
+            final var packageNames = jar.stream() //
+                    .map(entry -> VERSIONED_ENTRY.matcher(entry.getName()).replaceFirst("")) //
+                    .filter(name -> name.endsWith(".class")) //
+                    .map(name -> name.lastIndexOf('/') < 0 ? "" : name.substring(0, name.lastIndexOf('/')).replace('/', '.')) //
+                    .collect(Collectors.toUnmodifiableSet());
+            final var manifest = jar.getManifest();
+            final var referencingOtherJars = manifest != null && manifest.getMainAttributes().getValue("Class-Path") != null;
+            return new JarContents(packageNames, referencingOtherJars);
+        } catch (final IOException | SecurityException e) {
+            // let ClassGraph decide what to do with a jar that cannot be read
+            return new JarContents(Set.of(), true);
+        }
+    }
+
+    private Optional<SharedScan> currentSharedScan() {
+        return Optional.ofNullable(sharedScans.get(classLoaderProvider.get()));
+    }
+
+    private static boolean isWithinPackage(final String candidate, final String packageName) {
+        return packageName.isEmpty() || candidate.equals(packageName) || candidate.startsWith(packageName + '.');
+    }
+
     @Override
     public Optional<Path> determineClassLocation(final Class<?> clazz) {
         Objects.requireNonNull(clazz);
         return Optional.ofNullable(getCodeSource(clazz)) //
                 .map(this::getLocationAsPath) //
-                .map(path -> resolveClassFileIfNecessary(path, clazz));
+                .map(path -> resolveClassFileIfNecessary(path, clazz.getPackageName(), clazz.getSimpleName()));
+    }
+
+    @Override
+    public Optional<Path> determineClassLocation(final ClassInfo clazz) {
+        Objects.requireNonNull(clazz);
+        return Optional.ofNullable(clazz.getResource()) //
+                .map(Resource::getClasspathElementFile) //
+                .map(File::toPath) //
+                .map(path -> resolveClassFileIfNecessary(path, clazz.getPackageName(), clazz.getSimpleName()));
     }
 
     private CodeSource getCodeSource(final Class<?> clazz) {
@@ -108,13 +332,13 @@ class ClassServiceImpl implements ClassService {
         return Paths.get(codeSource.getLocation().toURI());
     }
 
-    private Path resolveClassFileIfNecessary(final Path path, final Class<?> clazz) {
+    private Path resolveClassFileIfNecessary(final Path path, final String packageName, final String simpleName) {
         if (Files.isDirectory(path)) {
             Path classFile = path;
-            for (final String subdir : clazz.getPackageName().split("\\.")) {
+            for (final String subdir : packageName.split("\\.")) {
                 classFile = classFile.resolve(subdir);
             }
-            classFile = classFile.resolve(clazz.getSimpleName() + ".class");
+            classFile = classFile.resolve(simpleName + ".class");
             return classFile;
         } else {
             return path;
@@ -124,11 +348,18 @@ class ClassServiceImpl implements ClassService {
     @Override
     public Optional<ClassInfo> loadClass(final String className) {
         Objects.requireNonNull(className);
-        try (final ScanResult scanResult = new ClassGraph()
-                .overrideClassLoaders(classLoaderProvider.get())
+        return currentSharedScan() //
+                .filter(scan -> scan.coversClass(className)) //
+                .map(scan -> Optional.ofNullable(scan.getScanResult().getClassInfo(className)).map(this::loadEagerlyUnlessBytecodeEngine)) //
+                .orElseGet(() -> scanClass(className));
+    }
+
+    private Optional<ClassInfo> scanClass(final String className) {
+        final var classLoader = classLoaderProvider.get();
+        try (final ScanResult scanResult = scan(() -> new ClassGraph()
+                .overrideClassLoaders(classLoader)
                 .enableAllInfo()
-                .acceptClasses(className)
-                .scan()) {
+                .acceptClasses(className), Set.of(), Set.of(className))) {
             //
             return scanResult.getAllClasses().stream().findFirst().map(this::loadEagerly);
         } catch (final ClassGraphException e) {
@@ -136,6 +367,15 @@ class ClassServiceImpl implements ClassService {
         }
     }
 
+    private ClassInfo loadEagerlyUnlessBytecodeEngine(final ClassInfo classInfo) {
+        if (properties.getMetadataEngine() == BYTECODE) {
+            // the shared scan is retained until it is released, so classes can be loaded lazily and only if inevitable
+            return classInfo;
+        } else {
+            return loadEagerly(classInfo);
+        }
+    }
+
     private ClassInfo loadEagerly(final ClassInfo classInfo) {
         classInfo.loadClass();
         classInfo.getSuperclasses().loadClasses();
@@ -144,9 +384,121 @@ class ClassServiceImpl implements ClassService {
         return classInfo;
     }
 
+    @Override
+    public Optional<Set<String>> determineDeclaredFieldNames(final String className) {
+        Objects.requireNonNull(className);
+        final var packageName = packageName(className);
+        final var fieldNameIndex = currentSharedScan() //
+                .map(scan -> scan.getFieldNameIndex().computeIfAbsent(packageName, p -> buildFieldNameIndex(scan, p))) //
+                .orElseGet(() -> scanFieldNameIndex(packageName));
+        return Optional.ofNullable(fieldNameIndex.get(className));
+    }
+
+    private Map<String, Set<String>> buildFieldNameIndex(final SharedScan scan, final String packageName) {
+        if (scan.coversPackage(packageName)) {
+            return buildFieldNameIndex(scan.getScanResult(), packageName);
+        } else {
+            return scanFieldNameIndex(packageName);
+        }
+    }
+
+    private Map<String, Set<String>> scanFieldNameIndex(final String packageName) {
+        try (final ScanResult scanResult = new ClassGraph()
+                .overrideClassLoaders(classLoaderProvider.get())
+                .filterClasspathElements(path -> mayContainPackage(path, packageName))
+                .enableClassInfo()
+                .enableFieldInfo()
+                .ignoreClassVisibility()
+                .ignoreFieldVisibility()
+                .acceptPackagesNonRecursive(packageName)
+                .scan()) {
+            //
+            return buildFieldNameIndex(scanResult, packageName);
+        } catch (final ClassGraphException e) {
+            throw new ReflectionException("Error while attempting to scan package " + packageName + '.', e);
+        }
+    }
+
+    private Map<String, Set<String>> buildFieldNameIndex(final ScanResult scanResult, final String packageName) {
+        return Optional.ofNullable(scanResult.getPackageInfo(packageName)) //
+                .map(PackageInfo::getClassInfo) //
+                .stream() //
+                .flatMap(ClassInfoList::stream) //
+                .collect(Collectors.toUnmodifiableMap( //
+                        ClassInfo::getName, //
+                        classInfo -> classInfo.getDeclaredFieldInfo().stream() //
+                                .map(FieldInfo::getName) //
+                                .collect(Collectors.toUnmodifiableSet())));
+    }
+
+    private static String packageName(final String className) {
+        final var lastDot = className.lastIndexOf('.');
+        return lastDot < 0 ? "" : className.substring(0, lastDot);
+    }
+
     @Override
     public boolean isAbstract(final Class<?> clazz) {
         Objects.requireNonNull(clazz);
         return Modifier.isAbstract(clazz.getModifiers());
     }
+
+    /**
+     * <p>
+     * Identifies a jar along with its state, so that a modified jar is read anew.
+     * </p>
+     */
+    @Data
+    private static class JarFingerprint {
+
+        private final String path;
+
+        private final long size;
+
+        private final long lastModified;
+    }
+
+    /**
+     * <p>
+     * What is needed to know about the content of a jar to decide whether it needs to be scanned.
+     * </p>
+     */
+    @Data
+    private static class JarContents {
+
+        private final Set<String> packageNames;
+
+        private final boolean referencingOtherJars;
+
+        boolean containsAny(final Set<String> scannedPackageNames, final Set<String> classNames) {
+            return classNames.stream().map(ClassServiceImpl::packageName).anyMatch(packageNames::contains) || //
+                    packageNames.stream().anyMatch(p -> scannedPackageNames.stream().anyMatch(scanned -> isWithinPackage(p, scanned)));
+        }
+    }
+
+    /**
+     * <p>
+     * The result of {@link #scanClasspath(Set, Set)} along with what has been scanned.
+     * </p>
+     */
+    @Data
+    private static class SharedScan {
+
+        private final Set<String> packageNames;
+
+        private final Set<String> classNames;
+
+        private final ScanResult scanResult;
+
+        private final Map<String, Map<String, Set<String>>> fieldNameIndex = new ConcurrentHashMap<>();
+
+        private final Map<String, List<ClassInfo>> directInterfaces = new ConcurrentHashMap<>();
+
+        boolean coversPackage(final String packageName) {
+            return packageNames.stream().anyMatch(scanned -> isWithinPackage(packageName, scanned));
+        }
+
+        boolean coversClass(final String className) {
+            return classNames.contains(className) || coversPackage(packageName(className));
+        }
+    }
 }
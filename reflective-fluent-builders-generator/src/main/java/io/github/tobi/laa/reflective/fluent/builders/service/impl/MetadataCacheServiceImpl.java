@@ -0,0 +1,666 @@
+package io.github.tobi.laa.reflective.fluent.builders.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.common.reflect.TypeResolver;
+import io.github.classgraph.ClassInfo;
+import io.github.tobi.laa.reflective.fluent.builders.model.*;
+import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.MetadataCacheService;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.TypeService;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.reflect.TypeUtils;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.io.*;
+import java.lang.reflect.*;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * <p>
+ * Standard implementation of {@link MetadataCacheService}.
+ * </p>
+ * <p>
+ * The cache file starts with a header followed by an index of all cached classes and finally the entries themselves.
+ * The file is memory-mapped when opening the cache and only the index is read eagerly, entries are decoded on demand
+ * when they are {@link #lookUpWriteAccessors(ClassInfo) looked up}. Types are persisted by name and resolved via the
+ * current {@link ClassLoader} when decoding an entry.
+ * </p>
+ * <p>
+ * Generic types are recreated using the same implementation (Guava or Commons Lang) that has originally been used
+ * for them, as their {@link Type#getTypeName() type names} differ slightly and write accessors are ordered by them.
+ * </p>
+ * <p>
+ * An entry is only valid as long as the bytecode of all classes its write accessors have been derived from is
+ * unchanged. Besides the hierarchy of the class itself, these are the classes its property types consist of along with
+ * their own hierarchies and enclosing classes, as these determine e.g. the accessibility of a property type or whether
+ * it is a collection. Classes provided by the JDK are covered by the Java version being part of the configuration hash.
+ * </p>
+ * <p>
+ * Hashing the bytecode of these classes dominates looking up an entry, so the hashes are additionally
+ * kept in a static cache which outlives a single execution, e.g. when the Maven daemon reuses the class realm of the
+ * plugin across builds. A hash is keyed by the location of the class file along with the size and modification time of
+ * the file or jar containing it, so that it is computed anew as soon as the class file changes.
+ * </p>
+ */
+@Named
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+class MetadataCacheServiceImpl implements MetadataCacheService {
+
+    private static final int MAGIC = 0x52464243;
+
+    private static final int VERSION = 2;
+
+    private static final int HEADER_LENGTH = 28;
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    private static final TypeResolver TYPE_RESOLVER = new TypeResolver();
+
+    private static final int MAX_CACHED_BYTECODE_HASHES = 65_536;
+
+    private static final Cache<ClassFileFingerprint, HashCode> BYTECODE_HASHES = CacheBuilder.newBuilder() //
+            .maximumSize(MAX_CACHED_BYTECODE_HASHES) //
+            .build();
+
+    private static final Map<String, Class<?>> PRIMITIVES = Map.of( //
+            "boolean", boolean.class, //
+            "byte", byte.class, //
+            "char", char.class, //
+            "short", short.class, //
+            "int", int.class, //
+            "long", long.class, //
+            "float", float.class, //
+            "double", double.class, //
+            "void", void.class);
+
+    @lombok.NonNull
+    private final BuildersProperties properties;
+
+    @lombok.NonNull
+    private final Provider<ClassLoader> classLoaderProvider;
+
+    @lombok.NonNull
+    private final TypeService typeService;
+
+    private final Map<ClassLoader, OpenCache> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public void open(final Path cacheFile, final String configurationKey) {
+        Objects.requireNonNull(cacheFile);
+        Objects.requireNonNull(configurationKey);
+        final var classLoader = classLoaderProvider.get();
+        close(classLoader);
+        final var keyHash = hashConfiguration(configurationKey);
+        final var openCache = new OpenCache(cacheFile, keyHash);
+        readCacheFile(openCache);
+        caches.put(classLoader, openCache);
+    }
+
+    private HashCode hashConfiguration(final String configurationKey) {
+        return HASH_FUNCTION.newHasher() //
+                .putInt(VERSION) //
+                .putString(Runtime.version().toString(), UTF_8) //
+                .putString(String.valueOf(properties.getBuilderPackage()), UTF_8) //
+                .putString(String.valueOf(properties.getSetterPrefix()), UTF_8) //
+                .putString(String.valueOf(properties.getGetterPrefix()), UTF_8) //
+                .putString(String.valueOf(properties.getAdderPattern()), UTF_8) //
+                .putBoolean(properties.isGetAndAddEnabled()) //
+                .putBoolean(properties.isDirectFieldAccessEnabled()) //
+                .putBoolean(properties.isAddersEnabled()) //
+                .putString(configurationKey, UTF_8) //
+                .hash();
+    }
+
+    private void readCacheFile(final OpenCache openCache) {
+        if (!Files.isRegularFile(openCache.getCacheFile())) {
+            return;
+        }
+        try (final var channel = FileChannel.open(openCache.getCacheFile(), StandardOpenOption.READ)) {
+            // the mapping remains valid after the channel has been closed
+            final var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final var keyHash = new byte[16];
+            if (mapped.limit() < HEADER_LENGTH || mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+                return;
+            }
+            mapped.get(8, keyHash);
+            if (!openCache.getKeyHash().equals(HashCode.fromBytes(keyHash))) {
+                return;
+            }
+            final var indexBytes = new byte[mapped.getInt(24)];
+            mapped.get(HEADER_LENGTH, indexBytes);
+            final var dataStart = HEADER_LENGTH + indexBytes.length;
+            final Map<String, IndexEntry> index = new HashMap<>();
+            final var in = new DataInputStream(new ByteArrayInputStream(indexBytes));
+            final var count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final var className = in.readUTF();
+                final var offset = in.readInt();
+                final var length = in.readInt();
+                if (dataStart + offset + length > mapped.limit()) {
+                    return;
+                }
+                index.put(className, new IndexEntry(dataStart + offset, length));
+            }
+            openCache.setMapped(mapped);
+            openCache.setIndex(index);
+        } catch (final IOException | RuntimeException e) {
+            // an unreadable cache is treated as empty and will be overwritten on close
+            openCache.setMapped(null);
+            openCache.setIndex(Map.of());
+        }
+    }
+
+    @Override
+    public Optional<SortedSet<WriteAccessor>> lookUpWriteAccessors(final ClassInfo clazz) {
+        Objects.requireNonNull(clazz);
+        final var openCache = caches.get(classLoaderProvider.get());
+        if (openCache == null) {
+            return Optional.empty();
+        }
+        final var indexEntry = openCache.getIndex().get(clazz.getName());
+        if (indexEntry == null) {
+            return Optional.empty();
+        }
+        final var bytes = new byte[indexEntry.getLength()];
+        openCache.getMapped().get(indexEntry.getPosition(), bytes);
+        try {
+            final var in = new DataInputStream(new ByteArrayInputStream(bytes));
+            final var fingerprint = HashCode.fromBytes(readBytes(in));
+            final var dependencies = readDependencies(in);
+            if (!dependencies.get(0).equals(clazz.getName()) || !fingerprint.equals(fingerprint(openCache, dependencies))) {
+                return Optional.empty();
+            }
+            final var writeAccessors = readWriteAccessors(in);
+            openCache.getEntries().put(clazz.getName(), bytes);
+            return Optional.of(writeAccessors);
+        } catch (final IOException | UncacheableException | ReflectiveOperationException | RuntimeException | LinkageError e) {
+            // entries that cannot be decoded or whose dependencies are no longer available are treated as if they were absent
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void storeWriteAccessors(final ClassInfo clazz, final SortedSet<WriteAccessor> writeAccessors) {
+        Objects.requireNonNull(clazz);
+        Objects.requireNonNull(writeAccessors);
+        final var openCache = caches.get(classLoaderProvider.get());
+        if (openCache == null) {
+            return;
+        }
+        try {
+            final var dependencies = collectDependencies(clazz.loadClass(), writeAccessors);
+            final var fingerprint = fingerprint(openCache, dependencies);
+            final var bytes = new ByteArrayOutputStream();
+            final var out = new DataOutputStream(bytes);
+            writeBytes(out, fingerprint.asBytes());
+            out.writeInt(dependencies.size());
+            for (final var className : dependencies) {
+                out.writeUTF(className);
+            }
+            out.writeInt(writeAccessors.size());
+            for (final var writeAccessor : writeAccessors) {
+                writeWriteAccessor(out, writeAccessor);
+            }
+            openCache.getEntries().put(clazz.getName(), bytes.toByteArray());
+            openCache.setModified(true);
+        } catch (final IOException | UncacheableException e) {
+            openCache.getEntries().remove(clazz.getName());
+        }
+    }
+
+    @Override
+    public void close() {
+        close(classLoaderProvider.get());
+    }
+
+    private void close(final ClassLoader classLoader) {
+        final var openCache = caches.remove(classLoader);
+        if (openCache == null) {
+            return;
+        }
+        if (openCache.isModified() || openCache.getEntries().size() != openCache.getIndex().size()) {
+            writeCacheFile(openCache);
+        }
+    }
+
+    private void writeCacheFile(final OpenCache openCache) {
+        final var entries = new TreeMap<>(openCache.getEntries());
+        try {
+            final var index = new ByteArrayOutputStream();
+            final var indexOut = new DataOutputStream(index);
+            indexOut.writeInt(entries.size());
+            int offset = 0;
+            for (final var entry : entries.entrySet()) {
+                indexOut.writeUTF(entry.getKey());
+                indexOut.writeInt(offset);
+                indexOut.writeInt(entry.getValue().length);
+                offset += entry.getValue().length;
+            }
+            final var cacheFile = openCache.getCacheFile();
+            Files.createDirectories(cacheFile.toAbsolutePath().getParent());
+            final var tempFile = Files.createTempFile(cacheFile.toAbsolutePath().getParent(), cacheFile.getFileName().toString(), ".tmp");
+            try (final var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.write(openCache.getKeyHash().asBytes());
+                out.writeInt(index.size());
+                index.writeTo(out);
+                for (final var bytes : entries.values()) {
+                    out.write(bytes);
+                }
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Error while attempting to write metadata cache to " + openCache.getCacheFile() + '.', e);
+        }
+    }
+
+    private List<String> collectDependencies(final Class<?> clazz, final SortedSet<WriteAccessor> writeAccessors) {
+        final Deque<Class<?>> pending = new ArrayDeque<>();
+        // the class itself comes first, so that an entry can be verified to belong to it
+        pending.add(clazz);
+        for (final var writeAccessor : writeAccessors) {
+            pending.addAll(typeService.explodeType(writeAccessor.getPropertyType().getType()));
+            if (writeAccessor instanceof Adder adder) {
+                pending.addAll(typeService.explodeType(adder.getParamType().getType()));
+            }
+        }
+        final Set<String> dependencies = new LinkedHashSet<>();
+        while (!pending.isEmpty()) {
+            final var current = pending.poll();
+            // classes provided by the JDK are covered by the Java version being part of the configuration hash
+            if (!current.isPrimitive() && !current.isArray() && !isProvidedByJdk(current) && dependencies.add(current.getName())) {
+                Optional.ofNullable(current.getSuperclass()).ifPresent(pending::add);
+                pending.addAll(Arrays.asList(current.getInterfaces()));
+                Optional.ofNullable(current.getEnclosingClass()).ifPresent(pending::add);
+            }
+        }
+        return List.copyOf(dependencies);
+    }
+
+    private boolean isProvidedByJdk(final Class<?> clazz) {
+        final var classLoader = clazz.getClassLoader();
+        return classLoader == null || classLoader == ClassLoader.getPlatformClassLoader();
+    }
+
+    private HashCode fingerprint(final OpenCache openCache, final List<String> dependencies) throws UncacheableException {
+        final var hasher = HASH_FUNCTION.newHasher();
+        for (final var className : dependencies) {
+            hasher.putString(className, UTF_8);
+            final var bytecodeHash = openCache.getBytecodeHashes().computeIfAbsent(className, this::hashBytecode);
+            if (bytecodeHash.isEmpty()) {
+                throw new UncacheableException();
+            }
+            hasher.putBytes(bytecodeHash.get().asBytes());
+        }
+        return hasher.hash();
+    }
+
+    private Optional<HashCode> hashBytecode(final String className) {
+        final var resource = className.replace('.', '/') + ".class";
+        final var url = classLoaderProvider.get().getResource(resource);
+        if (url == null) {
+            return Optional.empty();
+        }
+        try {
+            final var fingerprint = fingerprintClassFile(url);
+            if (fingerprint.isPresent()) {
+                return Optional.of(BYTECODE_HASHES.get(fingerprint.get(), () -> hashBytecode(url)));
+            } else {
+                return Optional.of(hashBytecode(url));
+            }
+        } catch (final IOException | ExecutionException e) {
+            return Optional.empty();
+        }
+    }
+
+    private HashCode hashBytecode(final URL url) throws IOException {
+        final var connection = url.openConnection();
+        // the JDK would otherwise keep jars open even after the class loader has been closed
+        connection.setUseCaches(false);
+        try (final var in = connection.getInputStream()) {
+            return HASH_FUNCTION.hashBytes(in.readAllBytes());
+        }
+    }
+
+    private static Optional<ClassFileFingerprint> fingerprintClassFile(final URL url) {
+        var location = url.toString();
+        if ("jar".equals(url.getProtocol())) {
+            // jar:file:/path/to/some.jar!/path/to/Some.class
+            final var separator = url.getPath().indexOf("!/");
+            if (separator < 0) {
+                return Optional.empty();
+            }
+            location = url.getPath().substring(0, separator);
+        }
+        try {
+            final var uri = new URI(location);
+            if (!"file".equals(uri.getScheme())) {
+                return Optional.empty();
+            }
+            final var file = Paths.get(uri).toFile();
+            if (!file.isFile()) {
+                return Optional.empty();
+            }
+            return Optional.of(new ClassFileFingerprint(url.toString(), file.length(), file.lastModified()));
+        } catch (final URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void writeWriteAccessor(final DataOutputStream out, final WriteAccessor writeAccessor) throws IOException, UncacheableException {
+        if (writeAccessor instanceof Setter) {
+            out.writeByte('S');
+        } else if (writeAccessor instanceof Adder) {
+            out.writeByte('A');
+        } else if (writeAccessor instanceof Getter) {
+            out.writeByte('G');
+        } else if (writeAccessor instanceof FieldAccessor) {
+            out.writeByte('F');
+        } else {
+            throw new UncacheableException();
+        }
+        out.writeUTF(writeAccessor.getPropertyName());
+        out.writeUTF(writeAccessor.getVisibility().name());
+        out.writeUTF(writeAccessor.getDeclaringClass().getName());
+        writePropertyType(out, writeAccessor.getPropertyType());
+        if (writeAccessor instanceof MethodAccessor methodAccessor) {
+            out.writeUTF(methodAccessor.getMethodName());
+            out.writeInt(methodAccessor.getExceptionTypes().size());
+            for (final var exceptionType : methodAccessor.getExceptionTypes()) {
+                out.writeUTF(exceptionType.getName());
+            }
+        }
+        if (writeAccessor instanceof Adder adder) {
+            out.writeUTF(adder.getParamName());
+            writePropertyType(out, adder.getParamType());
+        } else if (writeAccessor instanceof FieldAccessor fieldAccessor) {
+            out.writeBoolean(fieldAccessor.isFinal());
+        }
+    }
+
+    private SortedSet<WriteAccessor> readWriteAccessors(final DataInputStream in) throws IOException, ClassNotFoundException {
+        final var count = in.readInt();
+        final List<WriteAccessor> writeAccessors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            writeAccessors.add(readWriteAccessor(in));
+        }
+        return ImmutableSortedSet.copyOf(writeAccessors);
+    }
+
+    private WriteAccessor readWriteAccessor(final DataInputStream in) throws IOException, ClassNotFoundException {
+        final var kind = in.readByte();
+        final var propertyName = in.readUTF();
+        final var visibility = Visibility.valueOf(in.readUTF());
+        final var declaringClass = loadClass(in.readUTF());
+        final var propertyType = readPropertyType(in);
+        if (kind == 'F') {
+            return FieldAccessor.builder() //
+                    .propertyName(propertyName) //
+                    .visibility(visibility) //
+                    .declaringClass(declaringClass) //
+                    .propertyType(propertyType) //
+                    .isFinal(in.readBoolean()) //
+                    .build();
+        }
+        final var methodName = in.readUTF();
+        final var exceptionTypes = readExceptionTypes(in);
+        if (kind == 'S') {
+            return Setter.builder() //
+                    .propertyName(propertyName) //
+                    .visibility(visibility) //
+                    .declaringClass(declaringClass) //
+                    .propertyType(propertyType) //
+                    .methodName(methodName) //
+                    .exceptionTypes(exceptionTypes) //
+                    .build();
+        } else if (kind == 'G') {
+            return Getter.builder() //
+                    .propertyName(propertyName) //
+                    .visibility(visibility) //
+                    .declaringClass(declaringClass) //
+                    .propertyType(propertyType) //
+                    .methodName(methodName) //
+                    .exceptionTypes(exceptionTypes) //
+                    .build();
+        } else if (kind == 'A') {
+            return Adder.builder() //
+                    .propertyName(propertyName) //
+                    .visibility(visibility) //
+                    .declaringClass(declaringClass) //
+                    .propertyType(propertyType) //
+                    .methodName(methodName) //
+                    .exceptionTypes(exceptionTypes) //
+                    .paramName(in.readUTF()) //
+                    .paramType(readPropertyType(in)) //
+                    .build();
+        } else {
+            throw new IOException("Unknown kind of write accessor: " + kind);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Class<? extends Throwable>> readExceptionTypes(final DataInputStream in) throws IOException, ClassNotFoundException {
+        final var count = in.readInt();
+        final Set<Class<? extends Throwable>> exceptionTypes = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            exceptionTypes.add((Class<? extends Throwable>) loadClass(in.readUTF()));
+        }
+        return exceptionTypes;
+    }
+
+    private void writePropertyType(final DataOutputStream out, final PropertyType propertyType) throws IOException, UncacheableException {
+        if (propertyType instanceof SimpleType) {
+            out.writeByte('S');
+            writeType(out, propertyType.getType());
+        } else if (propertyType instanceof CollectionType collectionType) {
+            out.writeByte('C');
+            writeType(out, collectionType.getType());
+            writeType(out, collectionType.getTypeArg());
+        } else if (propertyType instanceof MapType mapType) {
+            out.writeByte('M');
+            writeType(out, mapType.getType());
+            writeType(out, mapType.getKeyType());
+            writeType(out, mapType.getValueType());
+        } else if (propertyType instanceof ArrayType arrayType) {
+            out.writeByte('A');
+            writeType(out, arrayType.getType());
+            writeType(out, arrayType.getComponentType());
+        } else {
+            throw new UncacheableException();
+        }
+    }
+
+    private PropertyType readPropertyType(final DataInputStream in) throws IOException, ClassNotFoundException {
+        final var kind = in.readByte();
+        return switch (kind) {
+            case 'S' -> new SimpleType(readType(in));
+            case 'C' -> new CollectionType(readType(in), readType(in));
+            case 'M' -> new MapType(readType(in), readType(in), readType(in));
+            case 'A' -> new ArrayType(readType(in), readType(in));
+            default -> throw new IOException("Unknown kind of property type: " + kind);
+        };
+    }
+
+    private void writeType(final DataOutputStream out, final Type type) throws IOException, UncacheableException {
+        if (type instanceof Class<?> clazz) {
+            out.writeByte('C');
+            out.writeUTF(clazz.getName());
+        } else if (type instanceof ParameterizedType parameterizedType) {
+            out.writeByte('P');
+            out.writeBoolean(isCommonsLangType(type));
+            out.writeBoolean(parameterizedType.getOwnerType() != null);
+            if (parameterizedType.getOwnerType() != null) {
+                writeType(out, parameterizedType.getOwnerType());
+            }
+            writeType(out, parameterizedType.getRawType());
+            writeTypes(out, parameterizedType.getActualTypeArguments());
+        } else if (type instanceof WildcardType wildcardType) {
+            out.writeByte('W');
+            out.writeBoolean(isCommonsLangType(type));
+            writeTypes(out, wildcardType.getUpperBounds());
+            writeTypes(out, wildcardType.getLowerBounds());
+        } else if (type instanceof GenericArrayType genericArrayType) {
+            out.writeByte('A');
+            out.writeBoolean(isCommonsLangType(type));
+            writeType(out, genericArrayType.getGenericComponentType());
+        } else if (type instanceof TypeVariable<?> typeVariable && typeVariable.getGenericDeclaration() instanceof Class<?> declaringClass) {
+            out.writeByte('V');
+            out.writeUTF(declaringClass.getName());
+            out.writeUTF(typeVariable.getName());
+        } else {
+            // for instance type variables declared by methods
+            throw new UncacheableException();
+        }
+    }
+
+    private boolean isCommonsLangType(final Type type) {
+        return type.getClass().getName().startsWith(TypeUtils.class.getPackageName());
+    }
+
+    private void writeTypes(final DataOutputStream out, final Type[] types) throws IOException, UncacheableException {
+        out.writeInt(types.length);
+        for (final var type : types) {
+            writeType(out, type);
+        }
+    }
+
+    private Type readType(final DataInputStream in) throws IOException, ClassNotFoundException {
+        final var kind = in.readByte();
+        switch (kind) {
+            case 'C':
+                return loadClass(in.readUTF());
+            case 'P':
+                final var parameterizedCommonsLang = in.readBoolean();
+                final var ownerType = in.readBoolean() ? readType(in) : null;
+                final var rawType = (Class<?>) readType(in);
+                return asGuavaTypeUnless(parameterizedCommonsLang, TypeUtils.parameterizeWithOwner(ownerType, rawType, readTypes(in)));
+            case 'W':
+                final var wildcardCommonsLang = in.readBoolean();
+                return asGuavaTypeUnless(wildcardCommonsLang, TypeUtils.wildcardType().withUpperBounds(readTypes(in)).withLowerBounds(readTypes(in)).build());
+            case 'A':
+                final var arrayCommonsLang = in.readBoolean();
+                return asGuavaTypeUnless(arrayCommonsLang, TypeUtils.genericArrayType(readType(in)));
+            case 'V':
+                final var declaringClass = loadClass(in.readUTF());
+                final var name = in.readUTF();
+                return Arrays.stream(declaringClass.getTypeParameters()) //
+                        .filter(typeParameter -> typeParameter.getName().equals(name)) //
+                        .findFirst() //
+                        .orElseThrow(() -> new ClassNotFoundException("No type variable " + name + " declared by " + declaringClass.getName()));
+            default:
+                throw new IOException("Unknown kind of type: " + kind);
+        }
+    }
+
+    private Type asGuavaTypeUnless(final boolean commonsLang, final Type type) {
+        // resolving a type without any mappings yields an equivalent type implemented by Guava
+        return commonsLang ? type : TYPE_RESOLVER.resolveType(type);
+    }
+
+    private Type[] readTypes(final DataInputStream in) throws IOException, ClassNotFoundException {
+        final var types = new Type[in.readInt()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = readType(in);
+        }
+        return types;
+    }
+
+    private Class<?> loadClass(final String className) throws ClassNotFoundException {
+        final var primitive = PRIMITIVES.get(className);
+        if (primitive != null) {
+            return primitive;
+        } else {
+            return Class.forName(className, false, classLoaderProvider.get());
+        }
+    }
+
+    private List<String> readDependencies(final DataInputStream in) throws IOException {
+        final var count = in.readInt();
+        if (count < 1) {
+            throw new IOException("The dependencies of a class must at least contain the class itself.");
+        }
+        final List<String> dependencies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            dependencies.add(in.readUTF());
+        }
+        return dependencies;
+    }
+
+    private static void writeBytes(final DataOutputStream out, final byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(final DataInputStream in) throws IOException {
+        final var bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    @Data
+    private static class OpenCache {
+
+        private final Path cacheFile;
+
+        private final HashCode keyHash;
+
+        private ByteBuffer mapped;
+
+        private Map<String, IndexEntry> index = Map.of();
+
+        private final Map<String, byte[]> entries = new ConcurrentHashMap<>();
+
+        private final Map<String, Optional<HashCode>> bytecodeHashes = new ConcurrentHashMap<>();
+
+        private volatile boolean modified;
+    }
+
+    @Data
+    private static class ClassFileFingerprint {
+
+        private final String location;
+
+        private final long size;
+
+        private final long lastModified;
+    }
+
+    @Data
+    private static class IndexEntry {
+
+        private final int position;
+
+        private final int length;
+    }
+
+    private static class UncacheableException extends Exception {
+
+        @Serial
+        private static final long serialVersionUID = 2890547166317498465L;
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.tobi.laa.reflective.fluent.builders.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.NamingService;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.atteo.evo.inflector.English;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import static org.apache.commons.lang3.StringUtils.uncapitalize;
+
+/**
+ * <p>
+ * Standard implementation of {@link NamingService}.
+ * </p>
+ * <p>
+ * The configured prefixes are read from {@link BuildersProperties} on each call, as concurrent executions of the
+ * generator may be configured differently. The adder patterns compiled so far are kept keyed by their source, so each
+ * of them is compiled only once no matter how many executions alternate between them.
+ * </p>
+ */
+@Named
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+class NamingServiceImpl implements NamingService {
+
+    private static final int MAX_CACHED_PLURALS = 10_000;
+
+    private static final int MAX_CACHED_ADDER_PATTERNS = 16;
+
+    @lombok.NonNull
+    private final BuildersProperties properties;
+
+    // evo-inflector applies a long list of regular expressions, so each name is only pluralized once
+    private final Cache<String, String> plurals = CacheBuilder.newBuilder() //
+            .maximumSize(MAX_CACHED_PLURALS) //
+            .build();
+
+    private final Cache<String, Pattern> adderPatterns = CacheBuilder.newBuilder() //
+            .maximumSize(MAX_CACHED_ADDER_PATTERNS) //
+            .build();
+
+    @Override
+    public boolean hasSetterPrefix(final String name) {
+        Objects.requireNonNull(name);
+        return name.startsWith(properties.getSetterPrefix());
+    }
+
+    @Override
+    public boolean hasGetterPrefix(final String name) {
+        Objects.requireNonNull(name);
+        return name.startsWith(properties.getGetterPrefix());
+    }
+
+    @Override
+    public boolean matchesAdderPattern(final String name) {
+        Objects.requireNonNull(name);
+        return adderPattern().matcher(name).matches();
+    }
+
+    @Override
+    public String dropSetterPrefix(final String name) {
+        Objects.requireNonNull(name);
+        return dropMethodPrefix(properties.getSetterPrefix(), name);
+    }
+
+    @Override
+    public String dropGetterPrefix(final String name) {
+        Objects.requireNonNull(name);
+        return dropMethodPrefix(properties.getGetterPrefix(), name);
+    }
+
+    private String dropMethodPrefix(final String prefix, final String name) {
+        if (StringUtils.isEmpty(prefix) || name.length() <= prefix.length()) {
+            return name;
+        } else if (name.startsWith(prefix)) {
+            return uncapitalize(name.substring(prefix.length()));
+        } else {
+            return uncapitalize(name);
+        }
+    }
+
+    @Override
+    public String dropAdderPattern(final String name) {
+        Objects.requireNonNull(name);
+        return uncapitalize(adderPattern().matcher(name).replaceFirst("$1"));
+    }
+
+    @Override
+    public String pluralize(final String name) {
+        Objects.requireNonNull(name);
+        return plurals.asMap().computeIfAbsent(name, English::plural);
+    }
+
+    private Pattern adderPattern() {
+        return adderPatterns.asMap().computeIfAbsent(properties.getAdderPattern(), Pattern::compile);
+    }
+}
@@ -1,30 +1,53 @@
 package io.github.tobi.laa.reflective.fluent.builders.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
 import io.github.tobi.laa.reflective.fluent.builders.service.api.TypeService;
 import lombok.RequiredArgsConstructor;
 
+import javax.inject.Inject;
 import javax.inject.Named;
+import javax.inject.Provider;
 import javax.inject.Singleton;
 import java.lang.reflect.*;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
  * Standard implementation of {@link TypeService}.
  * </p>
+ * <p>
+ * Exploded types are retained separately for each {@link ClassLoader} {@link Provider provided}, so that concurrent
+ * executions of the generator with different {@link ClassLoader ClassLoaders} only release their own.
+ * </p>
  */
 @Named
 @Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
 class TypeServiceImpl implements TypeService {
 
+    private static final int MAX_CACHED_TYPES = 10_000;
+
+    @lombok.NonNull
+    private final Provider<ClassLoader> classLoaderProvider;
+
+    // the same property types are usually used by many classes, so each of them is only exploded once until released
+    private final Map<ClassLoader, Cache<Type, Set<Class<?>>>> explodedTypes = new ConcurrentHashMap<>();
+
     @Override
     public Set<Class<?>> explodeType(final Type type) {
         Objects.requireNonNull(type);
-        return new TypeCollector(type).collect();
+        return explodedTypes //
+                .computeIfAbsent(classLoaderProvider.get(), classLoader -> CacheBuilder.newBuilder().maximumSize(MAX_CACHED_TYPES).build()) //
+                .asMap() //
+                .computeIfAbsent(type, t -> new TypeCollector(t).collect());
+    }
+
+    @Override
+    public void releaseExplodedTypes() {
+        explodedTypes.remove(classLoaderProvider.get());
     }
 
     @RequiredArgsConstructor
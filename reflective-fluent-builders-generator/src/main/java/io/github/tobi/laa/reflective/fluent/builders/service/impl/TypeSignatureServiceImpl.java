@@ -0,0 +1,133 @@
+package io.github.tobi.laa.reflective.fluent.builders.service.impl;
+
+import com.google.common.reflect.TypeResolver;
+import io.github.classgraph.*;
+import io.github.tobi.laa.reflective.fluent.builders.exception.ReflectionException;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.TypeSignatureService;
+import org.apache.commons.lang3.reflect.TypeUtils;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Standard implementation of {@link TypeSignatureService}.
+ * </p>
+ * <p>
+ * Parameterized, wildcard and generic array types are created via {@link TypeUtils} and subsequently re-created via
+ * Guava's {@link TypeResolver}, so that they are not only equal to the ones created by the JDK but also share their
+ * {@link Type#getTypeName() type names}.
+ * </p>
+ */
+@Named
+@Singleton
+class TypeSignatureServiceImpl implements TypeSignatureService {
+
+    private static final TypeResolver TYPE_RESOLVER = new TypeResolver();
+
+    @Override
+    public Type toType(final TypeSignature typeSignature, final Class<?> declaringClass) {
+        Objects.requireNonNull(typeSignature);
+        Objects.requireNonNull(declaringClass);
+        return TYPE_RESOLVER.resolveType(convert(typeSignature, declaringClass));
+    }
+
+    private Type convert(final TypeSignature typeSignature, final Class<?> declaringClass) {
+        if (typeSignature instanceof BaseTypeSignature baseTypeSignature) {
+            return baseTypeSignature.getType();
+        } else if (typeSignature instanceof ArrayTypeSignature arrayTypeSignature) {
+            return toArrayType(arrayTypeSignature, declaringClass);
+        } else if (typeSignature instanceof TypeVariableSignature typeVariableSignature) {
+            return resolveTypeVariable(typeVariableSignature.getName(), declaringClass);
+        } else {
+            return toClassRefType((ClassRefTypeSignature) typeSignature, declaringClass);
+        }
+    }
+
+    private Type toArrayType(final ArrayTypeSignature arrayTypeSignature, final Class<?> declaringClass) {
+        var type = convert(arrayTypeSignature.getElementTypeSignature(), declaringClass);
+        for (int i = 0; i < arrayTypeSignature.getNumDimensions(); i++) {
+            if (type instanceof Class<?> clazz) {
+                type = clazz.arrayType();
+            } else {
+                type = TypeUtils.genericArrayType(type);
+            }
+        }
+        return type;
+    }
+
+    private TypeVariable<?> resolveTypeVariable(final String name, final Class<?> declaringClass) {
+        for (Class<?> clazz = declaringClass; clazz != null; clazz = enclosingClassIfInner(clazz)) {
+            for (final var typeVariable : clazz.getTypeParameters()) {
+                if (typeVariable.getName().equals(name)) {
+                    return typeVariable;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Type variable " + name + " is not declared by " + declaringClass.getName() + '.');
+    }
+
+    private Class<?> enclosingClassIfInner(final Class<?> clazz) {
+        if (Modifier.isStatic(clazz.getModifiers())) {
+            return null;
+        } else {
+            return clazz.getEnclosingClass();
+        }
+    }
+
+    private Type toClassRefType(final ClassRefTypeSignature classRefTypeSignature, final Class<?> declaringClass) {
+        var className = classRefTypeSignature.getBaseClassName();
+        var type = toClassRefType(null, className, classRefTypeSignature.getTypeArguments(), declaringClass);
+        for (int i = 0; i < classRefTypeSignature.getSuffixes().size(); i++) {
+            className = className + '$' + classRefTypeSignature.getSuffixes().get(i);
+            type = toClassRefType(type, className, classRefTypeSignature.getSuffixTypeArguments().get(i), declaringClass);
+        }
+        return type;
+    }
+
+    private Type toClassRefType(final Type ownerType, final String className, final List<TypeArgument> typeArguments, final Class<?> declaringClass) {
+        final var rawType = loadClass(className, declaringClass);
+        if (typeArguments.isEmpty() && (ownerType == null || ownerType instanceof Class)) {
+            return rawType;
+        } else {
+            final var actualTypeArguments = typeArguments.stream() //
+                    .map(typeArgument -> convert(typeArgument, declaringClass)) //
+                    .toArray(Type[]::new);
+            return TypeUtils.parameterizeWithOwner(ownerType, rawType, actualTypeArguments);
+        }
+    }
+
+    private Type convert(final TypeArgument typeArgument, final Class<?> declaringClass) {
+        final var wildcard = typeArgument.getWildcard();
+        if (wildcard == TypeArgument.Wildcard.NONE) {
+            return convert(typeArgument.getTypeSignature(), declaringClass);
+        } else if (wildcard == TypeArgument.Wildcard.ANY) {
+            return TypeUtils.wildcardType().withUpperBounds(Object.class).build();
+        } else if (wildcard == TypeArgument.Wildcard.EXTENDS) {
+            return TypeUtils.wildcardType() //
+                    .withUpperBounds(convert(typeArgument.getTypeSignature(), declaringClass)) //
+                    .build();
+        } else {
+            return TypeUtils.wildcardType() //
+                    .withUpperBounds(Object.class) //
+                    .withLowerBounds(convert(typeArgument.getTypeSignature(), declaringClass)) //
+                    .build();
+        }
+    }
+
+    @Override
+    public Class<?> loadClass(final String className, final Class<?> context) {
+        Objects.requireNonNull(className);
+        Objects.requireNonNull(context);
+        try {
+            return Class.forName(className, false, context.getClassLoader());
+        } catch (final ClassNotFoundException | LinkageError e) {
+            throw new ReflectionException("Error while attempting to load class " + className + '.', e);
+        }
+    }
+}
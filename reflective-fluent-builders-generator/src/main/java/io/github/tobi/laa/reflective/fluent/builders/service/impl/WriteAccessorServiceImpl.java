@@ -1,33 +1,45 @@
 package io.github.tobi.laa.reflective.fluent.builders.service.impl;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.reflect.TypeToken;
 import io.github.classgraph.ClassInfo;
+import io.github.classgraph.FieldInfo;
+import io.github.classgraph.MethodInfo;
+import io.github.classgraph.MethodParameterInfo;
+import io.github.tobi.laa.reflective.fluent.builders.exception.ReflectionException;
 import io.github.tobi.laa.reflective.fluent.builders.model.*;
 import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
+import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties.MetadataEngine;
 import io.github.tobi.laa.reflective.fluent.builders.service.api.*;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.TypeUtils;
-import org.atteo.evo.inflector.English;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import java.lang.reflect.*;
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
+import static io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties.MetadataEngine.BYTECODE;
 import static java.lang.reflect.Modifier.isStatic;
-import static java.util.Arrays.stream;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.toSet;
-import static org.apache.commons.lang3.StringUtils.uncapitalize;
 
 /**
  * <p>
  * Standard implementation of {@link WriteAccessorService}.
  * </p>
+ * <p>
+ * The members declared by a class are memoized per {@link ClassInfo} along with the parts of {@link BuildersProperties}
+ * they depend on, so that executions with a different configuration or a different scan of the classpath never reuse
+ * each other's candidates. All memoized state may be accessed concurrently.
+ * </p>
  */
 @Named
 @Singleton
@@ -46,131 +58,294 @@ class WriteAccessorServiceImpl implements WriteAccessorService {
     @lombok.NonNull
     private final BuilderPackageService builderPackageService;
 
+    @lombok.NonNull
+    private final TypeSignatureService typeSignatureService;
+
+    @lombok.NonNull
+    private final NamingService namingService;
+
     @lombok.NonNull
     private final BuildersProperties properties;
 
+    // weak keys imply identity, so classes stemming from different scans, i.e. executions, never share an entry
+    private final LoadingCache<ClassInfo, Map<DeclaredMembersKey, List<MethodCandidate>>> declaredMethods = perClassCache();
+
+    private final LoadingCache<ClassInfo, Map<DeclaredMembersKey, List<FieldCandidate>>> declaredFields = perClassCache();
+
+    // resolving types against a TypeToken is considerably faster once it has been done before; as a TypeToken references
+    // its class, it is bound to the class itself so that classes of a discarded class loader can still be collected
+    private final ClassValue<TypeToken<?>> typeTokens = new TypeTokens();
+
+    private static <V> LoadingCache<ClassInfo, Map<DeclaredMembersKey, V>> perClassCache() {
+        return CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(() -> new ConcurrentHashMap<>()));
+    }
+
     @Override
     public SortedSet<WriteAccessor> gatherAllWriteAccessors(final ClassInfo classInfo) {
         Objects.requireNonNull(classInfo);
-        final var clazz = classInfo.loadClass();
-        final var builderPackage = builderPackageService.resolveBuilderPackage(clazz);
+        final var builderPackage = builderPackageService.resolveBuilderPackage(classInfo);
         final var classHierarchy = classService.collectFullClassHierarchy(classInfo);
         final var methods = gatherAllNonStaticNonBridgeAccessibleMethods(classHierarchy, builderPackage);
         final SortedSet<WriteAccessor> writeAccessors = new TreeSet<>();
+        final var coveredProperties = new CoveredProperties();
+        final var hierarchyRanks = hierarchyRanks(classHierarchy);
         // adders take precedence over setters
         if (properties.isAddersEnabled()) {
             final var adders = gatherAllAdders(methods, classInfo);
-            addAllThatAreNotYetCovered(writeAccessors, adders);
+            addAllThatAreNotYetCovered(writeAccessors, coveredProperties, hierarchyRanks, adders);
         }
         // setters take precedence over collection getters
         final var setters = gatherAllSetters(methods, classInfo);
-        addAllThatAreNotYetCovered(writeAccessors, setters);
+        addAllThatAreNotYetCovered(writeAccessors, coveredProperties, hierarchyRanks, setters);
         // collection getters take precedence over field accessors
         if (properties.isGetAndAddEnabled()) {
             final var collectionGetters = gatherAllCollectionGetters(methods, classInfo);
-            addAllThatAreNotYetCovered(writeAccessors, collectionGetters);
+            addAllThatAreNotYetCovered(writeAccessors, coveredProperties, hierarchyRanks, collectionGetters);
         }
         // field accessors are the last resort if nothing else is available
         if (properties.isDirectFieldAccessEnabled()) {
             final var fields = gatherAllNonStaticAccessibleFields(classHierarchy, builderPackage);
             final var fieldAccessors = gatherAllFieldAccessors(fields, classInfo);
-            addAllThatAreNotYetCovered(writeAccessors, fieldAccessors);
+            addAllThatAreNotYetCovered(writeAccessors, coveredProperties, hierarchyRanks, fieldAccessors);
         }
         return ImmutableSortedSet.copyOf(writeAccessors);
     }
 
-    private void addAllThatAreNotYetCovered(final SortedSet<WriteAccessor> target, final SortedSet<? extends WriteAccessor> candidates) {
-        candidates
-                .stream()
-                .filter(candidate -> notYetCoveredByAnotherWriteAccessor(candidate, target))
-                .forEach(target::add);
+    private void addAllThatAreNotYetCovered( //
+            final SortedSet<WriteAccessor> target, //
+            final CoveredProperties coveredProperties, //
+            final Map<String, Integer> hierarchyRanks, //
+            final SortedSet<? extends WriteAccessor> candidates) {
+        // candidates can only cover each other if they agree on their property name, by which they are ordered first, so
+        // only runs of candidates with the same property name have to be put in order of precedence
+        final List<WriteAccessor> run = new ArrayList<>();
+        for (final var candidate : candidates) {
+            if (!run.isEmpty() && !run.get(0).getPropertyName().equals(candidate.getPropertyName())) {
+                addRunIfNotYetCovered(target, coveredProperties, hierarchyRanks, run);
+                run.clear();
+            }
+            run.add(candidate);
+        }
+        addRunIfNotYetCovered(target, coveredProperties, hierarchyRanks, run);
+    }
+
+    private void addRunIfNotYetCovered( //
+            final SortedSet<WriteAccessor> target, //
+            final CoveredProperties coveredProperties, //
+            final Map<String, Integer> hierarchyRanks, //
+            final List<WriteAccessor> run) {
+        if (run.size() > 1) {
+            // the first candidate covering a property wins, so those declared further down the hierarchy come first
+            run.sort(Comparator.comparingInt(candidate -> hierarchyRanks.getOrDefault(candidate.getDeclaringClass().getName(), Integer.MAX_VALUE)));
+        }
+        for (final var candidate : run) {
+            final var indexedCandidate = new IndexedWriteAccessor(candidate);
+            if (!coveredProperties.covers(indexedCandidate) && target.add(candidate)) {
+                coveredProperties.add(indexedCandidate);
+            }
+        }
     }
 
-    private List<Method> gatherAllNonStaticNonBridgeAccessibleMethods(final List<ClassInfo> classHierarchy, final String builderPackage) {
+    private Map<String, Integer> hierarchyRanks(final List<ClassInfo> classHierarchy) {
+        final Map<String, Integer> ranks = new HashMap<>();
+        for (final var clazz : classHierarchy) {
+            ranks.putIfAbsent(clazz.getName(), ranks.size());
+        }
+        return ranks;
+    }
+
+    private List<MethodCandidate> gatherAllNonStaticNonBridgeAccessibleMethods(final List<ClassInfo> classHierarchy, final String builderPackage) {
+        final var key = declaredMembersKey(builderPackage);
         return classHierarchy //
                 .stream() //
-                .map(ClassInfo::loadClass) //
-                .map(Class::getDeclaredMethods) //
-                .flatMap(Arrays::stream) //
+                // supertypes are usually shared by many classes, so their methods are only analysed once
+                .flatMap(clazz -> declaredMethods.getUnchecked(clazz) //
+                        .computeIfAbsent(key, k -> gatherAllNonStaticNonBridgeAccessibleMethods(clazz, builderPackage)) //
+                        .stream()) //
+                .toList();
+    }
+
+    private List<MethodCandidate> gatherAllNonStaticNonBridgeAccessibleMethods(final ClassInfo clazz, final String builderPackage) {
+        if (readFromBytecode(clazz)) {
+            return gatherAllNonStaticNonBridgeAccessibleMethodsFromBytecode(clazz, builderPackage).toList();
+        } else {
+            return gatherAllNonStaticNonBridgeAccessibleMethodsViaReflection(clazz, builderPackage).toList();
+        }
+    }
+
+    private DeclaredMembersKey declaredMembersKey(final String builderPackage) {
+        return new DeclaredMembersKey( //
+                builderPackage, //
+                properties.getMetadataEngine(), //
+                properties.getSetterPrefix(), //
+                properties.getGetterPrefix(), //
+                properties.getAdderPattern());
+    }
+
+    private boolean readFromBytecode(final ClassInfo clazz) {
+        // classes that have not been scanned such as those provided by the JDK lack any information about their members
+        return properties.getMetadataEngine() == BYTECODE && clazz.getResource() != null;
+    }
+
+    private Stream<MethodCandidate> gatherAllNonStaticNonBridgeAccessibleMethodsViaReflection(final ClassInfo clazz, final String builderPackage) {
+        return Arrays.stream(clazz.loadClass().getDeclaredMethods()) //
                 .filter(not(Method::isBridge)) //
                 .filter(not(method -> isStatic(method.getModifiers()))) //
                 .filter(method -> accessibilityService.isAccessibleFrom(method, builderPackage)) //
+                .map(MethodCandidate::new);
+    }
+
+    private Stream<MethodCandidate> gatherAllNonStaticNonBridgeAccessibleMethodsFromBytecode(final ClassInfo clazz, final String builderPackage) {
+        return clazz.getDeclaredMethodInfo() //
+                .stream() //
+                .filter(not(MethodInfo::isBridge)) //
+                .filter(not(MethodInfo::isStatic)) //
+                .filter(method -> accessibilityService.isAccessibleFrom(method, clazz, builderPackage)) //
+                // only the types of potential write accessors are loaded
+                .filter(this::isPotentialWriteAccessor) //
+                .map(method -> toMethodCandidate(clazz.loadClass(), method)) //
+                .filter(method -> method.getGenericParameterTypes().stream().allMatch(type -> accessibilityService.isAccessibleFrom(type, builderPackage))) //
+                .filter(method -> accessibilityService.isAccessibleFrom(method.getGenericReturnType(), builderPackage));
+    }
+
+    private boolean isPotentialWriteAccessor(final MethodInfo method) {
+        final var parameterCount = method.getParameterInfo().length;
+        return parameterCount == 1 && (namingService.hasSetterPrefix(method.getName()) || namingService.matchesAdderPattern(method.getName())) || //
+                parameterCount == 0 && namingService.hasGetterPrefix(method.getName());
+    }
+
+    private MethodCandidate toMethodCandidate(final Class<?> declaringClass, final MethodInfo method) {
+        final var signature = method.getTypeSignatureOrTypeDescriptor();
+        if (!signature.getTypeParameters().isEmpty()) {
+            // type variables declared by methods are only available via reflection
+            return new MethodCandidate(loadMethod(declaringClass, method));
+        }
+        final var genericParameterTypes = Arrays.stream(method.getParameterInfo()) //
+                .map(MethodParameterInfo::getTypeSignatureOrTypeDescriptor) //
+                .map(type -> typeSignatureService.toType(type, declaringClass)) //
                 .toList();
+        final var genericReturnType = typeSignatureService.toType(signature.getResultType(), declaringClass);
+        final Set<Class<? extends Throwable>> exceptionTypes = Arrays.stream(method.getThrownExceptionNames()) //
+                .map(name -> typeSignatureService.loadClass(name, declaringClass).asSubclass(Throwable.class)) //
+                .collect(toSet());
+        return new MethodCandidate( //
+                method.getName(), //
+                method.getModifiers(), //
+                declaringClass, //
+                genericParameterTypes.stream().<Class<?>>map(this::getRawType).toList(), //
+                genericParameterTypes, //
+                getRawType(genericReturnType), //
+                genericReturnType, //
+                exceptionTypes);
+    }
+
+    private Method loadMethod(final Class<?> declaringClass, final MethodInfo method) {
+        final var parameterTypes = Arrays.stream(method.getParameterInfo()) //
+                .map(MethodParameterInfo::getTypeDescriptor) //
+                .map(type -> typeSignatureService.toType(type, declaringClass)) //
+                .toArray(Class<?>[]::new);
+        try {
+            return declaringClass.getDeclaredMethod(method.getName(), parameterTypes);
+        } catch (final NoSuchMethodException e) {
+            throw new ReflectionException("Error while attempting to load method " + method.getName() + " of " + declaringClass.getName() + '.', e);
+        }
     }
 
-    private SortedSet<Adder> gatherAllAdders(final List<Method> methods, final ClassInfo classInfo) {
+    private SortedSet<Adder> gatherAllAdders(final List<MethodCandidate> methods, final ClassInfo classInfo) {
         return methods.stream() //
                 .filter(this::isAdder) //
                 .map(method -> toAdder(classInfo.loadClass(), method)) //
                 .collect(ImmutableSortedSet.toImmutableSortedSet(Comparator.naturalOrder()));
     }
 
-    private boolean isAdder(final Method method) {
-        return method.getParameterCount() == 1
-                && method.getName().matches(properties.getAdderPattern())
+    private boolean isAdder(final MethodCandidate method) {
+        return method.getParameterTypes().size() == 1
+                && namingService.matchesAdderPattern(method.getName())
                 // exclude addFirst and addLast introduced in Java 21
                 && !isJava21Adder(method);
     }
 
-    private boolean isJava21Adder(final Method method) {
+    private boolean isJava21Adder(final MethodCandidate method) {
         return method.getDeclaringClass().getPackageName().equals(List.class.getPackageName()) &&
                 (method.getName().equals("addFirst") || method.getName().equals("addLast"));
     }
 
-    private SortedSet<Setter> gatherAllSetters(final List<Method> methods, final ClassInfo classInfo) {
+    private SortedSet<Setter> gatherAllSetters(final List<MethodCandidate> methods, final ClassInfo classInfo) {
         return methods.stream() //
                 .filter(this::isSetter) //
                 .map(method -> toSetter(classInfo.loadClass(), method)) //
                 .collect(ImmutableSortedSet.toImmutableSortedSet(Comparator.naturalOrder()));
     }
 
-    private boolean isSetter(final Method method) {
-        return method.getParameterCount() == 1 && method.getName().startsWith(properties.getSetterPrefix());
+    private boolean isSetter(final MethodCandidate method) {
+        return method.getParameterTypes().size() == 1 && namingService.hasSetterPrefix(method.getName());
     }
 
-    private SortedSet<Getter> gatherAllCollectionGetters(final List<Method> methods, final ClassInfo classInfo) {
+    private SortedSet<Getter> gatherAllCollectionGetters(final List<MethodCandidate> methods, final ClassInfo classInfo) {
         return methods.stream() //
                 .filter(this::isCollectionGetter) //
                 .map(method -> toGetter(classInfo.loadClass(), method)) //
                 .collect(ImmutableSortedSet.toImmutableSortedSet(Comparator.naturalOrder()));
     }
 
-    private boolean isCollectionGetter(final Method method) {
-        return method.getParameterCount() == 0 && //
-                method.getName().startsWith(properties.getGetterPrefix()) && //
+    private boolean isCollectionGetter(final MethodCandidate method) {
+        return method.getParameterTypes().isEmpty() && //
+                namingService.hasGetterPrefix(method.getName()) && //
                 Collection.class.isAssignableFrom(method.getReturnType());
     }
 
-    private List<Field> gatherAllNonStaticAccessibleFields(final List<ClassInfo> classHierarchy, final String builderPackage) {
+    private List<FieldCandidate> gatherAllNonStaticAccessibleFields(final List<ClassInfo> classHierarchy, final String builderPackage) {
+        final var key = declaredMembersKey(builderPackage);
         return classHierarchy //
                 .stream() //
-                .map(ClassInfo::loadClass) //
-                .map(Class::getDeclaredFields) //
-                .flatMap(Arrays::stream) //
+                .flatMap(clazz -> declaredFields.getUnchecked(clazz) //
+                        .computeIfAbsent(key, k -> gatherAllNonStaticAccessibleFields(clazz, builderPackage)) //
+                        .stream()) //
+                .toList();
+    }
+
+    private List<FieldCandidate> gatherAllNonStaticAccessibleFields(final ClassInfo clazz, final String builderPackage) {
+        if (readFromBytecode(clazz)) {
+            return gatherAllNonStaticAccessibleFieldsFromBytecode(clazz, builderPackage).toList();
+        } else {
+            return gatherAllNonStaticAccessibleFieldsViaReflection(clazz, builderPackage).toList();
+        }
+    }
+
+    private Stream<FieldCandidate> gatherAllNonStaticAccessibleFieldsViaReflection(final ClassInfo clazz, final String builderPackage) {
+        return Arrays.stream(clazz.loadClass().getDeclaredFields()) //
                 .filter(not(field -> isStatic(field.getModifiers()))) //
                 .filter(field -> accessibilityService.isAccessibleFrom(field, builderPackage)) //
-                .toList();
+                .map(FieldCandidate::new);
+    }
+
+    private Stream<FieldCandidate> gatherAllNonStaticAccessibleFieldsFromBytecode(final ClassInfo clazz, final String builderPackage) {
+        return clazz.getDeclaredFieldInfo() //
+                .stream() //
+                .filter(not(FieldInfo::isStatic)) //
+                .filter(field -> accessibilityService.isAccessibleFrom(field, clazz, builderPackage)) //
+                .map(field -> toFieldCandidate(clazz.loadClass(), field)) //
+                .filter(field -> accessibilityService.isAccessibleFrom(field.getGenericType(), builderPackage));
+    }
+
+    private FieldCandidate toFieldCandidate(final Class<?> declaringClass, final FieldInfo field) {
+        final var genericType = typeSignatureService.toType(field.getTypeSignatureOrTypeDescriptor(), declaringClass);
+        return new FieldCandidate(field.getName(), field.getModifiers(), declaringClass, getRawType(genericType), genericType);
     }
 
-    private SortedSet<FieldAccessor> gatherAllFieldAccessors(final List<Field> fields, final ClassInfo classInfo) {
+    private SortedSet<FieldAccessor> gatherAllFieldAccessors(final List<FieldCandidate> fields, final ClassInfo classInfo) {
         return fields.stream() //
                 .filter(this::isFieldAccessor) //
                 .map(field -> toFieldAccessor(classInfo.loadClass(), field)) //
                 .collect(ImmutableSortedSet.toImmutableSortedSet(Comparator.naturalOrder()));
     }
 
-    private boolean isFieldAccessor(final Field field) {
+    private boolean isFieldAccessor(final FieldCandidate field) {
         return !Modifier.isFinal(field.getModifiers()) ||
                 // for final collections, it is assumed they are non-null so adding to them is possible
                 Collection.class.isAssignableFrom(field.getType());
     }
 
-    private boolean notYetCoveredByAnotherWriteAccessor(final WriteAccessor candidate, final Set<WriteAccessor> writeAccessors) {
-        return writeAccessors
-                .stream()
-                .noneMatch(accessor -> equivalentAccessors(accessor, candidate));
-    }
-
     @Override
     public boolean equivalentAccessors(final WriteAccessor first, final WriteAccessor second) {
         Objects.requireNonNull(first);
@@ -201,42 +376,29 @@ class WriteAccessorServiceImpl implements WriteAccessorService {
         return TypeToken.of(type).getRawType();
     }
 
-    private Adder toAdder(final Class<?> clazz, final Method method) {
-        final var param = method.getParameters()[0];
+    private Adder toAdder(final Class<?> clazz, final MethodCandidate method) {
         final var paramName = dropAdderPattern(method.getName());
-        final var paramType = toPropertyType(clazz, param.getType(), method.getGenericParameterTypes()[0]);
+        final var paramType = toPropertyType(clazz, method.getParameterTypes().get(0), method.getGenericParameterTypes().get(0));
         return Adder.builder() //
                 .methodName(method.getName()) //
                 .propertyType(new CollectionType(TypeUtils.parameterize(List.class, paramType.getType()), paramType.getType())) //
-                .propertyName(pluralize(paramName)) //
+                .propertyName(namingService.pluralize(paramName)) //
                 .paramName(paramName) //
                 .paramType(paramType) //
                 .visibility(visibilityService.toVisibility(method.getModifiers())) //
                 .declaringClass(method.getDeclaringClass()) //
-                .exceptionTypes(gatherExceptionTypes(method)) //
+                .exceptionTypes(method.getExceptionTypes()) //
                 .build();
     }
 
-    @SuppressWarnings("unchecked")
-    private Set<Class<? extends Throwable>> gatherExceptionTypes(final Method method) {
-        return stream(method.getExceptionTypes())
-                .map(type -> (Class<? extends Throwable>) type)
-                .collect(toSet());
-    }
-
-    private String pluralize(final String name) {
-        return English.plural(name);
-    }
-
-    private Setter toSetter(final Class<?> clazz, final Method method) {
-        final var param = method.getParameters()[0];
+    private Setter toSetter(final Class<?> clazz, final MethodCandidate method) {
         return Setter.builder() //
                 .methodName(method.getName()) //
-                .propertyType(toPropertyType(clazz, param.getType(), method.getGenericParameterTypes()[0])) //
+                .propertyType(toPropertyType(clazz, method.getParameterTypes().get(0), method.getGenericParameterTypes().get(0))) //
                 .propertyName(dropSetterPrefix(method.getName())) //
                 .visibility(visibilityService.toVisibility(method.getModifiers())) //
                 .declaringClass(method.getDeclaringClass()) //
-                .exceptionTypes(gatherExceptionTypes(method)) //
+                .exceptionTypes(method.getExceptionTypes()) //
                 .build();
     }
 
@@ -256,18 +418,18 @@ class WriteAccessorServiceImpl implements WriteAccessorService {
     }
 
     @SuppressWarnings("java:S3252")
-    private Getter toGetter(final Class<?> clazz, final Method method) {
+    private Getter toGetter(final Class<?> clazz, final MethodCandidate method) {
         return Getter.builder() //
                 .propertyType(toPropertyType(clazz, method.getReturnType(), method.getGenericReturnType())) //
                 .methodName(method.getName()) //
                 .propertyName(dropGetterPrefix(method.getName())) //
                 .visibility(visibilityService.toVisibility(method.getModifiers())) //
                 .declaringClass(method.getDeclaringClass()) //
-                .exceptionTypes(gatherExceptionTypes(method)) //
+                .exceptionTypes(method.getExceptionTypes()) //
                 .build();
     }
 
-    private FieldAccessor toFieldAccessor(final Class<?> clazz, final Field field) {
+    private FieldAccessor toFieldAccessor(final Class<?> clazz, final FieldCandidate field) {
         return FieldAccessor.builder() //
                 .propertyType(toPropertyType(clazz, field.getType(), field.getGenericType())) //
                 .propertyName(field.getName())
@@ -280,7 +442,7 @@ class WriteAccessorServiceImpl implements WriteAccessorService {
     @SuppressWarnings("unchecked")
     private Type resolveCollectionType(final Class<?> clazz, final Type collectionType) {
         if (collectionType instanceof ParameterizedType) {
-            final TypeToken<? extends Collection<?>> typeToken = (TypeToken<? extends Collection<?>>) TypeToken.of(clazz).resolveType(collectionType);
+            final TypeToken<? extends Collection<?>> typeToken = (TypeToken<? extends Collection<?>>) typeTokens.get(clazz).resolveType(collectionType);
             return typeToken.getSupertype(Collection.class).getType();
         } else {
             return Collection.class;
@@ -290,7 +452,7 @@ class WriteAccessorServiceImpl implements WriteAccessorService {
     @SuppressWarnings("unchecked")
     private Type resolveMapType(final Class<?> clazz, final Type mapType) {
         if (mapType instanceof ParameterizedType) {
-            final TypeToken<? extends Map<?, ?>> typeToken = (TypeToken<? extends Map<?, ?>>) TypeToken.of(clazz).resolveType(mapType);
+            final TypeToken<? extends Map<?, ?>> typeToken = (TypeToken<? extends Map<?, ?>>) typeTokens.get(clazz).resolveType(mapType);
             return typeToken.getSupertype(Map.class).getType();
         } else {
             return Map.class;
@@ -306,33 +468,25 @@ class WriteAccessorServiceImpl implements WriteAccessorService {
     }
 
     private Type resolveType(final Class<?> clazz, final Type type) {
-        return TypeToken.of(clazz).resolveType(type).getType();
+        return typeTokens.get(clazz).resolveType(type).getType();
     }
 
     @Override
     public String dropSetterPrefix(final String name) {
         Objects.requireNonNull(name);
-        return dropMethodPrefix(properties.getSetterPrefix(), name);
+        return namingService.dropSetterPrefix(name);
     }
 
     @Override
     public String dropGetterPrefix(final String name) {
         Objects.requireNonNull(name);
-        return dropMethodPrefix(properties.getGetterPrefix(), name);
-    }
-
-    private String dropMethodPrefix(final String prefix, final String name) {
-        if (StringUtils.isEmpty(prefix) || name.length() <= prefix.length()) {
-            return name;
-        }
-        final var paramName = name.replaceFirst('^' + Pattern.quote(prefix), "");
-        return uncapitalize(paramName);
+        return namingService.dropGetterPrefix(name);
     }
 
     @Override
     public String dropAdderPattern(final String name) {
         Objects.requireNonNull(name);
-        return uncapitalize(name.replaceFirst(properties.getAdderPattern(), "$1"));
+        return namingService.dropAdderPattern(name);
     }
 
     @Override
@@ -352,4 +506,189 @@ class WriteAccessorServiceImpl implements WriteAccessorService {
         Objects.requireNonNull(writeAccessor);
         return writeAccessor instanceof Adder;
     }
+
+    /**
+     * <p>
+     * A method that might be a write accessor, either obtained via reflection or read from bytecode.
+     * </p>
+     */
+    @Data
+    @RequiredArgsConstructor
+    private static class MethodCandidate {
+
+        private final String name;
+
+        private final int modifiers;
+
+        private final Class<?> declaringClass;
+
+        private final List<Class<?>> parameterTypes;
+
+        private final List<Type> genericParameterTypes;
+
+        private final Class<?> returnType;
+
+        private final Type genericReturnType;
+
+        private final Set<Class<? extends Throwable>> exceptionTypes;
+
+        @SuppressWarnings("unchecked")
+        MethodCandidate(final Method method) {
+            this( //
+                    method.getName(), //
+                    method.getModifiers(), //
+                    method.getDeclaringClass(), //
+                    List.of(method.getParameterTypes()), //
+                    List.of(method.getGenericParameterTypes()), //
+                    method.getReturnType(), //
+                    method.getGenericReturnType(), //
+                    Arrays.stream(method.getExceptionTypes()) //
+                            .map(type -> (Class<? extends Throwable>) type) //
+                            .collect(toSet()));
+        }
+    }
+
+    /**
+     * <p>
+     * A field that might be a write accessor, either obtained via reflection or read from bytecode.
+     * </p>
+     */
+    @Data
+    @RequiredArgsConstructor
+    private static class FieldCandidate {
+
+        private final String name;
+
+        private final int modifiers;
+
+        private final Class<?> declaringClass;
+
+        private final Class<?> type;
+
+        private final Type genericType;
+
+        FieldCandidate(final Field field) {
+            this(field.getName(), field.getModifiers(), field.getDeclaringClass(), field.getType(), field.getGenericType());
+        }
+    }
+
+    /**
+     * <p>
+     * A {@link WriteAccessor} along with the keys it is indexed by within {@link CoveredProperties}, so that the raw
+     * types involved are only determined once per accessor.
+     * </p>
+     */
+    @Data
+    private class IndexedWriteAccessor {
+
+        private final boolean adder;
+
+        private final PropertyKey property;
+
+        /**
+         * <p>
+         * The property name along with the raw type of the elements of the collection, {@code null} if the property is
+         * not a collection.
+         * </p>
+         */
+        private final PropertyKey element;
+
+        IndexedWriteAccessor(final WriteAccessor writeAccessor) {
+            this.adder = writeAccessor instanceof Adder;
+            this.property = new PropertyKey(writeAccessor.getPropertyName(), getRawPropertyType(writeAccessor));
+            if (writeAccessor.getPropertyType() instanceof CollectionType) {
+                this.element = new PropertyKey(writeAccessor.getPropertyName(), getRawCollectionTypeArg(writeAccessor));
+            } else {
+                this.element = null;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Hash index over the properties already covered by some {@link WriteAccessor}, mirroring the rules of
+     * {@link #equivalentAccessors(WriteAccessor, WriteAccessor)}: An adder is compared with a collection by the raw
+     * type of the collection's elements, anything else is compared by the raw type of the property.
+     * </p>
+     */
+    private static class CoveredProperties {
+
+        private final Set<PropertyKey> adderElements = new HashSet<>();
+
+        private final Set<PropertyKey> adderProperties = new HashSet<>();
+
+        private final Set<PropertyKey> collectionElements = new HashSet<>();
+
+        private final Set<PropertyKey> properties = new HashSet<>();
+
+        private final Set<PropertyKey> nonCollectionProperties = new HashSet<>();
+
+        boolean covers(final IndexedWriteAccessor candidate) {
+            if (candidate.isAdder()) {
+                return adderElements.contains(candidate.getElement()) || //
+                        collectionElements.contains(candidate.getElement()) || //
+                        nonCollectionProperties.contains(candidate.getProperty());
+            } else if (candidate.getElement() != null) {
+                return adderElements.contains(candidate.getElement()) || //
+                        properties.contains(candidate.getProperty());
+            } else {
+                return adderProperties.contains(candidate.getProperty()) || //
+                        properties.contains(candidate.getProperty());
+            }
+        }
+
+        void add(final IndexedWriteAccessor writeAccessor) {
+            if (writeAccessor.isAdder()) {
+                adderElements.add(writeAccessor.getElement());
+                adderProperties.add(writeAccessor.getProperty());
+            } else if (writeAccessor.getElement() != null) {
+                collectionElements.add(writeAccessor.getElement());
+                properties.add(writeAccessor.getProperty());
+            } else {
+                nonCollectionProperties.add(writeAccessor.getProperty());
+                properties.add(writeAccessor.getProperty());
+            }
+        }
+    }
+
+    @Data
+    private static class PropertyKey {
+
+        private final String propertyName;
+
+        private final Class<?> rawType;
+    }
+
+    /**
+     * <p>
+     * Everything apart from the class itself that determines which of its declared members are candidates for write
+     * accessors.
+     * </p>
+     */
+    @Data
+    private static class DeclaredMembersKey {
+
+        private final String builderPackage;
+
+        private final MetadataEngine metadataEngine;
+
+        private final String setterPrefix;
+
+        private final String getterPrefix;
+
+        private final String adderPattern;
+    }
+
+    /**
+     * <p>
+     * The {@link TypeToken} of each class, created once per class.
+     * </p>
+     */
+    private static class TypeTokens extends ClassValue<TypeToken<?>> {
+
+        @Override
+        protected TypeToken<?> computeValue(final Class<?> clazz) {
+            return TypeToken.of(clazz);
+        }
+    }
 }
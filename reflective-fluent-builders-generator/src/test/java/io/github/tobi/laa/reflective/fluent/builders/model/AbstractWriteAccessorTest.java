@@ -1,14 +1,23 @@
 package io.github.tobi.laa.reflective.fluent.builders.model;
 
+import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.hierarchy.AnInterface;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.hierarchy.ClassWithHierarchy;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.hierarchy.FirstSuperClass;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.hierarchy.TopLevelSuperClass;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.SimpleClass;
+import lombok.SneakyThrows;
 import lombok.experimental.SuperBuilder;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
-import java.util.Map;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.*;
 import java.util.stream.Stream;
 
+import static org.apache.commons.lang3.reflect.TypeUtils.parameterize;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class AbstractWriteAccessorTest {
@@ -50,6 +59,134 @@ class AbstractWriteAccessorTest {
                         19));
     }
 
+    @Test
+    void testCompareToIsTotalAndConsistentWithEquals() {
+        // Arrange
+        final List<WriteAccessor> accessors = new ArrayList<>();
+        for (final Class<?> declaringClass : List.of(ClassWithHierarchy.class, FirstSuperClass.class, TopLevelSuperClass.class, AnInterface.class, SimpleClass.class)) {
+            for (final PropertyType propertyType : List.of( //
+                    new SimpleType(int.class), //
+                    new SimpleType(String.class), //
+                    new CollectionType(parameterize(List.class, String.class), String.class), //
+                    new CollectionType(parameterize(List.class, Long.class), Long.class))) {
+                for (final String propertyName : List.of("items", "name")) {
+                    for (final Visibility visibility : List.of(Visibility.PUBLIC, Visibility.PROTECTED)) {
+                        accessors.add(Setter.builder().methodName("set" + propertyName).propertyType(propertyType).propertyName(propertyName).visibility(visibility).declaringClass(declaringClass).build());
+                        accessors.add(Getter.builder().methodName("get" + propertyName).propertyType(propertyType).propertyName(propertyName).visibility(visibility).declaringClass(declaringClass).build());
+                        accessors.add(FieldAccessor.builder().propertyType(propertyType).propertyName(propertyName).visibility(visibility).declaringClass(declaringClass).build());
+                    }
+                }
+            }
+        }
+        // Act & Assert
+        for (final var a : accessors) {
+            for (final var b : accessors) {
+                assertThat(Integer.signum(a.compareTo(b))).isEqualTo(-Integer.signum(b.compareTo(a)));
+                assertThat(a.compareTo(b) == 0).isEqualTo(a.equals(b));
+            }
+        }
+        final var sorted = accessors.stream().sorted().toList();
+        for (int i = 0; i < sorted.size(); i++) {
+            for (int j = i + 1; j < sorted.size(); j++) {
+                assertThat(sorted.get(i).compareTo(sorted.get(j))).isNotPositive();
+            }
+        }
+    }
+
+    @Test
+    void testCompareToOverriddenMethodsAreEqual() {
+        // Arrange
+        final var accessor = Setter.builder() //
+                .methodName("setName") //
+                .propertyType(new SimpleType(String.class)) //
+                .propertyName("name") //
+                .visibility(Visibility.PUBLIC) //
+                .declaringClass(ClassWithHierarchy.class) //
+                .build();
+        final var overridden = accessor.toBuilder().declaringClass(TopLevelSuperClass.class).build();
+        final var overloaded = accessor.toBuilder().propertyType(new SimpleType(Object.class)).build();
+        // Act
+        final var sorted = new TreeSet<WriteAccessor>(List.of(overridden, overloaded, accessor));
+        // Assert
+        assertThat(accessor.compareTo(overridden)).isZero();
+        assertThat(sorted).containsExactly(overloaded, overridden);
+    }
+
+    @Test
+    void testCompareToKindAndFullTypeNameBeforeMethodName() {
+        // Arrange
+        final var longsSetter = Setter.builder() //
+                .methodName("setZ") //
+                .propertyType(new CollectionType(parameterize(List.class, Long.class), Long.class)) //
+                .propertyName("items") //
+                .visibility(Visibility.PUBLIC) //
+                .declaringClass(SimpleClass.class) //
+                .build();
+        final var stringsSetter = longsSetter.toBuilder() //
+                .methodName("setA") //
+                .propertyType(new CollectionType(parameterize(List.class, String.class), String.class)) //
+                .build();
+        final var longsGetter = Getter.builder() //
+                .methodName("getZ") //
+                .propertyType(new CollectionType(parameterize(List.class, Long.class), Long.class)) //
+                .propertyName("items") //
+                .visibility(Visibility.PUBLIC) //
+                .declaringClass(SimpleClass.class) //
+                .build();
+        // Act
+        final var sorted = new TreeSet<WriteAccessor>(List.of(stringsSetter, longsSetter, longsGetter));
+        // Assert
+        assertThat(sorted).containsExactly(longsGetter, longsSetter, stringsSetter);
+    }
+
+    @Test
+    @SneakyThrows
+    void testCompareToSameNamedClassesOfDifferentClassLoaders() {
+        // Arrange
+        final var location = SimpleClass.class.getProtectionDomain().getCodeSource().getLocation();
+        try (final var classLoader = new URLClassLoader("other", new URL[]{location}, null)) {
+            final var otherSimpleClass = classLoader.loadClass(SimpleClass.class.getName());
+            final var accessor = Setter.builder() //
+                    .methodName("setName") //
+                    .propertyType(new SimpleType(SimpleClass.class)) //
+                    .propertyName("name") //
+                    .visibility(Visibility.PUBLIC) //
+                    .declaringClass(SimpleClass.class) //
+                    .build();
+            final var otherDeclaringClass = accessor.toBuilder().declaringClass(otherSimpleClass).build();
+            final var otherPropertyType = accessor.toBuilder().propertyType(new SimpleType(otherSimpleClass)).build();
+            // Act
+            final var sorted = new TreeSet<WriteAccessor>(List.of(otherPropertyType, accessor));
+            // Assert
+            assertThat(accessor.compareTo(otherDeclaringClass)).isZero();
+            assertThat(Integer.signum(accessor.compareTo(otherPropertyType))) //
+                    .isNotZero() //
+                    .isEqualTo(-Integer.signum(otherPropertyType.compareTo(accessor)));
+            assertThat(sorted).containsExactlyInAnyOrder(accessor, otherPropertyType);
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void testCompareToSameNamedDeclaringClassesOfDifferentClassLoaders() {
+        // Arrange
+        final var location = SimpleClass.class.getProtectionDomain().getCodeSource().getLocation();
+        try (final var classLoader = new URLClassLoader("other", new URL[]{location}, null)) {
+            final var accessor = TestAccessor.builder() //
+                    .propertyType(new SimpleType(String.class)) //
+                    .propertyName("name") //
+                    .visibility(Visibility.PUBLIC) //
+                    .declaringClass(SimpleClass.class) //
+                    .build();
+            final var otherDeclaringClass = accessor.toBuilder().declaringClass(classLoader.loadClass(SimpleClass.class.getName())).build();
+            // Act
+            final var actual = accessor.compareTo(otherDeclaringClass);
+            // Assert
+            assertThat(actual).isEqualTo(SimpleClass.class.getClassLoader().getName().compareTo("other"));
+            assertThat(otherDeclaringClass.compareTo(accessor)).isEqualTo(-actual);
+        }
+    }
+
     @SuperBuilder(toBuilder = true)
     private static class TestAccessor extends AbstractWriteAccessor {
 
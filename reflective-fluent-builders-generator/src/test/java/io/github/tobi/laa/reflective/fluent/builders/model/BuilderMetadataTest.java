@@ -2,6 +2,7 @@ package io.github.tobi.laa.reflective.fluent.builders.model;
 
 import io.github.tobi.laa.reflective.fluent.builders.test.ClassGraphExtension;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.SimpleClass;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.SimpleClassNoSetPrefix;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -10,13 +11,18 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.SortedSet;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptySet;
 import static java.util.Collections.emptySortedSet;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 class BuilderMetadataTest {
 
@@ -75,4 +81,69 @@ class BuilderMetadataTest {
         // Assert
         assertThatThrownBy(compareTo).isExactlyInstanceOf(NullPointerException.class);
     }
+
+    @Test
+    void testCompareToIsTotalAndConsistentWithEquals() {
+        // Arrange
+        final List<BuilderMetadata> builders = new ArrayList<>();
+        for (final String packageName : List.of("io.example.pack", "io.example.other")) {
+            for (final String name : List.of("ItemBuilder", "SimpleClassBuilder")) {
+                for (final Class<?> type : List.of(SimpleClass.class, SimpleClassNoSetPrefix.class)) {
+                    builders.add(BuilderMetadata.builder() //
+                            .packageName(packageName) //
+                            .name(name) //
+                            .builtType(BuilderMetadata.BuiltType.builder() //
+                                    .type(classInfo.get(type.getName())) //
+                                    .location(Paths.get("foo")) //
+                                    .accessibleNonArgsConstructor(true) //
+                                    .build()) //
+                            .build());
+                }
+            }
+        }
+        // Act & Assert
+        for (final var a : builders) {
+            for (final var b : builders) {
+                assertThat(Integer.signum(a.compareTo(b))).isEqualTo(-Integer.signum(b.compareTo(a)));
+                assertThat(a.compareTo(b) == 0).isEqualTo(a.equals(b));
+            }
+        }
+        assertThat(builders.stream().sorted()) //
+                .extracting(BuilderMetadata::getPackageName, BuilderMetadata::getName) //
+                .containsExactly( //
+                        tuple("io.example.other", "ItemBuilder"), //
+                        tuple("io.example.other", "ItemBuilder"), //
+                        tuple("io.example.other", "SimpleClassBuilder"), //
+                        tuple("io.example.other", "SimpleClassBuilder"), //
+                        tuple("io.example.pack", "ItemBuilder"), //
+                        tuple("io.example.pack", "ItemBuilder"), //
+                        tuple("io.example.pack", "SimpleClassBuilder"), //
+                        tuple("io.example.pack", "SimpleClassBuilder"));
+    }
+
+    @Test
+    void testCompareToDiffersSolelyInDetails() {
+        // Arrange
+        final var builder = simpleClassBuilder("foo", true, Set.of());
+        final var withoutConstructor = simpleClassBuilder("foo", false, Set.of());
+        final var otherLocation = simpleClassBuilder("bar", true, Set.of());
+        final var withExceptions = simpleClassBuilder("foo", true, Set.of(IllegalStateException.class, ArithmeticException.class));
+        // Act
+        final var sorted = new TreeSet<>(List.of(withExceptions, otherLocation, builder, withoutConstructor));
+        // Assert
+        assertThat(sorted).containsExactly(withoutConstructor, otherLocation, builder, withExceptions);
+    }
+
+    private BuilderMetadata simpleClassBuilder(final String location, final boolean accessibleNonArgsConstructor, final Set<Class<? extends Throwable>> exceptionTypes) {
+        return BuilderMetadata.builder() //
+                .packageName("io.example.pack") //
+                .name("SimpleClassBuilder") //
+                .builtType(BuilderMetadata.BuiltType.builder() //
+                        .type(classInfo.get(SimpleClass.class.getName())) //
+                        .location(Paths.get(location)) //
+                        .accessibleNonArgsConstructor(accessibleNonArgsConstructor) //
+                        .build()) //
+                .exceptionTypes(exceptionTypes) //
+                .build();
+    }
 }
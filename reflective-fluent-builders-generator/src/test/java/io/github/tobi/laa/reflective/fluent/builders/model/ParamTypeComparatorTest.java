@@ -1,6 +1,7 @@
 package io.github.tobi.laa.reflective.fluent.builders.model;
 
 import org.apache.commons.lang3.reflect.TypeUtils;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -25,9 +26,34 @@ class ParamTypeComparatorTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    void testCompareIsConsistent() {
+        // Arrange
+        final List<PropertyType> types = List.of( //
+                new SimpleType(Long.class), //
+                new SimpleType(String.class), //
+                new SimpleType(Optional.class), //
+                new SimpleType(parameterize(Optional.class, Long.class)), //
+                new SimpleType(parameterize(Optional.class, String.class)), //
+                new ArrayType(String[].class, String.class), //
+                new CollectionType(parameterize(List.class, Long.class), Long.class));
+        // Act & Assert
+        for (final var a : types) {
+            assertThat(comparator.compare(a, a)).isZero();
+            for (final var b : types) {
+                assertThat(Integer.signum(comparator.compare(a, b))).isEqualTo(-Integer.signum(comparator.compare(b, a)));
+                for (final var c : types) {
+                    if (comparator.compare(a, b) <= 0 && comparator.compare(b, c) <= 0) {
+                        assertThat(comparator.compare(a, c)).isNotPositive();
+                    }
+                }
+            }
+        }
+    }
+
     static Stream<Arguments> testCompare() {
         return Stream.of( //
-                Arguments.of(null, null, -1), //
+                Arguments.of(null, null, 0), //
                 Arguments.of(null, new SimpleType(Long.class), -1), //
                 Arguments.of(new SimpleType(Long.class), null, 1), //
                 Arguments.of(new SimpleType(Long.class), new SimpleType(Long.class), 0), //
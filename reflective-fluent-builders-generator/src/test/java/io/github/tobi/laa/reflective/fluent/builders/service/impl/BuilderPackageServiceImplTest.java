@@ -1,12 +1,15 @@
 package io.github.tobi.laa.reflective.fluent.builders.service.impl;
 
+import io.github.classgraph.ClassInfo;
 import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
+import io.github.tobi.laa.reflective.fluent.builders.test.ClassGraphExtension;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.complex.ClassWithBuilderExisting;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.full.Person;
 import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.SimpleClass;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -25,6 +28,9 @@ import static org.mockito.Mockito.verifyNoInteractions;
 @ExtendWith(MockitoExtension.class)
 class BuilderPackageServiceImplTest {
 
+    @RegisterExtension
+    static ClassGraphExtension classInfo = new ClassGraphExtension();
+
     @InjectMocks
     private BuilderPackageServiceImpl service;
 
@@ -59,4 +65,26 @@ class BuilderPackageServiceImplTest {
                 Arguments.of(ClassWithBuilderExisting.class, PACKAGE_PLACEHOLDER, ClassWithBuilderExisting.class.getPackage().getName()), //
                 Arguments.of(Person.class, PACKAGE_PLACEHOLDER + ".builders", "io.github.tobi.laa.reflective.fluent.builders.test.models.full.builders"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testResolveBuilderPackageOfClassInfoNull() {
+        // Arrange
+        final ClassInfo clazz = null;
+        // Act
+        final ThrowingCallable resolveBuilderPackage = () -> service.resolveBuilderPackage(clazz);
+        // Assert
+        assertThatThrownBy(resolveBuilderPackage).isExactlyInstanceOf(NullPointerException.class);
+        verifyNoInteractions(properties);
+    }
+
+    @ParameterizedTest
+    @MethodSource("testResolveBuilderPackage")
+    void testResolveBuilderPackageOfClassInfo(final Class<?> clazz, final String builderPackage, final String expected) {
+        // Arrange
+        doReturn(builderPackage).when(properties).getBuilderPackage();
+        // Act
+        final String actual = service.resolveBuilderPackage(classInfo.get(clazz));
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+    }
+}
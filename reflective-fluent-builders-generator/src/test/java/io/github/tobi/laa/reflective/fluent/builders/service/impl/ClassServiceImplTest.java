@@ -1,19 +1,36 @@
 package io.github.tobi.laa.reflective.fluent.builders.service.impl;
 
+import io.github.classgraph.ClassInfo;
 import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
@@ -25,6 +42,9 @@ class ClassServiceImplTest {
     @Mock
     private BuildersProperties properties;
 
+    @TempDir
+    private Path tempDir;
+
     @BeforeEach
     void init() {
         classServiceImpl = new ClassServiceImpl(properties, ClassLoader::getSystemClassLoader);
@@ -43,4 +63,190 @@ class ClassServiceImplTest {
         // Assert
         assertThrows(URISyntaxException.class, getLocationAsPath);
     }
-}
\ No newline at end of file
+
+    @Test
+    @SneakyThrows
+    void testMayContain() {
+        // Arrange
+        final var jar = createJar("some.jar", null, "a/b/C.class", "d/E.class", "META-INF/versions/11/f/G.class", "H.class", "i/j/resource.txt");
+        // Act & Assert
+        assertThat(classServiceImpl.mayContain(jar.toString(), Set.of("a"), Set.of())).isTrue();
+        assertThat(classServiceImpl.mayContain(jar.toString(), Set.of("a.b"), Set.of())).isTrue();
+        assertThat(classServiceImpl.mayContain(jar.toString(), Set.of("f"), Set.of())).isTrue();
+        assertThat(classServiceImpl.mayContain(jar.toString(), Set.of(""), Set.of())).isTrue();
+        assertThat(classServiceImpl.mayContain(jar.toString(), Set.of(), Set.of("d.E"))).isTrue();
+        assertThat(classServiceImpl.mayContain(jar.toString(), Set.of(), Set.of("H"))).isTrue();
+        assertThat(classServiceImpl.mayContain(jar.toString(), Set.of("a.b.c"), Set.of())).isFalse();
+        assertThat(classServiceImpl.mayContain(jar.toString(), Set.of("i"), Set.of("x.Y"))).isFalse();
+        assertThat(classServiceImpl.mayContain(jar.toString(), Set.of(), Set.of())).isFalse();
+    }
+
+    @Test
+    @SneakyThrows
+    void testMayContainModifiedJar() {
+        // Arrange
+        final var jar = createJar("some.jar", null, "a/B.class");
+        final var mayContainBefore = classServiceImpl.mayContain(jar.toString(), Set.of("c"), Set.of());
+        // the size changes along with the content, so the modified jar is recognized even within the same millisecond
+        createJar("some.jar", null, "a/B.class", "c/D.class");
+        // Act
+        final var mayContainAfter = classServiceImpl.mayContain(jar.toString(), Set.of("c"), Set.of());
+        // Assert
+        assertThat(mayContainBefore).isFalse();
+        assertThat(mayContainAfter).isTrue();
+    }
+
+    @Test
+    @SneakyThrows
+    void testMayContainNoJar() {
+        // Arrange
+        final var directory = Files.createDirectory(tempDir.resolve("classes"));
+        final var notAJar = Files.writeString(tempDir.resolve("not-a.jar"), "Not a jar.");
+        final var jarWithClassPath = createJar("with-class-path.jar", "other.jar", "a/B.class");
+        // Act & Assert
+        assertThat(classServiceImpl.mayContain(directory.toString(), Set.of("x"), Set.of())).isTrue();
+        assertThat(classServiceImpl.mayContain(tempDir.resolve("does-not-exist.jar").toString(), Set.of("x"), Set.of())).isTrue();
+        assertThat(classServiceImpl.mayContain(notAJar.toString(), Set.of("x"), Set.of())).isTrue();
+        assertThat(classServiceImpl.mayContain(jarWithClassPath.toString(), Set.of("x"), Set.of())).isTrue();
+        assertThat(classServiceImpl.mayContain(jarWithClassPath + "!/BOOT-INF/lib/nested.jar", Set.of("x"), Set.of())).isTrue();
+    }
+
+    @Test
+    @SneakyThrows
+    void testCollectFullClassHierarchyAcrossSkippedJars() {
+        // Arrange
+        final var classes = compile( //
+                "package a; public class Person extends b.Mid {}", //
+                "package b; public class Mid extends c.Root {}", //
+                "package c; public class Root {}");
+        final var midJar = createJarOfClasses("mid.jar", classes, "b/Mid.class");
+        final var rootJar = createJarOfClasses("root.jar", classes, "c/Root.class");
+        Files.delete(classes.resolve("b").resolve("Mid.class"));
+        Files.delete(classes.resolve("c").resolve("Root.class"));
+        final var hierarchyCollection = Mockito.mock(BuildersProperties.HierarchyCollection.class);
+        when(properties.getHierarchyCollection()).thenReturn(hierarchyCollection);
+        try (final var classLoader = new URLClassLoader(new URL[]{ //
+                classes.toUri().toURL(), midJar.toUri().toURL(), rootJar.toUri().toURL()}, null)) {
+            classServiceImpl = new ClassServiceImpl(properties, () -> classLoader);
+            // Act
+            final var sharedScanHierarchy = classServiceImpl.collectClassesRecursively("a").stream() //
+                    .map(classServiceImpl::collectFullClassHierarchy) //
+                    .toList();
+            classServiceImpl.scanClasspath(Set.of("a"), Set.of());
+            final var hierarchy = classServiceImpl.collectFullClassHierarchy(classServiceImpl.loadClass("a.Person").orElseThrow());
+            classServiceImpl.releaseScan();
+            // Assert
+            assertThat(sharedScanHierarchy).singleElement().satisfies(h -> assertThat(h) //
+                    .extracting(ClassInfo::getName) //
+                    .startsWith("a.Person", "b.Mid", "c.Root"));
+            assertThat(hierarchy) //
+                    .extracting(ClassInfo::getName) //
+                    .startsWith("a.Person", "b.Mid", "c.Root");
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void testScanClasspathPerClassLoader() {
+        // Arrange
+        final var classes = compile("package a; public class Person {}");
+        try (final var classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, null); //
+             final var otherClassLoader = new URLClassLoader(new URL[0], null)) {
+            final var currentClassLoader = new AtomicReference<ClassLoader>(classLoader);
+            classServiceImpl = new ClassServiceImpl(properties, currentClassLoader::get);
+            // Act
+            classServiceImpl.scanClasspath(Set.of("a"), Set.of());
+            final var person = classServiceImpl.loadClass("a.Person");
+            currentClassLoader.set(otherClassLoader);
+            classServiceImpl.scanClasspath(Set.of("b"), Set.of());
+            final var personOfOtherClassLoader = classServiceImpl.loadClass("a.Person");
+            classServiceImpl.releaseScan();
+            currentClassLoader.set(classLoader);
+            final var personAfterOtherRelease = classServiceImpl.loadClass("a.Person");
+            classServiceImpl.releaseScan();
+            // Assert
+            assertThat(person).isPresent();
+            assertThat(personOfOtherClassLoader).isEmpty();
+            assertThat(personAfterOtherRelease).containsSame(person.get());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void testReleaseScanClassLoaderCollectable() {
+        // Arrange
+        final var classes = compile( //
+                "package a; public class Person extends b.Mid implements c.Named {}", //
+                "package b; public class Mid implements c.Named {}", //
+                "package c; public interface Named {}");
+        final var hierarchyCollection = Mockito.mock(BuildersProperties.HierarchyCollection.class);
+        when(properties.getHierarchyCollection()).thenReturn(hierarchyCollection);
+        // the service outlives the execution just like the singleton does
+        final var currentClassLoader = new AtomicReference<ClassLoader>();
+        classServiceImpl = new ClassServiceImpl(properties, currentClassLoader::get);
+        // Act
+        final var classLoader = executeAndRelease(classes, currentClassLoader);
+        // Assert
+        for (int i = 0; i < 50 && classLoader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        assertThat(classLoader.get()).isNull();
+    }
+
+    // everything referencing the class loader has to go out of scope before attempting to collect it
+    private WeakReference<ClassLoader> executeAndRelease(final Path classes, final AtomicReference<ClassLoader> currentClassLoader) throws IOException {
+        final var classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, null);
+        currentClassLoader.set(classLoader);
+        classServiceImpl.scanClasspath(Set.of("a", "b", "c"), Set.of());
+        final var hierarchy = classServiceImpl.collectFullClassHierarchy(classServiceImpl.loadClass("a.Person").orElseThrow());
+        assertThat(hierarchy).extracting(ClassInfo::getName).startsWith("a.Person", "c.Named", "b.Mid");
+        classServiceImpl.releaseScan();
+        classLoader.close();
+        currentClassLoader.set(null);
+        return new WeakReference<>(classLoader);
+    }
+
+    private Path compile(final String... sources) throws IOException {
+        final var sourceDir = Files.createDirectory(tempDir.resolve("sources"));
+        final var classes = Files.createDirectory(tempDir.resolve("classes"));
+        final List<String> arguments = new ArrayList<>(List.of("-d", classes.toString()));
+        for (final String source : sources) {
+            final var className = source.replaceAll("^package (\\w+); public (?:class|interface) (\\w+).*$", "$1/$2");
+            final var sourceFile = sourceDir.resolve(className + ".java");
+            Files.createDirectories(sourceFile.getParent());
+            Files.writeString(sourceFile, source);
+            arguments.add(sourceFile.toString());
+        }
+        assertThat(ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(String[]::new))).isZero();
+        return classes;
+    }
+
+    private Path createJarOfClasses(final String name, final Path classes, final String... classFiles) throws IOException {
+        final var jar = tempDir.resolve(name);
+        try (final var out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (final String classFile : classFiles) {
+                out.putNextEntry(new JarEntry(classFile));
+                out.write(Files.readAllBytes(classes.resolve(classFile)));
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private Path createJar(final String name, final String classPath, final String... entries) throws IOException {
+        final var manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (classPath != null) {
+            manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, classPath);
+        }
+        final var jar = tempDir.resolve(name);
+        try (final var out = new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+            for (final String entry : entries) {
+                out.putNextEntry(new JarEntry(entry));
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.tobi.laa.reflective.fluent.builders.service.impl;
+
+import com.google.common.collect.ImmutableSortedSet;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import io.github.tobi.laa.reflective.fluent.builders.model.Setter;
+import io.github.tobi.laa.reflective.fluent.builders.model.SimpleType;
+import io.github.tobi.laa.reflective.fluent.builders.model.Visibility;
+import io.github.tobi.laa.reflective.fluent.builders.model.WriteAccessor;
+import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class MetadataCacheServiceImplTest {
+
+    private static final String PERSON = "package a; public class Person { public void setAddress(b.Address address) {} }";
+
+    private static final String ADDRESS = "package b; public class Address {}";
+
+    private static final String CHANGED_ADDRESS = "package b; public class Address { public Address(String street) {} }";
+
+    private MetadataCacheServiceImpl metadataCacheServiceImpl;
+
+    @Mock
+    private BuildersProperties properties;
+
+    @TempDir
+    private Path tempDir;
+
+    private final AtomicReference<ClassLoader> currentClassLoader = new AtomicReference<>();
+
+    @BeforeEach
+    void init() {
+        metadataCacheServiceImpl = new MetadataCacheServiceImpl(properties, currentClassLoader::get, new TypeServiceImpl(currentClassLoader::get));
+    }
+
+    @Test
+    @SneakyThrows
+    void testLookUpWriteAccessorsUnchanged() {
+        // Arrange
+        final var classes = compile("classes", PERSON, ADDRESS);
+        final var cacheFile = tempDir.resolve("cache");
+        storeSetAddress(classes, cacheFile);
+        // Act
+        final var writeAccessors = lookUpPerson(compile("unchanged", PERSON, ADDRESS), cacheFile);
+        // Assert
+        assertThat(writeAccessors).isPresent();
+        assertThat(writeAccessors.get()).singleElement().extracting(WriteAccessor::getPropertyName).isEqualTo("address");
+    }
+
+    @Test
+    @SneakyThrows
+    void testLookUpWriteAccessorsPropertyTypeChanged() {
+        // Arrange
+        final var classes = compile("classes", PERSON, ADDRESS);
+        final var cacheFile = tempDir.resolve("cache");
+        storeSetAddress(classes, cacheFile);
+        // Act
+        final var writeAccessors = lookUpPerson(compile("changed", PERSON, CHANGED_ADDRESS), cacheFile);
+        // Assert
+        assertThat(writeAccessors).isEmpty();
+    }
+
+    private void storeSetAddress(final Path classes, final Path cacheFile) throws IOException {
+        try (final var classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, null);
+             final var scanResult = scan(classLoader)) {
+            currentClassLoader.set(classLoader);
+            final var person = scanResult.getClassInfo("a.Person");
+            final var setter = Setter.builder() //
+                    .methodName("setAddress") //
+                    .propertyName("address") //
+                    .propertyType(new SimpleType(classLoader.loadClass("b.Address"))) //
+                    .visibility(Visibility.PUBLIC) //
+                    .declaringClass(person.loadClass()) //
+                    .build();
+            metadataCacheServiceImpl.open(cacheFile, "key");
+            metadataCacheServiceImpl.storeWriteAccessors(person, ImmutableSortedSet.of(setter));
+            metadataCacheServiceImpl.close();
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Optional<SortedSet<WriteAccessor>> lookUpPerson(final Path classes, final Path cacheFile) throws IOException {
+        try (final var classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, null);
+             final var scanResult = scan(classLoader)) {
+            currentClassLoader.set(classLoader);
+            metadataCacheServiceImpl.open(cacheFile, "key");
+            try {
+                return metadataCacheServiceImpl.lookUpWriteAccessors(scanResult.getClassInfo("a.Person"));
+            } finally {
+                metadataCacheServiceImpl.close();
+            }
+        }
+    }
+
+    private static ScanResult scan(final ClassLoader classLoader) {
+        return new ClassGraph() //
+                .overrideClassLoaders(classLoader) //
+                .ignoreParentClassLoaders() //
+                .acceptPackages("a", "b") //
+                .enableClassInfo() //
+                .scan();
+    }
+
+    private Path compile(final String directory, final String... sources) throws IOException {
+        final var sourceDir = Files.createDirectories(tempDir.resolve(directory + "-sources"));
+        final var classes = Files.createDirectory(tempDir.resolve(directory));
+        final List<String> arguments = new ArrayList<>(List.of("-d", classes.toString()));
+        for (final String source : sources) {
+            final var className = source.replaceAll("^package (\\w+); public class (\\w+).*$", "$1/$2");
+            final var sourceFile = sourceDir.resolve(className + ".java");
+            Files.createDirectories(sourceFile.getParent());
+            Files.writeString(sourceFile, source);
+            arguments.add(sourceFile.toString());
+        }
+        assertThat(ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(String[]::new))).isZero();
+        return classes;
+    }
+}
@@ -9,10 +9,13 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static org.apache.commons.lang3.reflect.TypeUtils.*;
@@ -22,7 +25,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class TypeServiceImplTest {
 
-    private final TypeServiceImpl service = new TypeServiceImpl();
+    private final AtomicReference<ClassLoader> currentClassLoader = new AtomicReference<>(ClassLoader.getSystemClassLoader());
+
+    private final TypeServiceImpl service = new TypeServiceImpl(currentClassLoader::get);
 
     @Test
     void testExplodeTypeNull() {
@@ -126,6 +131,51 @@ class TypeServiceImplTest {
                         Set.of(List.class, Map.class, Long.class, Set.class, Deque.class, Number.class)));
     }
 
+    @Test
+    void testExplodeTypeEqualTypesYieldSameResult() {
+        // Arrange
+        final Type type = parameterize(Map.class, Long.class, parameterize(List.class, String.class));
+        final Type equalType = parameterize(Map.class, Long.class, parameterize(List.class, String.class));
+        // Act
+        final var actual = service.explodeType(type);
+        final var actualForEqualType = service.explodeType(equalType);
+        // Assert
+        assertThat(actual).isEqualTo(Set.of(Map.class, Long.class, List.class, String.class));
+        assertThat(actualForEqualType).isSameAs(actual);
+    }
+
+    @Test
+    void testExplodeTypeAfterReleaseOfExplodedTypes() {
+        // Arrange
+        final Type type = parameterize(Map.class, Long.class, parameterize(List.class, String.class));
+        final var explodedBeforeRelease = service.explodeType(type);
+        // Act
+        service.releaseExplodedTypes();
+        final var actual = service.explodeType(type);
+        // Assert
+        assertThat(actual) //
+                .isEqualTo(Set.of(Map.class, Long.class, List.class, String.class)) //
+                .isNotSameAs(explodedBeforeRelease);
+    }
+
+    @Test
+    @SneakyThrows
+    void testReleaseExplodedTypesOfOtherClassLoader() {
+        // Arrange
+        final Type type = parameterize(Map.class, Long.class, parameterize(List.class, String.class));
+        final var explodedBeforeRelease = service.explodeType(type);
+        try (final var otherClassLoader = new URLClassLoader(new URL[0])) {
+            currentClassLoader.set(otherClassLoader);
+            service.explodeType(type);
+            // Act
+            service.releaseExplodedTypes();
+        }
+        currentClassLoader.set(ClassLoader.getSystemClassLoader());
+        final var actual = service.explodeType(type);
+        // Assert
+        assertThat(actual).isSameAs(explodedBeforeRelease);
+    }
+
     @SuppressWarnings("unused")
     private static class TypeVariables<R, S extends Number, T extends String, U extends Comparable<U>, V extends U> {
 
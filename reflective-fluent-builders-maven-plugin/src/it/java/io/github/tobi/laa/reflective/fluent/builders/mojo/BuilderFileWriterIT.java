@@ -0,0 +1,441 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
+import io.github.tobi.laa.reflective.fluent.builders.generator.api.JavaFileGenerator;
+import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata;
+import io.github.tobi.laa.reflective.fluent.builders.test.ClassGraphExtension;
+import io.github.tobi.laa.reflective.fluent.builders.test.InjectMock;
+import io.github.tobi.laa.reflective.fluent.builders.test.IntegrationTest;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.SimpleClass;
+import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.hierarchy.Child;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.SneakyThrows;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.project.MavenProject;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.groups.Tuple;
+import org.codehaus.plexus.build.BuildContext;
+import org.codehaus.plexus.logging.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@IntegrationTest
+@SuppressWarnings("unused")
+class BuilderFileWriterIT {
+
+    private static final FileTime LAST_MODIFIED = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+
+    @RegisterExtension
+    static ClassGraphExtension classInfo = new ClassGraphExtension();
+
+    @Inject
+    private BuilderFileWriter writer;
+
+    @InjectMock
+    private JavaFileGenerator javaFileGenerator;
+
+    @InjectMock
+    private BuildContext buildContext;
+
+    @InjectMock
+    private MavenProject mavenProject;
+
+    @InjectMock
+    private MojoExecution mojoExecution;
+
+    @InjectMock
+    private Logger logger;
+
+    private ExecutorService executor;
+
+    private GenerationReport report;
+
+    @TempDir
+    private Path givenTarget;
+    private List<BuilderMetadata> givenMetadata;
+
+    private Set<Path> actualFiles;
+
+    private ThrowingCallable generateAndWrite;
+
+    private List<RecordedEvent> actualEvents;
+
+    private Optional<HashCode> actualHash;
+
+    @BeforeEach
+    void createExecutor() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @BeforeEach
+    void resetTestData() {
+        this.givenMetadata = null;
+        this.actualFiles = null;
+        this.generateAndWrite = null;
+        this.actualEvents = null;
+        this.actualHash = null;
+    }
+
+    @BeforeEach
+    void injectLogger() {
+        writer.enableLogging(logger);
+        report = new GenerationReport();
+        report.enableLogging(logger);
+    }
+
+    @BeforeEach
+    void mockJavaFileGenerator() {
+        doAnswer(invocation -> {
+            final BuilderMetadata metadata = invocation.getArgument(0);
+            return JavaFile.builder(metadata.getPackageName(), TypeSpec.classBuilder(metadata.getName()).build()).build();
+        }).when(javaFileGenerator).generateJavaFile(any());
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(NullArgsProvider.class)
+    void givenNull_generatingAndWriting_throwsNullPointerException(final Path target, final List<BuilderMetadata> metadata) {
+        givenTarget(target);
+        givenMetadata(metadata);
+        whenCallingGenerateAndWrite();
+        thenNullPointerExceptionIsThrown();
+    }
+
+    @Test
+    void givenMetadataForSimpleClassAndChild_generatingAndWriting_writesBothBuilders() {
+        givenMetadataFor(SimpleClass.class, Child.class);
+        whenCallingGenerateAndWrite();
+        thenBuildersAreWritten(SimpleClass.class, Child.class);
+    }
+
+    @Test
+    void givenRecordingOfFlightRecorderEvents_generatingAndWriting_emitsRenderAndWriteEvents() {
+        givenMetadataFor(SimpleClass.class, Child.class);
+        whenCallingGenerateAndWriteWhileRecording(RenderEvent.NAME, WriteEvent.NAME);
+        thenEventsAreRecorded(RenderEvent.NAME, SimpleClass.class, Child.class);
+        thenEventsAreRecorded(WriteEvent.NAME, SimpleClass.class, Child.class);
+    }
+
+    @Test
+    void givenMoreMetadataThanFitsIntoQueue_generatingAndWriting_writesAllBuilders() {
+        givenMetadata(IntStream.range(0, 500)
+                .mapToObj(i -> metadata(SimpleClass.class, SimpleClass.class.getPackageName() + ".p" + i % 7, "Builder" + i))
+                .toList());
+        whenCallingGenerateAndWrite();
+        thenAllBuildersAreWritten();
+    }
+
+    @Test
+    void givenBuilderFileWithSameContentExists_generatingAndWriting_doesNotWriteBuilderFile() {
+        givenMetadataFor(SimpleClass.class, Child.class);
+        givenBuilderFileExists(SimpleClass.class, expectedContent(SimpleClass.class));
+        whenCallingGenerateAndWrite();
+        thenOnlyBuildersAreWritten(Child.class);
+        thenBuilderFileIsUntouched(SimpleClass.class);
+    }
+
+    @Test
+    void givenBuilderFileWithDifferentContentExists_generatingAndWriting_overwritesBuilderFile() {
+        givenMetadataFor(SimpleClass.class, Child.class);
+        givenBuilderFileExists(SimpleClass.class, expectedContent(SimpleClass.class) + "// outdated");
+        whenCallingGenerateAndWrite();
+        thenBuildersAreWritten(SimpleClass.class, Child.class);
+    }
+
+    @Test
+    void givenBuildersWrittenByPreviousExecution_generatingAndWriting_doesNotWriteBuilderFiles() {
+        givenMetadataFor(SimpleClass.class, Child.class);
+        givenBuildersWrittenByPreviousExecution();
+        whenCallingGenerateAndWrite();
+        thenOnlyBuildersAreWritten();
+    }
+
+    @Test
+    void givenBuilderFileModifiedAfterPreviousExecution_generatingAndWriting_overwritesBuilderFile() {
+        givenMetadataFor(SimpleClass.class, Child.class);
+        givenBuildersWrittenByPreviousExecution();
+        givenBuilderFileExists(SimpleClass.class, expectedContent(SimpleClass.class).replace("class", "CLASS"));
+        whenCallingGenerateAndWrite();
+        thenOnlyBuildersAreWritten(SimpleClass.class);
+        thenBuilderFileHasExpectedContent(SimpleClass.class);
+    }
+
+    @Test
+    void givenBuilderFileExists_hashingBuilderFile_returnsHashOfContent() {
+        givenBuilderFileExists(SimpleClass.class, expectedContent(SimpleClass.class));
+        whenHashingBuilderFile(SimpleClass.class);
+        thenHashIs(Hashing.sha256().hashString(expectedContent(SimpleClass.class), UTF_8));
+    }
+
+    @Test
+    void givenBuilderFileDoesNotExist_hashingBuilderFile_returnsEmpty() {
+        whenHashingBuilderFile(SimpleClass.class);
+        thenHashIsEmpty();
+    }
+
+    @Test
+    void givenGeneratorThrowsExceptionForSimpleClass_generatingAndWriting_writesChildBuilderAndThrowsMojoFailureException() {
+        givenMetadataFor(SimpleClass.class, Child.class);
+        givenGeneratorThrowsExceptionFor(SimpleClass.class);
+        whenCallingGenerateAndWrite();
+        thenMojoFailureExceptionIsThrown("Could not generate builder for " + SimpleClass.class.getName() + '.', IllegalStateException.class);
+        thenBuilderFileExists(Child.class);
+    }
+
+    @Test
+    void givenBuilderFileIsDirectory_generatingAndWriting_writesChildBuilderAndThrowsMojoFailureException() {
+        givenMetadataFor(SimpleClass.class, Child.class);
+        givenBuilderFileIsDirectory(SimpleClass.class);
+        whenCallingGenerateAndWrite();
+        thenMojoFailureExceptionIsThrown("Could not create file for builder for " + SimpleClass.class.getName() + '.', IOException.class);
+        thenBuilderFileExists(Child.class);
+    }
+
+    @Test
+    void givenRenderingIsInterrupted_generatingAndWriting_writesChildBuilderAndThrowsMojoFailureException() {
+        givenMetadataFor(SimpleClass.class, Child.class);
+        givenRenderingIsInterruptedFor(SimpleClass.class);
+        whenCallingGenerateAndWrite();
+        thenMojoFailureExceptionIsThrown("Could not generate builder for " + SimpleClass.class.getName() + '.', InterruptedException.class);
+        thenBuilderFileExists(Child.class);
+    }
+
+    @Test
+    void givenTwoBuilderFilesAreDirectories_generatingAndWriting_throwsCombinedMojoFailureException() {
+        givenMetadataFor(SimpleClass.class, Child.class);
+        givenBuilderFileIsDirectory(SimpleClass.class);
+        givenBuilderFileIsDirectory(Child.class);
+        whenCallingGenerateAndWrite();
+        thenCombinedMojoFailureExceptionIsThrown();
+    }
+
+    private void givenTarget(final Path target) {
+        this.givenTarget = target;
+    }
+
+    private void givenMetadata(final List<BuilderMetadata> metadata) {
+        this.givenMetadata = metadata;
+    }
+
+    private void givenMetadataFor(final Class<?>... classes) {
+        givenMetadata(Stream.of(classes)
+                .map(clazz -> metadata(clazz, clazz.getPackageName(), clazz.getSimpleName() + "Builder"))
+                .toList());
+    }
+
+    private BuilderMetadata metadata(final Class<?> clazz, final String packageName, final String name) {
+        return BuilderMetadata.builder()
+                .packageName(packageName)
+                .name(name)
+                .builtType(BuilderMetadata.BuiltType.builder()
+                        .type(classInfo.get(clazz))
+                        .accessibleNonArgsConstructor(true)
+                        .build())
+                .build();
+    }
+
+    private void givenGeneratorThrowsExceptionFor(final Class<?> clazz) {
+        doThrow(IllegalStateException.class)
+                .when(javaFileGenerator)
+                .generateJavaFile(givenMetadata.stream()
+                        .filter(m -> m.getBuiltType().getType().getName().equals(clazz.getName()))
+                        .findFirst()
+                        .orElseThrow());
+    }
+
+    private void givenRenderingIsInterruptedFor(final Class<?> clazz) {
+        final var metadata = givenMetadata.stream()
+                .filter(m -> m.getBuiltType().getType().getName().equals(clazz.getName()))
+                .findFirst()
+                .orElseThrow();
+        doAnswer(invocation -> {
+            // interrupted after rendering, i.e. while handing over the result
+            Thread.currentThread().interrupt();
+            return JavaFile.builder(metadata.getPackageName(), TypeSpec.classBuilder(metadata.getName()).build()).build();
+        }).when(javaFileGenerator).generateJavaFile(metadata);
+    }
+
+    @SneakyThrows
+    private void givenBuilderFileExists(final Class<?> clazz, final String content) {
+        final var builderFile = builderFile(clazz);
+        Files.createDirectories(builderFile.getParent());
+        Files.writeString(builderFile, content);
+        Files.setLastModifiedTime(builderFile, LAST_MODIFIED);
+    }
+
+    @SneakyThrows
+    private void givenBuildersWrittenByPreviousExecution() {
+        writer.generateAndWriteBuilders(givenTarget, givenMetadata, executor, report);
+    }
+
+    @SneakyThrows
+    private void givenBuilderFileIsDirectory(final Class<?> clazz) {
+        Files.createDirectories(builderFile(clazz));
+    }
+
+    private void whenCallingGenerateAndWrite() {
+        this.generateAndWrite = () -> actualFiles = writer.generateAndWriteBuilders(givenTarget, givenMetadata, executor, report);
+    }
+
+    private void whenHashingBuilderFile(final Class<?> clazz) {
+        actualHash = writer.hashBuilderFile(builderFile(clazz));
+    }
+
+    @SneakyThrows
+    private void whenCallingGenerateAndWriteWhileRecording(final String... eventNames) {
+        whenCallingGenerateAndWrite();
+        final var recordingFile = givenTarget.resolve("recording.jfr");
+        try (final var recording = new Recording()) {
+            Stream.of(eventNames).forEach(recording::enable);
+            recording.start();
+            generateAndWrite.call();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        actualEvents = RecordingFile.readAllEvents(recordingFile);
+    }
+
+    private void thenHashIs(final HashCode expected) {
+        assertThat(actualHash).contains(expected);
+    }
+
+    private void thenHashIsEmpty() {
+        assertThat(actualHash).isEmpty();
+    }
+
+    private void thenEventsAreRecorded(final String eventName, final Class<?>... classes) {
+        final var expectedEvents = Stream.of(classes) //
+                .map(clazz -> tuple(clazz.getName(), (long) expectedContent(clazz).getBytes(UTF_8).length)) //
+                .toArray(Tuple[]::new);
+        assertThat(actualEvents) //
+                .filteredOn(e -> e.getEventType().getName().equals(eventName)) //
+                .extracting(e -> e.getString("className"), e -> e.getLong("size")) //
+                .containsExactlyInAnyOrder(expectedEvents);
+    }
+
+    private void thenNullPointerExceptionIsThrown() {
+        assertThatThrownBy(generateAndWrite).isInstanceOf(NullPointerException.class);
+    }
+
+    @SneakyThrows
+    private void thenBuildersAreWritten(final Class<?>... classes) {
+        generateAndWrite.call();
+        final var expectedFiles = Stream.of(classes).map(this::builderFile).collect(Collectors.toSet());
+        assertThat(actualFiles).isEqualTo(expectedFiles);
+        for (final var clazz : classes) {
+            assertThat(builderFile(clazz)).hasContent(expectedContent(clazz));
+            verify(logger).info("Generate builder for class " + clazz.getName());
+        }
+    }
+
+    @SneakyThrows
+    private void thenOnlyBuildersAreWritten(final Class<?>... classes) {
+        generateAndWrite.call();
+        assertThat(actualFiles).isEqualTo(Stream.of(classes).map(this::builderFile).collect(Collectors.toSet()));
+    }
+
+    @SneakyThrows
+    private void thenBuilderFileIsUntouched(final Class<?> clazz) {
+        assertThat(builderFile(clazz)).hasContent(expectedContent(clazz));
+        assertThat(Files.getLastModifiedTime(builderFile(clazz))).isEqualTo(LAST_MODIFIED);
+        verify(logger).debug("Builder file " + builderFile(clazz) + " is unchanged and will not be written.");
+    }
+
+    private void thenBuilderFileHasExpectedContent(final Class<?> clazz) {
+        assertThat(builderFile(clazz)).hasContent(expectedContent(clazz));
+    }
+
+    private String expectedContent(final Class<?> clazz) {
+        return JavaFile.builder(clazz.getPackageName(), TypeSpec.classBuilder(clazz.getSimpleName() + "Builder").build()) //
+                .build() //
+                .toString();
+    }
+
+    @SneakyThrows
+    private void thenAllBuildersAreWritten() {
+        generateAndWrite.call();
+        assertThat(actualFiles).hasSize(givenMetadata.size()).allSatisfy(file -> assertThat(file).isRegularFile());
+    }
+
+    private void thenMojoFailureExceptionIsThrown(final String message, final Class<? extends Throwable> cause) {
+        assertThatThrownBy(generateAndWrite)
+                .isInstanceOf(MojoFailureException.class)
+                .hasMessage(message)
+                .hasCauseInstanceOf(cause);
+    }
+
+    private void thenCombinedMojoFailureExceptionIsThrown() {
+        assertThatThrownBy(generateAndWrite)
+                .isInstanceOf(MojoFailureException.class)
+                .hasMessageStartingWith("Could not create files for 2 builders.")
+                .hasMessageContaining("Could not create file for builder for " + SimpleClass.class.getName() + '.')
+                .hasMessageContaining("Could not create file for builder for " + Child.class.getName() + '.')
+                .satisfies(e -> assertThat(e.getSuppressed()).hasSize(2));
+    }
+
+    private void thenBuilderFileExists(final Class<?> clazz) {
+        assertThat(builderFile(clazz)).isRegularFile();
+    }
+
+    private Path builderFile(final Class<?> clazz) {
+        Path file = givenTarget;
+        for (final String subdir : clazz.getPackageName().split("\\.")) {
+            file = file.resolve(subdir);
+        }
+        return file.resolve(clazz.getSimpleName() + "Builder.java");
+    }
+
+    private static class NullArgsProvider implements ArgumentsProvider {
+
+        @Override
+        public Stream<Arguments> provideArguments(final ExtensionContext context) {
+            return Stream.of(
+                    Arguments.of(null, null),
+                    Arguments.of(null, List.of()),
+                    Arguments.of(Paths.get(""), null));
+        }
+    }
+}
@@ -154,6 +154,10 @@ class GenerateBuildersMojoIT {
                             "Generate builder for class " + Child.class.getName(), //
                             "Generate builder for class " + SimpleClass.class.getName(), //
                             "Generate builder for class " + Parent.class.getName());
+            assertThat(result) //
+                    .out() //
+                    .info() //
+                    .anySatisfy(s -> Assertions.assertThat(s).startsWith("Found 7 classes, generated 3 builders and wrote 3 builder files in "));
             final var reflectiveFluentBuildersTestModels = projectResultHelper.resolveMavenArtifact(result.getMavenProjectResult(), //
                     "io.github.tobi-laa", //
                     "reflective-fluent-builders-test", //
@@ -179,7 +183,10 @@ class GenerateBuildersMojoIT {
                                     "excludes=null, " +
                                     "target=" + targetDirectory + ", " +
                                     "addCompileSourceRoot=true, " +
-                                    "deleteOrphanedBuilders=true)", //
+                                    "deleteOrphanedBuilders=true, " +
+                                    "parallelism=null, " +
+                                    "chunkSize=null, " +
+                                    "metadataEngine=REFLECTION)", //
                             "Attempt to add " + outputDirectory + " to ClassLoader.", //
                             "Attempt to add " + reflectiveFluentBuildersTestModels + " to ClassLoader.", //
                             "Attempt to add " + jakartaXmlBindApi + " to ClassLoader.", //
@@ -195,7 +202,17 @@ class GenerateBuildersMojoIT {
                             "- " + SimpleClassNoDefaultConstructor.class.getName(), //
                             "- " + SimpleClassNoSetPrefix.class.getName(), //
                             "The following classes have been configured to be excluded:", //
-                            "Add " + targetDirectory + " as source folder.");
+                            "Add " + targetDirectory + " as source folder.", //
+                            "The slowest classes were:");
+            Assertions.assertThat(result.getMavenProjectResult().getTargetProjectDirectory()
+                            .resolve("target")
+                            .resolve("reflective-fluent-builders")
+                            .resolve("default-report.json"))
+                    .content()
+                    .contains( //
+                            "\"phaseMillis\": {\"scan\": ", //
+                            "\"counts\": {\"classesFound\": 7, \"classesToBuild\": 5, \"nonEmptyBuilders\": 3, \"buildersGenerated\": 3, \"buildersWritten\": 3}", //
+                            "\"className\": \"" + SimpleClass.class.getName() + "\"");
             assertThat(result).out().warn().isEmpty();
         }
     }
@@ -242,6 +259,36 @@ class GenerateBuildersMojoIT {
             assertThat(result).out().warn().isEmpty();
         }
 
+        @MavenTest
+        void packageComplexBytecodeEngine(final MavenExecutionResult result) {
+            assertThat(result) //
+                    .isSuccessful() //
+                    .project() //
+                    .hasTarget() //
+                    .has(expectedBuilders(Complex.class.getPackage(), false));
+            assertThat(result).out().warn().isEmpty();
+        }
+
+        @MavenTest
+        void packageComplexSequential(final MavenExecutionResult result) {
+            assertThat(result) //
+                    .isSuccessful() //
+                    .project() //
+                    .hasTarget() //
+                    .has(expectedBuilders(Complex.class.getPackage(), false));
+            assertThat(result).out().warn().isEmpty();
+        }
+
+        @MavenTest
+        void packageComplexChunkSizeOne(final MavenExecutionResult result) {
+            assertThat(result) //
+                    .isSuccessful() //
+                    .project() //
+                    .hasTarget() //
+                    .has(expectedBuilders(Complex.class.getPackage(), false));
+            assertThat(result).out().warn().isEmpty();
+        }
+
         @MavenTest
         void packageSimpleCustomExcludes(final MavenExecutionResult result) {
             assertThat(result) //
@@ -374,6 +421,28 @@ class GenerateBuildersMojoIT {
                             "The adder pattern must contain at least one group.", //
                             "-> [Help 1]");
         }
+
+        @MavenTest
+        void invalidParallelism(final MavenExecutionResult result) {
+            assertThat(result) //
+                    .isFailure() //
+                    .out() //
+                    .error() //
+                    .contains( //
+                            "The parallelism must be a positive number.", //
+                            "-> [Help 1]");
+        }
+
+        @MavenTest
+        void invalidChunkSize(final MavenExecutionResult result) {
+            assertThat(result) //
+                    .isFailure() //
+                    .out() //
+                    .error() //
+                    .contains( //
+                            "The chunk size must be a positive number.", //
+                            "-> [Help 1]");
+        }
     }
 
     @Nested
@@ -507,6 +576,77 @@ class GenerateBuildersMojoIT {
                             "Builder for class " + Parent.class.getName() + " already exists and is up to date.");
             assertThat(result).out().warn().isEmpty();
         }
+
+        @MavenTest
+        @MavenGoal("generate-sources")
+        @MavenGoal("package")
+        void packageComplexWithMetadataCache(final MavenExecutionResult result) {
+            assertThat(result) //
+                    .isSuccessful() //
+                    .project() //
+                    .hasTarget() //
+                    .has(expectedBuilders(Complex.class.getPackage(), false));
+            Assertions.assertThat(result.getMavenProjectResult().getTargetProjectDirectory()
+                            .resolve("target")
+                            .resolve("reflective-fluent-builders")
+                            .resolve("default-metadata.cache"))
+                    .isNotEmptyFile();
+            assertThat(result).out().warn().isEmpty();
+        }
+
+        @MavenTest
+        // copying a resource to the output directory changes the classpath, but none of the built types
+        @MavenGoal("process-resources")
+        @MavenGoal("${project.groupId}:${project.artifactId}:${project.version}:generate-builders@default")
+        void packageSimpleCommandLineBuildUpToDate(final MavenExecutionResult result) {
+            assertThat(result) //
+                    .isSuccessful() //
+                    .project() //
+                    .hasTarget() //
+                    .has(expectedBuilders(Simple.class.getPackage(), false));
+            assertThat(result) //
+                    .out() //
+                    .info() //
+                    .containsOnlyOnce( //
+                            "Generate builder for class " + Child.class.getName(), //
+                            "Generate builder for class " + SimpleClass.class.getName(), //
+                            "Generate builder for class " + Parent.class.getName(), //
+                            "Builder for class " + Child.class.getName() + " already exists and is up to date.", //
+                            "Builder for class " + SimpleClass.class.getName() + " already exists and is up to date.", //
+                            "Builder for class " + Parent.class.getName() + " already exists and is up to date.");
+            Assertions.assertThat(result.getMavenProjectResult().getTargetProjectDirectory()
+                            .resolve("target")
+                            .resolve("reflective-fluent-builders")
+                            .resolve("default-builders.state"))
+                    .isNotEmptyFile();
+            assertThat(result).out().warn().isEmpty();
+        }
+
+        @MavenTest
+        @MavenGoal("generate-sources")
+        @MavenGoal("process-sources")
+        void packageSimpleNothingChanged(final MavenExecutionResult result) {
+            assertThat(result) //
+                    .isSuccessful() //
+                    .project() //
+                    .hasTarget() //
+                    .has(expectedBuilders(Simple.class.getPackage(), false));
+            assertThat(result) //
+                    .out() //
+                    .info() //
+                    .containsOnlyOnce( //
+                            "Scan package " + Simple.class.getPackage().getName() + " recursively for classes.", //
+                            "Generate builder for class " + Child.class.getName(), //
+                            "Generate builder for class " + SimpleClass.class.getName(), //
+                            "Generate builder for class " + Parent.class.getName(), //
+                            "Neither the configuration nor the classpath have changed since the last execution, so all builders are up to date.");
+            Assertions.assertThat(result.getMavenProjectResult().getTargetProjectDirectory()
+                            .resolve("target")
+                            .resolve("reflective-fluent-builders")
+                            .resolve("default-execution.fingerprint"))
+                    .isNotEmptyFile();
+            assertThat(result).out().warn().isEmpty();
+        }
     }
 
     @Nested
@@ -535,6 +675,62 @@ class GenerateBuildersMojoIT {
                             expectedBuildersRootDir.resolve("module2")));
             assertThat(result).out().warn().isEmpty();
         }
+
+        @MavenTest
+        @MavenOption(value = MavenCLIOptions.THREADS, parameter = "2")
+        void multiModuleBuildInParallel(final MavenExecutionResult result) {
+            final var expectedBuildersRootDir = Paths.get("src", "it", "resources", "expected-builders", "multi-module-project");
+            assertThat(result).isSuccessful();
+            assertThat(result) //
+                    .project() //
+                    .withModule("module1") //
+                    .hasTarget() //
+                    .has(expectedBuilder( //
+                            "io.github.tobi.laa.reflective.fluent.builders.test.models.DogBuilder", //
+                            true, //
+                            expectedBuildersRootDir.resolve("module1")))
+                    .doesNotHave(expectedBuilder( //
+                            "io.github.tobi.laa.reflective.fluent.builders.test.models.CatBuilder", //
+                            true, //
+                            expectedBuildersRootDir.resolve("module2")));
+            assertThat(result) //
+                    .project() //
+                    .withModule("module2") //
+                    .hasTarget() //
+                    .has(expectedBuilder( //
+                            "io.github.tobi.laa.reflective.fluent.builders.test.models.CatBuilder", //
+                            true, //
+                            expectedBuildersRootDir.resolve("module2")))
+                    .doesNotHave(expectedBuilder( //
+                            "io.github.tobi.laa.reflective.fluent.builders.test.models.DogBuilder", //
+                            true, //
+                            expectedBuildersRootDir.resolve("module1")));
+            // maven warns about mojos that are not thread-safe when building in parallel
+            assertThat(result).out().warn().isEmpty();
+        }
+
+        @MavenTest
+        @MavenVerbose
+        @MavenGoal("test-compile")
+        void multiModuleBuildWithReactorDependency(final MavenExecutionResult result) {
+            final var projectDirectory = result.getMavenProjectResult().getTargetProjectDirectory();
+            final var reactorOutputDirectory = projectDirectory.resolve("module1").resolve("target").resolve("classes");
+            assertThat(result).isSuccessful();
+            Assertions.assertThat(projectDirectory //
+                            .resolve("module2") //
+                            .resolve("target") //
+                            .resolve("generated-test-sources") //
+                            .resolve("builders") //
+                            .resolve("io/github/tobi/laa/reflective/fluent/builders/test/owners/OwnerBuilder.java"))
+                    .isNotEmptyFile();
+            // the output directory of module1 is loaded on top of the shared ClassLoader for dependency jars
+            assertThat(result) //
+                    .out() //
+                    .debug() //
+                    .contains("Attempt to add " + reactorOutputDirectory + " to ClassLoader.") //
+                    .noneMatch(s -> s.startsWith("Do not share ClassLoader for dependency jars"));
+            assertThat(result).out().warn().isEmpty();
+        }
     }
 
     @Nested
@@ -561,6 +757,14 @@ class GenerateBuildersMojoIT {
                     .contains( //
                             "Deleting orphaned builder file " + orphanedFile, //
                             "Deleting orphaned builder directory " + orphanedFile.getParent());
+            Assertions.assertThat(result.getMavenProjectResult().getTargetProjectDirectory()
+                            .resolve("target")
+                            .resolve("reflective-fluent-builders")
+                            .resolve("default-builders.manifest"))
+                    .content()
+                    .contains("target=" + targetDirectory.toAbsolutePath())
+                    .contains(targetDirectory.relativize(fileHelper.resolveJavaFile(targetDirectory, SimpleClass.class.getName() + "Builder")).toString())
+                    .doesNotContain("ClassWithCollectionsBuilder.java");
             assertThat(result).out().warn().isEmpty();
         }
 
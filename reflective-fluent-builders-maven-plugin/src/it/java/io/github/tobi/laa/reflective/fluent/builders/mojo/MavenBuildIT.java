@@ -11,6 +11,7 @@ import org.apache.maven.project.MavenProject;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.codehaus.plexus.build.BuildContext;
 import org.codehaus.plexus.logging.Logger;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -42,6 +43,9 @@ class MavenBuildIT {
     @Inject
     private MavenBuild mavenBuild;
 
+    @Inject
+    private ExecutionScope executionScope;
+
     @InjectMock
     private BuildContext buildContext;
 
@@ -57,11 +61,24 @@ class MavenBuildIT {
     @TempDir
     private Path tempDir;
 
+    private ExecutionScope.Lease lease;
+
     @BeforeEach
     void injectLogger() {
         mavenBuild.enableLogging(logger);
     }
 
+    @BeforeEach
+    void enterExecutionScope() {
+        executionScope.enableLogging(logger);
+        lease = executionScope.enter(new MojoParams(mavenBuild), buildContext, mavenProject, mojoExecution);
+    }
+
+    @AfterEach
+    void leaveExecutionScope() {
+        lease.close();
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void testIsIncremental(final boolean buildContextIncremental) {
@@ -248,6 +265,30 @@ class MavenBuildIT {
         verify(build).getDirectory();
     }
 
+    @Test
+    void testGetExecutionId() {
+        // Arrange
+        final var executionId = "dummy";
+        doReturn(executionId).when(mojoExecution).getExecutionId();
+        // Act
+        final var actual = mavenBuild.getExecutionId();
+        // Assert
+        assertThat(actual).isSameAs(executionId);
+        verify(mojoExecution).getExecutionId();
+    }
+
+    @Test
+    void testGetPluginVersion() {
+        // Arrange
+        final var version = "1.2.3";
+        doReturn(version).when(mojoExecution).getVersion();
+        // Act
+        final var actual = mavenBuild.getPluginVersion();
+        // Assert
+        assertThat(actual).isSameAs(version);
+        verify(mojoExecution).getVersion();
+    }
+
     @Test
     void testGetOutputDirectory() {
         // Arrange
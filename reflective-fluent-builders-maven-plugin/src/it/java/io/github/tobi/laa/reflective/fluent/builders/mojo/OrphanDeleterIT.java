@@ -1,11 +1,7 @@
 package io.github.tobi.laa.reflective.fluent.builders.mojo;
 
-import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata;
-import io.github.tobi.laa.reflective.fluent.builders.test.ClassGraphExtension;
 import io.github.tobi.laa.reflective.fluent.builders.test.InjectMock;
 import io.github.tobi.laa.reflective.fluent.builders.test.IntegrationTest;
-import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.Simple;
-import io.github.tobi.laa.reflective.fluent.builders.test.models.simple.SimpleClass;
 import lombok.SneakyThrows;
 import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoFailureException;
@@ -17,25 +13,28 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
-import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.mockito.ArgumentMatchers;
 import org.mockito.MockedStatic;
 
 import javax.inject.Inject;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.*;
 
@@ -45,8 +44,9 @@ class OrphanDeleterIT {
 
     private static final Path PACKAGE_SIMPLE_DIR = Paths.get("io", "github", "tobi", "laa", "reflective", "fluent", "builders", "test", "models", "simple");
 
-    @RegisterExtension
-    static ClassGraphExtension classInfo = new ClassGraphExtension();
+    private static final Path SIMPLE_CLASS_BUILDER = PACKAGE_SIMPLE_DIR.resolve("SimpleClassBuilder.java");
+
+    private static final Path CHILD_BUILDER = PACKAGE_SIMPLE_DIR.resolve("hierarchy").resolve("ChildBuilder.java");
 
     @Inject
     private OrphanDeleter deleter;
@@ -67,10 +67,15 @@ class OrphanDeleterIT {
 
     @TempDir
     private Path givenTarget;
-    private Set<BuilderMetadata> givenMetadata;
+    private Set<Path> givenBuilderFiles;
 
     private ThrowingCallable deleteOrphans;
 
+    @TempDir
+    private Path workingDirectory;
+
+    private Optional<Set<Path>> actualBuilderFiles;
+
     @BeforeEach
     void mockFiles() {
         filesMock = mockStatic(Files.class, CALLS_REAL_METHODS);
@@ -78,8 +83,9 @@ class OrphanDeleterIT {
 
     @BeforeEach
     void resetTestData() {
-        this.givenMetadata = null;
+        this.givenBuilderFiles = null;
         this.deleteOrphans = null;
+        this.actualBuilderFiles = null;
     }
 
     @BeforeEach
@@ -94,9 +100,9 @@ class OrphanDeleterIT {
 
     @ParameterizedTest
     @ArgumentsSource(NullArgsProvider.class)
-    void givenNull_deletingOrphans_throwsNullPointerException(final Path target, final Set<BuilderMetadata> metadata) {
+    void givenNull_deletingOrphans_throwsNullPointerException(final Path target, final Set<Path> builderFiles) {
         givenTarget(target);
-        givenMetadata(metadata);
+        givenBuilderFiles(builderFiles);
         whenCallingDeleteOrphans();
         thenNullPointerExceptionIsThrown();
     }
@@ -104,7 +110,7 @@ class OrphanDeleterIT {
     @Test
     void givenNonEmptyTarget_expectingNoBuilders_deletingOrphans_deletesEverything() {
         givenNonEmptyTarget();
-        givenMetadata(emptySet());
+        givenBuilderFiles(emptySet());
         whenCallingDeleteOrphans();
         thenEverythingIsDeleted();
     }
@@ -112,14 +118,14 @@ class OrphanDeleterIT {
     @Test
     void givenNonEmptyTarget_expectingSimpleClassBuilder_deletingOrphans_deletesChildBuilder() {
         givenNonEmptyTarget();
-        givenMetadataForSimpleClassBuilder();
+        givenBuilderFileForSimpleClassBuilder();
         whenCallingDeleteOrphans();
         thenChildBuilderIsDeleted();
     }
 
     @Test
     void givenEmptyTarget_expectingSimpleClassBuilder_deletingOrphans_doesNothing() {
-        givenMetadataForSimpleClassBuilder();
+        givenBuilderFileForSimpleClassBuilder();
         whenCallingDeleteOrphans();
         thenNothingHappens();
     }
@@ -127,12 +133,87 @@ class OrphanDeleterIT {
     @Test
     void givenNonEmptyTarget_fileDeletionException_deletingOrphans_throwsMojoFailureException() {
         givenNonEmptyTarget();
-        givenMetadata(emptySet());
+        givenBuilderFiles(emptySet());
         givenDeleteThrowsException();
         whenCallingDeleteOrphans();
         thenMojoFailureExceptionIsThrown();
     }
 
+    @Test
+    void givenNonEmptyTarget_previousBuilderFilesIncludingChildBuilder_deletingOrphans_deletesOnlyChildBuilder() {
+        givenNonEmptyTarget();
+        givenUnrelatedFile();
+        givenBuilderFileForSimpleClassBuilder();
+        whenCallingDeleteOrphansWithPreviousBuilderFiles(SIMPLE_CLASS_BUILDER, CHILD_BUILDER);
+        thenChildBuilderIsDeleted();
+        thenUnrelatedFileIsKept();
+        thenTargetIsNotWalked();
+    }
+
+    @Test
+    void givenNonEmptyTarget_previousBuilderFilesIncludingNonExistentBuilder_deletingOrphans_doesNothing() {
+        givenNonEmptyTarget();
+        givenBuilderFileForSimpleClassBuilder();
+        whenCallingDeleteOrphansWithPreviousBuilderFiles(SIMPLE_CLASS_BUILDER, PACKAGE_SIMPLE_DIR.resolve("DoesNotExistBuilder.java"));
+        thenNoBuilderIsDeleted();
+    }
+
+    @Test
+    void givenNonEmptyTarget_fileDeletionException_deletingOrphansWithPreviousBuilderFiles_throwsMojoFailureException() {
+        givenNonEmptyTarget();
+        givenBuilderFiles(emptySet());
+        givenDeleteThrowsException();
+        whenCallingDeleteOrphansWithPreviousBuilderFiles(SIMPLE_CLASS_BUILDER, CHILD_BUILDER);
+        thenMojoFailureExceptionIsThrown();
+    }
+
+    @Test
+    void givenWrittenManifest_readingManifest_returnsBuilderFilesAndDeletesManifest() {
+        givenBuilderFileForSimpleClassBuilder();
+        givenManifestHasBeenWritten(givenTarget);
+        whenReadingManifest();
+        thenBuilderFilesAre(SIMPLE_CLASS_BUILDER);
+        thenManifestDoesNotExist();
+    }
+
+    @Test
+    void givenNoManifest_readingManifest_returnsEmpty() {
+        whenReadingManifest();
+        thenNoBuilderFilesAreReturned();
+    }
+
+    @Test
+    void givenManifestForDifferentTarget_readingManifest_returnsEmptyAndDeletesManifest() {
+        givenBuilderFileForSimpleClassBuilder();
+        givenManifestHasBeenWritten(givenTarget.resolve("different"));
+        whenReadingManifest();
+        thenNoBuilderFilesAreReturned();
+        thenManifestDoesNotExist();
+    }
+
+    @Test
+    void givenTamperedManifest_readingManifest_ignoresFilesOutsideTarget() {
+        givenManifest("# builder files generated by reflective-fluent-builders", "target=" + givenTarget.toAbsolutePath(), "../outside.java", givenTarget.toAbsolutePath().resolve("absolute.java").toString(), SIMPLE_CLASS_BUILDER.toString());
+        whenReadingManifest();
+        thenBuilderFilesAre(SIMPLE_CLASS_BUILDER);
+    }
+
+    @Test
+    void givenManifestCannotBeRead_readingManifest_returnsEmpty() {
+        givenManifest("doesNotMatter");
+        filesMock.when(() -> Files.readAllLines(any(Path.class), any(Charset.class))).thenThrow(IOException.class);
+        whenReadingManifest();
+        thenNoBuilderFilesAreReturned();
+    }
+
+    @Test
+    void givenManifestCannotBeWritten_writingManifest_logsWarning() {
+        givenBuilderFileForSimpleClassBuilder();
+        filesMock.when(() -> Files.write(any(Path.class), ArgumentMatchers.<Iterable<String>>any(), any(Charset.class))).thenThrow(IOException.class);
+        givenManifestHasBeenWritten(givenTarget);
+        verify(logger).warn(eq("Could not write manifest " + manifest() + '.'), any(IOException.class));
+    }
+
     private void givenTarget(final Path target) {
         this.givenTarget = target;
     }
@@ -144,19 +225,30 @@ class OrphanDeleterIT {
         Files.createFile(givenTarget.resolve(PACKAGE_SIMPLE_DIR).resolve("hierarchy").resolve("ChildBuilder.java"));
     }
 
-    private void givenMetadata(final Set<BuilderMetadata> metadata) {
-        this.givenMetadata = metadata;
+    @SneakyThrows
+    private void givenUnrelatedFile() {
+        Files.createFile(givenTarget.resolve(PACKAGE_SIMPLE_DIR).resolve("Unrelated.java"));
+    }
+
+    private void givenManifestHasBeenWritten(final Path target) {
+        deleter.writeManifest(manifest(), target, givenBuilderFiles);
+    }
+
+    @SneakyThrows
+    private void givenManifest(final String... lines) {
+        Files.write(manifest(), List.of(lines));
+    }
+
+    private Path manifest() {
+        return workingDirectory.resolve("default-builders.manifest");
     }
 
-    private void givenMetadataForSimpleClassBuilder() {
-        givenMetadata(Collections.singleton(BuilderMetadata.builder()
-                .packageName(Simple.class.getPackageName())
-                .name("SimpleClassBuilder")
-                .builtType(BuilderMetadata.BuiltType.builder()
-                        .type(classInfo.get(SimpleClass.class))
-                        .accessibleNonArgsConstructor(true)
-                        .build())
-                .build()));
+    private void givenBuilderFiles(final Set<Path> builderFiles) {
+        this.givenBuilderFiles = builderFiles;
+    }
+
+    private void givenBuilderFileForSimpleClassBuilder() {
+        givenBuilderFiles(Set.of(SIMPLE_CLASS_BUILDER));
     }
 
     private void givenDeleteThrowsException() {
@@ -164,7 +256,15 @@ class OrphanDeleterIT {
     }
 
     private void whenCallingDeleteOrphans() {
-        this.deleteOrphans = () -> deleter.deleteOrphanedBuilders(givenTarget, givenMetadata);
+        this.deleteOrphans = () -> deleter.deleteOrphanedBuilders(givenTarget, givenBuilderFiles);
+    }
+
+    private void whenCallingDeleteOrphansWithPreviousBuilderFiles(final Path... previousBuilderFiles) {
+        this.deleteOrphans = () -> deleter.deleteOrphanedBuilders(givenTarget, givenBuilderFiles, Set.of(previousBuilderFiles));
+    }
+
+    private void whenReadingManifest() {
+        this.actualBuilderFiles = deleter.readAndDeleteManifest(manifest(), givenTarget);
     }
 
     private void thenNullPointerExceptionIsThrown() {
@@ -193,6 +293,33 @@ class OrphanDeleterIT {
         verify(logger).info(matches("Deleting orphaned builder directory .+hierarchy"));
     }
 
+    private void thenUnrelatedFileIsKept() {
+        assertThat(givenTarget.resolve(PACKAGE_SIMPLE_DIR).resolve("Unrelated.java")).isRegularFile();
+    }
+
+    private void thenTargetIsNotWalked() {
+        filesMock.verify(() -> Files.walkFileTree(any(), any()), never());
+    }
+
+    private void thenNoBuilderIsDeleted() {
+        assertThatCode(deleteOrphans).doesNotThrowAnyException();
+        assertThat(givenTarget.resolve(SIMPLE_CLASS_BUILDER)).isRegularFile();
+        assertThat(givenTarget.resolve(CHILD_BUILDER)).isRegularFile();
+        verifyNoInteractions(logger);
+    }
+
+    private void thenBuilderFilesAre(final Path... builderFiles) {
+        assertThat(actualBuilderFiles).contains(Set.of(builderFiles));
+    }
+
+    private void thenNoBuilderFilesAreReturned() {
+        assertThat(actualBuilderFiles).isEmpty();
+    }
+
+    private void thenManifestDoesNotExist() {
+        assertThat(manifest()).doesNotExist();
+    }
+
     private void thenNothingHappens() {
         assertThatCode(deleteOrphans).doesNotThrowAnyException();
         assertThat(givenTarget).isEmptyDirectory();
@@ -0,0 +1,10 @@
+package io.github.tobi.laa.reflective.fluent.builders.test.models;
+
+class Cat {
+
+    private String fur;
+
+    public void setFur(final String fur) {
+        this.fur = fur;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package io.github.tobi.laa.reflective.fluent.builders.test.pets;
+
+public class Dog {
+
+    private String name;
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.tobi.laa.reflective.fluent.builders.test.owners;
+
+import io.github.tobi.laa.reflective.fluent.builders.test.pets.Dog;
+
+public class Owner {
+
+    private Dog dog;
+
+    public void setDog(final Dog dog) {
+        this.dog = dog;
+    }
+}
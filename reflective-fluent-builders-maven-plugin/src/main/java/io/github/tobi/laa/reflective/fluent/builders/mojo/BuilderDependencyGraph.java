@@ -0,0 +1,149 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import io.github.classgraph.ClassInfo;
+import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.ClassService;
+import lombok.RequiredArgsConstructor;
+import org.codehaus.plexus.logging.AbstractLogEnabled;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * <p>
+ * Determines for each builder the types it depends on, i.e. the built type along with its full class hierarchy from
+ * which its write accessors stem, and records where these types are located.
+ * </p>
+ * <p>
+ * Incremental builds only regenerate builders for which the build context reports a delta. Looking at the built type
+ * alone would miss changes to its supertypes, so the locations of all types a builder depends on are to be looked at
+ * instead. The dependencies are persisted after each execution, so that types a builder depended on during the
+ * previous execution can be looked at as well, even if they are no longer part of its hierarchy.
+ * </p>
+ */
+@Singleton
+@Named
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+class BuilderDependencyGraph extends AbstractLogEnabled {
+
+    private static final String HEADER = "# builder dependencies recorded by reflective-fluent-builders";
+
+    private static final String INDENT = "\t";
+
+    @lombok.NonNull
+    private final ClassService classService;
+
+    @lombok.NonNull
+    private final MavenBuild mavenBuild;
+
+    /**
+     * <p>
+     * Determines the locations of the types each builder for {@code metadata} depends on. A source file is preferred
+     * over a class file if it can be found within the source roots of the project.
+     * </p>
+     *
+     * @param metadata The metadata of the builders for which to determine the dependencies. Must not be {@code null}.
+     * @return The locations of the types each builder depends on, keyed by the name of the built type. Never
+     * {@code null}.
+     */
+    Map<String, Set<Path>> collectDependencies(final Collection<BuilderMetadata> metadata) {
+        Objects.requireNonNull(metadata);
+        final Map<String, Set<Path>> dependencies = new HashMap<>();
+        for (final var builderMetadata : metadata) {
+            final var builtType = builderMetadata.getBuiltType().getType();
+            dependencies.put(builtType.getName(), collectDependencies(builtType));
+        }
+        return dependencies;
+    }
+
+    private Set<Path> collectDependencies(final ClassInfo builtType) {
+        // the hierarchy does not contain the built type itself if it has been excluded from the hierarchy collection
+        return Stream.concat(Stream.of(builtType), classService.collectFullClassHierarchy(builtType).stream()) //
+                .map(this::determineSourceOrClassLocation) //
+                .flatMap(Optional::stream) //
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private Optional<Path> determineSourceOrClassLocation(final ClassInfo type) {
+        return Optional.ofNullable(type.getSourceFile()) //
+                .map(Paths::get) //
+                .flatMap(sourceFile -> mavenBuild.resolveSourceFile(type.getPackageName(), sourceFile)) //
+                .or(() -> classService.determineClassLocation(type));
+    }
+
+    /**
+     * <p>
+     * Reads the dependencies recorded within {@code file} and deletes it afterwards, so that an execution that fails
+     * before recording the dependencies anew is not followed by an execution relying on outdated ones.
+     * </p>
+     *
+     * @param file The file to read. Must not be {@code null}.
+     * @return The dependencies recorded within {@code file}, keyed by the name of the built type. Empty if
+     * {@code file} does not exist or cannot be read. Never {@code null}.
+     */
+    Map<String, Set<Path>> readAndDelete(final Path file) {
+        Objects.requireNonNull(file);
+        if (!Files.isRegularFile(file)) {
+            getLogger().debug("No builder dependencies have been recorded within " + file + '.');
+            return Map.of();
+        }
+        try {
+            final var lines = Files.readAllLines(file, UTF_8);
+            Files.delete(file);
+            if (lines.isEmpty() || !HEADER.equals(lines.get(0))) {
+                getLogger().debug("Builder dependencies recorded within " + file + " are in an unknown format and will be ignored.");
+                return Map.of();
+            }
+            final Map<String, Set<Path>> dependencies = new HashMap<>();
+            Set<Path> current = null;
+            for (final var line : lines.subList(1, lines.size())) {
+                if (!line.startsWith(INDENT)) {
+                    current = new HashSet<>();
+                    dependencies.put(line, current);
+                } else if (current != null) {
+                    current.add(Paths.get(line.substring(INDENT.length())));
+                }
+            }
+            return dependencies;
+        } catch (final IOException | RuntimeException e) {
+            getLogger().debug("Could not read builder dependencies recorded within " + file + '.');
+            return Map.of();
+        }
+    }
+
+    /**
+     * <p>
+     * Records {@code dependencies} within {@code file}. Failing to do so is logged as a warning but does not fail the
+     * execution, as the next execution will then only look at the current dependencies.
+     * </p>
+     *
+     * @param file         The file to write. Must not be {@code null}.
+     * @param dependencies The dependencies to record, keyed by the name of the built type. Must not be {@code null}.
+     */
+    void write(final Path file, final Map<String, Set<Path>> dependencies) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(dependencies);
+        final var lines = new ArrayList<String>();
+        lines.add(HEADER);
+        new TreeMap<>(dependencies).forEach((className, locations) -> {
+            lines.add(className);
+            locations.stream().map(Path::toString).sorted().map(INDENT::concat).forEach(lines::add);
+        });
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, lines, UTF_8);
+        } catch (final IOException e) {
+            getLogger().warn("Could not write builder dependencies to " + file + '.', e);
+        }
+    }
+}
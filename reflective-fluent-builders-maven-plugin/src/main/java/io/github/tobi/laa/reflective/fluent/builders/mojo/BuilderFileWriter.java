@@ -0,0 +1,319 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import io.github.tobi.laa.reflective.fluent.builders.generator.api.JavaFileGenerator;
+import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata;
+import io.github.tobi.laa.reflective.fluent.builders.mojo.GenerationReport.Count;
+import io.github.tobi.laa.reflective.fluent.builders.mojo.GenerationReport.Step;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.apache.maven.plugin.MojoFailureException;
+import org.codehaus.plexus.logging.AbstractLogEnabled;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * <p>
+ * Encapsulates the logic for generating builders and writing them to the target directory.
+ * </p>
+ * <p>
+ * Generating and rendering builders is CPU-bound whereas writing them is I/O-bound, so both are pipelined: Builders are
+ * rendered on a given {@link Executor} and handed over to the calling thread via a bounded queue, which in turn writes
+ * them to disk. If writing falls behind, rendering blocks until there is room in the queue again. Renderings that are
+ * interrupted before handing over their result are reported as failures rather than awaited.
+ * </p>
+ * <p>
+ * Builder files whose content would not change are not written at all, so that neither their modification time
+ * changes nor the compiler considers them (and everything depending on them) stale. To that end, the hash of the
+ * rendered content is compared with the hash of the existing file while rendering.
+ * </p>
+ * <p>
+ * The hashes of existing files are kept in a static cache keyed by the path, size and modification time of each file,
+ * so that files written or read by a previous execution are not read again as long as they have not been modified.
+ * Being static, the cache is retained for as long as the class realm of the plugin, which the Maven daemon reuses
+ * across builds.
+ * </p>
+ */
+@Singleton
+@Named
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+class BuilderFileWriter extends AbstractLogEnabled {
+
+    private static final int QUEUE_CAPACITY = 64;
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private static final HashFunction HASH_FUNCTION = Hashing.sha256();
+
+    private static final int MAX_CACHED_HASHES = 16_384;
+
+    private static final Cache<FileFingerprint, HashCode> FILE_HASHES = CacheBuilder.newBuilder() //
+            .maximumSize(MAX_CACHED_HASHES) //
+            .build();
+
+    @lombok.NonNull
+    private final JavaFileGenerator javaFileGenerator;
+
+    @lombok.NonNull
+    private final JavaFileHelper javaFileHelper;
+
+    /**
+     * <p>
+     * Generates the builders for all elements of {@code metadata} and writes them to {@code target}.
+     * </p>
+     * <p>
+     * Errors do not abort the processing of the remaining builders but are collected and reported at the end as a
+     * single {@link MojoFailureException}.
+     * </p>
+     *
+     * @param target         The target directory in which to place the builder files. Must not be {@code null}.
+     * @param metadata       The metadata of the builders to generate. Must not be {@code null}.
+     * @param renderExecutor The {@link Executor} on which to generate and render builders. Must not be {@code null}.
+     * @param report         The {@link GenerationReport} of the current execution in which to record how long
+     *                       rendering and writing each builder took. Must not be {@code null}.
+     * @return The builder files that have actually been written, i.e. excluding those whose content has not changed.
+     * Never {@code null}.
+     * @throws MojoFailureException If one or more builders could not be generated or written.
+     */
+    Set<Path> generateAndWriteBuilders(final Path target, final Collection<BuilderMetadata> metadata, final Executor renderExecutor, final GenerationReport report) throws MojoFailureException {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(metadata);
+        Objects.requireNonNull(renderExecutor);
+        Objects.requireNonNull(report);
+        final BlockingQueue<RenderedBuilder> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        final List<Rendering> renderings = metadata.stream() //
+                .map(m -> new Rendering(m.getBuiltType().getType().getName(), CompletableFuture.runAsync(() -> render(target, m, queue, report), renderExecutor))) //
+                .toList();
+        return writeAll(queue, renderings, report);
+    }
+
+    private void render(final Path target, final BuilderMetadata metadata, final BlockingQueue<RenderedBuilder> queue, final GenerationReport report) {
+        final var className = metadata.getBuiltType().getType().getName();
+        final var builderFile = target //
+                .resolve(javaFileHelper.javaNameToPath(metadata.getPackageName())) //
+                .resolve(metadata.getName() + ".java");
+        RenderedBuilder renderedBuilder;
+        try {
+            getLogger().info("Generate builder for class " + className);
+            final var event = new RenderEvent();
+            event.begin();
+            final var content = report.time(Step.RENDER, className, () -> javaFileGenerator.generateJavaFile(metadata).toString().getBytes(UTF_8));
+            event.className = className;
+            event.size = content.length;
+            event.commit();
+            final var hash = HASH_FUNCTION.hashBytes(content);
+            renderedBuilder = new RenderedBuilder(className, builderFile, content, hash, isUnchanged(builderFile, content.length, hash), null);
+        } catch (final RuntimeException | Error e) {
+            // must not escape as the writing thread relies on receiving a result for each builder
+            renderedBuilder = new RenderedBuilder(className, builderFile, null, null, false, e);
+        }
+        try {
+            queue.put(renderedBuilder);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // the writing thread detects the rendering to have failed without a result via its future
+            throw new CompletionException(e);
+        }
+    }
+
+    private boolean isUnchanged(final Path builderFile, final int size, final HashCode hash) {
+        if (!Files.isRegularFile(builderFile)) {
+            return false;
+        }
+        try {
+            final var fingerprint = fingerprint(builderFile);
+            return fingerprint.getSize() == size && FILE_HASHES.get(fingerprint, () -> hash(builderFile)).equals(hash);
+        } catch (final IOException | ExecutionException e) {
+            // if the existing file cannot be read, writing it will most likely fail as well and report the error
+            return false;
+        }
+    }
+
+    /**
+     * <p>
+     * Determines the hash of the content of {@code builderFile}. Files that have been written or read before and have
+     * not been modified since are not read again.
+     * </p>
+     *
+     * @param builderFile The builder file for which to determine the hash. Must not be {@code null}.
+     * @return The hash of the content of {@code builderFile}. Empty if it does not exist or cannot be read. Never
+     * {@code null}.
+     */
+    Optional<HashCode> hashBuilderFile(final Path builderFile) {
+        Objects.requireNonNull(builderFile);
+        if (!Files.isRegularFile(builderFile)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(FILE_HASHES.get(fingerprint(builderFile), () -> hash(builderFile)));
+        } catch (final IOException | ExecutionException e) {
+            return Optional.empty();
+        }
+    }
+
+    private FileFingerprint fingerprint(final Path file) throws IOException {
+        final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return new FileFingerprint(file.toAbsolutePath(), attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+
+    private HashCode hash(final Path file) throws IOException {
+        try (final var in = Files.newInputStream(file)) {
+            final var hasher = HASH_FUNCTION.newHasher();
+            final var buffer = new byte[8192];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                hasher.putBytes(buffer, 0, read);
+            }
+            return hasher.hash();
+        }
+    }
+
+    private Set<Path> writeAll(final BlockingQueue<RenderedBuilder> queue, final List<Rendering> renderings, final GenerationReport report) throws MojoFailureException {
+        final Set<Path> writtenFiles = new HashSet<>();
+        final Set<Path> createdDirectories = new HashSet<>();
+        final List<MojoFailureException> failures = new ArrayList<>();
+        int generated = 0;
+        int received = 0;
+        while (received < renderings.size()) {
+            final var renderedBuilder = poll(queue);
+            if (renderedBuilder == null) {
+                if (renderings.stream().allMatch(r -> r.getFuture().isDone()) && queue.isEmpty()) {
+                    // the remaining results will never arrive as their renderings have been interrupted
+                    renderings.stream() //
+                            .filter(r -> r.getFuture().isCompletedExceptionally()) //
+                            .map(r -> new MojoFailureException("Could not generate builder for " + r.getClassName() + '.', cause(r.getFuture()))) //
+                            .forEach(failures::add);
+                    break;
+                }
+                continue;
+            }
+            received++;
+            if (renderedBuilder.getFailure() != null) {
+                failures.add(new MojoFailureException("Could not generate builder for " + renderedBuilder.getClassName() + '.', renderedBuilder.getFailure()));
+            } else if (renderedBuilder.isUnchanged()) {
+                generated++;
+                getLogger().debug("Builder file " + renderedBuilder.getFile() + " is unchanged and will not be written.");
+            } else {
+                generated++;
+                try {
+                    write(renderedBuilder, createdDirectories, report);
+                    writtenFiles.add(renderedBuilder.getFile());
+                } catch (final IOException e) {
+                    failures.add(new MojoFailureException("Could not create file for builder for " + renderedBuilder.getClassName() + '.', e));
+                }
+            }
+        }
+        report.add(Count.BUILDERS_GENERATED, generated);
+        report.add(Count.BUILDERS_WRITTEN, writtenFiles.size());
+        if (!failures.isEmpty()) {
+            throw combine(failures);
+        }
+        return writtenFiles;
+    }
+
+    private RenderedBuilder poll(final BlockingQueue<RenderedBuilder> queue) throws MojoFailureException {
+        try {
+            return queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoFailureException("Interrupted while writing builders.", e);
+        }
+    }
+
+    private void write(final RenderedBuilder renderedBuilder, final Set<Path> createdDirectories, final GenerationReport report) throws IOException {
+        final var event = new WriteEvent();
+        event.begin();
+        final var start = System.nanoTime();
+        final var directory = renderedBuilder.getFile().getParent();
+        if (!createdDirectories.contains(directory)) {
+            Files.createDirectories(directory);
+            createdDirectories.add(directory);
+        }
+        Files.write(renderedBuilder.getFile(), renderedBuilder.getContent());
+        FILE_HASHES.put(fingerprint(renderedBuilder.getFile()), renderedBuilder.getHash());
+        report.record(Step.WRITE, renderedBuilder.getClassName(), System.nanoTime() - start);
+        event.className = renderedBuilder.getClassName();
+        event.path = renderedBuilder.getFile().toString();
+        event.size = renderedBuilder.getContent().length;
+        event.commit();
+    }
+
+    private Throwable cause(final CompletableFuture<Void> future) {
+        try {
+            future.join();
+            return null;
+        } catch (final CompletionException e) {
+            return e.getCause();
+        } catch (final CancellationException e) {
+            return e;
+        }
+    }
+
+    private MojoFailureException combine(final List<MojoFailureException> failures) {
+        if (failures.size() == 1) {
+            return failures.get(0);
+        } else {
+            final var message = failures.stream() //
+                    .map(Throwable::getMessage) //
+                    .collect(Collectors.joining("\n", "Could not create files for " + failures.size() + " builders.\n", ""));
+            final var combined = new MojoFailureException(message);
+            failures.forEach(combined::addSuppressed);
+            return combined;
+        }
+    }
+
+    @Data
+    private static class Rendering {
+
+        private final String className;
+
+        private final CompletableFuture<Void> future;
+    }
+
+    @Data
+    private static class RenderedBuilder {
+
+        private final String className;
+
+        private final Path file;
+
+        private final byte[] content;
+
+        private final HashCode hash;
+
+        private final boolean unchanged;
+
+        private final Throwable failure;
+    }
+
+    @Data
+    private static class FileFingerprint {
+
+        private final Path path;
+
+        private final long size;
+
+        private final long lastModified;
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p>
+ * Emitted for creating or closing the {@link ClassLoader} provided by {@link ClassLoaderProvider}.
+ * </p>
+ */
+@Name(ClassLoaderEvent.NAME)
+@Label("Class Loader")
+@Description("Creating or closing the ClassLoader for the classpath of the maven project")
+class ClassLoaderEvent extends GenerationEvent {
+
+    static final String NAME = NAME_PREFIX + "ClassLoader";
+
+    static final String CREATE = "create";
+
+    static final String CLOSE = "close";
+
+    @Label("Action")
+    @Description("Whether the ClassLoader has been created or closed")
+    String action;
+
+    @Label("Classpath Elements")
+    @Description("The number of elements on the classpath of the ClassLoader")
+    int classpathElements;
+}
@@ -2,6 +2,7 @@ package io.github.tobi.laa.reflective.fluent.builders.mojo;
 
 import jakarta.inject.Singleton;
 import lombok.RequiredArgsConstructor;
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.codehaus.plexus.logging.AbstractLogEnabled;
 
@@ -10,13 +11,16 @@ import javax.inject.Named;
 import javax.inject.Provider;
 import java.io.Closeable;
 import java.io.File;
+import java.io.IOException;
 import java.io.Serial;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Objects;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
 
 import static java.lang.ClassLoader.getSystemClassLoader;
 
@@ -24,6 +28,28 @@ import static java.lang.ClassLoader.getSystemClassLoader;
  * <p>
  * Provides a {@link ClassLoader} that includes the maven project's dependencies as well.
  * </p>
+ * <p>
+ * The {@link ClassLoader} is layered: Jars on the classpath are loaded by a parent {@link ClassLoader} obtained from
+ * {@link DependencyClassLoaderCache}, which is shared by all modules of a reactor with the same dependencies. The
+ * output directories of the maven project are loaded by a thin child {@link ClassLoader} on top of it.
+ * </p>
+ * <p>
+ * The output directories of other modules of the reactor, which maven puts on the classpath instead of their jars, are
+ * loaded by the child {@link ClassLoader} as well. As the parent {@link ClassLoader} takes precedence and cannot see
+ * the classes of its child, this is only equivalent to loading the classpath in its original order if no jar contains a
+ * class that is also contained within a directory and if no jar depends on a directory. The latter holds for the output
+ * directories of the maven project itself and for those of other modules of the reactor unless they are only a
+ * transitive dependency of a jar, which is determined from their dependency trail. If either condition is not met, a
+ * single {@link ClassLoader} for the whole classpath is created instead.
+ * </p>
+ * <p>
+ * The {@link ClassLoader} is created once per execution, i.e. on the first call to {@link #get()} after it has been
+ * {@link #closeAndDisposeOfClassLoader() disposed of}, and is held by the {@link Execution}
+ * {@link ExecutionScope#current() bound to the current thread}, so that concurrent executions for different modules
+ * each see their own. As builder metadata is collected concurrently, {@link #get()} is called very frequently, so it
+ * merely reads a thread local and a volatile field once the {@link ClassLoader} exists. Only creating and disposing of
+ * the {@link ClassLoader} is synchronized, and only per execution.
+ * </p>
  */
 @Named
 @Singleton
@@ -36,75 +62,204 @@ class ClassLoaderProvider extends AbstractLogEnabled implements Provider<ClassLo
     @lombok.NonNull
     private final Closer closer;
 
-    URLClassLoader classLoader;
+    @lombok.NonNull
+    private final DependencyClassLoaderCache dependencyClassLoaderCache;
 
-    private List<String> classLoaderElements;
+    @lombok.NonNull
+    private final ExecutionScope executionScope;
 
     @Override
     public ClassLoader get() {
-        if (classLoaderNeedsRecreation()) {
-            recreateClassLoaderForMavenBuild();
+        final var state = executionScope.current().getClassLoader();
+        final var current = state.classLoader;
+        if (current != null) {
+            return current;
         }
-        return classLoader;
+        return createClassLoaderIfAbsent(state);
     }
 
-    private boolean classLoaderNeedsRecreation() {
-        if (classLoader == null) {
-            return true;
-        } else {
-            final var elementsFromMavenBuild = new HashSet<>(getClasspathElements());
-            final var elementsFromOldClassLoader = new HashSet<>(classLoaderElements);
-            final var classLoaderDiffersFromMavenBuild = !elementsFromMavenBuild.equals(elementsFromOldClassLoader);
-            if (classLoaderDiffersFromMavenBuild) {
-                getLogger().debug("ClassLoader will be re-created as elements of underlying maven build have changed.");
+    private URLClassLoader createClassLoaderIfAbsent(final ExecutionClassLoader state) {
+        synchronized (state) {
+            if (state.classLoader == null) {
+                createClassLoaderForMavenBuild(state);
             }
-            return classLoaderDiffersFromMavenBuild;
+            return state.classLoader;
         }
     }
 
-    private void recreateClassLoaderForMavenBuild() {
-        closeAndDisposeOfClassLoader();
-        createClassLoaderForMavenBuild();
-    }
-
-    private void createClassLoaderForMavenBuild() {
-        classLoaderElements = getClasspathElements();
-        classLoader = new URLClassLoader(getClasspathElementUrls(), getSystemClassLoader());
+    private void createClassLoaderForMavenBuild(final ExecutionClassLoader state) {
+        final var event = new ClassLoaderEvent();
+        event.begin();
+        final var classLoaderElements = getClasspathElements();
+        state.classLoaderElements = classLoaderElements;
+        final List<File> jars = new ArrayList<>();
+        final List<File> otherElements = new ArrayList<>();
+        for (final var element : classLoaderElements) {
+            logAddingToClassLoader(element);
+            final var file = new File(element);
+            if (file.isFile()) {
+                jars.add(file);
+            } else {
+                otherElements.add(file);
+            }
+        }
+        if (jars.isEmpty()) {
+            state.classLoader = new URLClassLoader(toUrls(otherElements), getSystemClassLoader());
+        } else {
+            final var sharedClassLoader = dependencyClassLoaderCache.acquire(jars);
+            if (isEquivalentToClasspath(sharedClassLoader, otherElements)) {
+                state.dependencyClassLoader = sharedClassLoader;
+                state.classLoader = new URLClassLoader(toUrls(otherElements), sharedClassLoader);
+            } else {
+                dependencyClassLoaderCache.release(sharedClassLoader);
+                state.classLoader = new URLClassLoader(toUrls(classLoaderElements.stream().map(File::new).toList()), getSystemClassLoader());
+            }
+        }
+        event.action = ClassLoaderEvent.CREATE;
+        event.classpathElements = classLoaderElements.size();
+        event.commit();
     }
 
     /**
      * <p>
      * {@link Closeable#close() Closes} the {@link ClassLoader} that has been provided by this {@link ClassLoaderProvider}, if it
-     * exists. Also removes any internal reference to said {@link ClassLoader}.
+     * exists. Also removes any internal reference to said {@link ClassLoader}. Its parent {@link ClassLoader} for
+     * dependency jars is {@link DependencyClassLoaderCache#release(ClassLoader) released} rather than closed, so that
+     * it may be reused.
      * </p>
      * <p>
      * Calling this method guarantees that the next time {@link #get()} is called, a <em>new</em> instance of a
-     * {@link ClassLoader} is returned.
+     * {@link ClassLoader} is returned, which reflects the classpath of the maven build at that time. It is thus to be
+     * called at the end of each execution. Only the {@link ClassLoader} of the {@link Execution}
+     * {@link ExecutionScope#current() bound to the current thread} is affected.
      * </p>
      *
      * @throws ClassLoaderProviderException In case an error occurs while attempting to {@link Closeable#close() close} the
      *                                      underlying {@link ClassLoader}.
      */
     void closeAndDisposeOfClassLoader() {
-        if (classLoader != null) {
-            try {
-                closer.closeIfCloseable(classLoader);
-            } catch (final Closer.CloseException e) {
-                throw new ClassLoaderProviderException("Error while closing old ClassLoader instance.", e);
-            } finally {
-                classLoader = null;
+        final var state = executionScope.current().getClassLoader();
+        synchronized (state) {
+            if (state.classLoader != null) {
+                final var event = new ClassLoaderEvent();
+                event.begin();
+                try {
+                    closer.closeIfCloseable(state.classLoader);
+                    event.action = ClassLoaderEvent.CLOSE;
+                    event.classpathElements = state.classLoaderElements.size();
+                    event.commit();
+                } catch (final Closer.CloseException e) {
+                    throw new ClassLoaderProviderException("Error while closing old ClassLoader instance.", e);
+                } finally {
+                    state.classLoader = null;
+                    if (state.dependencyClassLoader != null) {
+                        dependencyClassLoaderCache.release(state.dependencyClassLoader);
+                        state.dependencyClassLoader = null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Returns whether a {@link ClassLoader} has been created for the {@link Execution}
+     * {@link ExecutionScope#current() bound to the current thread} and has not been
+     * {@link #closeAndDisposeOfClassLoader() disposed of} since.
+     * </p>
+     *
+     * @return {@code true} if a {@link ClassLoader} has been created for the current execution, {@code false}
+     * otherwise.
+     */
+    boolean isClassLoaderCreated() {
+        return executionScope.current().getClassLoader().classLoader != null;
+    }
+
+    private boolean isEquivalentToClasspath(final URLClassLoader sharedClassLoader, final List<File> otherElements) {
+        Map<Path, Artifact> directoryArtifacts = null;
+        for (final var element : otherElements) {
+            if (!element.isDirectory()) {
+                continue;
+            }
+            if (!isOutputDirectory(element)) {
+                if (directoryArtifacts == null) {
+                    directoryArtifacts = getDirectoryArtifacts();
+                }
+                final var artifact = directoryArtifacts.get(normalize(element));
+                if (artifact == null) {
+                    getLogger().debug("Do not share ClassLoader for dependency jars as " + element + " is neither an output directory of the maven project nor of another module of the reactor.");
+                    return false;
+                }
+                if (isDependencyOfJar(artifact)) {
+                    getLogger().debug("Do not share ClassLoader for dependency jars as " + element + " is a dependency of a jar.");
+                    return false;
+                }
+            }
+            final var shadowedClass = findClassContainedWithinJars(sharedClassLoader, element.toPath());
+            if (shadowedClass.isPresent()) {
+                getLogger().debug("Do not share ClassLoader for dependency jars as " + shadowedClass.get() + " is contained within " + element + " as well.");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isOutputDirectory(final File directory) {
+        final var path = normalize(directory);
+        return Stream.of(mavenBuild.getOutputDirectory(), mavenBuild.getTestOutputDirectory()) //
+                .filter(Objects::nonNull) //
+                .map(outputDirectory -> normalize(new File(outputDirectory))) //
+                .anyMatch(path::equals);
+    }
+
+    private Map<Path, Artifact> getDirectoryArtifacts() {
+        final Map<Path, Artifact> directoryArtifacts = new HashMap<>();
+        for (final var artifact : mavenBuild.getArtifacts()) {
+            if (artifact.getFile() != null && artifact.getFile().isDirectory()) {
+                directoryArtifacts.put(normalize(artifact.getFile()), artifact);
+            }
+        }
+        return directoryArtifacts;
+    }
+
+    private boolean isDependencyOfJar(final Artifact artifact) {
+        final var dependencyTrail = artifact.getDependencyTrail();
+        if (dependencyTrail == null) {
+            // without a trail, it is unknown which artifacts depend on the directory
+            return true;
+        }
+        final Set<String> jarIds = new HashSet<>();
+        for (final var other : mavenBuild.getArtifacts()) {
+            if (other.getFile() != null && other.getFile().isFile()) {
+                jarIds.add(other.getId());
             }
         }
+        // the trail starts with the maven project itself and ends with the artifact
+        return dependencyTrail.subList(0, Math.max(0, dependencyTrail.size() - 1)).stream().anyMatch(jarIds::contains);
     }
 
-    private URL[] getClasspathElementUrls() {
-        final List<String> classpathElements = getClasspathElements();
-        final URL[] classpathElementUrls = new URL[classpathElements.size()];
-        for (int i = 0; i < classpathElements.size(); i++) {
-            logAddingToClassLoader(classpathElements.get(i));
-            classpathElementUrls[i] = toUrl(new File(classpathElements.get(i)));
+    private Path normalize(final File file) {
+        return file.toPath().toAbsolutePath().normalize();
+    }
+
+    private Optional<String> findClassContainedWithinJars(final URLClassLoader sharedClassLoader, final Path directory) {
+        try (final var files = Files.walk(directory)) {
+            return files //
+                    .filter(file -> file.getFileName().toString().endsWith(".class")) //
+                    .map(file -> directory.relativize(file).toString().replace(File.separatorChar, '/')) //
+                    .filter(classFile -> sharedClassLoader.findResource(classFile) != null) //
+                    .findFirst();
+        } catch (final IOException | UncheckedIOException e) {
+            throw new ClassLoaderProviderException("Error while attempting to walk output directory " + directory + '.', e);
         }
-        return classpathElementUrls;
+    }
+
+    private URL[] toUrls(final List<File> files) {
+        final URL[] urls = new URL[files.size()];
+        for (int i = 0; i < files.size(); i++) {
+            urls[i] = toUrl(files.get(i));
+        }
+        return urls;
     }
 
     private List<String> getClasspathElements() {
@@ -128,6 +283,20 @@ class ClassLoaderProvider extends AbstractLogEnabled implements Provider<ClassLo
         }
     }
 
+    /**
+     * <p>
+     * The {@link ClassLoader} of a single {@link Execution} along with what is needed to dispose of it.
+     * </p>
+     */
+    static class ExecutionClassLoader {
+
+        private volatile URLClassLoader classLoader;
+
+        private URLClassLoader dependencyClassLoader;
+
+        private List<String> classLoaderElements;
+    }
+
     static class ClassLoaderProviderException extends RuntimeException {
 
         @Serial
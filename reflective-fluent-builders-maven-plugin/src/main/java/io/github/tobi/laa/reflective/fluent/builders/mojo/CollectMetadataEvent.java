@@ -0,0 +1,25 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p>
+ * Emitted for collecting the builder metadata of a single class.
+ * </p>
+ */
+@Name(CollectMetadataEvent.NAME)
+@Label("Collect Builder Metadata")
+@Description("Collecting the builder metadata of a single class")
+class CollectMetadataEvent extends GenerationEvent {
+
+    static final String NAME = NAME_PREFIX + "CollectMetadata";
+
+    @Label("Class Name")
+    String className;
+
+    @Label("Write Accessors")
+    @Description("The number of write accessors that have been found")
+    int writeAccessors;
+}
@@ -0,0 +1,139 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.codehaus.plexus.logging.AbstractLogEnabled;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.*;
+
+import static java.lang.ClassLoader.getSystemClassLoader;
+
+/**
+ * <p>
+ * Caches {@link ClassLoader ClassLoaders} for the dependency jars of maven projects, so that the modules of a reactor
+ * sharing the same dependencies do not open, load and link the very same jars and classes over and over again.
+ * </p>
+ * <p>
+ * Cached {@link ClassLoader ClassLoaders} are keyed by the list of jars along with their sizes and modification times,
+ * so a jar that has been rebuilt, e.g. one of another module of the reactor, yields a new {@link ClassLoader}. As this
+ * component lives as long as the plugin itself, i.e. at least for the whole maven session, only a limited number of
+ * {@link ClassLoader ClassLoaders} is retained. Those that are evicted are closed as soon as they are no longer in
+ * use.
+ * </p>
+ */
+@Singleton
+@Named
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+class DependencyClassLoaderCache extends AbstractLogEnabled {
+
+    /**
+     * <p>
+     * The maximum number of {@link ClassLoader ClassLoaders} to retain while they are not in use.
+     * </p>
+     */
+    static final int MAX_RETAINED = 4;
+
+    @lombok.NonNull
+    private final Closer closer;
+
+    // access order, so that the least recently used entry comes first
+    private final LinkedHashMap<List<JarFingerprint>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * <p>
+     * Returns a {@link ClassLoader} for {@code jars}, creating it only if no {@link ClassLoader} for the same jars in
+     * the same state is cached yet. Each {@link ClassLoader} acquired via this method is to be
+     * {@link #release(ClassLoader) released} once it is no longer in use.
+     * </p>
+     *
+     * @param jars The jars from which to load classes. Must not be {@code null}.
+     * @return A {@link ClassLoader} for {@code jars} whose parent is the system {@link ClassLoader}. Never
+     * {@code null}.
+     */
+    synchronized URLClassLoader acquire(final List<File> jars) {
+        Objects.requireNonNull(jars);
+        final var key = jars.stream().map(JarFingerprint::of).toList();
+        var entry = entries.get(key);
+        if (entry == null) {
+            getLogger().debug("Create ClassLoader for " + jars.size() + " dependency jars.");
+            entry = new Entry(new URLClassLoader(toUrls(jars), getSystemClassLoader()));
+            entries.put(key, entry);
+        } else {
+            getLogger().debug("Reuse ClassLoader for " + jars.size() + " dependency jars.");
+        }
+        entry.references++;
+        evictUnused();
+        return entry.getClassLoader();
+    }
+
+    /**
+     * <p>
+     * Releases a {@link ClassLoader} that has been {@link #acquire(List) acquired} before. If it has been evicted from
+     * the cache in the meantime and is no longer in use, it is closed.
+     * </p>
+     *
+     * @param classLoader The {@link ClassLoader} to release. Must not be {@code null}.
+     * @throws Closer.CloseException In case an error occurs while attempting to close {@code classLoader}.
+     */
+    synchronized void release(final ClassLoader classLoader) {
+        Objects.requireNonNull(classLoader);
+        entries.values().stream() //
+                .filter(entry -> entry.getClassLoader() == classLoader) //
+                .findFirst() //
+                .ifPresentOrElse( //
+                        entry -> entry.references = Math.max(0, entry.references - 1), //
+                        () -> closer.closeIfCloseable(classLoader));
+        evictUnused();
+    }
+
+    private void evictUnused() {
+        final var unused = entries.entrySet().stream().filter(e -> e.getValue().references == 0).toList();
+        for (int i = 0; i < unused.size() - MAX_RETAINED; i++) {
+            final var evicted = unused.get(i);
+            entries.remove(evicted.getKey());
+            getLogger().debug("Close evicted ClassLoader for " + evicted.getKey().size() + " dependency jars.");
+            closer.closeIfCloseable(evicted.getValue().getClassLoader());
+        }
+    }
+
+    private static URL[] toUrls(final List<File> jars) {
+        final URL[] urls = new URL[jars.size()];
+        for (int i = 0; i < jars.size(); i++) {
+            try {
+                urls[i] = jars.get(i).toURI().toURL();
+            } catch (final MalformedURLException e) {
+                throw new IllegalArgumentException("Error while attempting to convert file " + jars.get(i) + " to URL.", e);
+            }
+        }
+        return urls;
+    }
+
+    @Data
+    private static class JarFingerprint {
+
+        private final String path;
+
+        private final long size;
+
+        private final long lastModified;
+
+        static JarFingerprint of(final File jar) {
+            return new JarFingerprint(jar.getAbsolutePath(), jar.length(), jar.lastModified());
+        }
+    }
+
+    @Data
+    private static class Entry {
+
+        private final URLClassLoader classLoader;
+
+        private int references;
+    }
+}
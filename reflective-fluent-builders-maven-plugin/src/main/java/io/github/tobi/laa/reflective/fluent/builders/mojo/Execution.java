@@ -0,0 +1,40 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.build.BuildContext;
+
+/**
+ * <p>
+ * The state of a single execution of {@link GenerateBuildersMojo}.
+ * </p>
+ * <p>
+ * All components but the mojo itself are singletons shared by all executions within the plugin's realm. Anything that
+ * differs between executions is thus held by an instance of this class instead, which is created upon
+ * {@link ExecutionScope#enter(MojoParams, BuildContext, MavenProject, MojoExecution) entering} the
+ * {@link ExecutionScope} and either passed down explicitly or resolved via {@link ExecutionScope#current()}.
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor
+class Execution {
+
+    @lombok.NonNull
+    private final MojoParams params;
+
+    @lombok.NonNull
+    private final BuildContext buildContext;
+
+    @lombok.NonNull
+    private final MavenProject mavenProject;
+
+    @lombok.NonNull
+    private final MojoExecution mojoExecution;
+
+    @lombok.NonNull
+    private final GenerationReport report;
+
+    private final ClassLoaderProvider.ExecutionClassLoader classLoader = new ClassLoaderProvider.ExecutionClassLoader();
+}
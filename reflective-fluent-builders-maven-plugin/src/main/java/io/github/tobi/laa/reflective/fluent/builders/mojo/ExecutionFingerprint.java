@@ -0,0 +1,257 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.RequiredArgsConstructor;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.codehaus.plexus.logging.AbstractLogEnabled;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * <p>
+ * Computes and records a fingerprint over all inputs of an execution, i.e. the configuration of the plugin and the
+ * classpath of the project.
+ * </p>
+ * <p>
+ * If neither has changed since the last successful execution and none of the builder files generated by it have been
+ * modified or deleted since, the execution would generate the very same builders again. In that case, validating the
+ * parameters, creating the class loader, scanning the classpath and collecting the metadata of the builders can be
+ * skipped altogether. Computing the fingerprint merely requires the size and modification time of each classpath
+ * element and, for directories, of each class file within them.
+ * </p>
+ * <p>
+ * Directories are walked once, reading the attributes of each file along with the directory entries. As the class
+ * files are combined in an order-independent way, they neither have to be collected nor sorted. Other files such as
+ * resources cannot affect the generated builders and are thus skipped.
+ * </p>
+ */
+@Singleton
+@Named
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+class ExecutionFingerprint extends AbstractLogEnabled {
+
+    private static final String HEADER = "# execution fingerprint recorded by reflective-fluent-builders";
+
+    private static final String SEPARATOR = "\t";
+
+    private static final HashFunction CLASS_FILE_HASH = Hashing.murmur3_128();
+
+    @lombok.NonNull
+    private final MavenBuild mavenBuild;
+
+    /**
+     * <p>
+     * Computes the fingerprint over the configuration of the plugin and the classpath of the project.
+     * </p>
+     *
+     * @param params The parameters the current execution has been configured with. Must not be {@code null}.
+     * @return The fingerprint of the current execution. Empty if the classpath cannot be resolved or read, in which
+     * case the execution is never considered up-to-date. Never {@code null}.
+     */
+    Optional<String> compute(final MojoParams params) {
+        Objects.requireNonNull(params);
+        final var hasher = Hashing.sha256().newHasher();
+        // builders generated by a different version of the plugin may differ as well
+        hasher.putString(mavenBuild.getPluginVersion(), UTF_8) //
+                .putString(String.valueOf(params), UTF_8) //
+                .putString(params.getTarget().getAbsolutePath(), UTF_8);
+        return putClasspath(hasher, true);
+    }
+
+    /**
+     * <p>
+     * Computes a fingerprint over the classpath of the project, disregarding whether its directories exist and what
+     * they contain.
+     * </p>
+     * <p>
+     * The types within the directories of the classpath, i.e. usually those of the project itself, are covered by the
+     * fingerprints of the individual builders. Those do, however, not cover changes to the order of the classpath or
+     * to its jars, e.g. a dependency that has been updated or that shadows a type of another one.
+     * </p>
+     *
+     * @return The fingerprint of the classpath. Empty if the classpath cannot be resolved or read, in which case no
+     * builder is ever considered up-to-date. Never {@code null}.
+     */
+    Optional<String> computeClasspath() {
+        return putClasspath(Hashing.sha256().newHasher(), false);
+    }
+
+    private Optional<String> putClasspath(final Hasher hasher, final boolean withDirectoryContents) {
+        try {
+            for (final var classpathElement : mavenBuild.getClasspathElements()) {
+                putClasspathElement(hasher, Paths.get(classpathElement), withDirectoryContents);
+            }
+        } catch (final DependencyResolutionRequiredException | IOException | UncheckedIOException e) {
+            getLogger().debug("Could not compute fingerprint of classpath.", e);
+            return Optional.empty();
+        }
+        return Optional.of(hasher.hash().toString());
+    }
+
+    private void putClasspathElement(final Hasher hasher, final Path classpathElement, final boolean withDirectoryContents) throws IOException {
+        hasher.putString(classpathElement.toAbsolutePath().toString(), UTF_8);
+        if (!withDirectoryContents && !Files.isRegularFile(classpathElement)) {
+            // e.g. the output directory, which might only be created by a later phase
+            return;
+        } else if (Files.isDirectory(classpathElement)) {
+            final var classFiles = new ClassFileVisitor(classpathElement);
+            Files.walkFileTree(classpathElement, classFiles);
+            hasher.putInt(classFiles.count).putLong(classFiles.sum);
+        } else if (Files.isRegularFile(classpathElement)) {
+            putAttributes(hasher, classpathElement);
+        } else {
+            // a classpath element that does not exist (yet) differs from an empty one
+            hasher.putBoolean(false);
+        }
+    }
+
+    private void putAttributes(final Hasher hasher, final Path file) throws IOException {
+        final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        hasher.putLong(attributes.size()).putLong(attributes.lastModifiedTime().toMillis());
+    }
+
+    /**
+     * <p>
+     * Checks whether {@code fingerprint} matches the one recorded within {@code file} and whether all builder files
+     * recorded along with it still exist unmodified.
+     * </p>
+     *
+     * @param file        The file in which the fingerprint of the last successful execution has been recorded. Must
+     *                    not be {@code null}.
+     * @param fingerprint The fingerprint of the current execution. Must not be {@code null}.
+     * @return {@code true} if the current execution would generate the very same builders as the last successful one,
+     * {@code false} otherwise.
+     */
+    boolean isUpToDate(final Path file, final String fingerprint) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(fingerprint);
+        if (!Files.isRegularFile(file)) {
+            getLogger().debug("No execution fingerprint has been recorded within " + file + '.');
+            return false;
+        }
+        try {
+            final var lines = Files.readAllLines(file, UTF_8);
+            if (lines.size() < 2 || !HEADER.equals(lines.get(0)) || !fingerprint.equals(lines.get(1))) {
+                getLogger().debug("Execution fingerprint recorded within " + file + " does not match.");
+                return false;
+            }
+            for (final var line : lines.subList(2, lines.size())) {
+                final var columns = line.split(SEPARATOR);
+                if (columns[0].isEmpty() || !columns[0].equals(attributes(Paths.get(columns[1])))) {
+                    getLogger().debug("Builder file " + columns[1] + " has been modified or deleted.");
+                    return false;
+                }
+            }
+            return true;
+        } catch (final IOException | RuntimeException e) {
+            getLogger().debug("Could not read execution fingerprint recorded within " + file + '.');
+            return false;
+        }
+    }
+
+    private String attributes(final Path file) {
+        try {
+            final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+        } catch (final IOException e) {
+            return "";
+        }
+    }
+
+    /**
+     * <p>
+     * Deletes {@code file}, so that an execution that fails before recording its fingerprint is not followed by an
+     * execution considering itself up-to-date.
+     * </p>
+     *
+     * @param file The file in which the fingerprint of the last successful execution has been recorded. Must not be
+     *             {@code null}.
+     */
+    void delete(final Path file) {
+        Objects.requireNonNull(file);
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            getLogger().warn("Could not delete execution fingerprint " + file + '.', e);
+        }
+    }
+
+    /**
+     * <p>
+     * Records {@code fingerprint} along with the size and modification time of {@code builderFiles} within
+     * {@code file}. Failing to do so is logged as a warning but does not fail the execution, as the next execution will
+     * then merely not be able to skip generating builders.
+     * </p>
+     *
+     * @param file         The file to write. Must not be {@code null}.
+     * @param fingerprint  The fingerprint of the current execution. Must not be {@code null}.
+     * @param builderFiles The builder files generated by the current execution. Must not be {@code null}.
+     */
+    void write(final Path file, final String fingerprint, final Collection<Path> builderFiles) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(fingerprint);
+        Objects.requireNonNull(builderFiles);
+        final List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        lines.add(fingerprint);
+        builderFiles.stream() //
+                .map(Path::toAbsolutePath) //
+                .sorted() //
+                .forEach(builderFile -> lines.add(attributes(builderFile) + SEPARATOR + builderFile));
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, lines, UTF_8);
+        } catch (final IOException e) {
+            getLogger().warn("Could not write execution fingerprint to " + file + '.', e);
+        }
+    }
+
+    /**
+     * <p>
+     * Combines the relative path, size and modification time of each class file within a directory independently of
+     * the order in which they are visited.
+     * </p>
+     */
+    @RequiredArgsConstructor
+    private static class ClassFileVisitor extends SimpleFileVisitor<Path> {
+
+        private final Path directory;
+
+        private int count;
+
+        private long sum;
+
+        @Override
+        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+            if (attributes.isRegularFile() && file.getFileName().toString().endsWith(".class")) {
+                count++;
+                sum += CLASS_FILE_HASH.newHasher() //
+                        .putString(directory.relativize(file).toString(), UTF_8) //
+                        .putLong(attributes.size()) //
+                        .putLong(attributes.lastModifiedTime().toMillis()) //
+                        .hash() //
+                        .asLong();
+            }
+            return FileVisitResult.CONTINUE;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.build.BuildContext;
+import org.codehaus.plexus.logging.AbstractLogEnabled;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * <p>
+ * Binds the {@link Execution state} of a single execution of {@link GenerateBuildersMojo} to the threads performing it.
+ * </p>
+ * <p>
+ * Maven creates a new instance of the mojo for each execution, but all other components are singletons within the
+ * plugin's realm, which is shared by all modules of a reactor. In a parallel build, executions for different modules
+ * run concurrently, so the shared components must not hold the state of any of them. Instead, each execution creates
+ * its own {@link Execution}, which is bound to the thread executing the mojo as well as to the worker threads created
+ * for it. Shared components which cannot be handed the {@link Execution} explicitly, e.g. as they implement interfaces
+ * of the generator, resolve it via {@link #current()}.
+ * </p>
+ */
+@Singleton
+@Named
+class ExecutionScope extends AbstractLogEnabled {
+
+    private final ThreadLocal<Execution> currentExecution = new ThreadLocal<>();
+
+    /**
+     * <p>
+     * Enters this scope on the current thread with a new {@link Execution} holding the given state of the entering
+     * execution. The returned {@link Lease} is to be {@link Lease#close() closed} once the execution is over,
+     * preferably via try-with-resources.
+     * </p>
+     *
+     * @param configuration The parameters the entering execution has been configured with. Must not be {@code null}.
+     * @param buildContext  The {@link BuildContext} of the entering execution. Must not be {@code null}.
+     * @param mavenProject  The {@link MavenProject} of the entering execution. Must not be {@code null}.
+     * @param mojoExecution The {@link MojoExecution} of the entering execution. Must not be {@code null}.
+     * @return A {@link Lease} to be closed once the execution is over. Never {@code null}.
+     */
+    Lease enter(final MojoParams configuration, //
+                final BuildContext buildContext, //
+                final MavenProject mavenProject, //
+                final MojoExecution mojoExecution) {
+        Objects.requireNonNull(configuration);
+        Objects.requireNonNull(buildContext);
+        Objects.requireNonNull(mavenProject);
+        Objects.requireNonNull(mojoExecution);
+        final var report = new GenerationReport();
+        report.enableLogging(getLogger());
+        final var execution = new Execution(configuration, buildContext, mavenProject, mojoExecution, report);
+        getLogger().debug("Bind execution of the plugin to thread " + Thread.currentThread().getName() + '.');
+        return bind(execution);
+    }
+
+    private Lease bind(final Execution execution) {
+        final var previous = currentExecution.get();
+        currentExecution.set(execution);
+        return new Lease() {
+
+            @Override
+            public Execution getExecution() {
+                return execution;
+            }
+
+            @Override
+            public void close() {
+                if (previous == null) {
+                    currentExecution.remove();
+                } else {
+                    currentExecution.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * <p>
+     * Returns the {@link Execution} bound to the current thread.
+     * </p>
+     * <p>
+     * Only the thread executing the mojo and the worker threads created via {@link #workerThreadFactory()} are bound to
+     * an {@link Execution}. Any other thread, e.g. one of a common pool, is not and thus fails. Components that have
+     * access to the {@link Execution} should rather pass it on explicitly.
+     * </p>
+     *
+     * @return The {@link Execution} bound to the current thread. Never {@code null}.
+     * @throws IllegalStateException If no {@link Execution} is bound to the current thread.
+     */
+    Execution current() {
+        final var execution = currentExecution.get();
+        if (execution == null) {
+            throw new IllegalStateException("No execution of the plugin is bound to thread " + Thread.currentThread().getName() + //
+                    ". Components shared by all executions may only be used by the thread executing the mojo and by worker threads " + //
+                    "created via ExecutionScope#workerThreadFactory().");
+        }
+        return execution;
+    }
+
+    /**
+     * <p>
+     * Creates a {@link ForkJoinPool.ForkJoinWorkerThreadFactory} whose threads are bound to the {@link Execution} of the
+     * current thread for as long as they live. The threads furthermore see the same context class loader as the current
+     * thread.
+     * </p>
+     *
+     * @return A {@link ForkJoinPool.ForkJoinWorkerThreadFactory} for the worker threads of the current execution. Never
+     * {@code null}.
+     * @throws IllegalStateException If no {@link Execution} is bound to the current thread.
+     */
+    ForkJoinPool.ForkJoinWorkerThreadFactory workerThreadFactory() {
+        final var execution = current();
+        final var contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return pool -> {
+            final var thread = new ForkJoinWorkerThread(pool) {
+
+                private Lease lease;
+
+                @Override
+                protected void onStart() {
+                    super.onStart();
+                    lease = bind(execution);
+                }
+
+                @Override
+                protected void onTermination(final Throwable exception) {
+                    if (lease != null) {
+                        lease.close();
+                    }
+                    super.onTermination(exception);
+                }
+            };
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        };
+    }
+
+    /**
+     * <p>
+     * Binds an {@link Execution} to a thread until it is {@link #close() closed}.
+     * </p>
+     */
+    interface Lease extends AutoCloseable {
+
+        /**
+         * <p>
+         * Returns the {@link Execution} bound by this lease.
+         * </p>
+         *
+         * @return The {@link Execution} bound by this lease. Never {@code null}.
+         */
+        Execution getExecution();
+
+        @Override
+        void close();
+    }
+}
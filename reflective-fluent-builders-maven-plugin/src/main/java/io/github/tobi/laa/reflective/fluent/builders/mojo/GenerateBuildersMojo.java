@@ -1,17 +1,24 @@
 package io.github.tobi.laa.reflective.fluent.builders.mojo;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import io.github.classgraph.ClassInfo;
 import io.github.tobi.laa.reflective.fluent.builders.constants.BuilderConstants;
-import io.github.tobi.laa.reflective.fluent.builders.generator.api.JavaFileGenerator;
 import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata;
 import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata.BuiltType;
+import io.github.tobi.laa.reflective.fluent.builders.mojo.GenerationReport.Count;
+import io.github.tobi.laa.reflective.fluent.builders.mojo.GenerationReport.Phase;
+import io.github.tobi.laa.reflective.fluent.builders.mojo.GenerationReport.Step;
+import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties.MetadataEngine;
 import io.github.tobi.laa.reflective.fluent.builders.service.api.BuilderMetadataService;
 import io.github.tobi.laa.reflective.fluent.builders.service.api.ClassService;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.MetadataCacheService;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.TypeService;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecution;
@@ -27,11 +34,22 @@ import org.codehaus.plexus.build.BuildContext;
 import javax.inject.Inject;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 /**
@@ -39,14 +57,19 @@ import java.util.stream.Collectors;
  * A maven plugin for generating fluent builders for existing classes with the help of reflection. This can be useful in
  * cases where it is not possible (or very hard) to change the sources of said classes to generate builders directly.
  * </p>
+ * <p>
+ * The mojo is {@link Mojo#threadSafe() thread-safe} even though the services of the generator are singletons within
+ * the plugin's realm and do keep state, e.g. scans of the classpath and memoized write accessors. In a parallel build,
+ * executions for different modules share these services, so anything they retain is either keyed by the
+ * {@link ClassLoader} of the execution or by the configuration it has been derived from, and the configuration
+ * itself is resolved per execution via the {@link ExecutionScope}. The state of the mojo itself is never shared, as
+ * Maven creates a new instance for each execution.
+ * </p>
  */
-@Mojo(name = "generate-builders", defaultPhase = LifecyclePhase.GENERATE_TEST_SOURCES, requiresDependencyResolution = ResolutionScope.TEST)
+@Mojo(name = "generate-builders", defaultPhase = LifecyclePhase.GENERATE_TEST_SOURCES, requiresDependencyResolution = ResolutionScope.TEST, threadSafe = true)
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 public class GenerateBuildersMojo extends AbstractMojo {
 
-    @lombok.NonNull
-    private final MojoParams params;
-
     @lombok.NonNull
     private final MavenBuild mavenBuild;
 
@@ -54,47 +77,157 @@ public class GenerateBuildersMojo extends AbstractMojo {
     private final ClassLoaderProvider classLoaderProvider;
 
     @lombok.NonNull
-    private final JavaFileGenerator javaFileGenerator;
+    private final ClassService classService;
 
     @lombok.NonNull
-    private final ClassService classService;
+    private final TypeService typeService;
 
     @lombok.NonNull
     private final BuilderMetadataService builderMetadataService;
 
+    @lombok.NonNull
+    private final MetadataCacheService metadataCacheService;
+
     @lombok.NonNull
     private final JavaFileHelper javaFileHelper;
 
     @lombok.NonNull
     private final OrphanDeleter orphanDeleter;
 
+    @lombok.NonNull
+    private final BuilderFileWriter builderFileWriter;
+
+    @lombok.NonNull
+    private final BuilderDependencyGraph dependencyGraph;
+
+    @lombok.NonNull
+    private final IncrementalState incrementalState;
+
+    @lombok.NonNull
+    private final ExecutionFingerprint executionFingerprint;
+
+    @lombok.NonNull
+    private final ExecutionScope executionScope;
+
+    // the state of this very execution, which is bound to the threads performing it only once it enters the scope
+    private MojoParams configuration;
+
+    private BuildContext buildContext;
+
+    private MavenProject mavenProject;
+
+    private MojoExecution mojoExecution;
+
+    // as maven creates a new instance of the mojo for each execution, the stages of the mojo use this very execution
+    // explicitly instead of resolving it via the ExecutionScope, which is only bound to the threads performing it
+    private Execution execution;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
+        try (final var lease = executionScope.enter(configuration(), buildContext, mavenProject, mojoExecution)) {
+            execution = lease.getExecution();
+            executeWithinScope();
+        } finally {
+            execution = null;
+        }
+    }
+
+    private void executeWithinScope() throws MojoExecutionException, MojoFailureException {
+        final var fingerprint = executionFingerprint.compute(configuration());
+        if (fingerprint.isPresent() && executionFingerprint.isUpToDate(executionFingerprintFile(), fingerprint.get())) {
+            getLog().info("Neither the configuration nor the classpath have changed since the last execution, so all builders are up to date.");
+            addCompileSourceRoot();
+            mavenBuild.updateModuleBuildTime();
+            return;
+        }
+        executionFingerprint.delete(executionFingerprintFile());
+        final BuilderIndex index;
+        try {
+            index = generateBuilders();
+        } finally {
+            // also if generation fails, as the class loader for dependency jars is otherwise never released
+            closeClassLoader();
+        }
+        mavenBuild.updateModuleBuildTime();
+        fingerprint.ifPresent(f -> executionFingerprint.write(executionFingerprintFile(), f, resolveBuilderFiles(index.getBuilderFiles())));
+        report().finish(workingDirectory().resolve(mavenBuild.getExecutionId() + "-report.json"));
+    }
+
+    private BuilderIndex generateBuilders() throws MojoExecutionException, MojoFailureException {
+        report().start();
         logMavenParams();
         validateParams();
         final var classes = collectAndFilterClasses();
-        final var nonEmptyBuilderMetadata = collectNonEmptyBuilderMetadata(classes);
         createTargetDirectory();
-        final var generatedBuilderFiles = generateAndWriteBuildersToTarget(nonEmptyBuilderMetadata);
-        deleteOrphanedBuilders(nonEmptyBuilderMetadata);
-        refreshBuildContext(generatedBuilderFiles);
+        final var previousBuilderFiles = orphanDeleter.readAndDeleteManifest(manifestFile(), configuration().getTarget().toPath());
+        final var previousDependencies = dependencyGraph.readAndDelete(dependenciesFile());
+        final var stateConfigKey = stateConfigKey();
+        // the recorded state is deleted in any case, as it must not be relied upon without a fingerprint of the classpath
+        final var recordedState = incrementalState.readAndDelete(stateFile(), stateConfigKey.orElse(""));
+        final var previousState = stateConfigKey.isPresent() ? recordedState : Map.<String, IncrementalState.Entry>of();
+        final var index = generateBuildersInChunks(classes, previousDependencies, previousState);
+        dependencyGraph.write(dependenciesFile(), index.getDependencies());
+        stateConfigKey.ifPresent(key -> incrementalState.write(stateFile(), key, index.getState()));
+        deleteOrphanedBuilders(index.getBuilderFiles(), previousBuilderFiles);
+        refreshBuildContext(index.getWrittenBuilderFiles());
         addCompileSourceRoot();
-        closeClassLoader();
-        mavenBuild.updateModuleBuildTime();
+        return index;
+    }
+
+    private MojoParams configuration() {
+        if (configuration == null) {
+            configuration = new MojoParams(mavenBuild);
+        }
+        return configuration;
+    }
+
+    private GenerationReport report() {
+        return execution.getReport();
+    }
+
+    private Path workingDirectory() {
+        return Paths.get(mavenBuild.getDirectory()).resolve("reflective-fluent-builders");
+    }
+
+    private Path manifestFile() {
+        return workingDirectory().resolve(mavenBuild.getExecutionId() + "-builders.manifest");
+    }
+
+    private Path dependenciesFile() {
+        return workingDirectory().resolve(mavenBuild.getExecutionId() + "-builders.dependencies");
+    }
+
+    private Path stateFile() {
+        return workingDirectory().resolve(mavenBuild.getExecutionId() + "-builders.state");
+    }
+
+    private Path executionFingerprintFile() {
+        return workingDirectory().resolve(mavenBuild.getExecutionId() + "-execution.fingerprint");
+    }
+
+    private Optional<String> stateConfigKey() {
+        // builders generated by a different version of the plugin or against a different classpath may differ as well
+        return executionFingerprint.computeClasspath() //
+                .map(classpath -> mavenBuild.getPluginVersion() + ':' + configuration() + ':' + classpath);
     }
 
     private void closeClassLoader() {
+        // the scan and the exploded types are kept per class loader, so there is nothing to release if none has been created
+        if (classLoaderProvider.isClassLoaderCreated()) {
+            classService.releaseScan();
+            typeService.releaseExplodedTypes();
+        }
         classLoaderProvider.closeAndDisposeOfClassLoader();
     }
 
     private void logMavenParams() {
-        getLog().debug("Parameters are: " + params);
+        getLog().debug("Parameters are: " + configuration());
     }
 
     private void validateParams() throws MojoExecutionException {
         try (final ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
             final Validator validator = factory.getValidator();
-            final var violations = validator.validate(params);
+            final var violations = validator.validate(configuration());
             if (!violations.isEmpty()) {
                 throw new MojoExecutionException("Parameter validation failed.\n" + violations.stream().map(ConstraintViolation::getMessage).collect(Collectors.joining("\n")));
             }
@@ -102,15 +235,26 @@ public class GenerateBuildersMojo extends AbstractMojo {
     }
 
     private Set<ClassInfo> collectAndFilterClasses() throws MojoExecutionException {
-        final var allClasses = collectClasses();
-        final var filteredClasses = filterClasses(allClasses);
+        final Set<ClassInfo> allClasses;
+        try (final var ignored = report().time(Phase.SCAN)) {
+            allClasses = collectClasses();
+        }
+        final Set<ClassInfo> filteredClasses;
+        try (final var ignored = report().time(Phase.FILTER)) {
+            filteredClasses = filterClasses(allClasses);
+        }
+        report().count(Count.CLASSES_FOUND, allClasses.size());
+        report().count(Count.CLASSES_TO_BUILD, filteredClasses.size());
         getLog().info("Found " + filteredClasses.size() + " classes for which to generate builders.");
         return filteredClasses;
     }
 
     private Set<ClassInfo> collectClasses() throws MojoExecutionException {
+        final var event = new ScanEvent();
+        event.begin();
+        scanIncludes();
         final var allClasses = new HashSet<ClassInfo>();
-        for (final var include : params.getIncludes()) {
+        for (final var include : configuration().getIncludes()) {
             if (include.getPackageName() != null) {
                 getLog().info("Scan package " + include.getPackageName() + " recursively for classes.");
                 allClasses.addAll(classService.collectClassesRecursively(include.getPackageName().trim()));
@@ -119,9 +263,29 @@ public class GenerateBuildersMojo extends AbstractMojo {
                 allClasses.add(loadClass(include.getClassName()));
             }
         }
+        event.packages = configuration().getIncludes().stream() //
+                .map(Include::getPackageName) //
+                .filter(Objects::nonNull) //
+                .map(String::trim) //
+                .collect(Collectors.joining(", "));
+        event.classesFound = allClasses.size();
+        event.commit();
         return allClasses;
     }
 
+    private void scanIncludes() {
+        final var packageNames = configuration().getIncludes().stream() //
+                .map(Include::getPackageName) //
+                .filter(Objects::nonNull) //
+                .map(String::trim) //
+                .collect(Collectors.toSet());
+        final var classNames = configuration().getIncludes().stream() //
+                .map(Include::getClassName) //
+                .filter(Objects::nonNull) //
+                .collect(Collectors.toSet());
+        classService.scanClasspath(packageNames, classNames);
+    }
+
     private ClassInfo loadClass(final String className) throws MojoExecutionException {
         return classService.loadClass(className).orElseThrow(() -> new MojoExecutionException("Unable to load class " + className));
     }
@@ -143,19 +307,74 @@ public class GenerateBuildersMojo extends AbstractMojo {
     }
 
     private void createTargetDirectory() throws MojoFailureException {
-        getLog().info("Make sure target directory " + params.getTarget() + " exists.");
+        getLog().info("Make sure target directory " + configuration().getTarget() + " exists.");
         try {
-            Files.createDirectories(params.getTarget().toPath());
+            Files.createDirectories(configuration().getTarget().toPath());
         } catch (final IOException e) {
-            throw new MojoFailureException("Could not create target directory " + params.getTarget() + '.', e);
+            throw new MojoFailureException("Could not create target directory " + configuration().getTarget() + '.', e);
         }
     }
 
-    private Set<BuilderMetadata> collectNonEmptyBuilderMetadata(final Set<ClassInfo> buildableClasses) {
-        final var allMetadata = buildableClasses.stream() //
-                .map(builderMetadataService::collectBuilderMetadata) //
-                .collect(Collectors.toSet());
-        final var nonEmptyMetadata = builderMetadataService.filterOutEmptyBuilders(allMetadata);
+    private BuilderIndex generateBuildersInChunks(final Set<ClassInfo> buildableClasses, //
+                                                  final Map<String, Set<Path>> previousDependencies, //
+                                                  final Map<String, IncrementalState.Entry> previousState) throws MojoExecutionException, MojoFailureException {
+        // classes of the same package tend to share their hierarchies, so they should end up in the same chunk
+        final var sortedClasses = buildableClasses.stream().sorted(Comparator.comparing(ClassInfo::getName)).toList();
+        final var chunks = Lists.partition(sortedClasses, configuration().getChunkSize());
+        getLog().debug("Process " + sortedClasses.size() + " classes in " + chunks.size() + " chunks.");
+        final var index = new BuilderIndex();
+        final List<MojoFailureException> failures = new ArrayList<>();
+        final var executor = newWorkStealingPool(configuration().getParallelism());
+        openMetadataCache();
+        try {
+            for (final var chunk : chunks) {
+                try {
+                    generateBuilders(chunk, previousDependencies, previousState, index, executor);
+                } catch (final MojoFailureException e) {
+                    // just as within a chunk, a failing builder must not prevent the remaining ones from being generated
+                    failures.add(e);
+                }
+            }
+        } finally {
+            closeMetadataCache();
+            executor.shutdownNow();
+        }
+        if (failures.size() == 1) {
+            throw failures.get(0);
+        } else if (!failures.isEmpty()) {
+            final var message = failures.stream() //
+                    .map(Throwable::getMessage) //
+                    .collect(Collectors.joining("\n"));
+            final var combined = new MojoFailureException(message);
+            failures.forEach(combined::addSuppressed);
+            throw combined;
+        }
+        return index;
+    }
+
+    private void generateBuilders(final List<ClassInfo> chunk, //
+                                  final Map<String, Set<Path>> previousDependencies, //
+                                  final Map<String, IncrementalState.Entry> previousState, //
+                                  final BuilderIndex index, //
+                                  final ForkJoinPool executor) throws MojoExecutionException, MojoFailureException {
+        final var nonEmptyBuilderMetadata = collectNonEmptyBuilderMetadata(chunk, executor);
+        final var dependencies = dependencyGraph.collectDependencies(nonEmptyBuilderMetadata);
+        final var fingerprints = collectFingerprints(nonEmptyBuilderMetadata);
+        final var outdatedBuilderMetadata = filterOutUpToDateBuilders( //
+                nonEmptyBuilderMetadata, dependencies, previousDependencies, fingerprints, previousState);
+        index.getWrittenBuilderFiles().addAll(generateAndWriteBuildersToTarget(outdatedBuilderMetadata, executor));
+        index.getDependencies().putAll(dependencies);
+        indexBuilders(nonEmptyBuilderMetadata, fingerprints, index);
+    }
+
+    private Set<BuilderMetadata> collectNonEmptyBuilderMetadata(final List<ClassInfo> buildableClasses, final ForkJoinPool executor) throws MojoExecutionException {
+        final Set<BuilderMetadata> allMetadata;
+        final Set<BuilderMetadata> nonEmptyMetadata;
+        try (final var ignored = report().time(Phase.COLLECT_METADATA)) {
+            allMetadata = collectBuilderMetadata(buildableClasses, executor);
+            nonEmptyMetadata = builderMetadataService.filterOutEmptyBuilders(allMetadata);
+        }
+        report().add(Count.NON_EMPTY_BUILDERS, nonEmptyMetadata.size());
         if (getLog().isDebugEnabled()) {
             final var emptyMetadata = Sets.difference(allMetadata, nonEmptyMetadata);
             getLog().debug("Builders for the following classes would be empty and will thus be skipped:");
@@ -164,10 +383,128 @@ public class GenerateBuildersMojo extends AbstractMojo {
         return nonEmptyMetadata;
     }
 
-    private boolean isGenerationNecessary(final BuilderMetadata builderMetadata) {
-        return !mavenBuild.isIncremental() || //
-                !builderFileExist(builderMetadata) || //
-                buildContextHasDelta(builderMetadata);
+    private void openMetadataCache() {
+        final var cacheFile = workingDirectory().resolve(mavenBuild.getExecutionId() + "-metadata.cache");
+        getLog().debug("Use metadata cache " + cacheFile + '.');
+        // hierarchy collection excludes are only available as predicates to the generator
+        try (final var ignored = report().time(Phase.COLLECT_METADATA)) {
+            metadataCacheService.open(cacheFile, String.valueOf(configuration().getHierarchyCollection()));
+        }
+    }
+
+    private void closeMetadataCache() {
+        try (final var ignored = report().time(Phase.COLLECT_METADATA)) {
+            metadataCacheService.close();
+        } catch (final UncheckedIOException e) {
+            // the cache is merely an optimization, so failing to write it must not fail the build
+            getLog().warn("Could not write metadata cache.", e);
+        }
+    }
+
+    private Set<BuilderMetadata> collectBuilderMetadata(final List<ClassInfo> buildableClasses, final ForkJoinPool executor) throws MojoExecutionException {
+        final var parallelism = configuration().getParallelism();
+        if (parallelism == 1 || buildableClasses.size() < 2) {
+            return buildableClasses.stream() //
+                    .map(this::collectBuilderMetadata) //
+                    .collect(Collectors.toSet());
+        } else {
+            getLog().debug("Collect builder metadata using " + parallelism + " threads.");
+            return collectBuilderMetadataInParallel(buildableClasses, executor);
+        }
+    }
+
+    private Set<BuilderMetadata> collectBuilderMetadataInParallel(final List<ClassInfo> buildableClasses, final ForkJoinPool executor) throws MojoExecutionException {
+        try {
+            final var tasks = buildableClasses.stream() //
+                    .<Callable<BuilderMetadata>>map(clazz -> () -> collectBuilderMetadata(clazz)) //
+                    .toList();
+            final Set<BuilderMetadata> allMetadata = new HashSet<>();
+            for (final var future : executor.invokeAll(tasks)) {
+                allMetadata.add(future.get());
+            }
+            return allMetadata;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while collecting builder metadata.", e);
+        } catch (final ExecutionException e) {
+            throw rethrowCause(e);
+        }
+    }
+
+    private BuilderMetadata collectBuilderMetadata(final ClassInfo clazz) {
+        final var event = new CollectMetadataEvent();
+        event.begin();
+        final var metadata = report().time(Step.COLLECT_METADATA, clazz.getName(), () -> builderMetadataService.collectBuilderMetadata(clazz));
+        event.className = clazz.getName();
+        event.writeAccessors = metadata.getBuiltType().getWriteAccessors().size();
+        event.commit();
+        return metadata;
+    }
+
+    private ForkJoinPool newWorkStealingPool(final int parallelism) {
+        // worker threads need to be bound to this execution as well
+        return new ForkJoinPool(parallelism, executionScope.workerThreadFactory(), null, true);
+    }
+
+    private RuntimeException rethrowCause(final ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (e.getCause() instanceof Error error) {
+            throw error;
+        } else {
+            return new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Map<String, Optional<String>> collectFingerprints(final Set<BuilderMetadata> nonEmptyBuilderMetadata) {
+        return nonEmptyBuilderMetadata.stream() //
+                .collect(Collectors.toMap( //
+                        metadata -> metadata.getBuiltType().getType().getName(), //
+                        incrementalState::fingerprint));
+    }
+
+    private List<BuilderMetadata> filterOutUpToDateBuilders(final Set<BuilderMetadata> nonEmptyBuilderMetadata, //
+                                                            final Map<String, Set<Path>> dependencies, //
+                                                            final Map<String, Set<Path>> previousDependencies, //
+                                                            final Map<String, Optional<String>> fingerprints, //
+                                                            final Map<String, IncrementalState.Entry> previousState) {
+        final List<BuilderMetadata> metadataToGenerate = new ArrayList<>();
+        for (final var metadata : nonEmptyBuilderMetadata) {
+            final var className = metadata.getBuiltType().getType().getName();
+            // a type the builder no longer depends on may still be the reason for it no longer doing so
+            final var allDependencies = Sets.union( //
+                    dependencies.getOrDefault(className, Set.of()), //
+                    previousDependencies.getOrDefault(className, Set.of()));
+            if (isGenerationNecessary(metadata, allDependencies, fingerprints.get(className), previousState.get(className))) {
+                metadataToGenerate.add(metadata);
+            } else {
+                getLog().info("Builder for class " + className + " already exists and is up to date.");
+            }
+        }
+        return metadataToGenerate;
+    }
+
+    private boolean isGenerationNecessary(final BuilderMetadata builderMetadata, //
+                                          final Set<Path> dependencies, //
+                                          final Optional<String> fingerprint, //
+                                          final IncrementalState.Entry previousState) {
+        if (!builderFileExist(builderMetadata)) {
+            return true;
+        } else if (mavenBuild.isIncremental()) {
+            return buildContextHasDelta(builderMetadata) || //
+                    dependencies.stream().map(Path::toFile).anyMatch(mavenBuild::hasDelta);
+        } else {
+            // outside of an IDE, the build context reports every file as changed
+            return !isUpToDate(builderMetadata, fingerprint, previousState);
+        }
+    }
+
+    private boolean isUpToDate(final BuilderMetadata builderMetadata, final Optional<String> fingerprint, final IncrementalState.Entry previousState) {
+        return previousState != null && //
+                fingerprint.filter(previousState.getFingerprint()::equals).isPresent() && //
+                builderFileWriter.hashBuilderFile(resolveBuilderFile(builderMetadata)) //
+                        .filter(previousState.getBuilderFileHash()::equals) //
+                        .isPresent();
     }
 
     private boolean builderFileExist(final BuilderMetadata builderMetadata) {
@@ -176,9 +513,16 @@ public class GenerateBuildersMojo extends AbstractMojo {
     }
 
     private Path resolveBuilderFile(final BuilderMetadata builderMetadata) {
-        return params.getTarget().toPath()
-                .resolve(javaFileHelper.javaNameToPath(builderMetadata.getPackageName()))
-                .resolve(builderMetadata.getName() + ".java");
+        return configuration().getTarget().toPath().resolve(relativeBuilderFile(builderMetadata));
+    }
+
+    private Path relativeBuilderFile(final BuilderMetadata builderMetadata) {
+        return javaFileHelper.javaNameToPath(builderMetadata.getPackageName()).resolve(builderMetadata.getName() + ".java");
+    }
+
+    private Set<Path> resolveBuilderFiles(final Set<Path> relativeBuilderFiles) {
+        final var target = configuration().getTarget().toPath();
+        return relativeBuilderFiles.stream().map(target::resolve).collect(Collectors.toSet());
     }
 
     private boolean buildContextHasDelta(final BuilderMetadata builderMetadata) {
@@ -197,45 +541,49 @@ public class GenerateBuildersMojo extends AbstractMojo {
         return type.getSourceFile().flatMap(source -> mavenBuild.resolveSourceFile(type.getType().getPackageName(), source));
     }
 
-    private Set<Path> generateAndWriteBuildersToTarget(final Set<BuilderMetadata> nonEmptyBuilderMetadata) throws MojoFailureException {
-        final Set<Path> generatedBuilderFiles = new HashSet<>();
-        for (final var metadata : nonEmptyBuilderMetadata) {
-            if (isGenerationNecessary(metadata)) {
-                generateAndWriteBuilderToTarget(metadata);
-                generatedBuilderFiles.add(resolveBuilderFile(metadata));
-            } else {
-                final var className = metadata.getBuiltType().getType().getName();
-                getLog().info("Builder for class " + className + " already exists and is up to date.");
-            }
+    private Set<Path> generateAndWriteBuildersToTarget(final List<BuilderMetadata> metadataToGenerate, final ForkJoinPool executor) throws MojoFailureException {
+        try (final var ignored = report().time(Phase.GENERATE)) {
+            return builderFileWriter.generateAndWriteBuilders(configuration().getTarget().toPath(), metadataToGenerate, executor, report());
         }
-        return generatedBuilderFiles;
     }
 
-    private void generateAndWriteBuilderToTarget(final BuilderMetadata metadata) throws MojoFailureException {
-        final var className = metadata.getBuiltType().getType().getName();
-        getLog().info("Generate builder for class " + className);
-        final var javaFile = javaFileGenerator.generateJavaFile(metadata);
-        try {
-            javaFile.writeTo(params.getTarget());
-        } catch (final IOException e) {
-            throw new MojoFailureException("Could not create file for builder for " + className + '.', e);
+    private void indexBuilders(final Set<BuilderMetadata> nonEmptyBuilderMetadata, //
+                               final Map<String, Optional<String>> fingerprints, //
+                               final BuilderIndex index) {
+        for (final var metadata : nonEmptyBuilderMetadata) {
+            final var className = metadata.getBuiltType().getType().getName();
+            index.getBuilderFiles().add(relativeBuilderFile(metadata));
+            final var fingerprint = fingerprints.get(className);
+            final var builderFileHash = builderFileWriter.hashBuilderFile(resolveBuilderFile(metadata));
+            if (fingerprint.isPresent() && builderFileHash.isPresent()) {
+                index.getState().put(className, new IncrementalState.Entry(fingerprint.get(), builderFileHash.get()));
+            }
         }
     }
 
-    private void deleteOrphanedBuilders(final Set<BuilderMetadata> metadata) throws MojoFailureException {
-        if (params.isDeleteOrphanedBuilders()) {
-            orphanDeleter.deleteOrphanedBuilders(params.getTarget().toPath(), metadata);
+    private void deleteOrphanedBuilders(final Set<Path> builderFiles, final Optional<Set<Path>> previousBuilderFiles) throws MojoFailureException {
+        // without deleting orphans, the target directory may contain more than the manifest would list
+        if (configuration().isDeleteOrphanedBuilders()) {
+            final var target = configuration().getTarget().toPath();
+            try (final var ignored = report().time(Phase.DELETE_ORPHANS)) {
+                if (previousBuilderFiles.isPresent()) {
+                    orphanDeleter.deleteOrphanedBuilders(target, builderFiles, previousBuilderFiles.get());
+                } else {
+                    orphanDeleter.deleteOrphanedBuilders(target, builderFiles);
+                }
+            }
+            orphanDeleter.writeManifest(manifestFile(), target, builderFiles);
         }
     }
 
     private void addCompileSourceRoot() {
-        if (params.isAddCompileSourceRoot()) {
-            mavenBuild.addCompileSourceRoot(params.getTarget());
+        if (configuration().isAddCompileSourceRoot()) {
+            mavenBuild.addCompileSourceRoot(configuration().getTarget());
         }
     }
 
-    private void refreshBuildContext(final Set<Path> generatedBuilderFiles) {
-        generatedBuilderFiles.stream().map(Path::toFile).forEach(mavenBuild::refresh);
+    private void refreshBuildContext(final Set<Path> writtenBuilderFiles) {
+        writtenBuilderFiles.stream().map(Path::toFile).forEach(mavenBuild::refresh);
     }
 
     /**
@@ -256,7 +604,7 @@ public class GenerateBuildersMojo extends AbstractMojo {
     @Parameter(name = "builderPackage", defaultValue = BuilderConstants.PACKAGE_PLACEHOLDER)
     @SuppressWarnings("unused")
     public void setBuilderPackage(final String builderPackage) {
-        params.setBuilderPackage(builderPackage);
+        configuration().setBuilderPackage(builderPackage);
     }
 
     /**
@@ -271,7 +619,7 @@ public class GenerateBuildersMojo extends AbstractMojo {
     @Parameter(name = "builderSuffix", defaultValue = "Builder")
     @SuppressWarnings("unused")
     public void setBuilderSuffix(final String builderSuffix) {
-        params.setBuilderSuffix(builderSuffix);
+        configuration().setBuilderSuffix(builderSuffix);
     }
 
     /**
@@ -286,7 +634,7 @@ public class GenerateBuildersMojo extends AbstractMojo {
     @Parameter(name = "setterPrefix", defaultValue = "set")
     @SuppressWarnings("unused")
     public void setSetterPrefix(final String setterPrefix) {
-        params.setSetterPrefix(setterPrefix);
+        configuration().setSetterPrefix(setterPrefix);
     }
 
     /**
@@ -301,7 +649,7 @@ public class GenerateBuildersMojo extends AbstractMojo {
     @Parameter(name = "getterPrefix", defaultValue = "get")
     @SuppressWarnings("unused")
     public void setGetterPrefix(final String getterPrefix) {
-        params.setGetterPrefix(getterPrefix);
+        configuration().setGetterPrefix(getterPrefix);
     }
 
     /**
@@ -320,7 +668,7 @@ public class GenerateBuildersMojo extends AbstractMojo {
     @Parameter(name = "adderPattern", defaultValue = "add(.+)")
     @SuppressWarnings("unused")
     public void setAdderPattern(final String adderPattern) {
-        params.setAdderPattern(adderPattern);
+        configuration().setAdderPattern(adderPattern);
     }
 
     /**
@@ -336,7 +684,7 @@ public class GenerateBuildersMojo extends AbstractMojo {
     @Parameter(name = "getAndAddEnabled", defaultValue = "true")
     @SuppressWarnings("unused")
     public void setGetAndAddEnabled(final boolean getAndAddEnabled) {
-        params.setGetAndAddEnabled(getAndAddEnabled);
+        configuration().setGetAndAddEnabled(getAndAddEnabled);
     }
 
     /**
@@ -351,7 +699,7 @@ public class GenerateBuildersMojo extends AbstractMojo {
     @Parameter(name = "directFieldAccessEnabled", defaultValue = "true")
     @SuppressWarnings("unused")
     public void setDirectFieldAccessEnabled(final boolean directFieldAccessEnabled) {
-        params.setDirectFieldAccessEnabled(directFieldAccessEnabled);
+        configuration().setDirectFieldAccessEnabled(directFieldAccessEnabled);
     }
 
     /**
@@ -366,7 +714,7 @@ public class GenerateBuildersMojo extends AbstractMojo {
     @Parameter(name = "addersEnabled", defaultValue = "true")
     @SuppressWarnings("unused")
     public void setAddersEnabled(final boolean addersEnabled) {
-        params.setAddersEnabled(addersEnabled);
+        configuration().setAddersEnabled(addersEnabled);
     }
 
     /**
@@ -419,7 +767,7 @@ public class GenerateBuildersMojo extends AbstractMojo {
     @Parameter(name = "hierarchyCollection")
     @SuppressWarnings("unused")
     public void setHierarchyCollection(final MojoParams.HierarchyCollection hierarchyCollection) {
-        params.setHierarchyCollection(hierarchyCollection);
+        configuration().setHierarchyCollection(hierarchyCollection);
     }
 
     /**
@@ -450,7 +798,7 @@ public class GenerateBuildersMojo extends AbstractMojo {
     @Parameter(required = true, name = "includes")
     @SuppressWarnings("unused")
     public void setIncludes(final Set<Include> includes) {
-        params.setIncludes(includes);
+        configuration().setIncludes(includes);
     }
 
     /**
@@ -496,7 +844,7 @@ public class GenerateBuildersMojo extends AbstractMojo {
     @Parameter(name = "excludes")
     @SuppressWarnings("unused")
     public void setExcludes(final Set<Exclude> excludes) {
-        params.setExcludes(excludes);
+        configuration().setExcludes(excludes);
     }
 
     /**
@@ -521,7 +869,7 @@ public class GenerateBuildersMojo extends AbstractMojo {
     @Parameter(name = "target")
     @SuppressWarnings("unused")
     public void setTarget(final File target) {
-        params.setTarget(target);
+        configuration().setTarget(target);
     }
 
     /**
@@ -537,7 +885,7 @@ public class GenerateBuildersMojo extends AbstractMojo {
     @Parameter(name = "addCompileSourceRoot", defaultValue = "true")
     @SuppressWarnings("unused")
     public void setAddCompileSourceRoot(final boolean addCompileSourceRoot) {
-        params.setAddCompileSourceRoot(addCompileSourceRoot);
+        configuration().setAddCompileSourceRoot(addCompileSourceRoot);
     }
 
     /**
@@ -551,6 +899,12 @@ public class GenerateBuildersMojo extends AbstractMojo {
      * <p>
      * As this is the behaviour that most projects will want, the default is {@code true}.
      * </p>
+     * <p>
+     * The builder files generated by each execution are recorded within a manifest in the build directory, so that
+     * subsequent executions only need to look at those files rather than at the whole {@link #setTarget(File) target}
+     * directory. Files that were not generated by the plugin are thus only deleted if no such manifest exists, e.g.
+     * after a clean.
+     * </p>
      *
      * @param deleteOrphanedBuilders Specifies whether to delete orphaned builders from the
      *                               {@link #setTarget(File) target directory}.
@@ -559,48 +913,133 @@ public class GenerateBuildersMojo extends AbstractMojo {
     @Parameter(name = "deleteOrphanedBuilders", defaultValue = "true")
     @SuppressWarnings("unused")
     public void setDeleteOrphanedBuilders(final boolean deleteOrphanedBuilders) {
-        params.setDeleteOrphanedBuilders(deleteOrphanedBuilders);
+        configuration().setDeleteOrphanedBuilders(deleteOrphanedBuilders);
     }
 
     /**
      * <p>
-     * (Re-)Injects {@code buildContext} into components depending on it. This is mainly to circumvent bugs in multi module
-     * projects where dependencies are being re-used across executions.
+     * The number of threads to use for collecting the metadata of the builders to generate as well as for rendering
+     * them. If not specified, the number of available processors is used. Setting this to {@code 1} processes one class
+     * at a time.
+     * </p>
+     * <p>
+     * The generated builders are identical regardless of the parallelism.
      * </p>
      *
-     * @param buildContext (New) {@link BuildContext} to inject into components depending on it.
+     * @param parallelism The number of threads to use for collecting the metadata of and rendering the builders to
+     *                    generate.
+     * @since 2.2.0
+     */
+    @Parameter(name = "parallelism")
+    @SuppressWarnings("unused")
+    public void setParallelism(final Integer parallelism) {
+        configuration().setParallelism(parallelism);
+    }
+
+    /**
+     * <p>
+     * The number of classes to process at once. The metadata of the builders for a chunk of classes is collected,
+     * rendered and written before the next chunk is processed, so that the memory required does not grow with the
+     * number of classes for which to generate builders. Only the names and files of the builders are retained across
+     * chunks. If not specified, {@value MojoParams#DEFAULT_CHUNK_SIZE} classes are processed at once.
+     * </p>
+     * <p>
+     * The generated builders are identical regardless of the chunk size.
+     * </p>
+     *
+     * @param chunkSize The number of classes to process at once.
+     * @since 2.2.0
+     */
+    @Parameter(name = "chunkSize")
+    @SuppressWarnings("unused")
+    public void setChunkSize(final Integer chunkSize) {
+        configuration().setChunkSize(chunkSize);
+    }
+
+    /**
+     * <p>
+     * The engine to use for gathering the metadata of the builders to generate. Possible values are:
+     * </p>
+     * <ul>
+     *     <li>{@code REFLECTION}: Loads all classes for which to generate builders and inspects them via reflection.</li>
+     *     <li>
+     *         {@code BYTECODE}: Reads the metadata from the bytecode of the scanned classes and only loads classes
+     *         where it is inevitable, e.g. the types of the properties to be set.
+     *     </li>
+     * </ul>
+     * <p>
+     * The generated builders are identical regardless of the engine. The default is {@code REFLECTION}.
+     * </p>
+     *
+     * @param metadataEngine The engine to use for gathering the metadata of the builders to generate.
+     * @since 2.2.0
+     */
+    @Parameter(name = "metadataEngine", defaultValue = "REFLECTION")
+    @SuppressWarnings("unused")
+    public void setMetadataEngine(final MetadataEngine metadataEngine) {
+        configuration().setMetadataEngine(metadataEngine);
+    }
+
+    /**
+     * <p>
+     * Records {@code buildContext} for this execution. It is injected into components depending on it once this
+     * execution enters the {@link ExecutionScope}, as these components are re-used across executions, possibly even
+     * concurrently, and thus must not hold it themselves.
+     * </p>
+     *
+     * @param buildContext The {@link BuildContext} of this execution.
      */
     @Inject
     @SuppressWarnings("unused")
     public void setBuildContext(final BuildContext buildContext) {
-        mavenBuild.setBuildContext(buildContext);
+        this.buildContext = buildContext;
     }
 
     /**
      * <p>
-     * (Re-)Injects {@code mavenProject} into components depending on it. This is mainly to circumvent bugs in multi module
-     * projects where dependencies are being re-used across executions.
+     * Records {@code mavenProject} for this execution. It is injected into components depending on it once this
+     * execution enters the {@link ExecutionScope}, as these components are re-used across executions, possibly even
+     * concurrently, and thus must not hold it themselves.
      * </p>
      *
-     * @param mavenProject (New) {@link MavenProject} to inject into components depending on it.
+     * @param mavenProject The {@link MavenProject} of this execution.
      */
     @Inject
     @SuppressWarnings("unused")
     public void setMavenProject(final MavenProject mavenProject) {
-        mavenBuild.setMavenProject(mavenProject);
+        this.mavenProject = mavenProject;
     }
 
     /**
      * <p>
-     * (Re-)Injects {@code mojoExecution} into components depending on it. This is mainly to circumvent bugs in multi module
-     * projects where dependencies are being re-used across executions.
+     * Records {@code mojoExecution} for this execution. It is injected into components depending on it once this
+     * execution enters the {@link ExecutionScope}, as these components are re-used across executions, possibly even
+     * concurrently, and thus must not hold it themselves.
      * </p>
      *
-     * @param mojoExecution (New) {@link MojoExecution} to inject into components depending on it.
+     * @param mojoExecution The {@link MojoExecution} of this execution.
      */
     @Inject
     @SuppressWarnings("unused")
     public void setMojoExecution(final MojoExecution mojoExecution) {
-        mavenBuild.setMojoExecution(mojoExecution);
+        this.mojoExecution = mojoExecution;
+    }
+
+    /**
+     * <p>
+     * The compact index of all builders of an execution, which outlives the chunks whereas their metadata does not.
+     * </p>
+     */
+    @Data
+    private static class BuilderIndex {
+
+        // relative to the target directory
+        private final Set<Path> builderFiles = new HashSet<>();
+
+        private final Set<Path> writtenBuilderFiles = new HashSet<>();
+
+        private final Map<String, Set<Path>> dependencies = new HashMap<>();
+
+        private final Map<String, IncrementalState.Entry> state = new HashMap<>();
     }
 }
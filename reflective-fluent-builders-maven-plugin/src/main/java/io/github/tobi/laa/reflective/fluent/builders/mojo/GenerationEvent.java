@@ -0,0 +1,20 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+
+/**
+ * <p>
+ * Base class of all Java Flight Recorder events emitted while generating builders, so that they are grouped within a
+ * single category when analyzing a recording, e.g. one of a build started with
+ * {@code MAVEN_OPTS=-XX:StartFlightRecording=filename=build.jfr}.
+ * </p>
+ * <p>
+ * Events are only committed if they are enabled within the recording, so emitting them is cheap otherwise.
+ * </p>
+ */
+@Category({"Maven", "Reflective Fluent Builders"})
+abstract class GenerationEvent extends Event {
+
+    static final String NAME_PREFIX = "io.github.tobi.laa.reflective.fluent.builders.";
+}
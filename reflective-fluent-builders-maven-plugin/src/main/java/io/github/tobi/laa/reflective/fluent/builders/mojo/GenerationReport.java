@@ -0,0 +1,337 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import lombok.Data;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.codehaus.plexus.logging.AbstractLogEnabled;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * <p>
+ * Records how long each phase of an execution of the mojo takes along with the number of classes processed and the
+ * resources consumed, so that it can be determined what a slow execution is to be blamed on.
+ * </p>
+ * <p>
+ * At the end of an execution, a short summary is logged and a machine-readable report in JSON format is written.
+ * </p>
+ * <p>
+ * As classes may be processed concurrently, everything that is recorded per class may be recorded from any thread.
+ * </p>
+ * <p>
+ * Unlike the other components, this is not a singleton: Each {@link Execution} creates its own instance upon
+ * {@link ExecutionScope#enter(MojoParams, org.codehaus.plexus.build.BuildContext, org.apache.maven.project.MavenProject, org.apache.maven.plugin.MojoExecution) entering}
+ * the {@link ExecutionScope}, so that concurrent executions do not record into the same report.
+ * </p>
+ */
+class GenerationReport extends AbstractLogEnabled {
+
+    /**
+     * <p>
+     * The number of slowest classes to list within the report.
+     * </p>
+     */
+    static final int SLOWEST_CLASSES = 10;
+
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+    private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+
+    private final Map<Step, LongAdder> stepNanos = new EnumMap<>(Step.class);
+
+    {
+        Arrays.stream(Step.values()).forEach(step -> stepNanos.put(step, new LongAdder()));
+    }
+
+    private final Map<String, LongAdder> classNanos = new ConcurrentHashMap<>();
+
+    private final Map<Count, Integer> counts = new EnumMap<>(Count.class);
+
+    private long startNanos;
+
+    private ResourceUsage usageAtStart;
+
+    /**
+     * <p>
+     * Discards everything recorded so far and starts recording a new execution.
+     * </p>
+     */
+    synchronized void start() {
+        phaseNanos.clear();
+        stepNanos.values().forEach(LongAdder::reset);
+        classNanos.clear();
+        counts.clear();
+        startNanos = System.nanoTime();
+        usageAtStart = ResourceUsage.current();
+    }
+
+    /**
+     * <p>
+     * Starts timing {@code phase}. The returned {@link PhaseTimer} is to be {@link PhaseTimer#close() closed} once the
+     * phase is over, preferably via try-with-resources.
+     * </p>
+     *
+     * @param phase The phase to time. Must not be {@code null}.
+     * @return A {@link PhaseTimer} to be closed once {@code phase} is over. Never {@code null}.
+     */
+    PhaseTimer time(final Phase phase) {
+        Objects.requireNonNull(phase);
+        final var start = System.nanoTime();
+        return () -> recordPhase(phase, System.nanoTime() - start);
+    }
+
+    private synchronized void recordPhase(final Phase phase, final long nanos) {
+        phaseNanos.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * <p>
+     * Performs {@code action} for the class named {@code className} and records how long it took.
+     * </p>
+     *
+     * @param step      The step {@code action} belongs to. Must not be {@code null}.
+     * @param className The name of the class for which {@code action} is performed. Must not be {@code null}.
+     * @param action    The action to perform. Must not be {@code null}.
+     * @param <T>       The type of the result of {@code action}.
+     * @return The result of {@code action}.
+     */
+    <T> T time(final Step step, final String className, final Supplier<T> action) {
+        Objects.requireNonNull(action);
+        final var start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(step, className, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * <p>
+     * Records that {@code step} took {@code nanos} nanoseconds for the class named {@code className}.
+     * </p>
+     *
+     * @param step      The step that has been performed. Must not be {@code null}.
+     * @param className The name of the class for which {@code step} has been performed. Must not be {@code null}.
+     * @param nanos     How long {@code step} took in nanoseconds.
+     */
+    void record(final Step step, final String className, final long nanos) {
+        Objects.requireNonNull(step);
+        Objects.requireNonNull(className);
+        stepNanos.get(step).add(nanos);
+        classNanos.computeIfAbsent(className, k -> new LongAdder()).add(nanos);
+    }
+
+    /**
+     * <p>
+     * Records {@code value} for {@code count}, replacing any previously recorded value.
+     * </p>
+     *
+     * @param count The figure to record. Must not be {@code null}.
+     * @param value The value to record.
+     */
+    synchronized void count(final Count count, final int value) {
+        Objects.requireNonNull(count);
+        counts.put(count, value);
+    }
+
+    /**
+     * <p>
+     * Adds {@code value} to the value recorded for {@code count}, e.g. for figures that are determined chunk by chunk.
+     * </p>
+     *
+     * @param count The figure to add to. Must not be {@code null}.
+     * @param value The value to add.
+     */
+    synchronized void add(final Count count, final int value) {
+        Objects.requireNonNull(count);
+        counts.merge(count, value, Integer::sum);
+    }
+
+    /**
+     * <p>
+     * Finishes recording the current execution, logs a short summary and writes the report to {@code reportFile}.
+     * Failing to write the report is logged as a warning but does not fail the execution, as the report is merely
+     * informational.
+     * </p>
+     *
+     * @param reportFile The file to write the report to. Must not be {@code null}.
+     */
+    synchronized void finish(final Path reportFile) {
+        Objects.requireNonNull(reportFile);
+        final var totalNanos = System.nanoTime() - startNanos;
+        final var usageAtEnd = ResourceUsage.current();
+        final var slowestClasses = slowestClasses();
+        logSummary(totalNanos, usageAtEnd);
+        if (getLogger().isDebugEnabled()) {
+            getLogger().debug("The slowest classes were:");
+            slowestClasses.forEach(c -> getLogger().debug("- " + c.getKey() + " (" + millis(c.getValue()) + " ms)"));
+        }
+        try {
+            Files.createDirectories(reportFile.getParent());
+            Files.writeString(reportFile, toJson(totalNanos, usageAtEnd, slowestClasses), UTF_8);
+            getLogger().debug("Wrote generation report to " + reportFile + '.');
+        } catch (final IOException e) {
+            getLogger().warn("Could not write generation report to " + reportFile + '.', e);
+        }
+    }
+
+    private List<Map.Entry<String, Long>> slowestClasses() {
+        return classNanos.entrySet().stream() //
+                .map(e -> Map.entry(e.getKey(), e.getValue().sum())) //
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey())) //
+                .limit(SLOWEST_CLASSES) //
+                .toList();
+    }
+
+    private void logSummary(final long totalNanos, final ResourceUsage usageAtEnd) {
+        final var phases = Arrays.stream(Phase.values()) //
+                .filter(phaseNanos::containsKey) //
+                .map(phase -> phase.getDescription() + ' ' + millis(phaseNanos.get(phase)) + " ms") //
+                .collect(Collectors.joining(", "));
+        getLogger().info("Found " + count(Count.CLASSES_FOUND) + " classes, generated " + count(Count.BUILDERS_GENERATED) + //
+                " builders and wrote " + count(Count.BUILDERS_WRITTEN) + " builder files in " + millis(totalNanos) + " ms (" + phases + ").");
+        getLogger().info("Loaded " + (usageAtEnd.getClassesLoaded() - usageAtStart.getClassesLoaded()) + " classes, heap changed by " + //
+                megabytes(usageAtEnd.getHeapUsed() - usageAtStart.getHeapUsed()) + " MB, metaspace changed by " + //
+                megabytes(usageAtEnd.getMetaspaceUsed() - usageAtStart.getMetaspaceUsed()) + " MB.");
+    }
+
+    private String toJson(final long totalNanos, final ResourceUsage usageAtEnd, final List<Map.Entry<String, Long>> slowestClasses) {
+        final var json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"totalMillis\": ").append(millis(totalNanos)).append(",\n");
+        json.append("  \"phaseMillis\": ").append(toJsonObject(Phase.values(), Phase::getKey, phase -> phaseNanos.containsKey(phase) ? millis(phaseNanos.get(phase)) : null)).append(",\n");
+        json.append("  \"perClassMillis\": ").append(toJsonObject(Step.values(), Step::getKey, step -> millis(stepNanos.get(step).sum()))).append(",\n");
+        json.append("  \"counts\": ").append(toJsonObject(Count.values(), Count::getKey, this::count)).append(",\n");
+        json.append("  \"classesLoaded\": ").append(usageAtEnd.getClassesLoaded() - usageAtStart.getClassesLoaded()).append(",\n");
+        json.append("  \"heapDeltaBytes\": ").append(usageAtEnd.getHeapUsed() - usageAtStart.getHeapUsed()).append(",\n");
+        json.append("  \"metaspaceDeltaBytes\": ").append(usageAtEnd.getMetaspaceUsed() - usageAtStart.getMetaspaceUsed()).append(",\n");
+        json.append("  \"slowestClasses\": [");
+        for (int i = 0; i < slowestClasses.size(); i++) {
+            json.append(i == 0 ? "\n" : ",\n");
+            json.append("    {\"className\": ").append(quote(slowestClasses.get(i).getKey())) //
+                    .append(", \"millis\": ").append(millis(slowestClasses.get(i).getValue())).append('}');
+        }
+        json.append(slowestClasses.isEmpty() ? "]\n" : "\n  ]\n");
+        json.append("}\n");
+        return json.toString();
+    }
+
+    private <E> String toJsonObject(final E[] keys, final Function<E, String> keyMapper, final Function<E, Object> valueMapper) {
+        return Arrays.stream(keys) //
+                .map(key -> quote(keyMapper.apply(key)) + ": " + valueMapper.apply(key)) //
+                .collect(Collectors.joining(", ", "{", "}"));
+    }
+
+    private static String quote(final String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private Object count(final Count count) {
+        return counts.getOrDefault(count, 0);
+    }
+
+    private static long millis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static long megabytes(final long bytes) {
+        return bytes / BYTES_PER_MEGABYTE;
+    }
+
+    /**
+     * <p>
+     * Times a {@link Phase}, which ends as soon as this timer is {@link #close() closed}.
+     * </p>
+     */
+    @FunctionalInterface
+    interface PhaseTimer extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    /**
+     * <p>
+     * The phases of an execution of the mojo, which are timed by wall-clock time.
+     * </p>
+     */
+    @RequiredArgsConstructor
+    @Getter
+    enum Phase {
+        SCAN("scan", "scan"),
+        FILTER("filter", "filter"),
+        COLLECT_METADATA("collectMetadata", "collect metadata"),
+        GENERATE("generate", "generate"),
+        DELETE_ORPHANS("deleteOrphans", "delete orphans");
+
+        private final String key;
+
+        private final String description;
+    }
+
+    /**
+     * <p>
+     * The steps performed for each class, which are timed per class. As classes may be processed concurrently, the
+     * time recorded for a step is the sum over all classes and may thus exceed the wall-clock time of the
+     * corresponding {@link Phase}.
+     * </p>
+     */
+    @RequiredArgsConstructor
+    @Getter
+    enum Step {
+        COLLECT_METADATA("collectMetadata"),
+        RENDER("render"),
+        WRITE("write");
+
+        private final String key;
+    }
+
+    /**
+     * <p>
+     * The number of classes or builders at the various stages of an execution of the mojo.
+     * </p>
+     */
+    @RequiredArgsConstructor
+    @Getter
+    enum Count {
+        CLASSES_FOUND("classesFound"),
+        CLASSES_TO_BUILD("classesToBuild"),
+        NON_EMPTY_BUILDERS("nonEmptyBuilders"),
+        BUILDERS_GENERATED("buildersGenerated"),
+        BUILDERS_WRITTEN("buildersWritten");
+
+        private final String key;
+    }
+
+    @Data
+    private static class ResourceUsage {
+
+        private final long classesLoaded;
+
+        private final long heapUsed;
+
+        private final long metaspaceUsed;
+
+        static ResourceUsage current() {
+            return new ResourceUsage( //
+                    ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount(), //
+                    ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(), //
+                    ManagementFactory.getMemoryPoolMXBeans().stream() //
+                            .filter(pool -> "Metaspace".equals(pool.getName())) //
+                            .mapToLong(pool -> pool.getUsage().getUsed()) //
+                            .sum());
+        }
+    }
+}
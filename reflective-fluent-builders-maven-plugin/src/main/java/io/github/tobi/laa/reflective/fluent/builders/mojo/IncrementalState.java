@@ -0,0 +1,318 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.reflect.TypeToken;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.FieldInfo;
+import io.github.classgraph.MethodInfo;
+import io.github.tobi.laa.reflective.fluent.builders.model.Adder;
+import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata;
+import io.github.tobi.laa.reflective.fluent.builders.model.MethodAccessor;
+import io.github.tobi.laa.reflective.fluent.builders.model.WriteAccessor;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.ClassService;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.TypeService;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.codehaus.plexus.logging.AbstractLogEnabled;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparing;
+import static java.util.function.Predicate.not;
+
+/**
+ * <p>
+ * Keeps track of the state of the generated builders across executions, independently of the {@link MavenBuild build
+ * context}.
+ * </p>
+ * <p>
+ * Outside of an IDE, the build context is not incremental and thus reports every file as changed. To nevertheless be
+ * able to skip builders whose built types have not changed, a fingerprint of each built type along with the hash of
+ * the builder file generated for it are recorded after each execution. A builder is up-to-date if the fingerprint of
+ * its built type as well as the hash of its builder file are still the same.
+ * </p>
+ * <p>
+ * The fingerprint of a built type is computed from its signature and those of its full class hierarchy and its nested
+ * types, i.e. their modifiers, supertypes, type parameters and non-static members, as these are all that is taken
+ * into account when generating a builder. Editing the body of a method thus does not change the fingerprint, even
+ * though it changes the class file. Types that have not been scanned, e.g. those provided by the JDK, lack any
+ * information about their members, so the size and modification time of their location are used instead.
+ * </p>
+ * <p>
+ * The metadata of a builder furthermore depends on types outside of that hierarchy, e.g. on whether the type of a
+ * property is accessible or a collection and on which classes the name of the builder would collide with. The
+ * fingerprint of a builder thus additionally covers its name, its write accessors and the modifiers and supertypes of
+ * the types of their properties. A change of the configuration or of the jars on the classpath invalidates all
+ * recorded fingerprints.
+ * </p>
+ */
+@Singleton
+@Named
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+class IncrementalState extends AbstractLogEnabled {
+
+    private static final String HEADER = "# builder state recorded by reflective-fluent-builders";
+
+    private static final String SEPARATOR = "\t";
+
+    @lombok.NonNull
+    private final ClassService classService;
+
+    @lombok.NonNull
+    private final TypeService typeService;
+
+    /**
+     * <p>
+     * Computes the fingerprint of the builder described by {@code builderMetadata}, i.e. that of its built type along
+     * with its metadata.
+     * </p>
+     *
+     * @param builderMetadata The metadata of the builder for which to compute the fingerprint. Must not be
+     *                        {@code null}.
+     * @return The fingerprint of the builder. Empty if the fingerprint of its built type cannot be determined. Never
+     * {@code null}.
+     * @see #fingerprint(ClassInfo)
+     */
+    Optional<String> fingerprint(final BuilderMetadata builderMetadata) {
+        Objects.requireNonNull(builderMetadata);
+        return fingerprint(builderMetadata.getBuiltType().getType()).map(typeFingerprint -> {
+            final var hasher = Hashing.sha256().newHasher().putString(typeFingerprint, UTF_8);
+            putMetadata(hasher, builderMetadata);
+            return hasher.hash().toString();
+        });
+    }
+
+    private void putMetadata(final Hasher hasher, final BuilderMetadata builderMetadata) {
+        final var builtType = builderMetadata.getBuiltType();
+        hasher.putString(builderMetadata.getPackageName(), UTF_8) //
+                .putString(builderMetadata.getName(), UTF_8) //
+                .putBoolean(builtType.isAccessibleNonArgsConstructor());
+        builderMetadata.getExceptionTypes().stream() //
+                .map(Class::getName) //
+                .sorted() //
+                .forEach(name -> hasher.putString(name, UTF_8));
+        final SortedSet<Class<?>> propertyClasses = new TreeSet<>(comparing(Class::getName));
+        for (final var writeAccessor : builtType.getWriteAccessors()) {
+            hasher.putString(signature(writeAccessor), UTF_8);
+            propertyClasses.addAll(typeService.explodeType(writeAccessor.getPropertyType().getType()));
+        }
+        propertyClasses.forEach(propertyClass -> putPropertyClass(hasher, propertyClass));
+        builderMetadata.getNestedBuilders().forEach(nestedBuilder -> putMetadata(hasher, nestedBuilder));
+    }
+
+    private static String signature(final WriteAccessor writeAccessor) {
+        final var signature = new StringBuilder() //
+                .append(writeAccessor.getClass().getSimpleName()).append(' ') //
+                .append(writeAccessor.getVisibility()).append(' ') //
+                .append(writeAccessor.getDeclaringClass().getName()).append(' ') //
+                .append(writeAccessor.getPropertyName()).append(' ') //
+                .append(writeAccessor.getPropertyType().getClass().getSimpleName()).append(' ') //
+                .append(writeAccessor.getPropertyType().getType().getTypeName());
+        if (writeAccessor instanceof MethodAccessor methodAccessor) {
+            signature.append(' ').append(methodAccessor.getMethodName()).append(" throws ");
+            methodAccessor.getExceptionTypes().stream() //
+                    .map(Class::getName) //
+                    .sorted() //
+                    .forEach(name -> signature.append(name).append(','));
+        }
+        if (writeAccessor instanceof Adder adder) {
+            signature.append(' ').append(adder.getParamName());
+        }
+        return signature.toString();
+    }
+
+    private static void putPropertyClass(final Hasher hasher, final Class<?> propertyClass) {
+        // whether the type of a property is accessible depends on the modifiers of the classes enclosing it
+        for (var clazz = propertyClass; clazz != null; clazz = clazz.getEnclosingClass()) {
+            hasher.putString(clazz.getName(), UTF_8).putInt(clazz.getModifiers());
+        }
+        // whether the type of a property is a collection, a map or an enum depends on its supertypes
+        TypeToken.of(propertyClass).getTypes().rawTypes().stream() //
+                .map(Class::getName) //
+                .sorted() //
+                .forEach(name -> hasher.putString(name, UTF_8));
+    }
+
+    /**
+     * <p>
+     * Computes the fingerprint of {@code builtType}.
+     * </p>
+     *
+     * @param builtType The type for which to compute the fingerprint. Must not be {@code null}.
+     * @return The fingerprint of {@code builtType}. Empty if the location of a type that has not been scanned cannot be
+     * determined, in which case the builder is never considered up-to-date. Never {@code null}.
+     */
+    Optional<String> fingerprint(final ClassInfo builtType) {
+        Objects.requireNonNull(builtType);
+        final var hasher = Hashing.sha256().newHasher();
+        for (final var type : collectRelevantTypes(builtType)) {
+            if (!putType(hasher, type)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(hasher.hash().toString());
+    }
+
+    private SortedSet<ClassInfo> collectRelevantTypes(final ClassInfo builtType) {
+        final SortedSet<ClassInfo> relevantTypes = new TreeSet<>(Comparator.comparing(ClassInfo::getName));
+        final Deque<ClassInfo> typesWithNestedBuilders = new ArrayDeque<>(List.of(builtType));
+        while (!typesWithNestedBuilders.isEmpty()) {
+            final var type = typesWithNestedBuilders.pop();
+            // the hierarchy does not contain the type itself if it has been excluded from the hierarchy collection
+            if (relevantTypes.add(type)) {
+                relevantTypes.addAll(classService.collectFullClassHierarchy(type));
+                typesWithNestedBuilders.addAll(type.getInnerClasses());
+            }
+        }
+        return relevantTypes;
+    }
+
+    private boolean putType(final Hasher hasher, final ClassInfo type) {
+        hasher.putString(type.getName(), UTF_8).putInt(type.getModifiers());
+        if (type.getResource() == null) {
+            return putLocation(hasher, type);
+        }
+        hasher.putString(String.valueOf(type.getTypeSignatureOrTypeDescriptor()), UTF_8);
+        type.getDeclaredConstructorInfo().stream() //
+                .map(IncrementalState::signature) //
+                .sorted() //
+                .forEach(signature -> hasher.putString(signature, UTF_8));
+        type.getDeclaredMethodInfo().stream() //
+                .filter(not(MethodInfo::isStatic)) //
+                .filter(not(MethodInfo::isBridge)) //
+                .map(IncrementalState::signature) //
+                .sorted() //
+                .forEach(signature -> hasher.putString(signature, UTF_8));
+        type.getDeclaredFieldInfo().stream() //
+                .filter(not(FieldInfo::isStatic)) //
+                .map(field -> field.getModifiers() + " " + field.getTypeSignatureOrTypeDescriptorStr() + " " + field.getName()) //
+                .sorted() //
+                .forEach(signature -> hasher.putString(signature, UTF_8));
+        return true;
+    }
+
+    private static String signature(final MethodInfo method) {
+        return method.getModifiers() + " " + method.getName() + method.getTypeSignatureOrTypeDescriptorStr() //
+                + " throws " + String.join(",", method.getThrownExceptionNames());
+    }
+
+    private boolean putLocation(final Hasher hasher, final ClassInfo type) {
+        final Class<?> clazz;
+        try {
+            clazz = type.loadClass();
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+        final var location = classService.determineClassLocation(clazz);
+        if (location.isEmpty()) {
+            // classes provided by the JDK lack a location but only change along with it
+            hasher.putString(Runtime.version().toString(), UTF_8);
+            return true;
+        }
+        try {
+            final var attributes = Files.readAttributes(location.get(), BasicFileAttributes.class);
+            hasher.putString(location.get().toString(), UTF_8) //
+                    .putLong(attributes.size()) //
+                    .putLong(attributes.lastModifiedTime().toMillis());
+            return true;
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * <p>
+     * Reads the state recorded within {@code file} and deletes it afterwards, so that an execution that fails before
+     * recording the state anew is not followed by an execution relying on an outdated one.
+     * </p>
+     *
+     * @param file      The file to read. Must not be {@code null}.
+     * @param configKey A key identifying the configuration of the current execution. If it differs from the one the
+     *                  state has been recorded with, the state is discarded. Must not be {@code null}.
+     * @return The state recorded within {@code file}, keyed by the name of the built type. Empty if {@code file} does
+     * not exist, cannot be read or has been recorded with a different configuration. Never {@code null}.
+     */
+    Map<String, Entry> readAndDelete(final Path file, final String configKey) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(configKey);
+        if (!Files.isRegularFile(file)) {
+            getLogger().debug("No builder state has been recorded within " + file + '.');
+            return Map.of();
+        }
+        try {
+            final var lines = Files.readAllLines(file, UTF_8);
+            Files.delete(file);
+            if (lines.size() < 2 || !HEADER.equals(lines.get(0))) {
+                getLogger().debug("Builder state recorded within " + file + " is in an unknown format and will be ignored.");
+                return Map.of();
+            } else if (!hash(configKey).equals(lines.get(1))) {
+                getLogger().debug("Builder state recorded within " + file + " stems from a different configuration and will be ignored.");
+                return Map.of();
+            }
+            final Map<String, Entry> state = new HashMap<>();
+            for (final var line : lines.subList(2, lines.size())) {
+                final var columns = line.split(SEPARATOR);
+                state.put(columns[0], new Entry(columns[1], HashCode.fromString(columns[2])));
+            }
+            return state;
+        } catch (final IOException | RuntimeException e) {
+            getLogger().debug("Could not read builder state recorded within " + file + '.');
+            return Map.of();
+        }
+    }
+
+    /**
+     * <p>
+     * Records {@code state} within {@code file}. Failing to do so is logged as a warning but does not fail the
+     * execution, as the next execution will then merely generate all builders.
+     * </p>
+     *
+     * @param file      The file to write. Must not be {@code null}.
+     * @param configKey A key identifying the configuration of the current execution. Must not be {@code null}.
+     * @param state     The state to record, keyed by the name of the built type. Must not be {@code null}.
+     */
+    void write(final Path file, final String configKey, final Map<String, Entry> state) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(configKey);
+        Objects.requireNonNull(state);
+        final var lines = new ArrayList<String>();
+        lines.add(HEADER);
+        lines.add(hash(configKey));
+        new TreeMap<>(state).forEach((className, entry) -> lines.add( //
+                className + SEPARATOR + entry.getFingerprint() + SEPARATOR + entry.getBuilderFileHash()));
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, lines, UTF_8);
+        } catch (final IOException e) {
+            getLogger().warn("Could not write builder state to " + file + '.', e);
+        }
+    }
+
+    private static String hash(final String configKey) {
+        // the configuration may span multiple lines, e.g. if an include has been specified on a separate line
+        return Hashing.sha256().hashString(configKey, UTF_8).toString();
+    }
+
+    /**
+     * <p>
+     * The recorded state of a single builder.
+     * </p>
+     */
+    @Data
+    static class Entry {
+
+        private final String fingerprint;
+
+        private final HashCode builderFileHash;
+    }
+}
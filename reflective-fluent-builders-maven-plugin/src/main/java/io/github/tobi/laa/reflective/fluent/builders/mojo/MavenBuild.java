@@ -1,7 +1,6 @@
 package io.github.tobi.laa.reflective.fluent.builders.mojo;
 
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.artifact.Artifact;
@@ -34,27 +33,23 @@ import static java.nio.file.Files.getLastModifiedTime;
  * <p>
  * Encapsulates accesses to {@link BuildContext}, {@link MavenProject} and {@link MojoExecution} for better testability.
  * </p>
+ * <p>
+ * All accesses refer to the {@link Execution} {@link ExecutionScope#current() bound to the current thread}.
+ * </p>
  */
 @Singleton
 @Named
 @RequiredArgsConstructor(onConstructor_ = @Inject)
-@Setter
 class MavenBuild extends AbstractLogEnabled {
 
     @lombok.NonNull
     private final Clock clock;
 
     @lombok.NonNull
-    private BuildContext buildContext;
-
-    @lombok.NonNull
-    private MavenProject mavenProject;
-
-    @lombok.NonNull
-    private MojoExecution mojoExecution;
+    private final ExecutionScope executionScope;
 
     boolean isIncremental() {
-        return buildContext.isIncremental() || parseBoolean(System.getProperty("incrementalBuildForIntegrationTests"));
+        return buildContext().isIncremental() || parseBoolean(System.getProperty("incrementalBuildForIntegrationTests"));
     }
 
     @SneakyThrows
@@ -63,10 +58,10 @@ class MavenBuild extends AbstractLogEnabled {
         if (parseBoolean(System.getProperty("fixedNoDeltaForIntegrationTests"))) {
             return false;
         } else if (isProjectFile(file)) {
-            return buildContext.hasDelta(file);
+            return buildContext().hasDelta(file);
         } else if (file.exists()) {
             final Instant lastModifiedFromFile = getLastModifiedTime(file.toPath()).toInstant();
-            final Instant lastModuleBuildTime = Optional.ofNullable(buildContext.getValue(lastModuleBuildTimeKey()))
+            final Instant lastModuleBuildTime = Optional.ofNullable(buildContext().getValue(lastModuleBuildTimeKey()))
                     .map(Instant.class::cast)
                     .orElse(Instant.MIN);
             return lastModifiedFromFile.isAfter(lastModuleBuildTime);
@@ -78,57 +73,65 @@ class MavenBuild extends AbstractLogEnabled {
     @SneakyThrows
     void refresh(final File file) {
         Objects.requireNonNull(file);
-        buildContext.refresh(file);
+        buildContext().refresh(file);
     }
 
     void updateModuleBuildTime() {
-        buildContext.setValue(lastModuleBuildTimeKey(), Instant.now(clock));
+        buildContext().setValue(lastModuleBuildTimeKey(), Instant.now(clock));
     }
 
     private String lastModuleBuildTimeKey() {
-        return mavenProject.getGroupId() + ':' + mavenProject.getArtifactId() + ':' + mavenProject.getVersion() + ":::buildTime";
+        return mavenProject().getGroupId() + ':' + mavenProject().getArtifactId() + ':' + mavenProject().getVersion() + ":::buildTime";
     }
 
     private boolean isProjectFile(final File file) {
-        return file.toPath().startsWith(mavenProject.getBasedir().toPath());
+        return file.toPath().startsWith(mavenProject().getBasedir().toPath());
     }
 
     boolean isTestPhase() {
-        return StringUtils.containsIgnoreCase(mojoExecution.getLifecyclePhase(), "test");
+        return StringUtils.containsIgnoreCase(mojoExecution().getLifecyclePhase(), "test");
     }
 
     void addCompileSourceRoot(final File path) {
         Objects.requireNonNull(path);
         if (isTestPhase()) {
             getLogger().debug("Add " + path + " as test source folder.");
-            mavenProject.addTestCompileSourceRoot(path.getPath());
+            mavenProject().addTestCompileSourceRoot(path.getPath());
         } else {
             getLogger().debug("Add " + path + " as source folder.");
-            mavenProject.addCompileSourceRoot(path.getPath());
+            mavenProject().addCompileSourceRoot(path.getPath());
         }
     }
 
     String getDirectory() {
-        return mavenProject.getBuild().getDirectory();
+        return mavenProject().getBuild().getDirectory();
+    }
+
+    String getExecutionId() {
+        return mojoExecution().getExecutionId();
+    }
+
+    String getPluginVersion() {
+        return mojoExecution().getVersion();
     }
 
     String getOutputDirectory() {
-        return mavenProject.getBuild().getOutputDirectory();
+        return mavenProject().getBuild().getOutputDirectory();
     }
 
     String getTestOutputDirectory() {
-        return mavenProject.getBuild().getTestOutputDirectory();
+        return mavenProject().getBuild().getTestOutputDirectory();
     }
 
     Set<Artifact> getArtifacts() {
-        return mavenProject.getArtifacts();
+        return mavenProject().getArtifacts();
     }
 
     List<String> getClasspathElements() throws DependencyResolutionRequiredException {
         if (isTestPhase()) {
-            return mavenProject.getTestClasspathElements();
+            return mavenProject().getTestClasspathElements();
         } else {
-            return mavenProject.getCompileClasspathElements();
+            return mavenProject().getCompileClasspathElements();
         }
     }
 
@@ -136,10 +139,10 @@ class MavenBuild extends AbstractLogEnabled {
         final Stream<String> sourceRoots;
         if (isTestPhase()) {
             sourceRoots = Stream.concat(
-                    mavenProject.getCompileSourceRoots().stream(),
-                    mavenProject.getTestCompileSourceRoots().stream());
+                    mavenProject().getCompileSourceRoots().stream(),
+                    mavenProject().getTestCompileSourceRoots().stream());
         } else {
-            sourceRoots = mavenProject.getCompileSourceRoots().stream();
+            sourceRoots = mavenProject().getCompileSourceRoots().stream();
         }
         return sourceRoots
                 .map(Paths::get)
@@ -149,6 +152,18 @@ class MavenBuild extends AbstractLogEnabled {
                 .findFirst();
     }
 
+    private BuildContext buildContext() {
+        return executionScope.current().getBuildContext();
+    }
+
+    private MavenProject mavenProject() {
+        return executionScope.current().getMavenProject();
+    }
+
+    private MojoExecution mojoExecution() {
+        return executionScope.current().getMojoExecution();
+    }
+
     private String javaNameToPath(final String name) {
         return name.replace(".", FileSystems.getDefault().getSeparator());
     }
@@ -4,14 +4,12 @@ import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersPropertie
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.maven.plugins.annotations.Parameter;
 
-import javax.inject.Inject;
-import javax.inject.Named;
-import javax.inject.Singleton;
 import java.io.File;
 import java.nio.file.Paths;
 import java.util.Set;
@@ -24,14 +22,17 @@ import java.util.stream.Collectors;
  * {@link io.github.tobi.laa.reflective.fluent.builders.mojo.GenerateBuildersMojo} while implementing
  * {@link BuildersProperties}.
  * </p>
+ * <p>
+ * Each execution has its own instance, which is provided to the generator via {@link ScopedBuildersProperties}.
+ * </p>
  */
-@Singleton
-@Named
 @Data
 @ToString(doNotUseGetters = true)
-@RequiredArgsConstructor(onConstructor_ = @Inject)
+@RequiredArgsConstructor
 public class MojoParams implements BuildersProperties {
 
+    static final int DEFAULT_CHUNK_SIZE = 256;
+
     private String builderPackage;
 
     private String builderSuffix;
@@ -65,6 +66,14 @@ public class MojoParams implements BuildersProperties {
 
     private boolean deleteOrphanedBuilders;
 
+    @Positive(message = "The parallelism must be a positive number.")
+    private Integer parallelism;
+
+    @Positive(message = "The chunk size must be a positive number.")
+    private Integer chunkSize;
+
+    private MetadataEngine metadataEngine;
+
     @lombok.NonNull
     @ToString.Exclude
     private final MavenBuild mavenBuild;
@@ -95,6 +104,22 @@ public class MojoParams implements BuildersProperties {
         }
     }
 
+    public int getParallelism() {
+        if (parallelism != null) {
+            return parallelism;
+        } else {
+            return Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    public int getChunkSize() {
+        if (chunkSize != null) {
+            return chunkSize;
+        } else {
+            return DEFAULT_CHUNK_SIZE;
+        }
+    }
+
     @Data
     @ToString(doNotUseGetters = true)
     public static class HierarchyCollection implements BuildersProperties.HierarchyCollection {
@@ -1,6 +1,5 @@
 package io.github.tobi.laa.reflective.fluent.builders.mojo;
 
-import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata;
 import lombok.RequiredArgsConstructor;
 import org.apache.maven.plugin.MojoFailureException;
 import org.codehaus.plexus.logging.AbstractLogEnabled;
@@ -11,14 +10,21 @@ import javax.inject.Singleton;
 import java.io.IOException;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /**
  * <p>
  * Encapsulates the logic for deleting orphaned builders.
  * </p>
+ * <p>
+ * Walking the whole target directory is costly for large numbers of builders, so the builder files expected after each
+ * execution are recorded within a manifest. If a manifest of the previous execution exists, orphans are determined as
+ * the difference between the builder files recorded therein and those expected now, meaning only those files and
+ * their parent directories are touched. Only if no manifest exists, the whole target directory is walked.
+ * </p>
  *
  * @see MojoParams#isDeleteOrphanedBuilders()
  */
@@ -27,24 +33,28 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 class OrphanDeleter extends AbstractLogEnabled {
 
+    private static final String MANIFEST_HEADER = "# builder files generated by reflective-fluent-builders";
+
+    private static final String MANIFEST_TARGET_PREFIX = "target=";
+
     @lombok.NonNull
     private final JavaFileHelper javaFileHelper;
 
     /**
      * <p>
-     * Deletes all orphaned builders, i.e. builders that have no corresponding entry in {@code metadata}.
+     * Deletes all orphaned builders, i.e. builders that have no corresponding entry in {@code builderFiles}.
      * </p>
      *
-     * @param target   The target directory in which builder files reside. Must not be {@code null}.
-     * @param metadata The metadata of all builders that should be generated to compare against the content of
-     *                 {@code target}. Must not be {@code null}.
+     * @param target       The target directory in which builder files reside. Must not be {@code null}.
+     * @param builderFiles The files of all builders that should be generated to compare against the content of
+     *                     {@code target}, relative to {@code target}. Must not be {@code null}.
      * @throws MojoFailureException If an I/O error occurs.
      */
-    void deleteOrphanedBuilders(final Path target, final Set<BuilderMetadata> metadata) throws MojoFailureException {
+    void deleteOrphanedBuilders(final Path target, final Set<Path> builderFiles) throws MojoFailureException {
         Objects.requireNonNull(target);
-        Objects.requireNonNull(metadata);
-        final var expectedJavaNames = metadata.stream()
-                .map(m -> m.getPackageName() + '.' + m.getName())
+        Objects.requireNonNull(builderFiles);
+        final var expectedJavaNames = builderFiles.stream()
+                .map(javaFileHelper::pathToJavaName)
                 .collect(Collectors.toSet());
         try {
             Files.walkFileTree(target, new OrphanDeletingVisitor(target, expectedJavaNames));
@@ -53,6 +63,120 @@ class OrphanDeleter extends AbstractLogEnabled {
         }
     }
 
+    /**
+     * <p>
+     * Deletes all orphaned builders, i.e. builders that are listed in {@code previousBuilderFiles} but have no
+     * corresponding entry in {@code builderFiles}. Parent directories of deleted builders are deleted as well if they
+     * are empty afterwards. The remaining content of {@code target} is not looked at.
+     * </p>
+     *
+     * @param target               The target directory in which builder files reside. Must not be {@code null}.
+     * @param builderFiles         The files of all builders that should be generated, relative to {@code target}.
+     *                             Must not be {@code null}.
+     * @param previousBuilderFiles The builder files expected after the previous execution, relative to
+     *                             {@code target}. Must not be {@code null}.
+     * @throws MojoFailureException If an I/O error occurs.
+     * @see #readAndDeleteManifest(Path, Path)
+     */
+    void deleteOrphanedBuilders(final Path target, final Set<Path> builderFiles, final Set<Path> previousBuilderFiles) throws MojoFailureException {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(builderFiles);
+        Objects.requireNonNull(previousBuilderFiles);
+        final var orphans = new HashSet<>(previousBuilderFiles);
+        orphans.removeAll(builderFiles);
+        final SortedSet<Path> parentDirectories = new TreeSet<>(Comparator.reverseOrder());
+        try {
+            for (final var orphan : orphans) {
+                final var file = target.resolve(orphan);
+                if (Files.deleteIfExists(file)) {
+                    getLogger().info("Deleting orphaned builder file " + file);
+                }
+                for (var dir = file.getParent(); dir != null && dir.startsWith(target) && !dir.equals(target); dir = dir.getParent()) {
+                    parentDirectories.add(dir);
+                }
+            }
+            // reverse order ensures subdirectories are handled before their parents
+            for (final var dir : parentDirectories) {
+                if (Files.isDirectory(dir) && isEmptyDir(dir)) {
+                    getLogger().info("Deleting orphaned builder directory " + dir);
+                    Files.delete(dir);
+                }
+            }
+        } catch (final IOException e) {
+            throw new MojoFailureException("Could not delete orphaned builders.", e);
+        }
+    }
+
+    /**
+     * <p>
+     * Reads the builder files recorded within {@code manifest} and deletes it afterwards, so that an execution that
+     * fails before writing a new manifest is followed by an execution walking the whole target directory.
+     * </p>
+     *
+     * @param manifest The manifest to read. Must not be {@code null}.
+     * @param target   The target directory in which builder files reside. Must not be {@code null}.
+     * @return The builder files recorded within {@code manifest}, relative to {@code target}. Empty if
+     * {@code manifest} does not exist, cannot be read or has been written for a different target directory.
+     */
+    Optional<Set<Path>> readAndDeleteManifest(final Path manifest, final Path target) {
+        Objects.requireNonNull(manifest);
+        Objects.requireNonNull(target);
+        if (!Files.isRegularFile(manifest)) {
+            getLogger().debug("No manifest " + manifest + " exists, so the whole target directory will be walked.");
+            return Optional.empty();
+        }
+        try {
+            final var lines = Files.readAllLines(manifest, UTF_8);
+            Files.delete(manifest);
+            if (lines.size() < 2 || !MANIFEST_HEADER.equals(lines.get(0)) || !lines.get(1).equals(MANIFEST_TARGET_PREFIX + target.toAbsolutePath())) {
+                getLogger().debug("Manifest " + manifest + " does not match target directory " + target + " and will be ignored.");
+                return Optional.empty();
+            }
+            return Optional.of(lines.stream() //
+                    .skip(2) //
+                    .map(Paths::get) //
+                    // never touch anything outside the target directory, even if the manifest has been tampered with
+                    .filter(file -> !file.isAbsolute() && !file.normalize().startsWith("..")) //
+                    .collect(Collectors.toSet()));
+        } catch (final IOException e) {
+            getLogger().debug("Could not read manifest " + manifest + ", so the whole target directory will be walked.");
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * <p>
+     * Writes a manifest listing {@code builderFiles}. Failing to write the manifest is logged as a warning but does not
+     * fail the execution, as the next execution will walk the whole target directory instead.
+     * </p>
+     *
+     * @param manifest     The manifest to write. Must not be {@code null}.
+     * @param target       The target directory in which builder files reside. Must not be {@code null}.
+     * @param builderFiles The files of all builders that have been generated, relative to {@code target}. Must not be
+     *                     {@code null}.
+     */
+    void writeManifest(final Path manifest, final Path target, final Set<Path> builderFiles) {
+        Objects.requireNonNull(manifest);
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(builderFiles);
+        final var lines = new ArrayList<String>();
+        lines.add(MANIFEST_HEADER);
+        lines.add(MANIFEST_TARGET_PREFIX + target.toAbsolutePath());
+        builderFiles.stream().map(Path::toString).sorted().forEach(lines::add);
+        try {
+            Files.createDirectories(manifest.getParent());
+            Files.write(manifest, lines, UTF_8);
+        } catch (final IOException e) {
+            getLogger().warn("Could not write manifest " + manifest + '.', e);
+        }
+    }
+
+    private static boolean isEmptyDir(final Path dir) throws IOException {
+        try (final DirectoryStream<Path> directoryStream = Files.newDirectoryStream(dir)) {
+            return !directoryStream.iterator().hasNext();
+        }
+    }
+
     @RequiredArgsConstructor
     private class OrphanDeletingVisitor extends SimpleFileVisitor<Path> {
 
@@ -79,11 +203,5 @@ class OrphanDeleter extends AbstractLogEnabled {
             }
             return super.postVisitDirectory(dir, exc);
         }
-
-        private boolean isEmptyDir(final Path dir) throws IOException {
-            try (final DirectoryStream<Path> directoryStream = Files.newDirectoryStream(dir)) {
-                return !directoryStream.iterator().hasNext();
-            }
-        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p>
+ * Emitted for generating and rendering the builder of a single class.
+ * </p>
+ */
+@Name(RenderEvent.NAME)
+@Label("Render Builder")
+@Description("Generating and rendering the builder of a single class")
+class RenderEvent extends GenerationEvent {
+
+    static final String NAME = NAME_PREFIX + "Render";
+
+    @Label("Class Name")
+    String className;
+
+    @Label("Size")
+    @Description("The size of the rendered builder file")
+    @DataAmount
+    long size;
+}
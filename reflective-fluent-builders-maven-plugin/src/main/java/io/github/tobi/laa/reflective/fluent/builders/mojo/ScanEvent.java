@@ -0,0 +1,26 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p>
+ * Emitted for scanning the classpath for the classes for which to generate builders.
+ * </p>
+ */
+@Name(ScanEvent.NAME)
+@Label("Scan Classpath")
+@Description("Scanning the classpath for the classes for which to generate builders")
+class ScanEvent extends GenerationEvent {
+
+    static final String NAME = NAME_PREFIX + "Scan";
+
+    @Label("Packages")
+    @Description("The packages that have been scanned recursively")
+    String packages;
+
+    @Label("Classes Found")
+    @Description("The number of classes that have been found")
+    int classesFound;
+}
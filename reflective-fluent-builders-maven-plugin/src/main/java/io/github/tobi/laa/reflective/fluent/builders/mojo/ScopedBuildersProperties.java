@@ -0,0 +1,85 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import io.github.tobi.laa.reflective.fluent.builders.props.api.BuildersProperties;
+import lombok.RequiredArgsConstructor;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * Provides the {@link MojoParams parameters} of the {@link Execution} {@link ExecutionScope#current() bound to the
+ * current thread} as {@link BuildersProperties} to the components of the generator, which are shared by all
+ * executions.
+ * </p>
+ */
+@Singleton
+@Named
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+class ScopedBuildersProperties implements BuildersProperties {
+
+    @lombok.NonNull
+    private final ExecutionScope executionScope;
+
+    @Override
+    public String getBuilderPackage() {
+        return params().getBuilderPackage();
+    }
+
+    @Override
+    public String getBuilderSuffix() {
+        return params().getBuilderSuffix();
+    }
+
+    @Override
+    public String getSetterPrefix() {
+        return params().getSetterPrefix();
+    }
+
+    @Override
+    public String getGetterPrefix() {
+        return params().getGetterPrefix();
+    }
+
+    @Override
+    public String getAdderPattern() {
+        return params().getAdderPattern();
+    }
+
+    @Override
+    public boolean isGetAndAddEnabled() {
+        return params().isGetAndAddEnabled();
+    }
+
+    @Override
+    public boolean isDirectFieldAccessEnabled() {
+        return params().isDirectFieldAccessEnabled();
+    }
+
+    @Override
+    public boolean isAddersEnabled() {
+        return params().isAddersEnabled();
+    }
+
+    @Override
+    public Set<Predicate<Class<?>>> getExcludes() {
+        return params().getExcludes();
+    }
+
+    @Override
+    public HierarchyCollection getHierarchyCollection() {
+        return params().getHierarchyCollection();
+    }
+
+    @Override
+    public MetadataEngine getMetadataEngine() {
+        return params().getMetadataEngine();
+    }
+
+    private MojoParams params() {
+        return executionScope.current().getParams();
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p>
+ * Emitted for writing a single builder file.
+ * </p>
+ */
+@Name(WriteEvent.NAME)
+@Label("Write Builder File")
+@Description("Writing a single builder file")
+class WriteEvent extends GenerationEvent {
+
+    static final String NAME = NAME_PREFIX + "Write";
+
+    @Label("Class Name")
+    String className;
+
+    @Label("Path")
+    String path;
+
+    @Label("Size")
+    @Description("The size of the builder file")
+    @DataAmount
+    long size;
+}
@@ -0,0 +1,182 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import io.github.classgraph.ClassInfo;
+import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.ClassService;
+import lombok.SneakyThrows;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.codehaus.plexus.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuilderDependencyGraphTest {
+
+    @InjectMocks
+    private BuilderDependencyGraph dependencyGraph;
+
+    @Mock
+    private ClassService classService;
+
+    @Mock
+    private MavenBuild mavenBuild;
+
+    @Mock
+    private Logger logger;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void injectLogger() {
+        dependencyGraph.enableLogging(logger);
+    }
+
+    @Test
+    void testCollectDependenciesNull() {
+        // Act
+        final ThrowingCallable collectDependencies = () -> dependencyGraph.collectDependencies(null);
+        // Assert
+        assertThatThrownBy(collectDependencies).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testCollectDependencies() {
+        // Arrange
+        final var child = mockClassInfo("a.Child", "Child.java");
+        final var parent = mockClassInfo("b.Parent", null);
+        final var anInterface = mockClassInfo("b.AnInterface", "AnInterface.java");
+        final var sourceFile = tempDir.resolve("src").resolve("a").resolve("Child.java");
+        final var jar = tempDir.resolve("b.jar");
+        when(classService.collectFullClassHierarchy(child)).thenReturn(List.of(child, parent, anInterface));
+        when(mavenBuild.resolveSourceFile("a", Paths.get("Child.java"))).thenReturn(Optional.of(sourceFile));
+        when(mavenBuild.resolveSourceFile("b", Paths.get("AnInterface.java"))).thenReturn(Optional.empty());
+        when(classService.determineClassLocation(parent)).thenReturn(Optional.of(jar));
+        when(classService.determineClassLocation(anInterface)).thenReturn(Optional.of(jar));
+        // Act
+        final var dependencies = dependencyGraph.collectDependencies(Set.of(metadata(child)));
+        // Assert
+        assertThat(dependencies).containsExactly(Map.entry("a.Child", Set.of(sourceFile, jar)));
+    }
+
+    @Test
+    void testCollectDependenciesBuiltTypeExcludedFromHierarchy() {
+        // Arrange
+        final var child = mockClassInfo("a.Child", null);
+        final var classFile = tempDir.resolve("a").resolve("Child.class");
+        when(classService.collectFullClassHierarchy(child)).thenReturn(List.of());
+        when(classService.determineClassLocation(child)).thenReturn(Optional.of(classFile));
+        // Act
+        final var dependencies = dependencyGraph.collectDependencies(Set.of(metadata(child)));
+        // Assert
+        assertThat(dependencies).containsExactly(Map.entry("a.Child", Set.of(classFile)));
+    }
+
+    @Test
+    void testReadAndDeleteNull() {
+        // Act
+        final ThrowingCallable readAndDelete = () -> dependencyGraph.readAndDelete(null);
+        // Assert
+        assertThatThrownBy(readAndDelete).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testWriteNull() {
+        // Arrange
+        final var file = tempDir.resolve("dependencies");
+        // Act
+        final ThrowingCallable writeFileNull = () -> dependencyGraph.write(null, Map.of());
+        final ThrowingCallable writeDependenciesNull = () -> dependencyGraph.write(file, null);
+        // Assert
+        assertThatThrownBy(writeFileNull).isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(writeDependenciesNull).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testReadAndDeleteNonExistent() {
+        // Arrange
+        final var file = tempDir.resolve("dependencies");
+        // Act
+        final var dependencies = dependencyGraph.readAndDelete(file);
+        // Assert
+        assertThat(dependencies).isEmpty();
+    }
+
+    @Test
+    void testWriteAndReadAndDelete() {
+        // Arrange
+        final var file = tempDir.resolve("reflective-fluent-builders").resolve("dependencies");
+        final Map<String, Set<Path>> dependencies = Map.of( //
+                "a.Child", Set.of(tempDir.resolve("Child.java"), tempDir.resolve("b.jar")), //
+                "a.Empty", Set.of(), //
+                "b.Parent", Set.of(tempDir.resolve("b.jar")));
+        // Act
+        dependencyGraph.write(file, dependencies);
+        final var actual = dependencyGraph.readAndDelete(file);
+        // Assert
+        assertThat(actual).isEqualTo(dependencies);
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    @SneakyThrows
+    void testReadAndDeleteUnknownFormat() {
+        // Arrange
+        final var file = Files.writeString(tempDir.resolve("dependencies"), "a.Child\n\t/some/path\n");
+        // Act
+        final var dependencies = dependencyGraph.readAndDelete(file);
+        // Assert
+        assertThat(dependencies).isEmpty();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    @SneakyThrows
+    void testWriteIOException() {
+        // Arrange
+        final var file = Files.createDirectory(tempDir.resolve("dependencies"));
+        // Act
+        dependencyGraph.write(file, Map.of());
+        // Assert
+        verify(logger).warn(eq("Could not write builder dependencies to " + file + '.'), any(IOException.class));
+    }
+
+    private ClassInfo mockClassInfo(final String name, final String sourceFile) {
+        final var classInfo = mock(ClassInfo.class);
+        lenient().when(classInfo.getName()).thenReturn(name);
+        lenient().when(classInfo.getPackageName()).thenReturn(name.substring(0, name.lastIndexOf('.')));
+        lenient().when(classInfo.getSourceFile()).thenReturn(sourceFile);
+        return classInfo;
+    }
+
+    private BuilderMetadata metadata(final ClassInfo type) {
+        return BuilderMetadata.builder() //
+                .packageName(type.getPackageName()) //
+                .name("Builder") //
+                .builtType(BuilderMetadata.BuiltType.builder() //
+                        .type(type) //
+                        .accessibleNonArgsConstructor(true) //
+                        .build()) //
+                .build();
+    }
+}
@@ -3,12 +3,16 @@ package io.github.tobi.laa.reflective.fluent.builders.mojo;
 import lombok.SneakyThrows;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.codehaus.plexus.build.BuildContext;
 import org.codehaus.plexus.logging.Logger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -17,18 +21,30 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +59,12 @@ class ClassLoaderProviderTest {
     @Mock
     private Closer closer;
 
+    @Mock
+    private DependencyClassLoaderCache dependencyClassLoaderCache;
+
+    @Mock
+    private ExecutionScope executionScope;
+
     @Mock
     private Logger logger;
 
@@ -51,6 +73,8 @@ class ClassLoaderProviderTest {
     @BeforeEach
     void injectLogger() {
         provider.enableLogging(logger);
+        final var execution = new Execution(mock(MojoParams.class), mock(BuildContext.class), mock(MavenProject.class), mock(MojoExecution.class), mock(GenerationReport.class));
+        lenient().when(executionScope.current()).thenReturn(execution);
     }
 
     @AfterEach
@@ -132,11 +156,26 @@ class ClassLoaderProviderTest {
     }
 
     @Test
-    void testGetOldClassLoaderWithDifferentElementsAsMavenBuild() {
+    @SneakyThrows
+    void testGetOldClassLoaderDoesNotResolveClasspathAgain() {
+        // Arrange
+        mockClasspathElements("elem1");
+        final var oldClassLoader = provider.get();
+        // Act
+        classLoader = provider.get();
+        // Assert
+        assertThat(classLoader).isSameAs(oldClassLoader);
+        verify(mavenBuild, times(1)).getClasspathElements();
+        verifyNoInteractions(closer);
+    }
+
+    @Test
+    void testGetAfterCloseAndDisposeOfClassLoaderWithDifferentElementsAsMavenBuild() {
         // Arrange
         doCallRealMethod().when(closer).closeIfCloseable(any());
         mockClasspathElements("elem1");
         final var oldClassLoader = provider.get();
+        provider.closeAndDisposeOfClassLoader();
         mockClasspathElements("elem1", "elem2");
         // Act
         classLoader = provider.get();
@@ -145,11 +184,30 @@ class ClassLoaderProviderTest {
         assertThat(((URLClassLoader) classLoader).getURLs()).containsExactlyInAnyOrder(fileUrl("elem1"), fileUrl("elem2"));
         verify(logger, times(2)).debug("Attempt to add elem1 to ClassLoader.");
         verifyLogAddingToClassLoader("elem2");
-        verify(logger).debug("ClassLoader will be re-created as elements of underlying maven build have changed.");
         verifyNoMoreInteractions(logger);
         verify(closer).closeIfCloseable(oldClassLoader);
     }
 
+    @Test
+    @SneakyThrows
+    void testGetConcurrently() {
+        // Arrange
+        mockClasspathElements("elem1");
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            // Act
+            final var classLoaders = executor.invokeAll(Collections.<Callable<ClassLoader>>nCopies(16, provider::get));
+            // Assert
+            classLoader = classLoaders.get(0).get();
+            for (final var future : classLoaders) {
+                assertThat(future.get()).isSameAs(classLoader);
+            }
+            verify(mavenBuild, times(1)).getClasspathElements();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @SneakyThrows
     private static URL fileUrl(final String file) {
         return Paths.get(file).toAbsolutePath().toUri().toURL();
@@ -169,7 +227,7 @@ class ClassLoaderProviderTest {
         // Act
         provider.closeAndDisposeOfClassLoader();
         // Assert
-        assertThat(provider.classLoader).isNull();
+        assertThat(provider.isClassLoaderCreated()).isFalse();
         verifyNoInteractions(closer);
     }
 
@@ -188,10 +246,196 @@ class ClassLoaderProviderTest {
                 .isExactlyInstanceOf(ClassLoaderProvider.ClassLoaderProviderException.class) //
                 .hasMessage("Error while closing old ClassLoader instance.") //
                 .hasCause(cause);
-        assertThat(provider.classLoader).isNull();
+        assertThat(provider.isClassLoaderCreated()).isFalse();
         verify(closer).closeIfCloseable(classLoader);
     }
 
+    @Test
+    @SneakyThrows
+    void testGetAndCloseAndDisposeOfClassLoaderEmitEvents(@TempDir final Path tempDir) {
+        // Arrange
+        mockClasspathElements("elem1", "elem2");
+        final var recordingFile = tempDir.resolve("recording.jfr");
+        // Act
+        try (final var recording = new Recording()) {
+            recording.enable(ClassLoaderEvent.NAME);
+            recording.start();
+            classLoader = provider.get();
+            provider.closeAndDisposeOfClassLoader();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        // Assert
+        assertThat(RecordingFile.readAllEvents(recordingFile)) //
+                .extracting(e -> e.getString("action"), e -> e.getInt("classpathElements")) //
+                .containsExactly(tuple("create", 2), tuple("close", 2));
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetAndCloseAndDisposeOfClassLoaderWithJars(@TempDir final Path tempDir) {
+        // Arrange
+        final var jar = Files.createFile(tempDir.resolve("dependency.jar")).toFile();
+        final var directory = tempDir.resolve("classes").toFile();
+        mockClasspathElements(jar.getPath(), directory.getPath());
+        try (final var dependencyClassLoader = new URLClassLoader(new URL[0])) {
+            doReturn(dependencyClassLoader).when(dependencyClassLoaderCache).acquire(List.of(jar));
+            // Act
+            classLoader = provider.get();
+            provider.closeAndDisposeOfClassLoader();
+            // Assert
+            assertThat(classLoader.getParent()).isSameAs(dependencyClassLoader);
+            assertThat(((URLClassLoader) classLoader).getURLs()).containsExactly(directory.toURI().toURL());
+            verifyLogAddingToClassLoader(jar.getPath(), directory.getPath());
+            verify(closer).closeIfCloseable(classLoader);
+            verify(closer, never()).closeIfCloseable(dependencyClassLoader);
+            verify(dependencyClassLoaderCache).release(dependencyClassLoader);
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetWithJarsNotContainingClassOfOutputDirectory(@TempDir final Path tempDir) {
+        // Arrange
+        final var jar = createJar(tempDir.resolve("dependency.jar"), "a/B.class");
+        final var outputDirectory = createClassFile(tempDir.resolve("classes"), "a/C.class");
+        doReturn(outputDirectory.toString()).when(mavenBuild).getOutputDirectory();
+        mockClasspathElements(outputDirectory.toString(), jar.toString());
+        try (final var dependencyClassLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()})) {
+            doReturn(dependencyClassLoader).when(dependencyClassLoaderCache).acquire(List.of(jar.toFile()));
+            // Act
+            classLoader = provider.get();
+            // Assert
+            assertThat(classLoader.getParent()).isSameAs(dependencyClassLoader);
+            assertThat(((URLClassLoader) classLoader).getURLs()).containsExactly(outputDirectory.toUri().toURL());
+            verify(dependencyClassLoaderCache, never()).release(any());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetWithJarsContainingClassOfOutputDirectory(@TempDir final Path tempDir) {
+        // Arrange
+        final var jar = createJar(tempDir.resolve("dependency.jar"), "a/B.class");
+        final var outputDirectory = createClassFile(tempDir.resolve("classes"), "a/B.class");
+        doReturn(outputDirectory.toString()).when(mavenBuild).getOutputDirectory();
+        mockClasspathElements(outputDirectory.toString(), jar.toString());
+        try (final var dependencyClassLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()})) {
+            doReturn(dependencyClassLoader).when(dependencyClassLoaderCache).acquire(List.of(jar.toFile()));
+            // Act
+            classLoader = provider.get();
+            // Assert
+            assertThat(classLoader.getParent()).isSameAs(ClassLoader.getSystemClassLoader());
+            assertThat(((URLClassLoader) classLoader).getURLs()).containsExactly(outputDirectory.toUri().toURL(), jar.toUri().toURL());
+            assertThat(classLoader.getResource("a/B.class")).isEqualTo(outputDirectory.resolve("a").resolve("B.class").toUri().toURL());
+            verify(dependencyClassLoaderCache).release(dependencyClassLoader);
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetWithJarsAndOutputDirectoryOfOtherModule(@TempDir final Path tempDir) {
+        // Arrange
+        final var jar = createJar(tempDir.resolve("dependency.jar"), "a/B.class");
+        final var otherModule = createClassFile(tempDir.resolve("other-module"), "c/D.class");
+        mockClasspathElements(jar.toString(), otherModule.toString());
+        try (final var dependencyClassLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()})) {
+            doReturn(dependencyClassLoader).when(dependencyClassLoaderCache).acquire(List.of(jar.toFile()));
+            // Act
+            classLoader = provider.get();
+            // Assert
+            assertThat(classLoader.getParent()).isSameAs(ClassLoader.getSystemClassLoader());
+            assertThat(((URLClassLoader) classLoader).getURLs()).containsExactly(jar.toUri().toURL(), otherModule.toUri().toURL());
+            verify(dependencyClassLoaderCache).release(dependencyClassLoader);
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetWithJarsAndOutputDirectoryOfReactorModule(@TempDir final Path tempDir) {
+        // Arrange
+        final var jar = createJar(tempDir.resolve("dependency.jar"), "a/B.class");
+        final var otherModule = createClassFile(tempDir.resolve("other-module"), "c/D.class");
+        mockClasspathElements(jar.toString(), otherModule.toString());
+        final var jarArtifact = mockArtifact("a:dependency:jar:1.0", jar, "project", "a:dependency:jar:1.0");
+        final var otherModuleArtifact = mockArtifact("c:other-module:jar:1.0", otherModule, "project", "c:other-module:jar:1.0");
+        doReturn(Set.of(jarArtifact, otherModuleArtifact)).when(mavenBuild).getArtifacts();
+        try (final var dependencyClassLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()})) {
+            doReturn(dependencyClassLoader).when(dependencyClassLoaderCache).acquire(List.of(jar.toFile()));
+            // Act
+            classLoader = provider.get();
+            // Assert
+            assertThat(classLoader.getParent()).isSameAs(dependencyClassLoader);
+            assertThat(((URLClassLoader) classLoader).getURLs()).containsExactly(otherModule.toUri().toURL());
+            verify(dependencyClassLoaderCache, never()).release(any());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetWithJarsContainingClassOfOutputDirectoryOfReactorModule(@TempDir final Path tempDir) {
+        // Arrange
+        final var jar = createJar(tempDir.resolve("dependency.jar"), "c/D.class");
+        final var otherModule = createClassFile(tempDir.resolve("other-module"), "c/D.class");
+        mockClasspathElements(otherModule.toString(), jar.toString());
+        final var otherModuleArtifact = mockArtifact("c:other-module:jar:1.0", otherModule, "project", "c:other-module:jar:1.0");
+        doReturn(Set.of(otherModuleArtifact)).when(mavenBuild).getArtifacts();
+        try (final var dependencyClassLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()})) {
+            doReturn(dependencyClassLoader).when(dependencyClassLoaderCache).acquire(List.of(jar.toFile()));
+            // Act
+            classLoader = provider.get();
+            // Assert
+            assertThat(classLoader.getParent()).isSameAs(ClassLoader.getSystemClassLoader());
+            assertThat(((URLClassLoader) classLoader).getURLs()).containsExactly(otherModule.toUri().toURL(), jar.toUri().toURL());
+            verify(dependencyClassLoaderCache).release(dependencyClassLoader);
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetWithJarsDependingOnOutputDirectoryOfReactorModule(@TempDir final Path tempDir) {
+        // Arrange
+        final var jar = createJar(tempDir.resolve("dependency.jar"), "a/B.class");
+        final var otherModule = createClassFile(tempDir.resolve("other-module"), "c/D.class");
+        mockClasspathElements(jar.toString(), otherModule.toString());
+        final var jarArtifact = mockArtifact("a:dependency:jar:1.0", jar, "project", "a:dependency:jar:1.0");
+        final var otherModuleArtifact = mockArtifact("c:other-module:jar:1.0", otherModule, "project", "a:dependency:jar:1.0", "c:other-module:jar:1.0");
+        doReturn(Set.of(jarArtifact, otherModuleArtifact)).when(mavenBuild).getArtifacts();
+        try (final var dependencyClassLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()})) {
+            doReturn(dependencyClassLoader).when(dependencyClassLoaderCache).acquire(List.of(jar.toFile()));
+            // Act
+            classLoader = provider.get();
+            // Assert
+            assertThat(classLoader.getParent()).isSameAs(ClassLoader.getSystemClassLoader());
+            assertThat(((URLClassLoader) classLoader).getURLs()).containsExactly(jar.toUri().toURL(), otherModule.toUri().toURL());
+            verify(dependencyClassLoaderCache).release(dependencyClassLoader);
+        }
+    }
+
+    private static Artifact mockArtifact(final String id, final Path file, final String... dependencyTrail) {
+        final var artifact = mock(Artifact.class);
+        lenient().when(artifact.getId()).thenReturn(id);
+        lenient().when(artifact.getFile()).thenReturn(file.toFile());
+        lenient().when(artifact.getDependencyTrail()).thenReturn(List.of(dependencyTrail));
+        return artifact;
+    }
+
+    private static Path createJar(final Path jar, final String... entries) throws IOException {
+        try (final var out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (final String entry : entries) {
+                out.putNextEntry(new JarEntry(entry));
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static Path createClassFile(final Path directory, final String classFile) throws IOException {
+        Files.createDirectories(directory.resolve(classFile).getParent());
+        Files.createFile(directory.resolve(classFile));
+        return directory;
+    }
+
     @Test
     void testCloseAndDisposeOfClassLoader() {
         // Arrange
@@ -200,7 +444,7 @@ class ClassLoaderProviderTest {
         // Act
         provider.closeAndDisposeOfClassLoader();
         // Assert
-        assertThat(provider.classLoader).isNull();
+        assertThat(provider.isClassLoaderCreated()).isFalse();
         verify(closer).closeIfCloseable(classLoader);
     }
 }
@@ -0,0 +1,151 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import lombok.SneakyThrows;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.codehaus.plexus.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DependencyClassLoaderCacheTest {
+
+    @InjectMocks
+    private DependencyClassLoaderCache cache;
+
+    @Mock
+    private Closer closer;
+
+    @Mock
+    private Logger logger;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void injectLogger() {
+        cache.enableLogging(logger);
+    }
+
+    @Test
+    void testAcquireNull() {
+        // Arrange
+        final List<File> jars = null;
+        // Act
+        final ThrowingCallable acquire = () -> cache.acquire(jars);
+        // Assert
+        assertThatThrownBy(acquire).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testReleaseNull() {
+        // Arrange
+        final ClassLoader classLoader = null;
+        // Act
+        final ThrowingCallable release = () -> cache.release(classLoader);
+        // Assert
+        assertThatThrownBy(release).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @SneakyThrows
+    void testAcquire() {
+        // Arrange
+        final var jars = List.of(jar("a.jar"), jar("b.jar"));
+        // Act
+        final var classLoader = cache.acquire(jars);
+        // Assert
+        assertThat(classLoader.getURLs()).containsExactly(jars.get(0).toURI().toURL(), jars.get(1).toURI().toURL());
+        assertThat(classLoader.getParent()).isSameAs(ClassLoader.getSystemClassLoader());
+        verify(logger).debug("Create ClassLoader for 2 dependency jars.");
+    }
+
+    @Test
+    void testAcquireSameJarsTwice() {
+        // Arrange
+        final var jars = List.of(jar("a.jar"), jar("b.jar"));
+        final var first = cache.acquire(jars);
+        cache.release(first);
+        // Act
+        final var second = cache.acquire(jars);
+        // Assert
+        assertThat(second).isSameAs(first);
+        verify(logger).debug("Reuse ClassLoader for 2 dependency jars.");
+        verifyNoInteractions(closer);
+    }
+
+    @Test
+    void testAcquireChangedJar() {
+        // Arrange
+        final var jars = List.of(jar("a.jar"));
+        final var first = cache.acquire(jars);
+        cache.release(first);
+        assertThat(jars.get(0).setLastModified(jars.get(0).lastModified() - 10_000)).isTrue();
+        // Act
+        final var second = cache.acquire(jars);
+        // Assert
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    void testReleaseEvictsLeastRecentlyUsed() {
+        // Arrange
+        final var classLoaders = new ArrayList<ClassLoader>();
+        IntStream.rangeClosed(0, DependencyClassLoaderCache.MAX_RETAINED) //
+                .mapToObj(i -> cache.acquire(List.of(jar(i + ".jar")))) //
+                .forEach(classLoaders::add);
+        classLoaders.forEach(cache::release);
+        // Act
+        final var reacquired = cache.acquire(List.of(jar("0.jar")));
+        // Assert
+        verify(closer).closeIfCloseable(classLoaders.get(0));
+        verifyNoMoreInteractions(closer);
+        assertThat(reacquired).isNotSameAs(classLoaders.get(0));
+    }
+
+    @Test
+    void testAcquireDoesNotEvictClassLoadersInUse() {
+        // Act
+        IntStream.rangeClosed(0, DependencyClassLoaderCache.MAX_RETAINED + 1).forEach(i -> cache.acquire(List.of(jar(i + ".jar"))));
+        // Assert
+        verifyNoInteractions(closer);
+    }
+
+    @Test
+    @SneakyThrows
+    void testReleaseUnknownClassLoader() {
+        // Arrange
+        try (final var classLoader = new URLClassLoader(new URL[0])) {
+            // Act
+            cache.release(classLoader);
+            // Assert
+            verify(closer).closeIfCloseable(classLoader);
+        }
+    }
+
+    @SneakyThrows
+    private File jar(final String name) {
+        final var jar = tempDir.resolve(name);
+        if (!Files.exists(jar)) {
+            Files.createFile(jar);
+        }
+        return jar.toFile();
+    }
+}
@@ -0,0 +1,350 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import com.google.common.collect.Lists;
+import lombok.SneakyThrows;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.codehaus.plexus.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExecutionFingerprintTest {
+
+    @InjectMocks
+    private ExecutionFingerprint executionFingerprint;
+
+    @Mock
+    private MojoParams params;
+
+    @Mock
+    private MavenBuild mavenBuild;
+
+    @Mock
+    private Logger logger;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void injectLogger() {
+        executionFingerprint.enableLogging(logger);
+    }
+
+    @Test
+    void testComputeNull() {
+        // Act
+        final ThrowingCallable compute = () -> executionFingerprint.compute(null);
+        // Assert
+        assertThatThrownBy(compute).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @SneakyThrows
+    void testComputeUnchanged() {
+        // Arrange
+        givenClasspath();
+        // Act
+        final var first = executionFingerprint.compute(params);
+        final var second = executionFingerprint.compute(params);
+        // Assert
+        assertThat(first).isPresent().isEqualTo(second);
+    }
+
+    @Test
+    @SneakyThrows
+    void testComputeClassFileModified() {
+        // Arrange
+        givenClasspath();
+        final var classFile = tempDir.resolve("classes").resolve("a").resolve("Child.class");
+        // Act
+        final var before = executionFingerprint.compute(params);
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(Files.getLastModifiedTime(classFile).toMillis() + 1_000));
+        final var after = executionFingerprint.compute(params);
+        // Assert
+        assertThat(before).isPresent();
+        assertThat(after).isPresent().isNotEqualTo(before);
+    }
+
+    @Test
+    @SneakyThrows
+    void testComputeClassFileAdded() {
+        // Arrange
+        givenClasspath();
+        // Act
+        final var before = executionFingerprint.compute(params);
+        Files.writeString(tempDir.resolve("classes").resolve("a").resolve("Parent.class"), "parent");
+        final var after = executionFingerprint.compute(params);
+        // Assert
+        assertThat(before).isPresent();
+        assertThat(after).isPresent().isNotEqualTo(before);
+    }
+
+    @Test
+    @SneakyThrows
+    void testComputeClassFileAddedToSubdirectory() {
+        // Arrange
+        givenClasspath();
+        // Act
+        final var before = executionFingerprint.compute(params);
+        final var subdirectory = Files.createDirectories(tempDir.resolve("classes").resolve("a").resolve("b"));
+        Files.writeString(subdirectory.resolve("Child.class"), "child");
+        final var after = executionFingerprint.compute(params);
+        // Assert
+        assertThat(before).isPresent();
+        assertThat(after).isPresent().isNotEqualTo(before);
+    }
+
+    @Test
+    @SneakyThrows
+    void testComputeResourceAdded() {
+        // Arrange
+        givenClasspath();
+        // Act
+        final var before = executionFingerprint.compute(params);
+        Files.writeString(tempDir.resolve("classes").resolve("a").resolve("messages.properties"), "key=value");
+        final var after = executionFingerprint.compute(params);
+        // Assert
+        assertThat(before).isPresent().isEqualTo(after);
+    }
+
+    @Test
+    @SneakyThrows
+    void testComputeJarModified() {
+        // Arrange
+        givenClasspath();
+        // Act
+        final var before = executionFingerprint.compute(params);
+        Files.writeString(tempDir.resolve("b.jar"), "modified");
+        final var after = executionFingerprint.compute(params);
+        // Assert
+        assertThat(before).isPresent();
+        assertThat(after).isPresent().isNotEqualTo(before);
+    }
+
+    @Test
+    @SneakyThrows
+    void testComputeDependencyResolutionRequiredException() {
+        // Arrange
+        when(mavenBuild.getPluginVersion()).thenReturn("1.2.3");
+        when(params.getTarget()).thenReturn(tempDir.resolve("builders").toFile());
+        when(mavenBuild.getClasspathElements()).thenThrow(DependencyResolutionRequiredException.class);
+        // Act
+        final var fingerprint = executionFingerprint.compute(params);
+        // Assert
+        assertThat(fingerprint).isEmpty();
+    }
+
+    @Test
+    @SneakyThrows
+    void testComputeClasspathClassFileModified() {
+        // Arrange
+        givenClasspathElements();
+        final var classFile = tempDir.resolve("classes").resolve("a").resolve("Child.class");
+        // Act
+        final var before = executionFingerprint.computeClasspath();
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(Files.getLastModifiedTime(classFile).toMillis() + 1_000));
+        final var after = executionFingerprint.computeClasspath();
+        // Assert
+        assertThat(before).isPresent().isEqualTo(after);
+    }
+
+    @Test
+    @SneakyThrows
+    void testComputeClasspathJarModified() {
+        // Arrange
+        givenClasspathElements();
+        // Act
+        final var before = executionFingerprint.computeClasspath();
+        Files.writeString(tempDir.resolve("b.jar"), "modified");
+        final var after = executionFingerprint.computeClasspath();
+        // Assert
+        assertThat(before).isPresent();
+        assertThat(after).isPresent().isNotEqualTo(before);
+    }
+
+    @Test
+    @SneakyThrows
+    void testComputeClasspathOrderChanged() {
+        // Arrange
+        final var classpathElements = givenClasspathElements();
+        // Act
+        final var before = executionFingerprint.computeClasspath();
+        when(mavenBuild.getClasspathElements()).thenReturn(Lists.reverse(classpathElements));
+        final var after = executionFingerprint.computeClasspath();
+        // Assert
+        assertThat(before).isPresent();
+        assertThat(after).isPresent().isNotEqualTo(before);
+    }
+
+    @Test
+    @SneakyThrows
+    void testComputeClasspathDependencyResolutionRequiredException() {
+        // Arrange
+        when(mavenBuild.getClasspathElements()).thenThrow(DependencyResolutionRequiredException.class);
+        // Act
+        final var fingerprint = executionFingerprint.computeClasspath();
+        // Assert
+        assertThat(fingerprint).isEmpty();
+    }
+
+    @Test
+    void testIsUpToDateNull() {
+        // Arrange
+        final var file = tempDir.resolve("fingerprint");
+        // Act
+        final ThrowingCallable isUpToDateFileNull = () -> executionFingerprint.isUpToDate(null, "abc");
+        final ThrowingCallable isUpToDateFingerprintNull = () -> executionFingerprint.isUpToDate(file, null);
+        // Assert
+        assertThatThrownBy(isUpToDateFileNull).isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(isUpToDateFingerprintNull).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testIsUpToDateNonExistent() {
+        // Arrange
+        final var file = tempDir.resolve("fingerprint");
+        // Act
+        final var upToDate = executionFingerprint.isUpToDate(file, "abc");
+        // Assert
+        assertThat(upToDate).isFalse();
+    }
+
+    @Test
+    @SneakyThrows
+    void testWriteAndIsUpToDate() {
+        // Arrange
+        final var file = tempDir.resolve("reflective-fluent-builders").resolve("fingerprint");
+        final var builderFile = Files.writeString(tempDir.resolve("ChildBuilder.java"), "builder");
+        // Act
+        executionFingerprint.write(file, "abc", Set.of(builderFile));
+        final var upToDate = executionFingerprint.isUpToDate(file, "abc");
+        // Assert
+        assertThat(upToDate).isTrue();
+    }
+
+    @Test
+    @SneakyThrows
+    void testIsUpToDateDifferentFingerprint() {
+        // Arrange
+        final var file = tempDir.resolve("fingerprint");
+        final var builderFile = Files.writeString(tempDir.resolve("ChildBuilder.java"), "builder");
+        executionFingerprint.write(file, "abc", Set.of(builderFile));
+        // Act
+        final var upToDate = executionFingerprint.isUpToDate(file, "def");
+        // Assert
+        assertThat(upToDate).isFalse();
+    }
+
+    @Test
+    @SneakyThrows
+    void testIsUpToDateBuilderFileModified() {
+        // Arrange
+        final var file = tempDir.resolve("fingerprint");
+        final var builderFile = Files.writeString(tempDir.resolve("ChildBuilder.java"), "builder");
+        executionFingerprint.write(file, "abc", Set.of(builderFile));
+        Files.writeString(builderFile, "modified builder");
+        // Act
+        final var upToDate = executionFingerprint.isUpToDate(file, "abc");
+        // Assert
+        assertThat(upToDate).isFalse();
+    }
+
+    @Test
+    @SneakyThrows
+    void testIsUpToDateBuilderFileDeleted() {
+        // Arrange
+        final var file = tempDir.resolve("fingerprint");
+        final var builderFile = Files.writeString(tempDir.resolve("ChildBuilder.java"), "builder");
+        executionFingerprint.write(file, "abc", Set.of(builderFile));
+        Files.delete(builderFile);
+        // Act
+        final var upToDate = executionFingerprint.isUpToDate(file, "abc");
+        // Assert
+        assertThat(upToDate).isFalse();
+    }
+
+    @Test
+    @SneakyThrows
+    void testIsUpToDateUnknownFormat() {
+        // Arrange
+        final var file = Files.writeString(tempDir.resolve("fingerprint"), "abc\n");
+        // Act
+        final var upToDate = executionFingerprint.isUpToDate(file, "abc");
+        // Assert
+        assertThat(upToDate).isFalse();
+    }
+
+    @Test
+    @SneakyThrows
+    void testDelete() {
+        // Arrange
+        final var file = tempDir.resolve("fingerprint");
+        executionFingerprint.write(file, "abc", Set.of());
+        // Act
+        executionFingerprint.delete(file);
+        // Assert
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void testWriteNull() {
+        // Arrange
+        final var file = tempDir.resolve("fingerprint");
+        // Act
+        final ThrowingCallable writeFileNull = () -> executionFingerprint.write(null, "abc", Set.of());
+        final ThrowingCallable writeFingerprintNull = () -> executionFingerprint.write(file, null, Set.of());
+        final ThrowingCallable writeBuilderFilesNull = () -> executionFingerprint.write(file, "abc", null);
+        // Assert
+        assertThatThrownBy(writeFileNull).isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(writeFingerprintNull).isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(writeBuilderFilesNull).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @SneakyThrows
+    void testWriteIOException() {
+        // Arrange
+        final var file = Files.createDirectory(tempDir.resolve("fingerprint"));
+        // Act
+        executionFingerprint.write(file, "abc", Set.of());
+        // Assert
+        verify(logger).warn(eq("Could not write execution fingerprint to " + file + '.'), any(IOException.class));
+    }
+
+    @SneakyThrows
+    private void givenClasspath() {
+        when(mavenBuild.getPluginVersion()).thenReturn("1.2.3");
+        when(params.getTarget()).thenReturn(tempDir.resolve("builders").toFile());
+        givenClasspathElements();
+    }
+
+    @SneakyThrows
+    private List<String> givenClasspathElements() {
+        final var classes = Files.createDirectories(tempDir.resolve("classes").resolve("a")).getParent();
+        Files.writeString(classes.resolve("a").resolve("Child.class"), "child");
+        final var jar = Files.writeString(tempDir.resolve("b.jar"), "parent");
+        final var nonExistent = tempDir.resolve("test-classes");
+        final var classpathElements = List.of(classes.toString(), jar.toString(), nonExistent.toString());
+        when(mavenBuild.getClasspathElements()).thenReturn(classpathElements);
+        return classpathElements;
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import lombok.SneakyThrows;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.codehaus.plexus.build.BuildContext;
+import org.codehaus.plexus.logging.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class ExecutionScopeTest {
+
+    @InjectMocks
+    private ExecutionScope executionScope;
+
+    @Mock
+    private MavenBuild mavenBuild;
+
+    @Mock
+    private BuildContext buildContext;
+
+    @Mock
+    private MavenProject mavenProject;
+
+    @Mock
+    private MojoExecution mojoExecution;
+
+    @Mock
+    private Logger logger;
+
+    private MojoParams configuration;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void injectLogger() {
+        executionScope.enableLogging(logger);
+        configuration = new MojoParams(mavenBuild);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testEnterNull() {
+        // Act
+        final ThrowingCallable enterConfigurationNull = () -> executionScope.enter(null, buildContext, mavenProject, mojoExecution);
+        final ThrowingCallable enterBuildContextNull = () -> executionScope.enter(configuration, null, mavenProject, mojoExecution);
+        final ThrowingCallable enterMavenProjectNull = () -> executionScope.enter(configuration, buildContext, null, mojoExecution);
+        final ThrowingCallable enterMojoExecutionNull = () -> executionScope.enter(configuration, buildContext, mavenProject, null);
+        // Assert
+        assertThatThrownBy(enterConfigurationNull).isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(enterBuildContextNull).isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(enterMavenProjectNull).isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(enterMojoExecutionNull).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testEnterBindsState() {
+        // Act
+        try (final var lease = executionScope.enter(configuration, buildContext, mavenProject, mojoExecution)) {
+            // Assert
+            final var execution = executionScope.current();
+            assertThat(execution).isSameAs(lease.getExecution());
+            assertThat(execution.getParams()).isSameAs(configuration);
+            assertThat(execution.getBuildContext()).isSameAs(buildContext);
+            assertThat(execution.getMavenProject()).isSameAs(mavenProject);
+            assertThat(execution.getMojoExecution()).isSameAs(mojoExecution);
+            assertThat(execution.getReport()).isNotNull();
+            assertThat(execution.getClassLoader()).isNotNull();
+        }
+    }
+
+    @Test
+    void testCurrentUnbound() {
+        // Act
+        final ThrowingCallable current = () -> executionScope.current();
+        // Assert
+        assertThatThrownBy(current) //
+                .isExactlyInstanceOf(IllegalStateException.class) //
+                .hasMessage(unboundMessage(Thread.currentThread()));
+    }
+
+    @Test
+    @SneakyThrows
+    void testCurrentUnboundThreadOfConcurrentExecution() {
+        // Arrange
+        try (final var ignored = executionScope.enter(configuration, buildContext, mavenProject, mojoExecution)) {
+            final var unboundThread = new AtomicReference<Thread>();
+            // Act
+            final var current = executor.submit(() -> {
+                unboundThread.set(Thread.currentThread());
+                return executionScope.current();
+            });
+            // Assert
+            assertThatThrownBy(() -> current.get(10, TimeUnit.SECONDS)) //
+                    .isExactlyInstanceOf(ExecutionException.class) //
+                    .cause() //
+                    .isExactlyInstanceOf(IllegalStateException.class) //
+                    .hasMessage(unboundMessage(unboundThread.get()));
+        }
+    }
+
+    private static String unboundMessage(final Thread thread) {
+        return "No execution of the plugin is bound to thread " + thread.getName() + ". Components shared by all " + //
+                "executions may only be used by the thread executing the mojo and by worker threads created via " + //
+                "ExecutionScope#workerThreadFactory().";
+    }
+
+    @Test
+    void testCloseRestoresPreviousExecution() {
+        // Arrange
+        try (final var outer = executionScope.enter(configuration, buildContext, mavenProject, mojoExecution)) {
+            final var inner = executionScope.enter(configuration, buildContext, mavenProject, mojoExecution);
+            assertThat(executionScope.current()).isSameAs(inner.getExecution());
+            // Act
+            inner.close();
+            // Assert
+            assertThat(executionScope.current()).isSameAs(outer.getExecution());
+        }
+        assertThatThrownBy(() -> executionScope.current()).isExactlyInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @SneakyThrows
+    void testEnterDoesNotWaitForConcurrentExecution() {
+        // Arrange
+        try (final var lease = executionScope.enter(configuration, buildContext, mavenProject, mojoExecution)) {
+            // Act
+            final var concurrentExecution = executor.submit(() -> {
+                try (final var concurrentLease = executionScope.enter(configuration, buildContext, mavenProject, mojoExecution)) {
+                    return executionScope.current() == concurrentLease.getExecution();
+                }
+            });
+            // Assert
+            assertThat(concurrentExecution.get(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(executionScope.current()).isSameAs(lease.getExecution());
+        }
+    }
+
+    @Test
+    void testWorkerThreadFactoryUnbound() {
+        // Act
+        final ThrowingCallable workerThreadFactory = () -> executionScope.workerThreadFactory();
+        // Assert
+        assertThatThrownBy(workerThreadFactory).isExactlyInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @SneakyThrows
+    void testWorkerThreadFactoryBindsExecution() {
+        // Arrange
+        try (final var lease = executionScope.enter(configuration, buildContext, mavenProject, mojoExecution)) {
+            final var pool = new ForkJoinPool(2, executionScope.workerThreadFactory(), null, true);
+            try {
+                // Act
+                final var boundExecution = pool.submit(() -> executionScope.current());
+                // Assert
+                assertThat(boundExecution.get(10, TimeUnit.SECONDS)).isSameAs(lease.getExecution());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import io.github.tobi.laa.reflective.fluent.builders.mojo.GenerationReport.Count;
+import io.github.tobi.laa.reflective.fluent.builders.mojo.GenerationReport.Phase;
+import io.github.tobi.laa.reflective.fluent.builders.mojo.GenerationReport.Step;
+import lombok.SneakyThrows;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.codehaus.plexus.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GenerationReportTest {
+
+    @InjectMocks
+    private GenerationReport report;
+
+    @Mock
+    private Logger logger;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void injectLogger() {
+        report.enableLogging(logger);
+    }
+
+    @Test
+    void testTimeNull() {
+        // Arrange
+        final Phase phase = null;
+        // Act
+        final ThrowingCallable time = () -> report.time(phase);
+        // Assert
+        assertThatThrownBy(time).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testRecordStepNull() {
+        // Arrange
+        final Step step = null;
+        // Act
+        final ThrowingCallable record = () -> report.record(step, "aClass", 1);
+        // Assert
+        assertThatThrownBy(record).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testRecordClassNameNull() {
+        // Arrange
+        final String className = null;
+        // Act
+        final ThrowingCallable record = () -> report.record(Step.RENDER, className, 1);
+        // Assert
+        assertThatThrownBy(record).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testFinishNull() {
+        // Arrange
+        final Path reportFile = null;
+        // Act
+        final ThrowingCallable finish = () -> report.finish(reportFile);
+        // Assert
+        assertThatThrownBy(finish).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testTimeStepReturnsResultAndRecordsTimeOnFailure() {
+        // Arrange
+        report.start();
+        final RuntimeException failure = new IllegalStateException("Thrown in unit test.");
+        // Act
+        final var result = report.time(Step.COLLECT_METADATA, "aClass", () -> "result");
+        final ThrowingCallable time = () -> report.time(Step.RENDER, "anotherClass", () -> {
+            throw failure;
+        });
+        // Assert
+        assertThat(result).isEqualTo("result");
+        assertThatThrownBy(time).isSameAs(failure);
+        report.finish(tempDir.resolve("report.json"));
+        assertThat(tempDir.resolve("report.json")).content().contains("\"className\": \"aClass\"", "\"className\": \"anotherClass\"");
+    }
+
+    @Test
+    @SneakyThrows
+    void testFinish() {
+        // Arrange
+        final var reportFile = tempDir.resolve("reflective-fluent-builders").resolve("report.json");
+        when(logger.isDebugEnabled()).thenReturn(true);
+        report.start();
+        try (final var ignored = report.time(Phase.SCAN)) {
+            report.count(Count.CLASSES_FOUND, 12);
+        }
+        report.count(Count.CLASSES_TO_BUILD, 11);
+        report.count(Count.BUILDERS_WRITTEN, 10);
+        IntStream.range(0, GenerationReport.SLOWEST_CLASSES + 2).forEach(i -> report.record(Step.RENDER, "Class" + i, TimeUnit.MILLISECONDS.toNanos(i)));
+        report.record(Step.WRITE, "Class0", TimeUnit.MILLISECONDS.toNanos(20));
+        // Act
+        report.finish(reportFile);
+        // Assert
+        verify(logger).info(matches("Found 12 classes, generated 0 builders and wrote 10 builder files in \\d+ ms \\(scan \\d+ ms\\)\\."));
+        verify(logger).info(matches("Loaded -?\\d+ classes, heap changed by -?\\d+ MB, metaspace changed by -?\\d+ MB\\."));
+        verify(logger).debug("The slowest classes were:");
+        verify(logger).debug("- Class0 (20 ms)");
+        verify(logger).debug("- Class11 (11 ms)");
+        verify(logger, never()).debug("- Class1 (1 ms)");
+        verify(logger, never()).warn(anyString(), any(Throwable.class));
+        assertThat(reportFile).content().contains( //
+                "\"phaseMillis\": {\"scan\": ", //
+                "\"filter\": null", //
+                "\"perClassMillis\": {\"collectMetadata\": 0, \"render\": 66, \"write\": 20}", //
+                "\"counts\": {\"classesFound\": 12, \"classesToBuild\": 11, \"nonEmptyBuilders\": 0, \"buildersGenerated\": 0, \"buildersWritten\": 10}", //
+                "\"classesLoaded\": ", //
+                "\"heapDeltaBytes\": ", //
+                "\"metaspaceDeltaBytes\": ", //
+                "{\"className\": \"Class0\", \"millis\": 20}");
+        assertThat(reportFile).content().doesNotContain("\"Class1\"");
+    }
+
+    @Test
+    void testAdd() {
+        // Arrange
+        final var reportFile = tempDir.resolve("report.json");
+        report.start();
+        report.count(Count.CLASSES_FOUND, 12);
+        // Act
+        report.add(Count.CLASSES_FOUND, 3);
+        report.add(Count.BUILDERS_WRITTEN, 4);
+        report.add(Count.BUILDERS_WRITTEN, 5);
+        report.finish(reportFile);
+        // Assert
+        assertThat(reportFile).content().contains("\"classesFound\": 15", "\"buildersWritten\": 9");
+    }
+
+    @Test
+    void testStartDiscardsPreviousExecution() {
+        // Arrange
+        final var reportFile = tempDir.resolve("report.json");
+        report.start();
+        report.count(Count.CLASSES_FOUND, 12);
+        report.record(Step.RENDER, "aClass", 1);
+        // Act
+        report.start();
+        report.finish(reportFile);
+        // Assert
+        assertThat(reportFile).content().contains( //
+                "\"perClassMillis\": {\"collectMetadata\": 0, \"render\": 0, \"write\": 0}", //
+                "\"classesFound\": 0", //
+                "\"slowestClasses\": []");
+    }
+
+    @Test
+    @SneakyThrows
+    void testFinishIOException() {
+        // Arrange
+        final var reportFile = tempDir.resolve("report.json");
+        Files.createDirectory(reportFile);
+        report.start();
+        // Act
+        report.finish(reportFile);
+        // Assert
+        verify(logger).warn(eq("Could not write generation report to " + reportFile + '.'), any(IOException.class));
+    }
+}
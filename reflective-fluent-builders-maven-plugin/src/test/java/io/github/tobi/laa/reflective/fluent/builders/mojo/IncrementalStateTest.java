@@ -0,0 +1,485 @@
+package io.github.tobi.laa.reflective.fluent.builders.mojo;
+
+import com.google.common.hash.HashCode;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ClassInfoList;
+import io.github.classgraph.FieldInfo;
+import io.github.classgraph.FieldInfoList;
+import io.github.classgraph.MethodInfo;
+import io.github.classgraph.MethodInfoList;
+import io.github.classgraph.Resource;
+import io.github.tobi.laa.reflective.fluent.builders.model.BuilderMetadata;
+import io.github.tobi.laa.reflective.fluent.builders.model.CollectionType;
+import io.github.tobi.laa.reflective.fluent.builders.model.PropertyType;
+import io.github.tobi.laa.reflective.fluent.builders.model.Setter;
+import io.github.tobi.laa.reflective.fluent.builders.model.SimpleType;
+import io.github.tobi.laa.reflective.fluent.builders.model.Visibility;
+import io.github.tobi.laa.reflective.fluent.builders.model.WriteAccessor;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.ClassService;
+import io.github.tobi.laa.reflective.fluent.builders.service.api.TypeService;
+import lombok.SneakyThrows;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.codehaus.plexus.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.lang.reflect.Modifier.PRIVATE;
+import static java.lang.reflect.Modifier.PROTECTED;
+import static java.lang.reflect.Modifier.PUBLIC;
+import static java.lang.reflect.Modifier.STATIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IncrementalStateTest {
+
+    @InjectMocks
+    private IncrementalState incrementalState;
+
+    @Mock
+    private ClassService classService;
+
+    @Mock
+    private TypeService typeService;
+
+    @Mock
+    private Logger logger;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void injectLogger() {
+        incrementalState.enableLogging(logger);
+    }
+
+    @Test
+    void testFingerprintNull() {
+        // Act
+        final ThrowingCallable fingerprint = () -> incrementalState.fingerprint((ClassInfo) null);
+        // Assert
+        assertThatThrownBy(fingerprint).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testFingerprintBodyOnlyChange() {
+        // Arrange
+        final var before = scannedType("a.Child");
+        final var after = scannedType("a.Child");
+        withMethods(before, method(PUBLIC, "setName", "(Ljava/lang/String;)V"));
+        withMethods(after, method(PUBLIC, "setName", "(Ljava/lang/String;)V"));
+        // Act
+        final var fingerprintBefore = incrementalState.fingerprint(before);
+        final var fingerprintAfter = incrementalState.fingerprint(after);
+        // Assert
+        assertThat(fingerprintBefore).isPresent().isEqualTo(fingerprintAfter);
+        verify(classService, never()).determineClassLocation(any(ClassInfo.class));
+        verify(classService, never()).determineClassLocation(any(Class.class));
+    }
+
+    @Test
+    void testFingerprintSignatureChange() {
+        // Arrange
+        final var before = scannedType("a.Child");
+        final var after = scannedType("a.Child");
+        withMethods(before, method(PUBLIC, "setName", "(Ljava/lang/String;)V"));
+        withMethods(after, method(PUBLIC, "setName", "(Ljava/lang/CharSequence;)V"));
+        // Act & Assert
+        assertFingerprintsDiffer(before, after);
+    }
+
+    @Test
+    void testFingerprintModifiersChange() {
+        // Arrange
+        final var before = scannedType("a.Child");
+        final var after = scannedType("a.Child");
+        withMethods(before, method(PUBLIC, "setName", "(Ljava/lang/String;)V"));
+        withMethods(after, method(PRIVATE, "setName", "(Ljava/lang/String;)V"));
+        // Act & Assert
+        assertFingerprintsDiffer(before, after);
+    }
+
+    @Test
+    void testFingerprintExceptionsChange() {
+        // Arrange
+        final var before = scannedType("a.Child");
+        final var after = scannedType("a.Child");
+        withMethods(before, method(PUBLIC, "setName", "(Ljava/lang/String;)V"));
+        withMethods(after, method(PUBLIC, "setName", "(Ljava/lang/String;)V", "java.io.IOException"));
+        // Act & Assert
+        assertFingerprintsDiffer(before, after);
+    }
+
+    @Test
+    void testFingerprintConstructorChange() {
+        // Arrange
+        final var before = scannedType("a.Child");
+        final var after = scannedType("a.Child");
+        withConstructors(before, method(PUBLIC, "<init>", "()V"));
+        withConstructors(after, method(PRIVATE, "<init>", "()V"));
+        // Act & Assert
+        assertFingerprintsDiffer(before, after);
+    }
+
+    @Test
+    void testFingerprintStaticMethodAdded() {
+        // Arrange
+        final var before = scannedType("a.Child");
+        final var after = scannedType("a.Child");
+        withMethods(before, method(PUBLIC, "setName", "(Ljava/lang/String;)V"));
+        withMethods(after, method(PUBLIC, "setName", "(Ljava/lang/String;)V"), method(PUBLIC | STATIC, "of", "()La/Child;"));
+        // Act
+        final var fingerprintBefore = incrementalState.fingerprint(before);
+        final var fingerprintAfter = incrementalState.fingerprint(after);
+        // Assert
+        assertThat(fingerprintBefore).isPresent().isEqualTo(fingerprintAfter);
+    }
+
+    @Test
+    void testFingerprintSupertypeChange() {
+        // Arrange
+        final var child = scannedType("a.Child");
+        final var parentBefore = scannedType("b.Parent");
+        final var parentAfter = scannedType("b.Parent");
+        final var field = mock(FieldInfo.class);
+        when(field.getName()).thenReturn("name");
+        when(field.getModifiers()).thenReturn(PROTECTED);
+        when(field.getTypeSignatureOrTypeDescriptorStr()).thenReturn("Ljava/lang/String;");
+        lenient().when(parentAfter.getDeclaredFieldInfo()).thenReturn(new FieldInfoList(List.of(field)));
+        when(classService.collectFullClassHierarchy(child)) //
+                .thenReturn(List.of(child, parentBefore)) //
+                .thenReturn(List.of(child, parentAfter));
+        // Act
+        final var fingerprintBefore = incrementalState.fingerprint(child);
+        final var fingerprintAfter = incrementalState.fingerprint(child);
+        // Assert
+        assertThat(fingerprintBefore).isPresent();
+        assertThat(fingerprintAfter).isPresent().isNotEqualTo(fingerprintBefore);
+    }
+
+    @Test
+    void testFingerprintNestedTypeChange() {
+        // Arrange
+        final var before = scannedType("a.Outer");
+        final var after = scannedType("a.Outer");
+        final var innerBefore = scannedType("a.Outer$Inner");
+        final var innerAfter = scannedType("a.Outer$Inner");
+        withMethods(innerBefore, method(PUBLIC, "setName", "(Ljava/lang/String;)V"));
+        withMethods(innerAfter, method(PUBLIC, "setName", "(Ljava/lang/CharSequence;)V"));
+        lenient().when(before.getInnerClasses()).thenReturn(new ClassInfoList(List.of(innerBefore)));
+        lenient().when(after.getInnerClasses()).thenReturn(new ClassInfoList(List.of(innerAfter)));
+        // Act & Assert
+        assertFingerprintsDiffer(before, after);
+    }
+
+    @Test
+    @SneakyThrows
+    void testFingerprintUnscannedSupertypeModified() {
+        // Arrange
+        final var child = scannedType("a.Child");
+        final var parent = unscannedType("b.Parent", String.class);
+        final var jar = Files.writeString(tempDir.resolve("b.jar"), "parent");
+        when(classService.collectFullClassHierarchy(child)).thenReturn(List.of(child, parent));
+        when(classService.determineClassLocation(String.class)).thenReturn(Optional.of(jar));
+        // Act
+        final var before = incrementalState.fingerprint(child);
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 1_000));
+        final var after = incrementalState.fingerprint(child);
+        // Assert
+        assertThat(before).isPresent();
+        assertThat(after).isPresent().isNotEqualTo(before);
+    }
+
+    @Test
+    void testFingerprintUnscannedSupertypeWithoutLocation() {
+        // Arrange
+        final var child = scannedType("a.Child");
+        final var parent = unscannedType("java.util.AbstractList", AbstractList.class);
+        when(classService.collectFullClassHierarchy(child)).thenReturn(List.of(child, parent));
+        when(classService.determineClassLocation(AbstractList.class)).thenReturn(Optional.empty());
+        // Act
+        final var fingerprint = incrementalState.fingerprint(child);
+        // Assert
+        assertThat(fingerprint).isPresent();
+    }
+
+    @Test
+    void testFingerprintUnscannedSupertypeNotLoadable() {
+        // Arrange
+        final var child = scannedType("a.Child");
+        final var parent = unscannedType("b.Parent", null);
+        when(parent.loadClass()).thenThrow(IllegalArgumentException.class);
+        when(classService.collectFullClassHierarchy(child)).thenReturn(List.of(child, parent));
+        // Act
+        final var fingerprint = incrementalState.fingerprint(child);
+        // Assert
+        assertThat(fingerprint).isEmpty();
+    }
+
+    @Test
+    void testFingerprintUnscannedSupertypeNonExistentLocation() {
+        // Arrange
+        final var child = scannedType("a.Child");
+        final var parent = unscannedType("b.Parent", String.class);
+        when(classService.collectFullClassHierarchy(child)).thenReturn(List.of(child, parent));
+        when(classService.determineClassLocation(String.class)).thenReturn(Optional.of(tempDir.resolve("b.jar")));
+        // Act
+        final var fingerprint = incrementalState.fingerprint(child);
+        // Assert
+        assertThat(fingerprint).isEmpty();
+    }
+
+    @Test
+    void testFingerprintBuilderMetadataNull() {
+        // Act
+        final ThrowingCallable fingerprint = () -> incrementalState.fingerprint((BuilderMetadata) null);
+        // Assert
+        assertThatThrownBy(fingerprint).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testFingerprintBuilderMetadataUnchanged() {
+        // Arrange
+        final var type = scannedType("a.Child");
+        final var setter = setter(new SimpleType(String.class));
+        when(typeService.explodeType(String.class)).thenReturn(Set.of(String.class));
+        // Act
+        final var fingerprintBefore = incrementalState.fingerprint(builderMetadata(type, "ChildBuilder", setter));
+        final var fingerprintAfter = incrementalState.fingerprint(builderMetadata(type, "ChildBuilder", setter));
+        // Assert
+        assertThat(fingerprintBefore).isPresent().isEqualTo(fingerprintAfter);
+        assertThat(fingerprintBefore).isNotEqualTo(incrementalState.fingerprint(type));
+    }
+
+    @Test
+    void testFingerprintBuilderNameChange() {
+        // Arrange
+        final var type = scannedType("a.Child");
+        // Act
+        final var fingerprintBefore = incrementalState.fingerprint(builderMetadata(type, "ChildBuilder"));
+        final var fingerprintAfter = incrementalState.fingerprint(builderMetadata(type, "ChildBuilder0"));
+        // Assert
+        assertThat(fingerprintBefore).isPresent();
+        assertThat(fingerprintAfter).isPresent().isNotEqualTo(fingerprintBefore);
+    }
+
+    @Test
+    void testFingerprintPropertyTypeChange() {
+        // Arrange
+        final var type = scannedType("a.Child");
+        final var setter = setter(new SimpleType(Object.class));
+        when(typeService.explodeType(Object.class)) //
+                .thenReturn(Set.of(Object.class)) //
+                .thenReturn(Set.of(ArrayList.class));
+        // Act
+        final var fingerprintBefore = incrementalState.fingerprint(builderMetadata(type, "ChildBuilder", setter));
+        final var fingerprintAfter = incrementalState.fingerprint(builderMetadata(type, "ChildBuilder", setter));
+        // Assert
+        assertThat(fingerprintBefore).isPresent();
+        assertThat(fingerprintAfter).isPresent().isNotEqualTo(fingerprintBefore);
+    }
+
+    @Test
+    void testFingerprintWriteAccessorChange() {
+        // Arrange
+        final var type = scannedType("a.Child");
+        final var before = setter(new SimpleType(List.class));
+        final var after = setter(new CollectionType(List.class, Object.class));
+        when(typeService.explodeType(List.class)).thenReturn(Set.of(List.class));
+        // Act
+        final var fingerprintBefore = incrementalState.fingerprint(builderMetadata(type, "ChildBuilder", before));
+        final var fingerprintAfter = incrementalState.fingerprint(builderMetadata(type, "ChildBuilder", after));
+        // Assert
+        assertThat(fingerprintBefore).isPresent();
+        assertThat(fingerprintAfter).isPresent().isNotEqualTo(fingerprintBefore);
+    }
+
+    @Test
+    void testFingerprintBuilderMetadataUnscannedSupertypeNotLoadable() {
+        // Arrange
+        final var child = scannedType("a.Child");
+        final var parent = unscannedType("b.Parent", null);
+        when(parent.loadClass()).thenThrow(IllegalArgumentException.class);
+        when(classService.collectFullClassHierarchy(child)).thenReturn(List.of(child, parent));
+        // Act
+        final var fingerprint = incrementalState.fingerprint(builderMetadata(child, "ChildBuilder"));
+        // Assert
+        assertThat(fingerprint).isEmpty();
+        verifyNoInteractions(typeService);
+    }
+
+    @Test
+    void testReadAndDeleteNull() {
+        // Arrange
+        final var file = tempDir.resolve("state");
+        // Act
+        final ThrowingCallable readAndDeleteFileNull = () -> incrementalState.readAndDelete(null, "config");
+        final ThrowingCallable readAndDeleteConfigKeyNull = () -> incrementalState.readAndDelete(file, null);
+        // Assert
+        assertThatThrownBy(readAndDeleteFileNull).isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(readAndDeleteConfigKeyNull).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testWriteNull() {
+        // Arrange
+        final var file = tempDir.resolve("state");
+        // Act
+        final ThrowingCallable writeFileNull = () -> incrementalState.write(null, "config", Map.of());
+        final ThrowingCallable writeConfigKeyNull = () -> incrementalState.write(file, null, Map.of());
+        final ThrowingCallable writeStateNull = () -> incrementalState.write(file, "config", null);
+        // Assert
+        assertThatThrownBy(writeFileNull).isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(writeConfigKeyNull).isExactlyInstanceOf(NullPointerException.class);
+        assertThatThrownBy(writeStateNull).isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testReadAndDeleteNonExistent() {
+        // Arrange
+        final var file = tempDir.resolve("state");
+        // Act
+        final var state = incrementalState.readAndDelete(file, "config");
+        // Assert
+        assertThat(state).isEmpty();
+    }
+
+    @Test
+    void testWriteAndReadAndDelete() {
+        // Arrange
+        final var file = tempDir.resolve("reflective-fluent-builders").resolve("state");
+        final var configKey = "config\nspanning multiple lines";
+        final Map<String, IncrementalState.Entry> state = Map.of( //
+                "a.Child", new IncrementalState.Entry("abc", HashCode.fromInt(1)), //
+                "b.Parent", new IncrementalState.Entry("def", HashCode.fromInt(2)));
+        // Act
+        incrementalState.write(file, configKey, state);
+        final var actual = incrementalState.readAndDelete(file, configKey);
+        // Assert
+        assertThat(actual).isEqualTo(state);
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void testReadAndDeleteDifferentConfig() {
+        // Arrange
+        final var file = tempDir.resolve("state");
+        incrementalState.write(file, "config", Map.of("a.Child", new IncrementalState.Entry("abc", HashCode.fromInt(1))));
+        // Act
+        final var state = incrementalState.readAndDelete(file, "other config");
+        // Assert
+        assertThat(state).isEmpty();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    @SneakyThrows
+    void testReadAndDeleteUnknownFormat() {
+        // Arrange
+        final var file = Files.writeString(tempDir.resolve("state"), "a.Child\tabc\t01000000\n");
+        // Act
+        final var state = incrementalState.readAndDelete(file, "config");
+        // Assert
+        assertThat(state).isEmpty();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    @SneakyThrows
+    void testWriteIOException() {
+        // Arrange
+        final var file = Files.createDirectory(tempDir.resolve("state"));
+        // Act
+        incrementalState.write(file, "config", Map.of());
+        // Assert
+        verify(logger).warn(eq("Could not write builder state to " + file + '.'), any(IOException.class));
+    }
+
+    private void assertFingerprintsDiffer(final ClassInfo before, final ClassInfo after) {
+        final var fingerprintBefore = incrementalState.fingerprint(before);
+        final var fingerprintAfter = incrementalState.fingerprint(after);
+        assertThat(fingerprintBefore).isPresent();
+        assertThat(fingerprintAfter).isPresent().isNotEqualTo(fingerprintBefore);
+    }
+
+    private BuilderMetadata builderMetadata(final ClassInfo type, final String name, final WriteAccessor... writeAccessors) {
+        return BuilderMetadata.builder() //
+                .packageName("a") //
+                .name(name) //
+                .builtType(BuilderMetadata.BuiltType.builder() //
+                        .type(type) //
+                        .accessibleNonArgsConstructor(true) //
+                        .writeAccessors(List.of(writeAccessors)) //
+                        .build()) //
+                .build();
+    }
+
+    private Setter setter(final PropertyType propertyType) {
+        return Setter.builder() //
+                .methodName("setItems") //
+                .propertyType(propertyType) //
+                .propertyName("items") //
+                .visibility(Visibility.PUBLIC) //
+                .declaringClass(Object.class) //
+                .build();
+    }
+
+    private ClassInfo scannedType(final String name) {
+        final var classInfo = mock(ClassInfo.class);
+        lenient().when(classInfo.getName()).thenReturn(name);
+        lenient().when(classInfo.getModifiers()).thenReturn(PUBLIC);
+        lenient().when(classInfo.getResource()).thenReturn(mock(Resource.class));
+        lenient().when(classInfo.getDeclaredConstructorInfo()).thenReturn(new MethodInfoList());
+        lenient().when(classInfo.getDeclaredMethodInfo()).thenReturn(new MethodInfoList());
+        lenient().when(classInfo.getDeclaredFieldInfo()).thenReturn(new FieldInfoList());
+        lenient().when(classInfo.getInnerClasses()).thenReturn(new ClassInfoList());
+        return classInfo;
+    }
+
+    private ClassInfo unscannedType(final String name, final Class<?> clazz) {
+        final var classInfo = mock(ClassInfo.class);
+        lenient().when(classInfo.getName()).thenReturn(name);
+        lenient().when(classInfo.getModifiers()).thenReturn(PUBLIC);
+        lenient().when(classInfo.getInnerClasses()).thenReturn(new ClassInfoList());
+        lenient().doReturn(clazz).when(classInfo).loadClass();
+        return classInfo;
+    }
+
+    private void withMethods(final ClassInfo classInfo, final MethodInfo... methods) {
+        lenient().when(classInfo.getDeclaredMethodInfo()).thenReturn(new MethodInfoList(List.of(methods)));
+    }
+
+    private void withConstructors(final ClassInfo classInfo, final MethodInfo... constructors) {
+        lenient().when(classInfo.getDeclaredConstructorInfo()).thenReturn(new MethodInfoList(List.of(constructors)));
+    }
+
+    private MethodInfo method(final int modifiers, final String name, final String descriptor, final String... exceptions) {
+        final var method = mock(MethodInfo.class);
+        lenient().when(method.getName()).thenReturn(name);
+        lenient().when(method.getModifiers()).thenReturn(modifiers);
+        lenient().when(method.isStatic()).thenReturn(Modifier.isStatic(modifiers));
+        lenient().when(method.getTypeSignatureOrTypeDescriptorStr()).thenReturn(descriptor);
+        lenient().when(method.getThrownExceptionNames()).thenReturn(exceptions);
+        return method;
+    }
+}